@@ -0,0 +1,147 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.dto.TaskDTO;
+import com.example.taskmanagement.model.AppUser;
+import com.example.taskmanagement.model.Comment;
+import com.example.taskmanagement.model.Priority;
+import com.example.taskmanagement.model.Role;
+import com.example.taskmanagement.model.Status;
+import com.example.taskmanagement.model.Task;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * <p><b>Тестовые Данные для Бенчмарков 🧪</b></p>
+ *
+ * <p>
+ *     Детерминированно строит сущности и DTO, максимально похожие на реальные
+ *     данные приложения, чтобы результаты разных запусков были сопоставимы.
+ * </p>
+ */
+public final class BenchmarkFixtures {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * <p><b>Пользователь с заданным ID</b></p>
+     *
+     * @param id ID пользователя.
+     * @return Сущность {@link AppUser} с ролью {@link Role#USER}.
+     */
+    public static AppUser user(long id) {
+        AppUser user = new AppUser("user" + id + "@example.com", "$2a$10$abcdefghijklmnopqrstuv", Role.USER);
+        user.setId(id);
+        return user;
+    }
+
+    /**
+     * <p><b>Задача с автором и исполнителем</b></p>
+     *
+     * @param id ID задачи.
+     * @return Полностью заполненная сущность {@link Task}.
+     */
+    public static Task task(long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Задача №" + id);
+        task.setDescription("Описание задачи №" + id + ": подготовить отчет, согласовать с командой и отправить заказчику.");
+        task.setStatus(Status.values()[(int) (id % Status.values().length)]);
+        task.setPriority(Priority.values()[(int) (id % Priority.values().length)]);
+        task.setAuthor(user(id % 50 + 1));
+        task.setExecutor(user(id % 37 + 1));
+        task.setCreatedAt(BASE_TIME.plusMinutes(id));
+        task.setUpdatedAt(BASE_TIME.plusMinutes(id * 2));
+        task.setDueDate(LocalDate.of(2024, 3, 1).plusDays(id % 90));
+        return task;
+    }
+
+    /**
+     * <p><b>Комментарий к задаче</b></p>
+     *
+     * @param id ID комментария.
+     * @param task Задача, к которой относится комментарий.
+     * @return Сущность {@link Comment}.
+     */
+    public static Comment comment(long id, Task task) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setTask(task);
+        comment.setTaskCreatedAt(task.getCreatedAt());
+        comment.setAppUser(user(id % 20 + 1));
+        comment.setText("Комментарий №" + id + " к задаче " + task.getId());
+        comment.setCreatedAt(BASE_TIME.plusMinutes(id));
+        comment.setUpdatedAt(BASE_TIME.plusMinutes(id));
+        return comment;
+    }
+
+    /**
+     * <p><b>Список DTO задач заданного размера</b></p>
+     *
+     * @param size Количество элементов.
+     * @return Список {@link TaskDTO}.
+     */
+    public static List<TaskDTO> taskDtos(int size) {
+        List<TaskDTO> result = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            Task task = task(id);
+            TaskDTO dto = new TaskDTO();
+            dto.setId(task.getId());
+            dto.setTitle(task.getTitle());
+            dto.setDescription(task.getDescription());
+            dto.setStatus(task.getStatus());
+            dto.setPriority(task.getPriority());
+            dto.setAuthor(task.getAuthor().getEmail());
+            dto.setExecutor(task.getExecutor().getEmail());
+            dto.setCreatedAt(task.getCreatedAt());
+            dto.setUpdatedAt(task.getUpdatedAt());
+            dto.setDueDate(task.getDueDate());
+            result.add(dto);
+        }
+        return result;
+    }
+
+    /**
+     * <p><b>ObjectMapper, настроенный как в application.yml</b></p>
+     * <p>
+     *     Повторяет секцию {@code spring.jackson}: даты строками, формат
+     *     {@code yyyy-MM-dd HH:mm:ss}, часовой пояс UTC и исключение {@code null}-полей.
+     * </p>
+     *
+     * @return Сконфигурированный {@link ObjectMapper}.
+     */
+    public static ObjectMapper applicationObjectMapper() {
+        return applicationObjectMapper(new JsonFactory());
+    }
+
+    /**
+     * <p><b>ObjectMapper с настройками приложения для заданного формата</b></p>
+     * <p>Используется для бинарных форматов (CBOR, Smile), которые приложение настраивает так же, как JSON.</p>
+     *
+     * @param factory Фабрика формата ({@code JsonFactory}, {@code CBORFactory}, {@code SmileFactory}).
+     * @return Сконфигурированный {@link ObjectMapper}.
+     */
+    public static ObjectMapper applicationObjectMapper(JsonFactory factory) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .dateFormat(dateFormat)
+                .timeZone(TimeZone.getTimeZone("UTC"))
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+    }
+}
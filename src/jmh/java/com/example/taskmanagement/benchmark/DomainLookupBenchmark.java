@@ -0,0 +1,72 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.config.UserDetail;
+import com.example.taskmanagement.model.Priority;
+import com.example.taskmanagement.model.Role;
+import com.example.taskmanagement.model.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p><b>Бенчмарк Доменных Поисков 🔎</b></p>
+ *
+ * <p>
+ *     Измеряет поиск констант перечислений по отображаемому имени
+ *     ({@link Status#fromString}, {@link Priority#fromString}, {@link Role#fromString})
+ *     и построение полномочий в {@link UserDetail#getAuthorities()}, которое
+ *     выполняется на каждом аутентифицированном запросе.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainLookupBenchmark {
+
+    private String statusName;
+    private String priorityName;
+    private String roleName;
+    private UserDetail userDetail;
+
+    @Setup
+    public void setUp() {
+        statusName = Status.REJECTED.getDisplayName();
+        priorityName = Priority.LOWEST.getDisplayName();
+        roleName = Role.GUEST.getDisplayName();
+        userDetail = new UserDetail(BenchmarkFixtures.user(1));
+    }
+
+    @Benchmark
+    public Status statusFromString() {
+        return Status.fromString(statusName);
+    }
+
+    @Benchmark
+    public Priority priorityFromString() {
+        return Priority.fromString(priorityName);
+    }
+
+    @Benchmark
+    public Role roleFromString() {
+        return Role.fromString(roleName);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> userDetailAuthorities() {
+        return userDetail.getAuthorities();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.dto.TaskDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p><b>Бенчмарк Форматов Ответа: JSON, CBOR, Smile 🗜️</b></p>
+ *
+ * <p>
+ *     Сравнивает кодирование и декодирование {@code List<TaskDTO>} мапперами с настройками
+ *     приложения во всех трех согласуемых форматах. Размер полезной нагрузки и его отношение
+ *     к JSON печатаются при подготовке каждого прогона (строка {@code [payload]}).
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskBinaryFormatBenchmark {
+
+    private static final TypeReference<List<TaskDTO>> TASK_LIST = new TypeReference<>() { };
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private List<TaskDTO> tasks;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = BenchmarkFixtures.applicationObjectMapper(factory(format));
+        writer = mapper.writerFor(TASK_LIST);
+        reader = mapper.readerFor(TASK_LIST);
+        tasks = BenchmarkFixtures.taskDtos(size);
+        encoded = writer.writeValueAsBytes(tasks);
+
+        int jsonSize = BenchmarkFixtures.applicationObjectMapper().writerFor(TASK_LIST).writeValueAsBytes(tasks).length;
+        System.out.printf("%n[payload] format=%s size=%d: %d байт (%.2f от JSON)%n",
+                format, size, encoded.length, (double) encoded.length / jsonSize);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public List<TaskDTO> decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.taskmanagement.benchmark;
+
+import com.example.taskmanagement.dto.TaskDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p><b>Бенчмарк JSON-сериализации Списков Задач 📦</b></p>
+ *
+ * <p>
+ *     Измеряет сериализацию {@code List<TaskDTO>} тем же набором настроек Jackson,
+ *     что и в {@code application.yml}, для нескольких размеров ответа.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskJsonSerializationBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<TaskDTO> tasks;
+
+    @Setup
+    public void setUp() {
+        writer = BenchmarkFixtures.applicationObjectMapper().writerFor(new TypeReference<List<TaskDTO>>() { });
+        tasks = BenchmarkFixtures.taskDtos(size);
+    }
+
+    @Benchmark
+    public byte[] serializeTaskList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tasks);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.taskmanagement.exception;
+
+import com.example.taskmanagement.benchmark.BenchmarkFixtures;
+import com.example.taskmanagement.dto.ErrorResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p><b>Бенчмарк Пути Ошибки 404 🚨</b></p>
+ *
+ * <p>
+ *     Сравнивает полный путь ожидаемой ошибки "задача не найдена" от {@code throw} в сервисе
+ *     до байтов тела ответа:
+ * </p>
+ * <ul>
+ *     <li>{@link #responseStatusException()} — прежний путь: {@link ResponseStatusException} со стеком,
+ *     {@code String.format}, новый {@link ErrorResponseDto} и сериализация Jackson.</li>
+ *     <li>{@link #businessException()} — {@link BusinessException} без стека и шаблон {@link ErrorCode}.</li>
+ * </ul>
+ *
+ * <p>
+ *     Исключение бросается из не инлайнящегося метода с глубиной стека, близкой к реальной,
+ *     чтобы JIT не свернул {@code throw}/{@code catch} в переход.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private static final String PATH = "/api/tasks/getById/999";
+    private static final int STACK_DEPTH = 60;
+
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        writer = BenchmarkFixtures.applicationObjectMapper().writerFor(ErrorResponseDto.class);
+    }
+
+    @Benchmark
+    public byte[] responseStatusException() throws JsonProcessingException {
+        try {
+            throwLegacy(STACK_DEPTH, 999L);
+            return null;
+        } catch (ResponseStatusException ex) {
+            HttpStatus status = (HttpStatus) ex.getStatusCode();
+            ErrorResponseDto body = ErrorResponseDto.builder()
+                    .status(status.value())
+                    .error(status.getReasonPhrase())
+                    .message(ex.getReason())
+                    .path(PATH)
+                    .timestamp(LocalDateTime.now())
+                    .build();
+            return writer.writeValueAsBytes(body);
+        }
+    }
+
+    @Benchmark
+    public byte[] businessException() {
+        try {
+            throwBusiness(STACK_DEPTH);
+            return null;
+        } catch (BusinessException ex) {
+            return ex.getErrorCode().render(PATH);
+        }
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void throwLegacy(int depth, long taskId) {
+        if (depth > 0) {
+            throwLegacy(depth - 1, taskId);
+            return;
+        }
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, String.format("TASK-001: Задача с ID %d не найдена.", taskId));
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void throwBusiness(int depth) {
+        if (depth > 0) {
+            throwBusiness(depth - 1);
+            return;
+        }
+        throw new BusinessException(ErrorCode.TASK_NOT_FOUND);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.taskmanagement.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p><b>Бенчмарк Ограничителя Частоты 🚦</b></p>
+ *
+ * <p>
+ *     Измеряет стоимость {@link GcraRateLimiter#tryAcquire(String, long)} на горячем пути
+ *     {@link RateLimitFilter}: каждый поток со своим ключом (типичный случай — разные
+ *     пользователи на разных ядрах) и все потоки с одним ключом (худший случай конкуренции).
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class GcraRateLimiterBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Limiter {
+        final GcraRateLimiter limiter = new GcraRateLimiter(1_000_000_000.0, 1_000_000, 100_000);
+    }
+
+    @State(Scope.Thread)
+    public static class ClientKey {
+        String key;
+
+        @Setup
+        public void setUp() {
+            key = "user:" + UUID.randomUUID() + "@example.com";
+        }
+    }
+
+    @Benchmark
+    public long perThreadKey(Limiter limiter, ClientKey clientKey) {
+        return limiter.limiter.tryAcquire(clientKey.key, System.nanoTime());
+    }
+
+    @Benchmark
+    public long sharedKey(Limiter limiter) {
+        return limiter.limiter.tryAcquire("ip:127.0.0.1", System.nanoTime());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.taskmanagement.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p><b>Бенчмарк Операций с JWT 🔑</b></p>
+ *
+ * <p>
+ *     Измеряет генерацию, валидацию и разбор токена в {@link JwtTokenProvider}
+ *     с ключом той же длины, что используется в рабочей конфигурации (HS512).
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecretString", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", TimeUnit.HOURS.toMillis(1));
+        tokenProvider.init();
+        token = tokenProvider.generateToken("user@example.com");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken("user@example.com");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Object parseClaims() {
+        return tokenProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public String getEmailFromJwt() {
+        return tokenProvider.getEmailFromJWT(token);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.taskmanagement.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p><b>Бенчмарк Проверки Списка Отзыва 🚫</b></p>
+ *
+ * <p>
+ *     Измеряет стоимость {@link TokenDenylist#isRevoked(String)} на горячем пути фильтра:
+ *     для неотозванного токена (ответ фильтра Блума) и для отозванного (точное множество).
+ *     Запускается в нескольких потоках, чтобы показать отсутствие конкуренции при чтении.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class TokenDenylistBenchmark {
+
+    @Param({"1000", "100000"})
+    public int revokedCount;
+
+    private TokenDenylist denylist;
+    private String revokedJti;
+    private String activeJti;
+
+    @Setup
+    public void setUp() {
+        denylist = new TokenDenylist(null, 100_000, 0.01);
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        for (int i = 0; i < revokedCount; i++) {
+            revokedJti = UUID.randomUUID().toString();
+            denylist.add(revokedJti, expiresAt);
+        }
+        activeJti = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public boolean activeToken() {
+        return denylist.isRevoked(activeJti);
+    }
+
+    @Benchmark
+    public boolean revokedToken() {
+        return denylist.isRevoked(revokedJti);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.benchmark.BenchmarkFixtures;
+import com.example.taskmanagement.config.ApplicationConfig;
+import com.example.taskmanagement.dto.CommentDTO;
+import com.example.taskmanagement.dto.CreateTaskDTO;
+import com.example.taskmanagement.dto.TaskDTO;
+import com.example.taskmanagement.model.Comment;
+import com.example.taskmanagement.model.Priority;
+import com.example.taskmanagement.model.Status;
+import com.example.taskmanagement.model.Task;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p><b>Бенчмарк Маппинга Сущностей в DTO ↔️</b></p>
+ *
+ * <p>
+ *     Измеряет {@link TaskService#convertToDTO(Task)} и маппинги {@link ModelMapper},
+ *     сконфигурированные в {@link ApplicationConfig} (стратегия STRICT и явный
+ *     {@code TypeMap} для {@link Comment} → {@link CommentDTO}).
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private TaskService taskService;
+    private Task task;
+    private Comment comment;
+    private CreateTaskDTO createTaskDTO;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ApplicationConfig().modelMapper();
+        taskService = new TaskService(null, null, null, null, null, modelMapper, null, Optional.empty(), Optional.empty(), null);
+        task = BenchmarkFixtures.task(42);
+        comment = BenchmarkFixtures.comment(7, task);
+
+        createTaskDTO = new CreateTaskDTO();
+        createTaskDTO.setTitle("Новая задача");
+        createTaskDTO.setDescription("Описание новой задачи");
+        createTaskDTO.setStatus(Status.WAITING);
+        createTaskDTO.setPriority(Priority.HIGH);
+        createTaskDTO.setDueDate(LocalDate.of(2030, 1, 1));
+    }
+
+    @Benchmark
+    public TaskDTO convertTaskToDto() {
+        return taskService.convertToDTO(task);
+    }
+
+    @Benchmark
+    public CommentDTO mapCommentToDto() {
+        return modelMapper.map(comment, CommentDTO.class);
+    }
+
+    @Benchmark
+    public Task mapCreateDtoToTask() {
+        return modelMapper.map(createTaskDTO, Task.class);
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.taskmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+
+/**
+ * <p><b>HTTP-клиент Нагрузочного Теста 🌐</b></p>
+ *
+ * <p>
+ *     Тонкая обертка над {@link HttpClient}, которая вызывает реальные эндпоинты
+ *     приложения и возвращает HTTP-статус (и, при необходимости, ID созданного ресурса).
+ *     Ошибки ввода-вывода превращаются в статус {@code -1}, чтобы они попадали в отчет
+ *     как ошибки, а не прерывали прогон.
+ * </p>
+ */
+public class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    public ApiClient(String baseUrl, int maxConcurrency) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, maxConcurrency / 4)))
+                .build();
+    }
+
+    /**
+     * <p><b>Результат вызова</b></p>
+     *
+     * @param status HTTP-статус или {@code -1} при ошибке ввода-вывода.
+     * @param body Тело ответа (может быть пустым).
+     */
+    public record Result(int status, String body) {
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    public Result login(String email, String password) {
+        return send(json("/api/users/login", null)
+                .POST(body("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .build());
+    }
+
+    public Result createTask(String token, String executorEmail, String title) {
+        String payload = "{\"title\":\"" + title + "\",\"description\":\"Создано нагрузочным тестом\","
+                + "\"status\":\"WAITING\",\"priority\":\"MEDIUM\",\"executorUsername\":\"" + executorEmail + "\","
+                + "\"dueDate\":\"" + LocalDate.now().plusDays(7) + "\"}";
+        return send(json("/api/tasks/create", token).POST(body(payload)).build());
+    }
+
+    public Result myTasks(String token) {
+        return send(json("/api/tasks/my", token).GET().build());
+    }
+
+    public Result filterTasks(String token, String title) {
+        return send(json("/api/tasks/by-filter?title=" + URLEncoder.encode(title, StandardCharsets.UTF_8), token).GET().build());
+    }
+
+    public Result createComment(String token, long taskId, String text) {
+        return send(json("/api/tasks/" + taskId + "/comments", token)
+                .POST(body("{\"text\":\"" + text + "\"}"))
+                .build());
+    }
+
+    public Result listComments(String token, long taskId) {
+        return send(json("/api/tasks/" + taskId + "/comments", token).GET().build());
+    }
+
+    public Result updateComment(String token, long commentId, String text) {
+        return send(json("/api/comments/" + commentId, token)
+                .PUT(body("{\"text\":\"" + text + "\"}"))
+                .build());
+    }
+
+    public Result searchComments(String token, String query) {
+        return send(json("/api/comments/search?q=" + URLEncoder.encode(query, StandardCharsets.UTF_8), token).GET().build());
+    }
+
+    public Result deleteComment(String token, long commentId) {
+        return send(json("/api/comments/" + commentId, token).DELETE().build());
+    }
+
+    /**
+     * <p><b>Извлечение access-токена из ответа на логин</b></p>
+     *
+     * @param result Ответ эндпоинта логина.
+     * @return Токен или {@code null}, если логин не удался.
+     */
+    public String extractToken(Result result) {
+        if (!result.isSuccess()) {
+            return null;
+        }
+        try {
+            JsonNode token = objectMapper.readTree(result.body()).get("token");
+            return token == null ? null : token.asText();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * <p><b>Извлечение числового поля {@code id} из JSON-ответа</b></p>
+     *
+     * @param result Ответ эндпоинта создания ресурса.
+     * @return ID или {@code -1}, если его нет.
+     */
+    public long extractId(Result result) {
+        if (!result.isSuccess()) {
+            return -1;
+        }
+        try {
+            JsonNode id = objectMapper.readTree(result.body()).get("id");
+            return id == null ? -1 : id.asLong();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private HttpRequest.Builder json(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static HttpRequest.BodyPublisher body(String payload) {
+        return HttpRequest.BodyPublishers.ofString(payload, StandardCharsets.UTF_8);
+    }
+
+    private Result send(HttpRequest request) {
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            return new Result(response.statusCode(), response.body());
+        } catch (IOException e) {
+            return new Result(-1, "");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(-1, "");
+        }
+    }
+}
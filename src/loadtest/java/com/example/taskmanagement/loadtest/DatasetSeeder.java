@@ -0,0 +1,185 @@
+package com.example.taskmanagement.loadtest;
+
+import com.example.taskmanagement.model.Priority;
+import com.example.taskmanagement.model.Status;
+import com.example.taskmanagement.service.TaskPartitionService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * <p><b>Засев Базы Данных для Нагрузочного Теста 🌱</b></p>
+ *
+ * <p>
+ *     Заполняет таблицы {@code app_users}, {@code tasks} и {@code comments}
+ *     детерминированным набором данных (фиксированный seed), поэтому прогоны на
+ *     разных коммитах работают с одинаковыми данными. Вставка идет пакетами через JDBC,
+ *     а хеш пароля вычисляется один раз рабочим {@link PasswordEncoder} приложения,
+ *     чтобы стоимость проверки пароля при логине совпадала с продакшеном.
+ *     Задачи создаются задним числом (до года назад), поэтому секции их месяцев создаются
+ *     заранее ({@link TaskPartitionService#ensureMonths}).
+ * </p>
+ */
+public class DatasetSeeder {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String EMAIL_TEMPLATE = "loaduser%d@example.com";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TaskPartitionService taskPartitionService;
+    private final LoadTestConfig config;
+
+    public DatasetSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+                         TaskPartitionService taskPartitionService, LoadTestConfig config) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.taskPartitionService = taskPartitionService;
+        this.config = config;
+    }
+
+    /**
+     * <p><b>Email засеянного пользователя</b></p>
+     *
+     * @param index Индекс пользователя (ранг в распределении активности).
+     * @return Email пользователя.
+     */
+    public static String email(int index) {
+        return String.format(EMAIL_TEMPLATE, index);
+    }
+
+    /**
+     * <p><b>Засев набора данных</b></p>
+     * <p>
+     *     Если в базе уже лежит набор того же размера и пересев не запрошен,
+     *     данные переиспользуются.
+     * </p>
+     *
+     * @return Описание засеянного набора данных.
+     */
+    public SeededDataset seed() {
+        Integer existingUsers = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM app_users WHERE email LIKE 'loaduser%'", Integer.class);
+        if (config.reseed() || existingUsers == null || existingUsers != config.users()) {
+            jdbcTemplate.execute("TRUNCATE TABLE comments, tasks, app_users RESTART IDENTITY CASCADE");
+            insertUsers();
+            List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM app_users ORDER BY id", Long.class);
+            insertTasks(userIds);
+            List<Object[]> tasks = jdbcTemplate.query("SELECT id, created_at FROM tasks ORDER BY id",
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getTimestamp(2)});
+            insertComments(userIds, tasks);
+            jdbcTemplate.execute("ANALYZE");
+        }
+        List<Long> taskIds = jdbcTemplate.queryForList("SELECT id FROM tasks ORDER BY id", Long.class);
+        return new SeededDataset(config.users(), taskIds.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    private void insertUsers() {
+        String passwordHash = passwordEncoder.encode(LoadTestConfig.SEED_PASSWORD);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < config.users(); i++) {
+            batch.add(new Object[]{email(i), passwordHash, i == 0 ? "ADMIN" : "USER"});
+            flushIfFull(batch, "INSERT INTO app_users (email, password, is_enabled, is_locked, role) VALUES (?, ?, true, false, ?)");
+        }
+        flush(batch, "INSERT INTO app_users (email, password, is_enabled, is_locked, role) VALUES (?, ?, true, false, ?)");
+    }
+
+    private void insertTasks(List<Long> userIds) {
+        String sql = "INSERT INTO tasks (title, description, status, priority, author_id, executor_id, created_at, updated_at, due_date) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        SplittableRandom random = new SplittableRandom(config.seed());
+        ZipfSampler owners = new ZipfSampler(userIds.size(), config.userSkew());
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(now.minusMinutes(525_600)); !month.isAfter(YearMonth.from(now)); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        taskPartitionService.ensureMonths(months);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < config.tasks(); i++) {
+            LocalDateTime createdAt = now.minusMinutes(random.nextInt(525_600));
+            LocalDate dueDate = now.toLocalDate().plusDays(random.nextInt(-60, 120));
+            // Срок не раньше дня создания (ck_tasks_due_date_not_before_created).
+            if (dueDate.isBefore(createdAt.toLocalDate())) {
+                dueDate = createdAt.toLocalDate();
+            }
+            batch.add(new Object[]{
+                    "Задача " + i + " " + WORDS[random.nextInt(WORDS.length)],
+                    "Описание задачи " + i + ": " + WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)],
+                    Status.values()[random.nextInt(Status.values().length)].name(),
+                    Priority.values()[random.nextInt(Priority.values().length)].name(),
+                    userIds.get(owners.sample(random)),
+                    userIds.get(owners.sample(random)),
+                    Timestamp.valueOf(createdAt),
+                    Timestamp.valueOf(createdAt.plusMinutes(random.nextInt(10_000))),
+                    Date.valueOf(dueDate)
+            });
+            flushIfFull(batch, sql);
+        }
+        flush(batch, sql);
+    }
+
+    private void insertComments(List<Long> userIds, List<Object[]> tasks) {
+        String sql = "INSERT INTO comments (task_id, task_created_at, app_user_id, text, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+        SplittableRandom random = new SplittableRandom(config.seed() + 1);
+        ZipfSampler authors = new ZipfSampler(userIds.size(), config.userSkew());
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (Object[] task : tasks) {
+            int comments = random.nextInt(config.commentsPerTask() * 2 + 1);
+            for (int c = 0; c < comments; c++) {
+                Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(random.nextInt(525_600)));
+                batch.add(new Object[]{
+                        task[0],
+                        task[1],
+                        userIds.get(authors.sample(random)),
+                        "Комментарий " + c + ": " + WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)],
+                        createdAt,
+                        createdAt
+                });
+                flushIfFull(batch, sql);
+            }
+        }
+        flush(batch, sql);
+    }
+
+    private void flushIfFull(List<Object[]> batch, String sql) {
+        if (batch.size() >= BATCH_SIZE) {
+            flush(batch, sql);
+        }
+    }
+
+    private void flush(List<Object[]> batch, String sql) {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+            batch.clear();
+        }
+    }
+
+    private static final String[] WORDS = {
+            "отчет", "презентация", "релиз", "миграция", "ревью", "интеграция", "дизайн",
+            "бюджет", "договор", "тестирование", "документация", "исследование", "деплой"
+    };
+
+    /**
+     * <p><b>Засеянный набор данных</b></p>
+     *
+     * @param users Количество пользователей ({@code loaduser0..loaduserN-1}, пользователь 0 — администратор).
+     * @param taskIds ID всех задач в базе.
+     */
+    public record SeededDataset(int users, long[] taskIds) {
+
+        /** @return Случайное слово из словаря, использованного при засеве. */
+        public static String searchWord(SplittableRandom random) {
+            return WORDS[random.nextInt(WORDS.length)];
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.taskmanagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p><b>Сбор Задержек по Эндпоинтам 📊</b></p>
+ *
+ * <p>
+ *     Для каждой {@link Operation} держит собственный HDR {@link Recorder}
+ *     (запись без блокировок из многих потоков) и счетчик ошибок. Задержки
+ *     хранятся в микросекундах с точностью до трех значащих цифр.
+ * </p>
+ */
+public class LatencyRecorder {
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final LongAdder dropped = new LongAdder();
+
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(TimeUnit.MINUTES.toMicros(1), 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * <p><b>Запись результата запроса</b></p>
+     *
+     * @param operation Выполненная операция.
+     * @param startNanos Время начала (для open-модели — запланированное время, что исключает coordinated omission).
+     * @param endNanos Время получения ответа.
+     * @param status HTTP-статус ответа или {@code -1}.
+     */
+    public void record(Operation operation, long startNanos, long endNanos, int status) {
+        recorders.get(operation).recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos)));
+        if (status < 200 || status >= 400) {
+            errors.get(operation).increment();
+        }
+    }
+
+    /**
+     * <p><b>Учет запроса, который не удалось запустить</b></p>
+     * <p>В open-модели это означает, что клиентский пул насыщен и система не успевает за заданной интенсивностью.</p>
+     */
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * <p><b>Сброс накопленных данных</b></p>
+     * <p>Вызывается по окончании прогрева.</p>
+     */
+    public void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        dropped.reset();
+    }
+
+    /**
+     * <p><b>Снимок гистограмм за период измерения</b></p>
+     *
+     * @return Гистограммы по операциям.
+     */
+    public Map<Operation, Histogram> histograms() {
+        Map<Operation, Histogram> result = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> result.put(operation, recorder.getIntervalHistogram()));
+        return result;
+    }
+
+    public long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+}
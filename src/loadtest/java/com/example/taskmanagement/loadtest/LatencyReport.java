@@ -0,0 +1,133 @@
+package com.example.taskmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p><b>Отчет о Нагрузочном Прогоне 📝</b></p>
+ *
+ * <p>
+ *     Для каждого эндпоинта сохраняет полное распределение задержек ({@code .hgrm},
+ *     совместим с HdrHistogram plotter) и сводку {@code summary.json}: пропускная способность,
+ *     перцентили, ошибки, а также коммит и параметры прогона. Каталог отчета именуется
+ *     по коммиту и сценарию, поэтому результаты разных коммитов лежат рядом и
+ *     сравниваются напрямую; при указании {@code -Dloadtest.baseline=<summary.json>}
+ *     разница выводится в консоль.
+ * </p>
+ */
+public final class LatencyReport {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private LatencyReport() {
+    }
+
+    /**
+     * <p><b>Запись отчета</b></p>
+     *
+     * @param config Конфигурация прогона.
+     * @param commit Идентификатор коммита приложения.
+     * @param recorder Собранные задержки.
+     * @param elapsed Длительность периода измерения.
+     * @return Путь к {@code summary.json}.
+     * @throws IOException при ошибке записи.
+     */
+    public static Path write(LoadTestConfig config, String commit, LatencyRecorder recorder, Duration elapsed) throws IOException {
+        String runId = String.join("-", LocalDateTime.now().format(RUN_ID_FORMAT), commit,
+                config.scenario(), config.model().name().toLowerCase());
+        Path runDir = config.outputDir().resolve(runId);
+        Files.createDirectories(runDir);
+
+        double seconds = Math.max(1e-9, elapsed.toNanos() / 1e9);
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        System.out.printf("%n%-34s %10s %9s %9s %9s %9s %9s %9s %7s%n",
+                "endpoint", "count", "rps", "p50,ms", "p90,ms", "p99,ms", "p99.9,ms", "max,ms", "errors");
+
+        for (Map.Entry<Operation, Histogram> entry : recorder.histograms().entrySet()) {
+            Operation operation = entry.getKey();
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(runDir.resolve(operation.name().toLowerCase() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("endpoint", operation.endpoint());
+            stats.put("count", histogram.getTotalCount());
+            stats.put("throughputPerSecond", histogram.getTotalCount() / seconds);
+            stats.put("p50Ms", millis(histogram, 50));
+            stats.put("p90Ms", millis(histogram, 90));
+            stats.put("p99Ms", millis(histogram, 99));
+            stats.put("p999Ms", millis(histogram, 99.9));
+            stats.put("maxMs", histogram.getMaxValue() / MICROS_PER_MILLI);
+            stats.put("errors", recorder.errors(operation));
+            endpoints.put(operation.name(), stats);
+
+            System.out.printf("%-34s %10d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                    operation.endpoint(), histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / MICROS_PER_MILLI, recorder.errors(operation));
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("commit", commit);
+        summary.put("scenario", config.scenario());
+        summary.put("model", config.model().name());
+        summary.put("virtualUsers", config.virtualUsers());
+        summary.put("arrivalRate", config.model() == LoadTestConfig.ArrivalModel.OPEN ? config.arrivalRate() : null);
+        summary.put("dataset", Map.of("users", config.users(), "tasks", config.tasks(),
+                "commentsPerTask", config.commentsPerTask(), "seed", config.seed()));
+        summary.put("measurementSeconds", seconds);
+        summary.put("dropped", recorder.dropped());
+        summary.put("endpoints", endpoints);
+
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Path summaryFile = runDir.resolve("summary.json");
+        mapper.writeValue(summaryFile.toFile(), summary);
+        System.out.printf("%nОтчет: %s (отброшено запросов: %d)%n", runDir.toAbsolutePath(), recorder.dropped());
+
+        String baseline = System.getProperty("loadtest.baseline");
+        if (baseline != null) {
+            compare(mapper.readTree(Path.of(baseline).toFile()), mapper.valueToTree(summary));
+        }
+        return summaryFile;
+    }
+
+    private static void compare(JsonNode baseline, JsonNode current) {
+        System.out.printf("%nСравнение с коммитом %s:%n", baseline.path("commit").asText());
+        System.out.printf("%-34s %14s %14s%n", "endpoint", "rps, %", "p99, %");
+        current.path("endpoints").fields().forEachRemaining(entry -> {
+            JsonNode before = baseline.path("endpoints").path(entry.getKey());
+            if (before.isMissingNode()) {
+                return;
+            }
+            JsonNode after = entry.getValue();
+            System.out.printf("%-34s %+14.1f %+14.1f%n", after.path("endpoint").asText(),
+                    delta(before.path("throughputPerSecond").asDouble(), after.path("throughputPerSecond").asDouble()),
+                    delta(before.path("p99Ms").asDouble(), after.path("p99Ms").asDouble()));
+        });
+    }
+
+    private static double delta(double before, double after) {
+        return before == 0 ? 0 : (after - before) * 100.0 / before;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
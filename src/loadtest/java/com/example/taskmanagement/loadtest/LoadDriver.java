@@ -0,0 +1,127 @@
+package com.example.taskmanagement.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p><b>Генератор Нагрузки 🚦</b></p>
+ *
+ * <p>Реализует две модели поступления запросов:</p>
+ * <ul>
+ *     <li><b>Closed:</b> {@code virtualUsers} потоков, каждый выполняет запрос, ждет ответ и
+ *     "думает" случайное (экспоненциальное) время. Пропускная способность определяется
+ *     временем ответа системы.</li>
+ *     <li><b>Open:</b> запросы поступают пуассоновским потоком с интенсивностью {@code rate}
+ *     независимо от скорости ответов. Задержка считается от <i>запланированного</i>
+ *     момента отправки, поэтому очереди на стороне клиента не прячут деградацию
+ *     (нет coordinated omission).</li>
+ * </ul>
+ */
+public class LoadDriver {
+
+    private final LoadTestConfig config;
+    private final Workload workload;
+    private final LatencyRecorder recorder;
+
+    public LoadDriver(LoadTestConfig config, Workload workload, LatencyRecorder recorder) {
+        this.config = config;
+        this.workload = workload;
+        this.recorder = recorder;
+    }
+
+    /**
+     * <p><b>Прогон: прогрев, затем измерение</b></p>
+     *
+     * @return Фактическая длительность периода измерения.
+     * @throws InterruptedException если поток прерван.
+     */
+    public Duration run() throws InterruptedException {
+        long warmupEnd = System.nanoTime() + config.warmup().toNanos();
+        long measurementEnd = warmupEnd + config.duration().toNanos();
+
+        Thread generator = config.model() == LoadTestConfig.ArrivalModel.OPEN
+                ? start("loadtest-open-dispatcher", () -> runOpen(measurementEnd))
+                : startClosed(measurementEnd);
+
+        LockSupport.parkNanos(Math.max(0, warmupEnd - System.nanoTime()));
+        recorder.reset();
+        long measurementStart = System.nanoTime();
+        generator.join();
+        return Duration.ofNanos(System.nanoTime() - measurementStart);
+    }
+
+    private Thread startClosed(long deadline) {
+        List<Thread> users = new ArrayList<>(config.virtualUsers());
+        for (int i = 0; i < config.virtualUsers(); i++) {
+            SplittableRandom random = new SplittableRandom(config.seed() * 31 + i);
+            users.add(start("loadtest-vu-" + i, () -> {
+                double meanThinkNanos = config.thinkTime().toNanos();
+                while (System.nanoTime() < deadline) {
+                    Operation operation = workload.nextOperation(random);
+                    workload.execute(operation, random, System.nanoTime());
+                    if (meanThinkNanos > 0) {
+                        LockSupport.parkNanos((long) exponential(random, meanThinkNanos));
+                    }
+                }
+            }));
+        }
+        return start("loadtest-closed-join", () -> {
+            for (Thread user : users) {
+                try {
+                    user.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        });
+    }
+
+    private void runOpen(long deadline) {
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(
+                config.virtualUsers(), config.virtualUsers(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.virtualUsers() * 4),
+                new ThreadPoolExecutor.AbortPolicy());
+        SplittableRandom dispatcherRandom = new SplittableRandom(config.seed());
+        double meanInterArrivalNanos = TimeUnit.SECONDS.toNanos(1) / config.arrivalRate();
+        long intendedStart = System.nanoTime();
+
+        while (intendedStart < deadline) {
+            intendedStart += (long) exponential(dispatcherRandom, meanInterArrivalNanos);
+            LockSupport.parkNanos(intendedStart - System.nanoTime());
+
+            long scheduledAt = intendedStart;
+            Operation operation = workload.nextOperation(dispatcherRandom);
+            SplittableRandom taskRandom = dispatcherRandom.split();
+            try {
+                workers.execute(() -> workload.execute(operation, taskRandom, scheduledAt));
+            } catch (RejectedExecutionException e) {
+                recorder.recordDropped();
+            }
+        }
+
+        workers.shutdown();
+        try {
+            workers.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Thread start(String name, Runnable body) {
+        Thread thread = new Thread(body, name);
+        thread.start();
+        return thread;
+    }
+
+    private static double exponential(SplittableRandom random, double mean) {
+        return -Math.log(1.0 - random.nextDouble()) * mean;
+    }
+}
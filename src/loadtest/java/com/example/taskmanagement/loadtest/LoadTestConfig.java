@@ -0,0 +1,106 @@
+package com.example.taskmanagement.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * <p><b>Конфигурация Нагрузочного Прогона ⚙️</b></p>
+ *
+ * <p>
+ *     Все параметры читаются из системных свойств с префиксом {@code loadtest.},
+ *     чтобы прогон можно было полностью описать одной командой Maven. Значения по
+ *     умолчанию подобраны так, чтобы прогоны на разных коммитах были сопоставимы:
+ *     фиксированный seed, фиксированный размер набора данных и длительность.
+ * </p>
+ *
+ * <ul>
+ *     <li><b>Набор данных:</b> {@code users}, {@code tasks}, {@code comments-per-task}, {@code seed}.</li>
+ *     <li><b>Модель нагрузки:</b> {@code model} ({@code closed} — фиксированное число виртуальных
+ *     пользователей, {@code open} — фиксированная интенсивность поступления запросов).</li>
+ *     <li><b>Сценарий:</b> {@code scenario} — см. {@link WorkloadMix}.</li>
+ *     <li><b>База данных:</b> {@code db-url}, {@code db-username}, {@code db-password};
+ *     без {@code db-url} используется PostgreSQL в Testcontainers.</li>
+ * </ul>
+ *
+ * @param dbUrl JDBC URL внешней базы или {@code null} для Testcontainers.
+ * @param dbUsername Пользователь БД.
+ * @param dbPassword Пароль БД.
+ * @param reseed Очищать ли и заново засевать внешнюю базу.
+ * @param users Количество пользователей в наборе данных.
+ * @param tasks Количество задач.
+ * @param commentsPerTask Среднее количество комментариев на задачу.
+ * @param seed Seed генератора псевдослучайных чисел.
+ * @param model Модель поступления запросов.
+ * @param scenario Название сценария нагрузки.
+ * @param virtualUsers Число виртуальных пользователей (closed-модель) или предел параллелизма (open-модель).
+ * @param thinkTime Среднее время "размышления" между запросами в closed-модели.
+ * @param arrivalRate Интенсивность запросов в секунду для open-модели.
+ * @param userSkew Параметр распределения Ципфа для выбора активного пользователя.
+ * @param warmup Длительность прогрева (результаты не учитываются).
+ * @param duration Длительность измерения.
+ * @param outputDir Каталог для отчетов.
+ */
+public record LoadTestConfig(
+        String dbUrl,
+        String dbUsername,
+        String dbPassword,
+        boolean reseed,
+        int users,
+        int tasks,
+        int commentsPerTask,
+        long seed,
+        ArrivalModel model,
+        String scenario,
+        int virtualUsers,
+        Duration thinkTime,
+        double arrivalRate,
+        double userSkew,
+        Duration warmup,
+        Duration duration,
+        Path outputDir
+) {
+
+    /** Пароль всех засеянных пользователей. */
+    public static final String SEED_PASSWORD = "LoadTest-Passw0rd";
+
+    /**
+     * <p><b>Модель поступления запросов</b></p>
+     */
+    public enum ArrivalModel {
+        /** Фиксированное число клиентов, каждый ждет ответа перед следующим запросом. */
+        CLOSED,
+        /** Запросы поступают с заданной интенсивностью независимо от времени ответа. */
+        OPEN
+    }
+
+    /**
+     * <p><b>Чтение конфигурации из системных свойств</b></p>
+     *
+     * @return Конфигурация прогона.
+     */
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.db-url"),
+                property("db-username", "postgres"),
+                property("db-password", "postgres"),
+                Boolean.parseBoolean(property("reseed", "false")),
+                Integer.parseInt(property("users", "500")),
+                Integer.parseInt(property("tasks", "50000")),
+                Integer.parseInt(property("comments-per-task", "4")),
+                Long.parseLong(property("seed", "42")),
+                ArrivalModel.valueOf(property("model", "closed").toUpperCase()),
+                property("scenario", "mixed"),
+                Integer.parseInt(property("virtual-users", "64")),
+                Duration.ofMillis(Long.parseLong(property("think-time-ms", "50"))),
+                Double.parseDouble(property("rate", "300")),
+                Double.parseDouble(property("user-skew", "1.1")),
+                Duration.ofSeconds(Long.parseLong(property("warmup-seconds", "30"))),
+                Duration.ofSeconds(Long.parseLong(property("duration-seconds", "120"))),
+                Path.of(property("output-dir", "target/loadtest"))
+        );
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.taskmanagement.loadtest;
+
+import com.example.taskmanagement.TaskManagementApplication;
+import com.example.taskmanagement.service.TaskPartitionService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * <p><b>Точка Входа Нагрузочного Теста 🚀</b></p>
+ *
+ * <p>Порядок прогона:</p>
+ * <ol>
+ *     <li>Поднимает PostgreSQL (Testcontainers) или подключается к {@code loadtest.db-url}.</li>
+ *     <li>Запускает приложение в том же процессе на случайном порту со схемой, созданной Hibernate.</li>
+ *     <li>Засевает детерминированный набор данных ({@link DatasetSeeder}).</li>
+ *     <li>Выполняет прогрев и измерение по выбранной модели ({@link LoadDriver}).</li>
+ *     <li>Сохраняет HDR-гистограммы и сводку по эндпоинтам ({@link LatencyReport}).</li>
+ * </ol>
+ *
+ * <blockquote>
+ *     Пример: {@code ./mvnw -P loadtest verify -Dloadtest.model=open -Dloadtest.rate=500 -Dloadtest.scenario=read-heavy}
+ * </blockquote>
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        PostgreSQLContainer<?> container = null;
+        String dbUrl = config.dbUrl();
+        String dbUsername = config.dbUsername();
+        String dbPassword = config.dbPassword();
+
+        if (dbUrl == null) {
+            container = new PostgreSQLContainer<>("postgres:16-alpine").withCommand("postgres", "-c", "max_connections=200");
+            container.start();
+            dbUrl = container.getJdbcUrl();
+            dbUsername = container.getUsername();
+            dbPassword = container.getPassword();
+        }
+
+        try (ConfigurableApplicationContext context = startApplication(config, dbUrl, dbUsername, dbPassword)) {
+            DatasetSeeder seeder = new DatasetSeeder(
+                    new JdbcTemplate(context.getBean(DataSource.class)), context.getBean(PasswordEncoder.class),
+                    context.getBean(TaskPartitionService.class), config);
+            System.out.printf("Засев данных: %d пользователей, %d задач...%n", config.users(), config.tasks());
+            DatasetSeeder.SeededDataset dataset = seeder.seed();
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            ApiClient client = new ApiClient("http://localhost:" + port, config.virtualUsers());
+            LatencyRecorder recorder = new LatencyRecorder();
+            Workload workload = new Workload(client, recorder, WorkloadMix.named(config.scenario()), dataset, config.userSkew());
+
+            System.out.printf("Прогон '%s' (%s): прогрев %ds, измерение %ds%n", config.scenario(), config.model(),
+                    config.warmup().toSeconds(), config.duration().toSeconds());
+            Duration elapsed = new LoadDriver(config, workload, recorder).run();
+            LatencyReport.write(config, currentCommit(), recorder, elapsed);
+        } finally {
+            if (container != null) {
+                container.stop();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestConfig config, String dbUrl, String dbUsername, String dbPassword) {
+        byte[] secret = new byte[64];
+        new SplittableRandom(config.seed()).nextBytes(secret);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", dbUrl);
+        properties.put("spring.datasource.username", dbUsername);
+        properties.put("spring.datasource.password", dbPassword);
+        properties.put("spring.jpa.hibernate.ddl-auto", "update");
+        properties.put("jwt.secret", HexFormat.of().formatHex(secret));
+        properties.put("jwt.expiration", Duration.ofHours(2).toMillis());
+        properties.put("app.cors.allowed-origins", "http://localhost");
+        properties.put("app.rate-limit.enabled", false);
+        properties.put("logging.level.com.example.taskmanagement", "WARN");
+        properties.put("logging.file.name", config.outputDir().resolve("application.log").toString());
+
+        return new SpringApplicationBuilder(TaskManagementApplication.class)
+                .properties(properties)
+                .run();
+    }
+
+    private static String currentCommit() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD")
+                    .directory(Path.of("").toAbsolutePath().toFile())
+                    .redirectErrorStream(true)
+                    .start();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String commit = reader.readLine();
+                return process.waitFor() == 0 && commit != null ? commit.trim() : "unknown";
+            }
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.taskmanagement.loadtest;
+
+/**
+ * <p><b>Операции Нагрузочного Сценария 🎯</b></p>
+ *
+ * <p>Каждая операция соответствует одному реальному эндпоинту REST API и получает свою гистограмму задержек.</p>
+ */
+public enum Operation {
+
+    LOGIN("POST /api/users/login"),
+    CREATE_TASK("POST /api/tasks/create"),
+    MY_TASKS("GET /api/tasks/my"),
+    FILTER_TASKS("GET /api/tasks/by-filter"),
+    CREATE_COMMENT("POST /api/tasks/{taskId}/comments"),
+    LIST_COMMENTS("GET /api/tasks/{taskId}/comments"),
+    UPDATE_COMMENT("PUT /api/comments/{commentId}"),
+    DELETE_COMMENT("DELETE /api/comments/{commentId}"),
+    SEARCH_COMMENTS("GET /api/comments/search");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.taskmanagement.loadtest;
+
+import java.util.Deque;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p><b>Исполнение Операций Сценария 🏃</b></p>
+ *
+ * <p>
+ *     Выбирает активного пользователя по распределению Ципфа, поддерживает
+ *     его сессию (токен переиспользуется между запросами, как это делает реальный клиент)
+ *     и выполняет операцию сценария, записывая результат в {@link LatencyRecorder}.
+ * </p>
+ *
+ * <ul>
+ *     <li><b>Токены:</b> первый запрос пользователя выполняет логин; повторный логин происходит
+ *     только в операции {@link Operation#LOGIN} или после ответа 401.</li>
+ *     <li><b>Комментарии:</b> изменять и удалять можно только свои комментарии, поэтому
+ *     созданные ID запоминаются на пользователя. Если своих комментариев нет, операция
+ *     изменения/удаления заменяется созданием.</li>
+ * </ul>
+ */
+public class Workload {
+
+    private final ApiClient client;
+    private final LatencyRecorder recorder;
+    private final WorkloadMix mix;
+    private final ZipfSampler users;
+    private final DatasetSeeder.SeededDataset dataset;
+    private final AtomicReferenceArray<String> tokens;
+    private final Deque<Long>[] ownedComments;
+
+    @SuppressWarnings("unchecked")
+    public Workload(ApiClient client, LatencyRecorder recorder, WorkloadMix mix, DatasetSeeder.SeededDataset dataset, double userSkew) {
+        this.client = client;
+        this.recorder = recorder;
+        this.mix = mix;
+        this.dataset = dataset;
+        this.users = new ZipfSampler(dataset.users(), userSkew);
+        this.tokens = new AtomicReferenceArray<>(dataset.users());
+        this.ownedComments = new Deque[dataset.users()];
+        for (int i = 0; i < ownedComments.length; i++) {
+            ownedComments[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    /**
+     * <p><b>Следующая операция сценария</b></p>
+     *
+     * @param random Генератор вызывающего потока.
+     * @return Операция согласно весам сценария.
+     */
+    public Operation nextOperation(SplittableRandom random) {
+        return mix.next(random);
+    }
+
+    /**
+     * <p><b>Выполнение операции</b></p>
+     *
+     * @param operation Операция сценария.
+     * @param random Генератор вызывающего потока.
+     * @param startNanos Время начала, от которого считается задержка.
+     */
+    public void execute(Operation operation, SplittableRandom random, long startNanos) {
+        int user = users.sample(random);
+        String token = operation == Operation.LOGIN ? null : token(user);
+        if (operation != Operation.LOGIN && token == null) {
+            recorder.record(Operation.LOGIN, startNanos, System.nanoTime(), -1);
+            return;
+        }
+
+        ApiClient.Result result;
+        Operation performed = operation;
+        switch (operation) {
+            case LOGIN -> {
+                result = client.login(DatasetSeeder.email(user), LoadTestConfig.SEED_PASSWORD);
+                tokens.set(user, client.extractToken(result));
+            }
+            case CREATE_TASK -> result = client.createTask(token,
+                    DatasetSeeder.email(users.sample(random)), "Нагрузочная задача " + random.nextInt(1_000_000));
+            case MY_TASKS -> result = client.myTasks(token);
+            case FILTER_TASKS -> result = client.filterTasks(token, DatasetSeeder.SeededDataset.searchWord(random));
+            case LIST_COMMENTS -> result = client.listComments(token, randomTask(random));
+            case SEARCH_COMMENTS -> result = client.searchComments(token, DatasetSeeder.SeededDataset.searchWord(random));
+            case UPDATE_COMMENT, DELETE_COMMENT -> {
+                Long commentId = operation == Operation.DELETE_COMMENT
+                        ? ownedComments[user].pollLast()
+                        : ownedComments[user].peekLast();
+                if (commentId == null) {
+                    performed = Operation.CREATE_COMMENT;
+                    result = createComment(user, token, random);
+                } else if (operation == Operation.DELETE_COMMENT) {
+                    result = client.deleteComment(token, commentId);
+                } else {
+                    result = client.updateComment(token, commentId, "Обновлено " + random.nextInt(1_000_000));
+                }
+            }
+            case CREATE_COMMENT -> result = createComment(user, token, random);
+            default -> throw new IllegalStateException("Неизвестная операция: " + operation);
+        }
+
+        recorder.record(performed, startNanos, System.nanoTime(), result.status());
+        if (result.status() == 401) {
+            tokens.set(user, null);
+        }
+    }
+
+    private ApiClient.Result createComment(int user, String token, SplittableRandom random) {
+        ApiClient.Result result = client.createComment(token, randomTask(random), "Комментарий " + random.nextInt(1_000_000));
+        long id = client.extractId(result);
+        if (id > 0) {
+            ownedComments[user].addLast(id);
+        }
+        return result;
+    }
+
+    private long randomTask(SplittableRandom random) {
+        long[] taskIds = dataset.taskIds();
+        return taskIds[random.nextInt(taskIds.length)];
+    }
+
+    private String token(int user) {
+        String token = tokens.get(user);
+        if (token == null) {
+            token = client.extractToken(client.login(DatasetSeeder.email(user), LoadTestConfig.SEED_PASSWORD));
+            tokens.set(user, token);
+        }
+        return token;
+    }
+}
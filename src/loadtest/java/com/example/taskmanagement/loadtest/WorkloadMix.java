@@ -0,0 +1,111 @@
+package com.example.taskmanagement.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * <p><b>Смесь Операций Сценария 🎲</b></p>
+ *
+ * <p>
+ *     Задает относительные веса операций. Выбор операции — одна операция
+ *     бинарного поиска по кумулятивным весам, без аллокаций.
+ * </p>
+ *
+ * <ul>
+ *     <li><b>mixed:</b> преимущественно чтение с заметной долей записи комментариев и задач.</li>
+ *     <li><b>read-heavy:</b> списки задач и комментариев, редкие логины.</li>
+ *     <li><b>write-heavy:</b> создание задач и CRUD комментариев.</li>
+ *     <li><b>login-storm:</b> массовый повторный вход на фоне обычного чтения.</li>
+ *     <li><b>comment-search:</b> поиск по тексту комментариев на фоне чтения и записи комментариев;
+ *     для проверки триграммного индекса засевается с {@code -Dloadtest.tasks=1000000 -Dloadtest.comments-per-task=10}
+ *     (около 10 млн комментариев).</li>
+ * </ul>
+ */
+public final class WorkloadMix {
+
+    private final Operation[] operations;
+    private final double[] cumulativeWeights;
+
+    private WorkloadMix(Map<Operation, Double> weights) {
+        this.operations = weights.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new double[operations.length];
+        double total = weights.values().stream().mapToDouble(Double::doubleValue).sum();
+        double running = 0;
+        for (int i = 0; i < operations.length; i++) {
+            running += weights.get(operations[i]) / total;
+            cumulativeWeights[i] = running;
+        }
+        cumulativeWeights[operations.length - 1] = 1.0;
+    }
+
+    /**
+     * <p><b>Сценарий по имени</b></p>
+     *
+     * @param name Имя сценария.
+     * @return Смесь операций.
+     * @throws IllegalArgumentException если сценарий неизвестен.
+     */
+    public static WorkloadMix named(String name) {
+        Map<Operation, Double> weights = new EnumMap<>(Operation.class);
+        switch (name) {
+            case "mixed" -> {
+                weights.put(Operation.LOGIN, 2.0);
+                weights.put(Operation.CREATE_TASK, 5.0);
+                weights.put(Operation.MY_TASKS, 30.0);
+                weights.put(Operation.FILTER_TASKS, 20.0);
+                weights.put(Operation.CREATE_COMMENT, 10.0);
+                weights.put(Operation.LIST_COMMENTS, 25.0);
+                weights.put(Operation.UPDATE_COMMENT, 5.0);
+                weights.put(Operation.DELETE_COMMENT, 3.0);
+            }
+            case "read-heavy" -> {
+                weights.put(Operation.LOGIN, 1.0);
+                weights.put(Operation.MY_TASKS, 45.0);
+                weights.put(Operation.FILTER_TASKS, 25.0);
+                weights.put(Operation.LIST_COMMENTS, 29.0);
+            }
+            case "write-heavy" -> {
+                weights.put(Operation.LOGIN, 2.0);
+                weights.put(Operation.CREATE_TASK, 30.0);
+                weights.put(Operation.CREATE_COMMENT, 35.0);
+                weights.put(Operation.UPDATE_COMMENT, 20.0);
+                weights.put(Operation.DELETE_COMMENT, 13.0);
+            }
+            case "login-storm" -> {
+                weights.put(Operation.LOGIN, 60.0);
+                weights.put(Operation.MY_TASKS, 25.0);
+                weights.put(Operation.LIST_COMMENTS, 15.0);
+            }
+            case "comment-search" -> {
+                weights.put(Operation.LOGIN, 1.0);
+                weights.put(Operation.SEARCH_COMMENTS, 70.0);
+                weights.put(Operation.LIST_COMMENTS, 19.0);
+                weights.put(Operation.CREATE_COMMENT, 10.0);
+            }
+            default -> throw new IllegalArgumentException("Неизвестный сценарий: " + name);
+        }
+        return new WorkloadMix(weights);
+    }
+
+    /**
+     * <p><b>Выбор следующей операции</b></p>
+     *
+     * @param random Генератор, принадлежащий вызывающему потоку.
+     * @return Операция согласно весам сценария.
+     */
+    public Operation next(SplittableRandom random) {
+        double point = random.nextDouble();
+        int low = 0;
+        int high = cumulativeWeights.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulativeWeights[mid] < point) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return operations[low];
+    }
+}
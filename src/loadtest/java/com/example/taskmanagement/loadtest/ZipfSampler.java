@@ -0,0 +1,52 @@
+package com.example.taskmanagement.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * <p><b>Выборка по Распределению Ципфа 📈</b></p>
+ *
+ * <p>
+ *     Моделирует реалистичную активность: небольшая доля "горячих" пользователей
+ *     генерирует большую часть запросов. Кумулятивная функция распределения
+ *     считается один раз, выборка — бинарный поиск.
+ * </p>
+ */
+public final class ZipfSampler {
+
+    private final double[] cdf;
+
+    /**
+     * @param size Количество элементов (рангов).
+     * @param skew Параметр распределения; {@code 0} — равномерное распределение.
+     */
+    public ZipfSampler(int size, double skew) {
+        this.cdf = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1.0 / Math.pow(rank, skew);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cdf[i] /= sum;
+        }
+    }
+
+    /**
+     * @param random Генератор вызывающего потока.
+     * @return Индекс элемента в диапазоне {@code [0, size)}.
+     */
+    public int sample(SplittableRandom random) {
+        double point = random.nextDouble();
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < point) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
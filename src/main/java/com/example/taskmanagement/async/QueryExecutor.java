@@ -0,0 +1,117 @@
+package com.example.taskmanagement.async;
+
+import com.example.taskmanagement.exception.BusinessException;
+import com.example.taskmanagement.exception.ErrorCode;
+import com.example.taskmanagement.monitoring.RequestTrace;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * <p><b>Пул Тяжелых Запросов на Чтение 🧵</b></p>
+ *
+ * <p>
+ *     Долгие списки ({@code /getAll}, {@code /by-filter}, поиск по комментариям) выполняются не в потоке
+ *     Tomcat, а в отдельном ограниченном пуле: контроллер возвращает {@link CompletableFuture}, и поток
+ *     Tomcat сразу освобождается для быстрых запросов вроде {@code /getById}.
+ * </p>
+ *
+ * <ul>
+ *     <li><b>Ограничение:</b> {@code app.async-query.threads} потоков и очередь на {@code queue-capacity}
+ *     запросов. Потоков меньше, чем соединений в пуле HikariCP, поэтому тяжелые запросы не могут занять
+ *     все соединения. Переполненная очередь — сразу 503 ({@code QRY-001}) с {@code Retry-After}.</li>
+ *     <li><b>Таймаут:</b> запрос, не завершившийся за {@code app.async-query.timeout} (включая ожидание
+ *     в очереди), получает 503 ({@code QRY-002}).</li>
+ *     <li><b>Контекст:</b> в поток пула переносятся {@code SecurityContext}, MDC ({@code requestId},
+ *     {@code traceId}) и трассировка запроса ({@link RequestTrace}).</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     Таймаут освобождает HTTP-запрос, но не прерывает уже выполняющийся SQL: поток пула дождется его
+ *     завершения. Поэтому важен именно предел числа потоков, а не только таймаут.
+ * </blockquote>
+ */
+@Component
+@Slf4j
+public class QueryExecutor {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMillis;
+
+    public QueryExecutor(@Value("${app.async-query.threads:6}") int threads,
+                         @Value("${app.async-query.queue-capacity:200}") int queueCapacity,
+                         @Value("${app.async-query.timeout:PT30S}") Duration timeout) {
+        this.timeoutMillis = timeout.toMillis();
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("query-");
+        executor.setTaskDecorator(QueryExecutor::withRequestContext);
+        executor.initialize();
+        log.info("🧵 Пул тяжелых запросов: {} потоков, очередь {}, таймаут {}.", threads, queueCapacity, timeout);
+    }
+
+    /**
+     * <p><b>Запуск Запроса в Пуле</b></p>
+     *
+     * @param query Вызов сервиса.
+     * @param <T> Тип результата.
+     * @return Результат; при таймауте завершается {@link BusinessException} с кодом {@code QRY-002}.
+     * @throws QueryRejectedException Если очередь пула заполнена.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(query, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("🚦 Очередь тяжелых запросов заполнена; запрос отклонен.");
+            throw new QueryRejectedException();
+        }
+        return future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((result, error) -> {
+                    if (error == null) {
+                        return result;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("⏱️ Тяжелый запрос не уложился в {} мс.", timeoutMillis);
+                        throw new BusinessException(ErrorCode.QUERY_TIMEOUT);
+                    }
+                    throw cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static Runnable withRequestContext(Runnable task) {
+        Runnable secured = new DelegatingSecurityContextRunnable(RequestTrace.propagate(task));
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        return () -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                secured.run();
+            } finally {
+                MDC.clear();
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.taskmanagement.async;
+
+import com.example.taskmanagement.exception.BusinessException;
+import com.example.taskmanagement.exception.ErrorCode;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * <p><b>Отказ из-за Переполнения Пула Тяжелых Запросов 🚦</b></p>
+ *
+ * <p>
+ *     Бросается {@link QueryExecutor}, когда очередь пула заполнена. Превращается в ответ
+ *     <b>503 Service Unavailable</b> (код {@code QRY-001}) с заголовком {@code Retry-After}.
+ * </p>
+ */
+public class QueryRejectedException extends BusinessException {
+
+    private static final HttpHeaders RETRY_AFTER_HEADERS;
+
+    static {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        RETRY_AFTER_HEADERS = HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+    public QueryRejectedException() {
+        super(ErrorCode.QUERY_OVERLOADED);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return RETRY_AFTER_HEADERS;
+    }
+}
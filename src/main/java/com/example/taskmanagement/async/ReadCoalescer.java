@@ -0,0 +1,213 @@
+package com.example.taskmanagement.async;
+
+import com.example.taskmanagement.service.TaskChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <p><b>Объединение Одинаковых Одновременных Запросов на Чтение (single-flight) 🪢</b></p>
+ *
+ * <p>
+ *     В начале каждого часа сотни дашбордов одновременно запрашивают {@code /status/IN_PROGRESS} и {@code /getAll}.
+ *     Первый такой запрос (ведущий) отправляется в {@link QueryExecutor}. Остальные запросы с тем же ключом, пришедшие,
+ *     пока он выполняется, получают тот же результат и не занимают ни поток пула, ни соединение с БД.
+ * </p>
+ *
+ * <ul>
+ *     <li><b>Ключ:</b> имя операции, аргументы и область прав вызывающего — набор его ролей. Аргументы, зависящие
+ *     от пользователя (например, ID в {@code /my}), передает сам контроллер.</li>
+ *     <li><b>Микро-TTL:</b> при {@code app.read-coalescing.ttl > 0} успешный результат раздается еще это время
+ *     после завершения. При {@code 0} (по умолчанию) объединяются только запросы, пересекающиеся по времени.</li>
+ *     <li><b>Сброс:</b> любое изменение задачи ({@link TaskChangedEvent}) удаляет все записи. Новые запросы после
+ *     фиксации изменения не получат результат, прочитанный до нее.</li>
+ *     <li><b>Метрики:</b> число выполненных и разделенных вызовов по операциям — {@code /actuator/readcoalescing}.</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     Ошибки (включая таймаут {@code QRY-002}) тоже разделяются между ожидающими, но не кешируются: следующий запрос
+ *     выполнится заново. Каждый вызывающий получает свою копию {@link CompletableFuture}, поэтому отмена одного
+ *     HTTP-запроса не затрагивает остальные. Результат разделяется по ссылке и не должен изменяться после выдачи.
+ * </blockquote>
+ */
+@Component
+@Slf4j
+public class ReadCoalescer {
+
+    private static final int SWEEP_THRESHOLD = 1000;
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Map<Key, Flight> flights = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public ReadCoalescer(@Value("${app.read-coalescing.enabled:true}") boolean enabled,
+                         @Value("${app.read-coalescing.ttl:0ms}") Duration ttl) {
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * <p><b>Выполнение или Присоединение к Выполняющемуся Запросу</b></p>
+     *
+     * <p>Вызывается в потоке запроса: область прав берется из текущего {@code SecurityContext}.</p>
+     *
+     * @param operation Имя операции (например, {@code tasks.byStatus}).
+     * @param args Аргументы, определяющие результат; должны корректно реализовывать {@code equals}/{@code hashCode}.
+     * @param query Запуск запроса (обычно через {@link QueryExecutor#submit}).
+     * @param <T> Тип результата.
+     * @return Собственная копия общего результата.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> coalesce(String operation, List<?> args, Supplier<CompletableFuture<T>> query) {
+        if (!enabled) {
+            return query.get();
+        }
+        Counters stats = counters.computeIfAbsent(operation, name -> new Counters());
+        Key key = new Key(operation, args, currentScope());
+        long now = System.nanoTime();
+        Flight candidate = new Flight();
+        Flight flight = flights.compute(key, (k, current) -> current != null && current.isUsable(now) ? current : candidate);
+        if (flight != candidate) {
+            stats.shared.increment();
+            return (CompletableFuture<T>) flight.result.copy();
+        }
+        stats.executed.increment();
+        if (flights.size() > SWEEP_THRESHOLD) {
+            flights.values().removeIf(existing -> !existing.isUsable(now));
+        }
+        CompletableFuture<T> execution;
+        try {
+            execution = query.get();
+        } catch (RuntimeException e) {
+            flights.remove(key, candidate);
+            candidate.result.completeExceptionally(e);
+            throw e;
+        }
+        execution.whenComplete((value, error) -> {
+            if (error != null || ttlNanos <= 0) {
+                flights.remove(key, candidate);
+            } else {
+                candidate.expiresAt = System.nanoTime() + ttlNanos;
+            }
+            if (error != null) {
+                candidate.result.completeExceptionally(error);
+            } else {
+                candidate.result.complete(value);
+            }
+        });
+        return (CompletableFuture<T>) candidate.result.copy();
+    }
+
+    /**
+     * <p><b>Сброс Разделяемых Результатов</b></p>
+     *
+     * @param event Изменение задачи после фиксации транзакции.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        flights.clear();
+    }
+
+    /**
+     * <p><b>Статистика Объединения</b></p>
+     *
+     * @return Счетчики по операциям и общая доля разделенных вызовов.
+     */
+    public Report report() {
+        Map<String, OperationStats> operations = new TreeMap<>();
+        long executed = 0;
+        long shared = 0;
+        for (Map.Entry<String, Counters> entry : counters.entrySet()) {
+            OperationStats stats = entry.getValue().snapshot();
+            operations.put(entry.getKey(), stats);
+            executed += stats.executed();
+            shared += stats.shared();
+        }
+        return new Report(enabled, Duration.ofNanos(ttlNanos).toMillis(), flights.size(),
+                executed, shared, ratio(executed, shared), operations);
+    }
+
+    /**
+     * <p><b>Сброс Счетчиков</b></p>
+     */
+    public void resetStats() {
+        counters.clear();
+        log.info("🧹 Статистика объединения запросов сброшена.");
+    }
+
+    private static List<String> currentScope() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return List.of();
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .toList();
+    }
+
+    private static double ratio(long executed, long shared) {
+        long total = executed + shared;
+        return total == 0 ? 0 : (double) shared / total;
+    }
+
+    private record Key(String operation, List<?> args, List<String> scope) {
+    }
+
+    private static final class Flight {
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private boolean isUsable(long now) {
+            return !result.isDone() || now - expiresAt < 0;
+        }
+    }
+
+    private static final class Counters {
+
+        private final LongAdder executed = new LongAdder();
+        private final LongAdder shared = new LongAdder();
+
+        private OperationStats snapshot() {
+            long executedCount = executed.sum();
+            long sharedCount = shared.sum();
+            return new OperationStats(executedCount, sharedCount, ratio(executedCount, sharedCount));
+        }
+    }
+
+    /**
+     * @param executed Вызовов, выполненных в БД.
+     * @param shared Вызовов, получивших чужой результат.
+     * @param coalescingRatio {@code shared / (executed + shared)}.
+     */
+    public record OperationStats(long executed, long shared, double coalescingRatio) {
+    }
+
+    /**
+     * @param enabled Включено ли объединение.
+     * @param ttlMillis Микро-TTL результата.
+     * @param activeKeys Ключей в таблице (выполняющихся и живущих по TTL).
+     * @param executed Всего выполненных вызовов.
+     * @param shared Всего разделенных вызовов.
+     * @param coalescingRatio Общая доля разделенных вызовов.
+     * @param operations Статистика по операциям.
+     */
+    public record Report(boolean enabled, long ttlMillis, int activeKeys, long executed, long shared,
+                         double coalescingRatio, Map<String, OperationStats> operations) {
+    }
+}
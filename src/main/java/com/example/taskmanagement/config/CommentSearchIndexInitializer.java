@@ -0,0 +1,57 @@
+package com.example.taskmanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p><b>Триграммный Индекс для Поиска по Комментариям 🔎</b></p>
+ *
+ * <p>
+ *     Создает при запуске (в профиле {@code dev}) расширение {@code pg_trgm} и GIN-индекс по {@code comments.text}.
+ *     С ним условие {@code text ILIKE '%слово%'} читает только строки-кандидаты, а не всю таблицу.
+ *     JPA-аннотации не умеют описывать GIN-индекс с классом операторов, поэтому DDL
+ *     выполняется здесь.
+ * </p>
+ *
+ * <blockquote>
+ *     Выполняется только при {@code app.comment-search.create-index=true} — так включено в профиле {@code dev}.
+ *     В остальных окружениях DDL применяется миграцией {@code db/comment-search-index.sql}.
+ *     Индекс строится {@code CONCURRENTLY}, чтобы первый запуск на большой таблице не блокировал запись;
+ *     недействительный после прерванной сборки индекс перестраивается ({@link ConcurrentIndexes}).
+ *     Если у пользователя БД нет прав на {@code CREATE EXTENSION}, приложение стартует,
+ *     а поиск работает последовательным сканированием; в лог пишется предупреждение.
+ * </blockquote>
+ */
+@Component
+@Slf4j
+public class CommentSearchIndexInitializer implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean createIndex;
+
+    public CommentSearchIndexInitializer(JdbcTemplate jdbcTemplate,
+                                         @Value("${app.comment-search.create-index:false}") boolean createIndex) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.createIndex = createIndex;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!createIndex) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            boolean rebuilt = ConcurrentIndexes.createOrRebuildInvalid(jdbcTemplate, "ix_comments_text_trgm", "comments",
+                    "USING gin (text gin_trgm_ops)");
+            log.info("🔎 Триграммный индекс поиска по комментариям готов{}.", rebuilt ? " (недействительный индекс перестроен)" : "");
+        } catch (DataAccessException e) {
+            log.warn("⚠️ Не удалось создать триграммный индекс для поиска по комментариям: {}", e.getMostSpecificCause().getMessage());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * <p><b>Создание Индексов {@code CONCURRENTLY} при Запуске 🛠️</b></p>
+ *
+ * <p>
+ *     Прерванный {@code CREATE INDEX CONCURRENTLY} оставляет индекс в состоянии INVALID: запросы его не используют,
+ *     а {@code IF NOT EXISTS} при следующих запусках пропускает его навсегда. Поэтому перед созданием проверяется
+ *     {@code pg_index.indisvalid}, и недействительный индекс удаляется и строится заново.
+ * </p>
+ *
+ * <blockquote>
+ *     На секционированной таблице {@code CONCURRENTLY} запрещен. Индекс родителя создается пустым
+ *     ({@code ON ONLY}), индекс каждой секции строится {@code CONCURRENTLY} и присоединяется
+ *     ({@code ALTER INDEX ... ATTACH PARTITION}); родитель становится действительным, когда присоединены все секции.
+ *     Секции, созданные позже, получают индекс автоматически.
+ * </blockquote>
+ */
+final class ConcurrentIndexes {
+
+    private ConcurrentIndexes() {
+    }
+
+    /**
+     * @param jdbcTemplate Соединение без транзакции ({@code CONCURRENTLY} внутри транзакции запрещен).
+     * @param indexName Имя индекса.
+     * @param table Таблица (обычная или секционированная).
+     * @param definition Определение после имени таблицы, например {@code (due_date) WHERE ...}.
+     * @return {@code true}, если недействительный индекс (или индекс секции) был удален и построен заново.
+     */
+    static boolean createOrRebuildInvalid(JdbcTemplate jdbcTemplate, String indexName, String table, String definition) {
+        Integer partitioned = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_partitioned_table WHERE partrelid = to_regclass(?)", Integer.class, table);
+        if (partitioned == null || partitioned == 0) {
+            return createOrRebuild(jdbcTemplate, indexName, table, definition);
+        }
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS %s ON ONLY %s %s".formatted(indexName, table, definition));
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = to_regclass(?) ORDER BY c.relname",
+                String.class, table);
+        boolean rebuilt = false;
+        for (String partition : partitions) {
+            List<String> attached = jdbcTemplate.queryForList(
+                    "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                            + "JOIN pg_index x ON x.indexrelid = c.oid WHERE i.inhparent = to_regclass(?) AND x.indrelid = to_regclass(?)",
+                    String.class, indexName, partition);
+            if (!attached.isEmpty()) {
+                continue;
+            }
+            String partitionIndex = partition + "_" + indexName;
+            rebuilt |= createOrRebuild(jdbcTemplate, partitionIndex, partition, definition);
+            jdbcTemplate.execute("ALTER INDEX %s ATTACH PARTITION %s".formatted(indexName, partitionIndex));
+        }
+        return rebuilt;
+    }
+
+    private static boolean createOrRebuild(JdbcTemplate jdbcTemplate, String indexName, String table, String definition) {
+        List<Boolean> valid = jdbcTemplate.queryForList(
+                "SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid "
+                        + "WHERE c.relname = ? AND pg_catalog.pg_table_is_visible(c.oid)",
+                Boolean.class, indexName);
+        boolean rebuild = !valid.isEmpty() && !valid.get(0);
+        if (rebuild) {
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + indexName);
+        }
+        jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS %s ON %s %s".formatted(indexName, table, definition));
+        return rebuild;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.taskmanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p><b>Частичный Индекс Сроков Открытых Задач ⏳</b></p>
+ *
+ * <p>
+ *     Создает при запуске (в профиле {@code dev}) индекс {@code ix_tasks_open_due_date} по {@code tasks.due_date} только для
+ *     открытых статусов ({@code WAITING}, {@code IN_PROGRESS}, {@code ON_HOLD}, {@code IN_REVIEW}).
+ *     Завершенные задачи в него не попадают, поэтому индекс остается маленьким, а запросы
+ *     {@code /overdue}, {@code /due-soon} и загрузка напоминаний читают только открытые задачи.
+ *     JPA-аннотации не умеют описывать условие {@code WHERE} индекса, поэтому DDL выполняется здесь.
+ * </p>
+ *
+ * <blockquote>
+ *     Планировщик применяет частичный индекс, только если условие запроса содержит тот же
+ *     список статусов литералами, поэтому запросы {@code TaskRepository} используют
+ *     {@code TaskRepository#OPEN_STATUS_CONDITION}, а не параметр. Индекс строится {@code CONCURRENTLY}
+ *     (на секционированной {@code tasks} — по секциям), недействительный после прерванной сборки — перестраивается
+ *     ({@link ConcurrentIndexes}).
+ *     Выполняется только при {@code app.tasks.create-open-due-date-index=true} — так включено в профиле
+ *     {@code dev}; в остальных окружениях DDL применяется миграцией {@code db/open-task-due-date-index.sql}.
+ * </blockquote>
+ */
+@Component
+@Slf4j
+public class OpenTaskDueDateIndexInitializer implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean createIndex;
+
+    public OpenTaskDueDateIndexInitializer(JdbcTemplate jdbcTemplate,
+                                           @Value("${app.tasks.create-open-due-date-index:false}") boolean createIndex) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.createIndex = createIndex;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!createIndex) {
+            return;
+        }
+        try {
+            boolean rebuilt = ConcurrentIndexes.createOrRebuildInvalid(jdbcTemplate, "ix_tasks_open_due_date", "tasks",
+                    "(due_date) WHERE status IN ('WAITING', 'IN_PROGRESS', 'ON_HOLD', 'IN_REVIEW')");
+            log.info("⏳ Частичный индекс сроков открытых задач готов{}.", rebuilt ? " (недействительный индекс перестроен)" : "");
+        } catch (DataAccessException e) {
+            log.warn("⚠️ Не удалось создать частичный индекс сроков открытых задач: {}", e.getMostSpecificCause().getMessage());
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.taskmanagement.config;
 
 import com.example.taskmanagement.model.Role;
+import com.example.taskmanagement.security.BCryptCostCalibrator;
+import com.example.taskmanagement.security.BoundedPasswordEncoder;
 import com.example.taskmanagement.security.JwtAuthenticationEntryPoint;
 import com.example.taskmanagement.security.JwtAuthenticationFilter;
+import com.example.taskmanagement.security.RateLimitFilter;
 import com.example.taskmanagement.service.UserDetailService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -50,12 +55,19 @@ public class SecurityConfig {
     private static final String[] PUBLIC_URLS = {
             "/api/users/register",
             "/api/users/login",
+            "/api/users/token/refresh",
             "/v3/api-docs/**",
             "/swagger-ui/**",
             "/swagger-ui.html",
             "/actuator/**"
     };
 
+    private static final String[] ADMIN_ACTUATOR_URLS = {
+            "/actuator/requesttraces/**",
+            "/actuator/queryinsights/**",
+            "/actuator/readcoalescing/**"
+    };
+
     /**
      * <p><b>Основная Цепочка Фильтров Безопасности</b></p>
      *
@@ -76,14 +88,20 @@ public class SecurityConfig {
      *
      *     <li><b>Авторизация запросов:</b>
      *         <ul>
+     *             <li>Диагностические actuator-эндпоинты ({@code ADMIN_ACTUATOR_URLS}) требуют роли "ADMIN".</li>
      *             <li>Публичный доступ к эндпоинтам из списка {@code PUBLIC_URLS}.</li>
      *             <li>Доступ к {@code /admin/**} требует роли "ADMIN".</li>
      *             <li>Все остальные запросы требуют аутентификации.</li>
+     *             <li>Асинхронная диспетчеризация (выдача результата {@code CompletableFuture}) пропускается:
+     *             запрос уже проверен при исходной диспетчеризации, а JWT фильтр при ней не выполняется.</li>
      *         </ul>
      *     </li>
      *
      *     <li><b>JWT Фильтр:</b> {@link JwtAuthenticationFilter} интегрирован в цепочку
      *     для валидации токена на каждом защищенном запросе.</li>
+     *
+     *     <li><b>Ограничение частоты:</b> {@link RateLimitFilter} стоит перед JWT фильтром,
+     *     чтобы клиент, превысивший квоту, получал 429 до загрузки пользователя из базы.</li>
      * </ul>
      *
      * @param http Конструктор для настройки веб-безопасности.
@@ -91,11 +109,17 @@ public class SecurityConfig {
      * @throws Exception при возникновении ошибок в процессе конфигурации.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, @Autowired JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   @Autowired JwtAuthenticationFilter jwtAuthenticationFilter,
+                                                   @Autowired RateLimitFilter rateLimitFilter) throws Exception {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorizeRequests -> {
                     authorizeRequests
+                            .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                            .permitAll()
+                            .requestMatchers(ADMIN_ACTUATOR_URLS)
+                            .hasRole(String.valueOf(Role.ADMIN))
                             .requestMatchers(PUBLIC_URLS)
                             .permitAll()
                             .requestMatchers("/admin/**")
@@ -106,6 +130,7 @@ public class SecurityConfig {
                     exceptionHandling.authenticationEntryPoint(jwtAuthenticationEntryPoint);
                 })
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
                 .build();
     }
 
@@ -121,13 +146,21 @@ public class SecurityConfig {
      *      <li>{@link PasswordEncoder} для безопасного сравнения предоставленного пароля с хешем в базе.</li>
      * </ul>
      *
+     * <p>
+     *     {@link UserDetailService} также передается как {@code UserDetailsPasswordService}:
+     *     если хеш пользователя создан с устаревшей (меньшей) силой BCrypt, провайдер после
+     *     успешной проверки пароля прозрачно перехеширует его с текущей силой.
+     * </p>
+     *
+     * @param passwordEncoder Кодировщик паролей приложения.
      * @return Настроенный провайдер аутентификации.
      */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setUserDetailsPasswordService(userDetailService);
+        provider.setPasswordEncoder(passwordEncoder);
         return provider;
     }
 
@@ -157,10 +190,39 @@ public class SecurityConfig {
      *     является отраслевым стандартом для надежного и безопасного хранения паролей.
      * </p>
      *
+     * <ul>
+     *     <li><b>Сила:</b> если {@code strength} не задана явно, она калибруется при старте
+     *     под целевое время хеширования ({@link BCryptCostCalibrator}).</li>
+     *     <li><b>Изоляция:</b> хеширование выполняется на выделенном ограниченном пуле
+     *     ({@link BoundedPasswordEncoder}), поэтому всплеск логинов не занимает все потоки Tomcat,
+     *     а при переполнении очереди клиент быстро получает 503.</li>
+     * </ul>
+     *
+     * @param strength Явная сила BCrypt; {@code 0} — откалибровать при старте.
+     * @param targetMillis Целевое время одного хеширования для калибровки.
+     * @param minStrength Нижняя граница силы.
+     * @param maxStrength Верхняя граница силы.
+     * @param threads Количество потоков хеширования; {@code 0} — половина доступных ядер.
+     * @param queueCapacity Размер очереди ожидающих операций.
+     * @param waitTimeoutMillis Максимальное ожидание результата хеширования.
      * @return Бин {@link PasswordEncoder}.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.security.password-hashing.strength:0}") int strength,
+            @Value("${app.security.password-hashing.target-ms:250}") long targetMillis,
+            @Value("${app.security.password-hashing.min-strength:10}") int minStrength,
+            @Value("${app.security.password-hashing.max-strength:14}") int maxStrength,
+            @Value("${app.security.password-hashing.threads:0}") int threads,
+            @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.password-hashing.wait-timeout-ms:5000}") long waitTimeoutMillis) {
+        int effectiveStrength = strength > 0
+                ? strength
+                : BCryptCostCalibrator.calibrate(targetMillis, minStrength, maxStrength);
+        int effectiveThreads = threads > 0
+                ? threads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(effectiveStrength),
+                effectiveThreads, queueCapacity, waitTimeoutMillis);
     }
 }
\ No newline at end of file
@@ -1,7 +1,16 @@
 package com.example.taskmanagement.config;
 
+import com.example.taskmanagement.monitoring.TimedJacksonConverters;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -16,6 +25,16 @@ import java.util.List;
  *     управление политикой Cross-Origin Resource Sharing (CORS).
  * </p>
  *
+ * <p>
+ *     Также регистрирует бинарные форматы ответа — CBOR и Smile — для клиентов,
+ *     которые запрашивают их через заголовок {@code Accept}.
+ * </p>
+ *
+ * <p>
+ *     Все Jackson-конвертеры — наследники из {@link TimedJacksonConverters}: время сериализации
+ *     ответа попадает в трассировку запроса ({@code /actuator/requesttraces}).
+ * </p>
+ *
  * <p><b>Назначение CORS:</b></p>
  * <blockquote>
  *     Позволяет веб-приложениям (например, SPA на React, Angular, Vue),
@@ -56,4 +75,58 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
-}
\ No newline at end of file
+
+    /**
+     * <p><b>Конвертер CBOR ({@code application/cbor})</b></p>
+     *
+     * <p>
+     *     Бинарный формат для внутренних сервисов, загружающих большие списки задач и комментариев:
+     *     меньше объем ответа и дешевле кодирование/декодирование, чем у JSON-текста.
+     * </p>
+     * <blockquote>
+     *     {@link ObjectMapper} строится из того же {@link Jackson2ObjectMapperBuilder}, что и JSON-маппер
+     *     Spring Boot, поэтому схема DTO, формат дат, часовой пояс и исключение {@code null}-полей
+     *     ({@code spring.jackson.*}) совпадают с JSON. Spring Boot заменяет этим бином
+     *     конвертер по умолчанию с "голым" маппером.
+     * </blockquote>
+     *
+     * @param builder Построитель маппера с настройками {@code spring.jackson.*}.
+     * @return Конвертер для {@code application/cbor}.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new TimedJacksonConverters.Cbor(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * <p><b>Конвертер Smile ({@code application/x-jackson-smile})</b></p>
+     *
+     * <p>
+     *     Бинарный JSON-совместимый формат Jackson с обратными ссылками на повторяющиеся имена полей
+     *     и короткие строки — особенно выгоден для длинных однородных списков DTO.
+     * </p>
+     *
+     * @param builder Построитель маппера с настройками {@code spring.jackson.*}.
+     * @return Конвертер для {@code application/x-jackson-smile}.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new TimedJacksonConverters.Smile(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * <p><b>Конвертер JSON с Замером Сериализации</b></p>
+     *
+     * <p>
+     *     Заменяет конвертер Spring Boot по умолчанию тем же конвертером поверх того же
+     *     {@link ObjectMapper}, но с учетом времени записи ответа в трассировке запроса.
+     * </p>
+     *
+     * @param objectMapper Маппер Spring Boot с настройками {@code spring.jackson.*}.
+     * @return Конвертер для {@code application/json}.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonConverters.Json(objectMapper);
+    }
+}
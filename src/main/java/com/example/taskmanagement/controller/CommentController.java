@@ -1,7 +1,9 @@
 package com.example.taskmanagement.controller;
 
+import com.example.taskmanagement.async.QueryExecutor;
 import com.example.taskmanagement.config.UserDetail;
 import com.example.taskmanagement.dto.CommentDTO;
+import com.example.taskmanagement.dto.CommentPageDTO;
 import com.example.taskmanagement.dto.CreateCommentDTO;
 import com.example.taskmanagement.dto.UpdateCommentDTO;
 import com.example.taskmanagement.service.CommentService;
@@ -17,6 +19,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -25,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -36,7 +40,8 @@ import java.util.stream.Collectors;
  *         <li>Создание новых комментариев к задачам.</li>
  *         <li>Обновление собственных комментариев.</li>
  *         <li>Удаление собственных комментариев или комментариев (для администраторов).</li>
- *         <li>Получение списка всех комментариев для конкретной задачи.</li>
+ *         <li>Постраничное получение комментариев для конкретной задачи.</li>
+ *         <li>Поиск по тексту комментариев.</li>
  *     </ul>
  * </p>
  */
@@ -49,11 +54,13 @@ import java.util.stream.Collectors;
     *   **Создание** новых комментариев к любой задаче ➕.
     *   **Редактирование** только своих комментариев ✏️.
     *   **Удаление** своих комментариев или любых комментариев (для `ADMIN`) 🗑️.
-    *   **Получение** всех комментариев к конкретной задаче 📋.
+    *   **Получение** комментариев к конкретной задаче постранично (курсор) 📋.
+    *   **Поиск** по тексту комментариев с подсветкой совпадений 🔎.
     """)
 public class CommentController {
 
     private final CommentService commentService;
+    private final QueryExecutor queryExecutor;
 
     private static final String ERROR_400_INVALID_DATA_EXAMPLE = """
             {
@@ -71,6 +78,26 @@ public class CommentController {
             }
             """;
 
+    private static final String ERROR_400_INVALID_CURSOR_EXAMPLE = """
+            {
+                "timestamp": "%s",
+                "status": 400,
+                "error": "Bad Request",
+                "message": "CMT-003: Некорректный курсор страницы комментариев.",
+                "path": "/api/tasks/1/comments"
+            }
+            """;
+
+    private static final String ERROR_400_SEARCH_QUERY_TOO_SHORT_EXAMPLE = """
+            {
+                "timestamp": "%s",
+                "status": 400,
+                "error": "Bad Request",
+                "message": "CMT-004: Поисковый запрос должен содержать не менее 3 символов.",
+                "path": "/api/comments/search"
+            }
+            """;
+
     private static final String ERROR_401_UNAUTHORIZED_EXAMPLE = """
             {
                 "timestamp": "%s",
@@ -107,7 +134,7 @@ public class CommentController {
                 "timestamp": "%s",
                 "status": 404,
                 "error": "Not Found",
-                "message": "TASK-001: Задача с ID 999 не найдена.",
+                "message": "TASK-001: Задача не найдена.",
                 "path": "/api/tasks/999/comments"
             }
             """;
@@ -117,7 +144,7 @@ public class CommentController {
                 "timestamp": "%s",
                 "status": 404,
                 "error": "Not Found",
-                "message": "CMT-001: Комментарий с ID 999 не найден.",
+                "message": "CMT-001: Комментарий не найден.",
                 "path": "/api/comments/999"
             }
             """;
@@ -310,17 +337,24 @@ public class CommentController {
     }
 
     @Operation(
-            summary = "📋 Получить все комментарии к задаче",
+            summary = "📋 Получить комментарии к задаче",
             description = """
-            Возвращает список всех комментариев, привязанных к конкретной задаче, отсортированных по дате создания.
+            Возвращает страницу комментариев задачи, отсортированных по дате создания (`order=ASC` — от старых к новым,
+            `order=DESC` — от новых к старым). Для следующей страницы передайте `nextCursor` из ответа в параметре `cursor`
+            с тем же `order`. Пагинация курсорная: время ответа не зависит от номера страницы.
             """,
             security = @SecurityRequirement(name = "BearerAuth")
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
-                    description = "✅ Список комментариев успешно получен.",
-                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CommentDTO.class, type = "array"))
+                    description = "✅ Страница комментариев успешно получена.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CommentPageDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "❌ Некорректный курсор страницы. (Код ошибки: `CMT-003`).",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_400_INVALID_CURSOR_EXAMPLE))
             ),
             @ApiResponse(
                     responseCode = "401",
@@ -340,12 +374,70 @@ public class CommentController {
     })
     @GetMapping("/tasks/{taskId}/comments")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<CommentDTO>> getCommentsForTask(
+    public ResponseEntity<CommentPageDTO> getCommentsForTask(
             @Parameter(description = "Уникальный идентификатор задачи, для которой необходимо получить комментарии.", required = true, example = "1")
-            @PathVariable long taskId
+            @PathVariable long taskId,
+            @Parameter(description = "Курсор из `nextCursor` предыдущей страницы. Без курсора возвращается первая страница.")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Порядок: `ASC` — от старых к новым, `DESC` — от новых к старым.", example = "DESC")
+            @RequestParam(defaultValue = "ASC") Sort.Direction order,
+            @Parameter(description = "Размер страницы (1.." + CommentService.MAX_PAGE_SIZE + ").", example = "50")
+            @RequestParam(defaultValue = "50") int limit
     ) {
         log.info("📢 Запрос на получение комментариев для задачи ID: {}.", taskId);
-        List<CommentDTO> comments = commentService.getCommentsByTaskId(taskId);
-        return ResponseEntity.ok(comments);
+        CommentPageDTO page = commentService.getCommentsByTaskId(taskId, cursor, order.isDescending(), limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(
+            summary = "🔎 Поиск комментариев по тексту",
+            description = """
+            Ищет подстроку в тексте комментариев без учета регистра, от новых к старым. Поиск можно ограничить задачей
+            (`taskId`) и автором (`author`). Каждый результат содержит `snippet` — экранированный HTML-фрагмент
+            с совпадением в `<mark>`. Для следующей страницы передайте `nextCursor` в параметре `cursor`.
+            """,
+            security = @SecurityRequirement(name = "BearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "✅ Страница результатов поиска.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = CommentPageDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "❌ Запрос короче 3 символов или некорректный курсор. (Код ошибки: `CMT-004` или `CMT-003`).",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = {
+                            @ExampleObject(name = "Короткий запрос", value = ERROR_400_SEARCH_QUERY_TOO_SHORT_EXAMPLE),
+                            @ExampleObject(name = "Некорректный курсор", value = ERROR_400_INVALID_CURSOR_EXAMPLE)
+                    })
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "❌ Не аутентифицирован.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_401_UNAUTHORIZED_EXAMPLE))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "🚫 Внутренняя ошибка сервера.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_500_INTERNAL_SERVER_ERROR_EXAMPLE))
+            )
+    })
+    @GetMapping("/comments/search")
+    @PreAuthorize("isAuthenticated()")
+    public CompletableFuture<ResponseEntity<CommentPageDTO>> searchComments(
+            @Parameter(description = "Подстрока для поиска (не короче 3 символов).", required = true, example = "релиз")
+            @RequestParam String q,
+            @Parameter(description = "Искать только в комментариях этой задачи.", example = "1")
+            @RequestParam(required = false) Long taskId,
+            @Parameter(description = "Искать только комментарии этого автора (email).", example = "user@example.com")
+            @RequestParam(required = false) String author,
+            @Parameter(description = "Курсор из `nextCursor` предыдущей страницы.")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Размер страницы (1.." + CommentService.MAX_PAGE_SIZE + ").", example = "20")
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        log.info("📢 Запрос на поиск комментариев по '{}'.", q);
+        return queryExecutor.submit(() -> ResponseEntity.ok(commentService.searchComments(q, taskId, author, cursor, limit)));
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.example.taskmanagement.controller;
 
 import com.example.taskmanagement.dto.ErrorResponseDto;
+import com.example.taskmanagement.exception.BusinessException;
+import com.example.taskmanagement.exception.ErrorCode;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
@@ -30,12 +33,43 @@ import java.util.stream.Collectors;
 public class GlobalExceptionHandler {
 
     /**
-     * <p><b>Обработка бизнес-исключений ({@link ResponseStatusException}) 🚦</b></p>
+     * <p><b>Обработка бизнес-исключений ({@link BusinessException}) 🚦</b></p>
      * <p>
-     *     Ловит исключения, брошенные из сервисного слоя (наша бизнес-логика),
-     *     например, "пользователь не найден", "email уже занят", "неверный пароль".
-     *     Эти исключения содержат HTTP статус и сообщение, которые непосредственно
-     *     передаются в ответ клиенту.
+     *     Ловит ожидаемые ошибки сервисного слоя: "задача не найдена", "email уже занят",
+     *     "неверный пароль". Тело ответа берется из заранее отрендеренного шаблона
+     *     {@link ErrorCode} — без Jackson, рефлексии и форматирования строк; на запрос
+     *     подставляются только путь и время. Заголовки исключения (например, {@code Retry-After})
+     *     переносятся в ответ.
+     * </p>
+     *
+     * <blockquote>
+     *     Это самые частые ошибочные ответы (сканеры, сломанные клиенты), поэтому они
+     *     логируются на уровне DEBUG: подробности уже записаны сервисом в месте отказа.
+     * </blockquote>
+     *
+     * @param ex {@link BusinessException} - исключение с кодом ошибки.
+     * @param request {@link HttpServletRequest} - текущий HTTP запрос.
+     * @return {@link ResponseEntity} с JSON телом в формате {@link ErrorResponseDto}.
+     */
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<byte[]> handleBusinessException(BusinessException ex, HttpServletRequest request) {
+        ErrorCode errorCode = ex.getErrorCode();
+        String path = request.getRequestURI();
+        log.debug("🚨 Бизнес-исключение перехвачено: Код={}, Статус={}, Путь='{}'",
+                errorCode.getCode(), errorCode.getStatus().value(), path);
+        return ResponseEntity.status(errorCode.getStatus())
+                .headers(ex.getHeaders())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorCode.render(path));
+    }
+
+    /**
+     * <p><b>Обработка исключений со статусом ({@link ResponseStatusException}) 🚦</b></p>
+     * <p>
+     *     Ловит {@link ResponseStatusException}, брошенные фреймворком или сторонним кодом.
+     *     Собственные ошибки приложения бросаются как {@link BusinessException}.
+     *     Статус и сообщение исключения передаются в ответ клиенту, заголовки
+     *     исключения также переносятся в ответ.
      * </p>
      *
      * @param ex {@link ResponseStatusException} - исключение, содержащее HTTP статус и причину.
@@ -55,7 +89,7 @@ public class GlobalExceptionHandler {
 
         log.warn("🚨 Бизнес-исключение перехвачено: Статус={} - '{}', Сообщение='{}', Путь='{}'",
                 status.value(), status.getReasonPhrase(), ex.getReason(), request.getRequestURI());
-        return new ResponseEntity<>(errorResponse, status);
+        return new ResponseEntity<>(errorResponse, ex.getHeaders(), status);
     }
 
     /**
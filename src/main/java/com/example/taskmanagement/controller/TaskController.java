@@ -1,8 +1,16 @@
 package com.example.taskmanagement.controller;
 
+import com.example.taskmanagement.async.QueryExecutor;
+import com.example.taskmanagement.async.ReadCoalescer;
 import com.example.taskmanagement.config.UserDetail;
+import com.example.taskmanagement.dto.CountStrategy;
 import com.example.taskmanagement.dto.CreateTaskDTO;
+import com.example.taskmanagement.dto.TaskBatchDTO;
+import com.example.taskmanagement.dto.TaskCriteriaDTO;
 import com.example.taskmanagement.dto.TaskDTO;
+import com.example.taskmanagement.dto.TaskFieldSelection;
+import com.example.taskmanagement.dto.TaskFilterDTO;
+import com.example.taskmanagement.dto.TaskPageDTO;
 import com.example.taskmanagement.dto.UpdateTaskDTO;
 import com.example.taskmanagement.model.AppUser;
 import com.example.taskmanagement.model.Status;
@@ -17,12 +25,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.Predicate;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.jpa.domain.Specification;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -32,7 +38,10 @@ import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <p><b>Контроллер для Управления Задачами 🎯</b></p>
@@ -47,6 +56,15 @@ import java.util.List;
  *         <li>Административные операции по управлению задачами.</li>
  *     </ul>
  * </p>
+ * <p>
+ *     Тяжелые списки ({@code /getAll}, {@code /status}, {@code /between-dates}, {@code /by-user}, {@code /by-filter},
+ *     {@code /my}) возвращают {@link CompletableFuture} и выполняются в {@link QueryExecutor}, не занимая поток
+ *     Tomcat; параметры разбираются до отправки в пул, поэтому ошибки запроса приходят сразу.
+ * </p>
+ * <p>
+ *     Одинаковые одновременные вызовы этих списков объединяются {@link ReadCoalescer}: ключ — имя операции,
+ *     параметры запроса (для {@code /my} — ID пользователя) и роли вызывающего.
+ * </p>
  */
 @RestController
 @RequiredArgsConstructor
@@ -63,6 +81,29 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final QueryExecutor queryExecutor;
+    private final ReadCoalescer readCoalescer;
+
+    private static final String FIELDS_PARAM_DESCRIPTION = """
+            Список полей ответа через запятую (sparse fieldset). Поле `id` возвращается всегда.
+            Из базы читаются только колонки выбранных полей; пользователи присоединяются,
+            только если запрошены `author` или `executor`. Без параметра возвращается полный объект.
+            """;
+
+    private static final String INCLUDE_ARCHIVED_PARAM_DESCRIPTION = """
+            Добавить в ответ завершенные задачи, перенесенные в архив (`tasks_archive`).
+            У архивных задач в ответе есть признак `"archived": true`.
+            """;
+
+    private static final String ERROR_400_UNKNOWN_FIELD_EXAMPLE = """
+            {
+                "timestamp": "%s",
+                "status": 400,
+                "error": "Bad Request",
+                "message": "TASK-005: Неизвестное поле в параметре 'fields'. Допустимые поля: id,title,description,status,priority,author,executor,createdAt,updatedAt,dueDate",
+                "path": "/api/tasks/getAll"
+            }
+            """;
 
     private static final String ERROR_400_INVALID_DATA_EXAMPLE = """
             {
@@ -90,6 +131,48 @@ public class TaskController {
             }
             """;
 
+    private static final String ERROR_400_INVALID_DUE_SOON_DAYS_EXAMPLE = """
+            {
+                "timestamp": "%s",
+                "status": 400,
+                "error": "Bad Request",
+                "message": "TASK-006: Параметр 'days' должен быть от 1 до 365.",
+                "path": "/api/tasks/due-soon"
+            }
+            """;
+
+    private static final String URGENT_ORDER_DESCRIPTION = """
+            Только открытые задачи (`WAITING`, `IN_PROGRESS`, `ON_HOLD`, `IN_REVIEW`), отсортированные по приоритету
+            (от `CRITICAL` к `LOWEST`), затем по сроку. Ответ постраничный: `page` (с нуля) и `size` (до 200);
+            `hasMore` показывает, есть ли следующая страница. Общее число задач возвращается только по параметру `count`.
+            """;
+
+    private static final String COUNT_PARAM_DESCRIPTION = """
+            Способ подсчета общего числа задач (`total`): `none` (по умолчанию — не считать), `exact` (COUNT),
+            `estimated` (оценка планировщика, без чтения строк) или `cached` (точное значение, запомненное на короткое время).
+            Использованный способ возвращается в `countStrategy`; на последней странице число известно без запроса (`exact`).
+            """;
+
+    private static final String ERROR_400_INVALID_COUNT_STRATEGY_EXAMPLE = """
+            {
+                "timestamp": "%s",
+                "status": 400,
+                "error": "Bad Request",
+                "message": "TASK-007: Параметр 'count' должен быть одним из: none, exact, estimated, cached.",
+                "path": "/api/tasks/overdue"
+            }
+            """;
+
+    private static final String ERROR_400_BATCH_TOO_LARGE_EXAMPLE = """
+            {
+                "timestamp": "%s",
+                "status": 400,
+                "error": "Bad Request",
+                "message": "TASK-008: За один запрос можно получить не более 1000 задач.",
+                "path": "/api/tasks/batch"
+            }
+            """;
+
     private static final String ERROR_401_UNAUTHORIZED_EXAMPLE = """
             {
                 "timestamp": "%s",
@@ -125,7 +208,7 @@ public class TaskController {
                 "timestamp": "%s",
                 "status": 404,
                 "error": "Not Found",
-                "message": "TASK-001: Задача с ID 999 не найдена.",
+                "message": "TASK-001: Задача не найдена.",
                 "path": "/api/tasks/getById/999"
             }
             """;
@@ -135,7 +218,7 @@ public class TaskController {
                 "timestamp": "%s",
                 "status": 404,
                 "error": "Not Found",
-                "message": "USR-002: Пользователь с email 'nonexistent@example.com' не найден.",
+                "message": "USR-002: Пользователь не найден",
                 "path": "/api/tasks/create"
             }
             """;
@@ -319,6 +402,11 @@ public class TaskController {
                     description = "✅ Список задач успешно получен.",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Task.class, type = "array"))
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "❌ Неверный запрос: Неизвестное поле в параметре `fields`. (Код ошибки: `TASK-005`).",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_400_UNKNOWN_FIELD_EXAMPLE))
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "❌ Не аутентифицирован.",
@@ -332,15 +420,22 @@ public class TaskController {
     })
     @GetMapping("/getAll")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<TaskDTO>> getAllTasks() {
-        List<TaskDTO> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+    public CompletableFuture<ResponseEntity<List<TaskDTO>>> getAllTasks(
+            @Parameter(description = FIELDS_PARAM_DESCRIPTION, example = "id,title,status")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = INCLUDE_ARCHIVED_PARAM_DESCRIPTION, example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived
+    ) {
+        TaskFieldSelection selection = TaskFieldSelection.parse(fields);
+        return readCoalescer.coalesce("tasks.getAll", Arrays.asList(selection.fields(), includeArchived),
+                () -> queryExecutor.submit(() -> ResponseEntity.ok(taskService.getAllTasks(selection, includeArchived))));
     }
 
     @Operation(
             summary = "🆔 Получить задачу по ID",
             description = """
             Возвращает полную информацию о задаче по её уникальному идентификатору.
+            Задачи, перенесенные в архив, также доступны по прежнему ID (с признаком `"archived": true`).
             """
             ,
             security = @SecurityRequirement(name = "BearerAuth")
@@ -351,6 +446,11 @@ public class TaskController {
                     description = "✅ Задача успешно найдена и возвращена.",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = Task.class))
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "❌ Неверный запрос: Неизвестное поле в параметре `fields`. (Код ошибки: `TASK-005`).",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_400_UNKNOWN_FIELD_EXAMPLE))
+            ),
             @ApiResponse(
                     responseCode = "401",
                     description = "❌ Не аутентифицирован.",
@@ -371,12 +471,118 @@ public class TaskController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<TaskDTO> getTaskById(
             @Parameter(description = "Уникальный идентификатор задачи.", required = true, example = "1")
-            @PathVariable long taskId
+            @PathVariable long taskId,
+            @Parameter(description = FIELDS_PARAM_DESCRIPTION, example = "id,title,status")
+            @RequestParam(required = false) String fields
     ) {
-        TaskDTO task = taskService.getTaskById(taskId);
+        TaskDTO task = taskService.getTaskById(taskId, TaskFieldSelection.parse(fields));
         return ResponseEntity.ok(task);
     }
 
+    @Operation(
+            summary = "📦 Получить задачи по списку ID",
+            description = """
+            Замена серии запросов `/getById` для отрисовки доски: все задачи читаются одним запросом вместе с автором
+            и исполнителем. Задачи возвращаются в порядке запрошенных ID (повторы — один раз), включая архивные.
+            ID, для которых задача не найдена, перечисляются в `missingIds` — остальные задачи при этом возвращаются.
+            Для длинных списков используйте `POST /api/tasks/batch`.
+            """
+            ,
+            security = @SecurityRequirement(name = "BearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "✅ Задачи получены; не найденные ID перечислены в `missingIds`.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskBatchDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = """
+                    ❌ Неверный запрос:
+                    *   Больше 1000 различных ID. (Код ошибки: `TASK-008`).
+                    *   Неизвестное поле в параметре `fields`. (Код ошибки: `TASK-005`).
+                    """,
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = {
+                            @ExampleObject(name = "Слишком много ID", value = ERROR_400_BATCH_TOO_LARGE_EXAMPLE),
+                            @ExampleObject(name = "Неизвестное поле", value = ERROR_400_UNKNOWN_FIELD_EXAMPLE)
+                    })
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "❌ Не аутентифицирован.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_401_UNAUTHORIZED_EXAMPLE))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "🚫 Внутренняя ошибка сервера.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_500_INTERNAL_SERVER_ERROR_EXAMPLE))
+            )
+    })
+    @GetMapping(params = "ids")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<TaskBatchDTO> getTasksByIds(
+            @Parameter(description = "ID задач через запятую (не более 1000).", required = true, example = "1,2,3")
+            @RequestParam List<Long> ids,
+            @Parameter(description = FIELDS_PARAM_DESCRIPTION, example = "id,title,status")
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(taskService.getTasksByIds(ids, TaskFieldSelection.parse(fields)));
+    }
+
+    @Operation(
+            summary = "📦 Получить задачи по списку ID (POST)",
+            description = """
+            То же, что `GET /api/tasks?ids=...`, но список ID передается в теле запроса JSON-массивом —
+            для списков, не помещающихся в URL.
+            """
+            ,
+            security = @SecurityRequirement(name = "BearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "✅ Задачи получены; не найденные ID перечислены в `missingIds`.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskBatchDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = """
+                    ❌ Неверный запрос:
+                    *   Больше 1000 различных ID. (Код ошибки: `TASK-008`).
+                    *   Неизвестное поле в параметре `fields`. (Код ошибки: `TASK-005`).
+                    """,
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = {
+                            @ExampleObject(name = "Слишком много ID", value = ERROR_400_BATCH_TOO_LARGE_EXAMPLE),
+                            @ExampleObject(name = "Неизвестное поле", value = ERROR_400_UNKNOWN_FIELD_EXAMPLE)
+                    })
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "❌ Не аутентифицирован.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_401_UNAUTHORIZED_EXAMPLE))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "🚫 Внутренняя ошибка сервера.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_500_INTERNAL_SERVER_ERROR_EXAMPLE))
+            )
+    })
+    @PostMapping("/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<TaskBatchDTO> getTasksByIdsBatch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "JSON-массив ID задач (не более 1000).",
+                    required = true,
+                    content = @Content(schema = @Schema(type = "array", example = "[1, 2, 3]"))
+            )
+            @RequestBody List<Long> ids,
+            @Parameter(description = FIELDS_PARAM_DESCRIPTION, example = "id,title,status")
+            @RequestParam(required = false) String fields
+    ) {
+        return ResponseEntity.ok(taskService.getTasksByIds(ids, TaskFieldSelection.parse(fields)));
+    }
+
     @Operation(
             summary = "📊 Получить задачи по статусу",
             description = """
@@ -409,12 +615,17 @@ public class TaskController {
     })
     @GetMapping("/status/{status}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<TaskDTO>> getTasksByStatus(
+    public CompletableFuture<ResponseEntity<List<TaskDTO>>> getTasksByStatus(
             @Parameter(description = "Статус задачи для фильтрации.", required = true, example = "WAITING", schema = @Schema(implementation = Status.class))
-            @PathVariable Status status
+            @PathVariable Status status,
+            @Parameter(description = FIELDS_PARAM_DESCRIPTION, example = "id,title,status")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = INCLUDE_ARCHIVED_PARAM_DESCRIPTION, example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived
     ) {
-        List<TaskDTO> tasks = taskService.getTasksByStatus(status);
-        return ResponseEntity.ok(tasks);
+        TaskFieldSelection selection = TaskFieldSelection.parse(fields);
+        return readCoalescer.coalesce("tasks.byStatus", Arrays.asList(status, selection.fields(), includeArchived),
+                () -> queryExecutor.submit(() -> ResponseEntity.ok(taskService.getTasksByStatus(status, selection, includeArchived))));
     }
 
     @Operation(
@@ -470,7 +681,7 @@ public class TaskController {
 
         AppUser currentUser = userDetail.appUser();
 
-        TaskDTO taskDto = taskService.getTaskById(taskId);
+        TaskDTO taskDto = taskService.getTaskById(taskId, TaskFieldSelection.ALL);
 
         if (!taskService.isTaskAuthor(taskDto, currentUser.getEmail())) {
             log.warn("🚫 Пользователь '{}' (ID: {}) пытался назначить задачу ID: {}, но не является ее автором.",
@@ -569,13 +780,16 @@ public class TaskController {
     })
     @GetMapping("/between-dates")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<TaskDTO>> getTasksBetweenDates(
+    public CompletableFuture<ResponseEntity<List<TaskDTO>>> getTasksBetweenDates(
             @Parameter(description = "Начальная дата срока выполнения (YYYY-MM-DD).", required = true, example = "2025-06-30")
             @RequestParam("start") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
             @Parameter(description = "Конечная дата срока выполнения (YYYY-MM-DD).", required = true, example = "2025-07-25")
-            @RequestParam("end") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
-        List<TaskDTO> tasks = taskService.getTasksBetweenDates(startDate, endDate);
-        return ResponseEntity.ok(tasks);
+            @RequestParam("end") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @Parameter(description = FIELDS_PARAM_DESCRIPTION, example = "id,title,status")
+            @RequestParam(required = false) String fields) {
+        TaskFieldSelection selection = TaskFieldSelection.parse(fields);
+        return readCoalescer.coalesce("tasks.betweenDates", Arrays.asList(startDate, endDate, selection.fields()),
+                () -> queryExecutor.submit(() -> ResponseEntity.ok(taskService.getTasksBetweenDates(startDate, endDate, selection))));
     }
 
     @Operation(
@@ -610,12 +824,17 @@ public class TaskController {
     })
     @GetMapping("/by-user/{email}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<TaskDTO>> getAllTasksByUser(
+    public CompletableFuture<ResponseEntity<List<TaskDTO>>> getAllTasksByUser(
             @Parameter(description = "Email пользователя, чьи задачи необходимо получить.", required = true, example = "user@example.com")
-            @PathVariable String email
+            @PathVariable String email,
+            @Parameter(description = FIELDS_PARAM_DESCRIPTION, example = "id,title,status")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = INCLUDE_ARCHIVED_PARAM_DESCRIPTION, example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived
     ) {
-        List<TaskDTO> tasks = taskService.getAllTasksByUser(email);
-        return ResponseEntity.ok(tasks);
+        TaskFieldSelection selection = TaskFieldSelection.parse(fields);
+        return readCoalescer.coalesce("tasks.byUser", Arrays.asList(email, selection.fields(), includeArchived),
+                () -> queryExecutor.submit(() -> ResponseEntity.ok(taskService.getAllTasksByUser(email, selection, includeArchived))));
     }
 
     @Operation(
@@ -651,10 +870,79 @@ public class TaskController {
     }
 
     @Operation(
-            summary = "🔎 Получить задачи по фильтру (по заголовку)",
+            summary = "🗜️ Получить ID задач по комбинированным условиям",
+            description = """
+            Возвращает ID задач по возрастанию. Значения одного параметра (через запятую) объединяются через ИЛИ,
+            разные параметры — через И; `excludedStatuses` вычитаются. Например:
+            `priorities=CRITICAL,HIGH&excludedStatuses=COMPLETED&executorUsernames=a@suai.com,b@suai.com`.
+            При включенных битовых картах (`app.task-bitmap-index.enabled`) ответ вычисляется в памяти.
+            """
+            ,
+            security = @SecurityRequirement(name = "BearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "✅ Список ID задач успешно получен.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(type = "array"))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "❌ Не аутентифицирован.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_401_UNAUTHORIZED_EXAMPLE))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "🚫 Внутренняя ошибка сервера.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_500_INTERNAL_SERVER_ERROR_EXAMPLE))
+            )
+    })
+    @GetMapping("/ids-by-criteria")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<Long>> getTaskIdsByCriteria(@ParameterObject TaskCriteriaDTO criteria) {
+        return ResponseEntity.ok(taskService.getTaskIdsByCriteria(criteria));
+    }
+
+    @Operation(
+            summary = "📊 Посчитать задачи по статусам",
+            description = """
+            Возвращает число задач для каждого статуса, допустимого условиями (в том числе нулевые),
+            например распределение задач команды: `executorUsernames=a@suai.com,b@suai.com`.
+            Условия те же, что у `/ids-by-criteria`.
+            """
+            ,
+            security = @SecurityRequirement(name = "BearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "✅ Счетчики успешно получены.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = "{\"WAITING\": 12, \"IN_PROGRESS\": 7}"))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "❌ Не аутентифицирован.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_401_UNAUTHORIZED_EXAMPLE))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "🚫 Внутренняя ошибка сервера.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_500_INTERNAL_SERVER_ERROR_EXAMPLE))
+            )
+    })
+    @GetMapping("/status-counts")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<Status, Long>> countTasksByStatus(@ParameterObject TaskCriteriaDTO criteria) {
+        return ResponseEntity.ok(taskService.countTasksByStatus(criteria));
+    }
+
+    @Operation(
+            summary = "🔎 Получить задачи по фильтру",
             description = """
-            Возвращает список задач, заголовок которых содержит указанную подстроку (без учета регистра).
-            Этот эндпоинт демонстрирует использование динамической фильтрации.
+            Возвращает список задач, удовлетворяющих всем переданным параметрам: подстрокам заголовка и описания
+            (без учета регистра), статусу, приоритету, email автора и исполнителя, диапазону сроков и времени изменения.
+            Фильтр без заголовка и описания при включенном индексе в памяти (`app.task-index.enabled`)
+            выполняется без обращения к базе, а найденные задачи читаются по первичному ключу.
             """
             ,
             security = @SecurityRequirement(name = "BearerAuth")
@@ -678,29 +966,17 @@ public class TaskController {
     })
     @GetMapping("/by-filter")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<TaskDTO>> getTasksByFilter(
-            @Parameter(description = "Подстрока для поиска в заголовке задачи (без учета регистра).", example = "отчет")
-            @RequestParam(required = false) String title
+    public CompletableFuture<ResponseEntity<List<TaskDTO>>> getTasksByFilter(
+            @ParameterObject TaskFilterDTO filter,
+            @Parameter(description = FIELDS_PARAM_DESCRIPTION, example = "id,title,status")
+            @RequestParam(required = false) String fields
     ) {
-        Specification<Task> spec = (root, query, criteriaBuilder) -> {
-            assert query != null;
-            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
-                root.fetch("author", JoinType.LEFT);
-                root.fetch("executor", JoinType.LEFT);
-                root.fetch("comments", JoinType.LEFT);
-            }
-
-            Predicate predicate = criteriaBuilder.conjunction();
-            if (title != null && !title.isEmpty()) {
-                String lowerTitle = title.toLowerCase();
-                predicate = criteriaBuilder.and(predicate, criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), "%" + lowerTitle + "%"));
-            }
-
-            return predicate;
-        };
-
-        List<TaskDTO> tasks = taskService.getTasksByFilter(spec);
-        return ResponseEntity.ok(tasks);
+        TaskFieldSelection selection = TaskFieldSelection.parse(fields);
+        List<Object> criteria = Arrays.asList(filter.getTitle(), filter.getDescription(), filter.getStatus(),
+                filter.getPriority(), filter.getAuthorUsername(), filter.getExecutorUsername(), filter.getStartDate(),
+                filter.getEndDate(), filter.getUpdatedAfter(), selection.fields());
+        return readCoalescer.coalesce("tasks.byFilter", criteria,
+                () -> queryExecutor.submit(() -> ResponseEntity.ok(taskService.getTasksByFilter(filter, selection))));
     }
 
     @Operation(
@@ -735,11 +1011,208 @@ public class TaskController {
     })
     @GetMapping("/my")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<TaskDTO>> getMyTask(@AuthenticationPrincipal UserDetail userDetail) {
+    public CompletableFuture<ResponseEntity<List<TaskDTO>>> getMyTask(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @Parameter(description = FIELDS_PARAM_DESCRIPTION, example = "id,title,status")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = INCLUDE_ARCHIVED_PARAM_DESCRIPTION, example = "false")
+            @RequestParam(defaultValue = "false") boolean includeArchived
+    ) {
         AppUser currentUser = userDetail.appUser();
         log.info("📢 Получение задач, порученных пользователю '{}' (ID: {}).", currentUser.getEmail(), currentUser.getId());
-        List<TaskDTO> tasks = taskService.getMyTasks(currentUser);
-        return ResponseEntity.ok(tasks);
+        TaskFieldSelection selection = TaskFieldSelection.parse(fields);
+        return readCoalescer.coalesce("tasks.my", Arrays.asList(currentUser.getId(), selection.fields(), includeArchived),
+                () -> queryExecutor.submit(() -> ResponseEntity.ok(taskService.getMyTasks(currentUser, selection, includeArchived))));
+    }
+
+    @Operation(
+            summary = "⏰ Мои просроченные задачи",
+            description = """
+            Возвращает задачи текущего пользователя (как автора или исполнителя), срок выполнения которых уже прошел.
+            """ + URGENT_ORDER_DESCRIPTION,
+            security = @SecurityRequirement(name = "BearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "✅ Страница задач успешно получена.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskPageDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "❌ Неверный запрос: неизвестный способ подсчета `count`. (Код ошибки: `TASK-007`).",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_400_INVALID_COUNT_STRATEGY_EXAMPLE))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "❌ Не аутентифицирован.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_401_UNAUTHORIZED_EXAMPLE))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "🚫 Внутренняя ошибка сервера.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_500_INTERNAL_SERVER_ERROR_EXAMPLE))
+            )
+    })
+    @GetMapping("/overdue")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<TaskPageDTO> getMyOverdueTasks(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @Parameter(description = "Номер страницы (с нуля).", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Размер страницы (1..200).", example = "50")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = COUNT_PARAM_DESCRIPTION, example = "estimated")
+            @RequestParam(required = false) String count
+    ) {
+        return ResponseEntity.ok(taskService.getOverdueTasks(userDetail.appUser(), page, size, CountStrategy.parse(count)));
+    }
+
+    @Operation(
+            summary = "⏳ Мои задачи с приближающимся сроком",
+            description = """
+            Возвращает задачи текущего пользователя (как автора или исполнителя), срок выполнения которых наступит в ближайшие `days` дней (включая сегодня).
+            """ + URGENT_ORDER_DESCRIPTION,
+            security = @SecurityRequirement(name = "BearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "✅ Страница задач успешно получена.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskPageDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "❌ Неверный запрос: `days` вне диапазона 1..365 (`TASK-006`) или неизвестный способ подсчета `count` (`TASK-007`).",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = {
+                            @ExampleObject(name = "TASK-006", value = ERROR_400_INVALID_DUE_SOON_DAYS_EXAMPLE),
+                            @ExampleObject(name = "TASK-007", value = ERROR_400_INVALID_COUNT_STRATEGY_EXAMPLE)
+                    })
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "❌ Не аутентифицирован.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_401_UNAUTHORIZED_EXAMPLE))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "🚫 Внутренняя ошибка сервера.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_500_INTERNAL_SERVER_ERROR_EXAMPLE))
+            )
+    })
+    @GetMapping("/due-soon")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<TaskPageDTO> getMyDueSoonTasks(
+            @AuthenticationPrincipal UserDetail userDetail,
+            @Parameter(description = "Горизонт в днях от сегодняшнего дня (1..365).", example = "7")
+            @RequestParam(defaultValue = "7") int days,
+            @Parameter(description = "Номер страницы (с нуля).", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Размер страницы (1..200).", example = "50")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = COUNT_PARAM_DESCRIPTION, example = "estimated")
+            @RequestParam(required = false) String count
+    ) {
+        return ResponseEntity.ok(taskService.getDueSoonTasks(userDetail.appUser(), days, page, size, CountStrategy.parse(count)));
+    }
+
+    @Operation(
+            summary = "👑 Все просроченные задачи (только для ADMIN)",
+            description = """
+            Возвращает все задачи системы, срок выполнения которых уже прошел.
+            """ + URGENT_ORDER_DESCRIPTION,
+            security = @SecurityRequirement(name = "BearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "✅ Страница задач успешно получена.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskPageDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "❌ Неверный запрос: неизвестный способ подсчета `count`. (Код ошибки: `TASK-007`).",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_400_INVALID_COUNT_STRATEGY_EXAMPLE))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "❌ Не аутентифицирован.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_401_UNAUTHORIZED_EXAMPLE))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "❌ Доступ запрещен: У текущего пользователя нет роли `ADMIN`.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_403_ACCESS_DENIED_EXAMPLE))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "🚫 Внутренняя ошибка сервера.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_500_INTERNAL_SERVER_ERROR_EXAMPLE))
+            )
+    })
+    @GetMapping("/admin/overdue")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TaskPageDTO> getAllOverdueTasks(
+            @Parameter(description = "Номер страницы (с нуля).", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Размер страницы (1..200).", example = "50")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = COUNT_PARAM_DESCRIPTION, example = "estimated")
+            @RequestParam(required = false) String count
+    ) {
+        return ResponseEntity.ok(taskService.getOverdueTasks(null, page, size, CountStrategy.parse(count)));
+    }
+
+    @Operation(
+            summary = "👑 Все задачи с приближающимся сроком (только для ADMIN)",
+            description = """
+            Возвращает все задачи системы, срок выполнения которых наступит в ближайшие `days` дней (включая сегодня).
+            """ + URGENT_ORDER_DESCRIPTION,
+            security = @SecurityRequirement(name = "BearerAuth")
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "✅ Страница задач успешно получена.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskPageDTO.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "❌ Неверный запрос: `days` вне диапазона 1..365 (`TASK-006`) или неизвестный способ подсчета `count` (`TASK-007`).",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = {
+                            @ExampleObject(name = "TASK-006", value = ERROR_400_INVALID_DUE_SOON_DAYS_EXAMPLE),
+                            @ExampleObject(name = "TASK-007", value = ERROR_400_INVALID_COUNT_STRATEGY_EXAMPLE)
+                    })
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "❌ Не аутентифицирован.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_401_UNAUTHORIZED_EXAMPLE))
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "❌ Доступ запрещен: У текущего пользователя нет роли `ADMIN`.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_403_ACCESS_DENIED_EXAMPLE))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "🚫 Внутренняя ошибка сервера.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = ERROR_500_INTERNAL_SERVER_ERROR_EXAMPLE))
+            )
+    })
+    @GetMapping("/admin/due-soon")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TaskPageDTO> getAllDueSoonTasks(
+            @Parameter(description = "Горизонт в днях от сегодняшнего дня (1..365).", example = "7")
+            @RequestParam(defaultValue = "7") int days,
+            @Parameter(description = "Номер страницы (с нуля).", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Размер страницы (1..200).", example = "50")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = COUNT_PARAM_DESCRIPTION, example = "estimated")
+            @RequestParam(required = false) String count
+    ) {
+        return ResponseEntity.ok(taskService.getDueSoonTasks(null, days, page, size, CountStrategy.parse(count)));
     }
 
     @Operation(
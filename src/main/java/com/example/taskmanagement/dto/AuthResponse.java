@@ -5,14 +5,21 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 
 /**
- * <p>DTO для ответа, содержащего JWT токен после успешной аутентификации.</p>
+ * <p>DTO для ответа, содержащего пару access/refresh токенов после успешной аутентификации.</p>
  */
 @Data
 @AllArgsConstructor
-@Schema(description = "Ответ с JWT токеном для аутентификации")
+@Schema(description = "Ответ с JWT токеном для аутентификации и refresh токеном для его обновления")
 public class AuthResponse {
 
     @Schema(description = "Токен доступа типа Bearer. Используйте его в заголовке `Authorization: Bearer <token>`.",
             example = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJ1c2VyQGV4YW1wbGUuY29tIiwiaWF0IjoxNjQ1NjczODAwLCJleHAiOjE2NDU2NzU2MDB9.signature...")
     private String token;
-}
\ No newline at end of file
+
+    @Schema(description = "Одноразовый refresh токен. Обменивается на новую пару через `/api/users/token/refresh`.",
+            example = "Q2hhbmdlTWVQbGVhc2UtdGhpcy1pcy1hLXJhbmRvbS10b2tlbg")
+    private String refreshToken;
+
+    @Schema(description = "Время жизни access токена в секундах.", example = "900")
+    private long expiresIn;
+}
@@ -0,0 +1,63 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.exception.BusinessException;
+import com.example.taskmanagement.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * <p><b>Курсор Страницы Комментариев</b></p>
+ *
+ * <p>
+ *     Позиция в ленте комментариев задачи: пара {@code (createdAt, id)} последнего выданного
+ *     комментария. Клиент получает курсор непрозрачной строкой (Base64URL) и передает его обратно
+ *     без изменений; следующая страница начинается строго после этой позиции в выбранном порядке.
+ * </p>
+ *
+ * <blockquote>
+ *     Пара, а не только дата: у нескольких комментариев может совпасть {@code createdAt},
+ *     а {@code id} делает позицию однозначной.
+ * </blockquote>
+ *
+ * @param createdAt Дата создания последнего комментария страницы.
+ * @param id Идентификатор последнего комментария страницы.
+ */
+public record CommentCursor(LocalDateTime createdAt, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * <p><b>Разбор Курсора из Параметра Запроса</b></p>
+     *
+     * @param value Значение параметра {@code cursor}; {@code null} или пустая строка — первая страница.
+     * @return Курсор или {@code null} для первой страницы.
+     * @throws BusinessException 400 BAD_REQUEST (`CMT-003`), если строка не является курсором.
+     */
+    public static CommentCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BusinessException(ErrorCode.COMMENT_INVALID_CURSOR);
+            }
+            return new CommentCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.COMMENT_INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * @return Курсор в виде строки для ответа клиенту.
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
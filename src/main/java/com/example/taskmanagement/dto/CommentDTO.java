@@ -42,4 +42,8 @@ public class CommentDTO {
     @Schema(description = "Дата и время последнего обновления комментария", example = "2025-07-04T16:00:00.456")
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
     private LocalDateTime updatedAt;
+
+    @Schema(description = "Фрагмент текста с подсветкой совпадения (HTML, только в результатах поиска)",
+            example = "…обсудили <mark>релиз</mark> на пятницу…")
+    private String snippet;
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.example.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * <p><b>DTO: Страница Комментариев (Ответ)</b></p>
+ *
+ * <p>
+ *     Одна страница ленты комментариев задачи при курсорной пагинации.
+ *     Чтобы получить следующую страницу, клиент передает {@code nextCursor} в параметре
+ *     {@code cursor} с тем же порядком сортировки.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Страница комментариев к задаче")
+public class CommentPageDTO {
+
+    @Schema(description = "Комментарии страницы в запрошенном порядке")
+    private List<CommentDTO> items;
+
+    @Schema(description = "Курсор следующей страницы; отсутствует, если страница последняя", example = "MjAyNS0wNy0wNFQxNTowMDowMC4xMjN8MTAx")
+    private String nextCursor;
+
+    @Schema(description = "Есть ли комментарии после этой страницы", example = "true")
+    private boolean hasMore;
+}
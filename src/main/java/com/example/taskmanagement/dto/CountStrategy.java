@@ -0,0 +1,51 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.exception.BusinessException;
+import com.example.taskmanagement.exception.ErrorCode;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+/**
+ * <p><b>Способ Подсчета Общего Числа Задач 🔢</b></p>
+ *
+ * <p>
+ *     Задается параметром {@code count} постраничных списков и возвращается в {@link TaskPageDTO#getCountStrategy()}
+ *     вместе с {@link TaskPageDTO#getTotal()}.
+ * </p>
+ */
+public enum CountStrategy {
+
+    /** Общее число не считается (по умолчанию): страница стоит одного запроса. */
+    NONE,
+    /** Точный {@code COUNT(*)} по тому же условию, что и страница. */
+    EXACT,
+    /** Оценка планировщика PostgreSQL ({@code EXPLAIN}) без чтения строк. */
+    ESTIMATED,
+    /** Точный счетчик, запомненный для формы фильтра на короткое время и сбрасываемый при изменении задач. */
+    CACHED;
+
+    /**
+     * @return Имя в API: {@code none}, {@code exact}, {@code estimated}, {@code cached}.
+     */
+    @JsonValue
+    public String jsonName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param value Значение параметра {@code count}; {@code null} или пустая строка — {@link #NONE}.
+     * @return Способ подсчета.
+     * @throws BusinessException {@code TASK-007}, если значение не распознано.
+     */
+    public static CountStrategy parse(String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.TASK_INVALID_COUNT_STRATEGY);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <p><b>DTO: Запрос на Отзыв Access Токена</b></p>
+ *
+ * <p>
+ *     Используется администратором для досрочного отзыва скомпрометированного access токена.
+ * </p>
+ */
+@Setter
+@Getter
+@RequiredArgsConstructor
+@Schema(description = "Схема для административного отзыва JWT токена")
+public class RevokeTokenRequest {
+
+    @Schema(description = "Access токен, который необходимо отозвать",
+            example = "eyJhbGciOiJIUzUxMiJ9.eyJqdGkiOiI...")
+    @NotBlank(message = "Токен не может быть пустым")
+    private String token;
+}
@@ -0,0 +1,30 @@
+package com.example.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * <p><b>DTO: Задачи по Списку ID (Ответ)</b></p>
+ *
+ * <p>
+ *     Результат пакетного запроса ({@code GET /api/tasks?ids=...}, {@code POST /api/tasks/batch}).
+ *     Задачи идут в порядке запрошенных ID; ID, для которых задача не найдена ни в основной таблице, ни в архиве,
+ *     перечислены в {@code missingIds} и не приводят к ошибке всего запроса.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Задачи по списку ID")
+public class TaskBatchDTO {
+
+    @Schema(description = "Найденные задачи в порядке запрошенных ID (повторяющиеся ID — один раз)")
+    private List<TaskDTO> items;
+
+    @Schema(description = "Запрошенные ID, для которых задача не найдена", example = "[42, 1001]")
+    private List<Long> missingIds;
+}
@@ -0,0 +1,44 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.model.Priority;
+import com.example.taskmanagement.model.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * <p><b>DTO: Комбинированные Условия для ID и Счетчиков Задач</b></p>
+ *
+ * <p>
+ *     В отличие от {@link TaskFilterDTO}, каждое поле принимает несколько значений (через запятую),
+ *     которые объединяются через ИЛИ; разные поля объединяются через И. Все поля необязательны.
+ * </p>
+ */
+@Setter
+@Getter
+@RequiredArgsConstructor
+@Schema(description = "Комбинированные условия отбора задач: значения одного поля — ИЛИ, разные поля — И")
+public class TaskCriteriaDTO {
+
+    @Schema(description = "Допустимые статусы", example = "WAITING,IN_PROGRESS")
+    private Set<Status> statuses;
+
+    @Schema(description = "Исключаемые статусы", example = "COMPLETED")
+    private Set<Status> excludedStatuses;
+
+    @Schema(description = "Допустимые приоритеты", example = "CRITICAL,HIGH")
+    private Set<Priority> priorities;
+
+    @Schema(description = "Email исполнителей (например, команды)", example = "4341@suai.com,4342@suai.com")
+    private Set<String> executorUsernames;
+
+    @Schema(description = "Начало диапазона сроков (включительно)", example = "2025-06-30")
+    private LocalDate dueFrom;
+
+    @Schema(description = "Конец диапазона сроков (включительно)", example = "2025-07-29")
+    private LocalDate dueTo;
+}
@@ -62,4 +62,7 @@ public class TaskDTO {
 
     @Schema(description = "Планируемый срок выполнения задачи", example = "2025-07-20")
     private LocalDate dueDate;
+
+    @Schema(description = "Задача перенесена в архив (только чтение); для активных задач поле отсутствует", example = "true")
+    private Boolean archived;
 }
\ No newline at end of file
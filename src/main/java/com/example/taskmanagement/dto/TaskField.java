@@ -0,0 +1,72 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.model.Priority;
+import com.example.taskmanagement.model.Status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.BiConsumer;
+
+/**
+ * <p><b>Поле {@link TaskDTO}, доступное для выборки через {@code ?fields=}</b></p>
+ *
+ * <p>
+ *     Связывает имя поля в JSON с атрибутом сущности {@code Task}, из которого оно читается,
+ *     и с сеттером DTO. Поля {@link #AUTHOR} и {@link #EXECUTOR} требуют соединения
+ *     с таблицей {@code app_users} — остальные читаются из {@code tasks} напрямую.
+ * </p>
+ */
+public enum TaskField {
+
+    ID("id", "id", (dto, value) -> dto.setId((Long) value)),
+    TITLE("title", "title", (dto, value) -> dto.setTitle((String) value)),
+    DESCRIPTION("description", "description", (dto, value) -> dto.setDescription((String) value)),
+    STATUS("status", "status", (dto, value) -> dto.setStatus((Status) value)),
+    PRIORITY("priority", "priority", (dto, value) -> dto.setPriority((Priority) value)),
+    AUTHOR("author", "author", (dto, value) -> dto.setAuthor((String) value)),
+    EXECUTOR("executor", "executor", (dto, value) -> dto.setExecutor((String) value)),
+    CREATED_AT("createdAt", "createdAt", (dto, value) -> dto.setCreatedAt((LocalDateTime) value)),
+    UPDATED_AT("updatedAt", "updatedAt", (dto, value) -> dto.setUpdatedAt((LocalDateTime) value)),
+    DUE_DATE("dueDate", "dueDate", (dto, value) -> dto.setDueDate((LocalDate) value));
+
+    private final String jsonName;
+    private final String attribute;
+    private final BiConsumer<TaskDTO, Object> setter;
+
+    TaskField(String jsonName, String attribute, BiConsumer<TaskDTO, Object> setter) {
+        this.jsonName = jsonName;
+        this.attribute = attribute;
+        this.setter = setter;
+    }
+
+    /**
+     * @return Имя поля в JSON-ответе и в параметре {@code fields}.
+     */
+    public String jsonName() {
+        return jsonName;
+    }
+
+    /**
+     * @return Имя атрибута сущности {@code Task}.
+     */
+    public String attribute() {
+        return attribute;
+    }
+
+    /**
+     * @return {@code true}, если поле — email связанного пользователя и требует соединения с {@code app_users}.
+     */
+    public boolean isUserReference() {
+        return this == AUTHOR || this == EXECUTOR;
+    }
+
+    /**
+     * <p><b>Запись значения в DTO</b></p>
+     *
+     * @param dto Заполняемый DTO.
+     * @param value Значение из строки результата запроса.
+     */
+    public void apply(TaskDTO dto, Object value) {
+        setter.accept(dto, value);
+    }
+}
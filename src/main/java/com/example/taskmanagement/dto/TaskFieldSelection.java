@@ -0,0 +1,103 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.exception.BusinessException;
+import com.example.taskmanagement.exception.ErrorCode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <p><b>Набор Полей Задачи, Запрошенный Клиентом (Sparse Fieldset)</b></p>
+ *
+ * <p>
+ *     Результат разбора параметра {@code ?fields=id,title,status}. Определяет и состав
+ *     JSON-ответа, и набор колонок/соединений в SQL-проекции.
+ * </p>
+ *
+ * <ul>
+ *     <li>Поле {@code id} включается всегда — без него клиент не сможет сопоставить результат.</li>
+ *     <li>Отсутствующий или пустой параметр означает полный {@link TaskDTO} ({@link #ALL}).</li>
+ *     <li>Неизвестное имя поля отклоняется с <b>400 BAD_REQUEST</b> (код {@code TASK-005}).</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     <b>Кэш разбора:</b> клиенты повторяют одни и те же строки {@code fields}, поэтому готовые
+ *     наборы кэшируются по исходной строке. Кэшируются только корректные строки, а размер кэша
+ *     ограничен, чтобы перебор случайных значений не раздувал память.
+ * </blockquote>
+ */
+public final class TaskFieldSelection {
+
+    /**
+     * Полный набор полей — поведение эндпоинтов без параметра {@code fields}.
+     */
+    public static final TaskFieldSelection ALL = new TaskFieldSelection(EnumSet.allOf(TaskField.class));
+
+    private static final int MAX_CACHED_SELECTIONS = 1024;
+    private static final Map<String, TaskField> FIELDS_BY_NAME = Arrays.stream(TaskField.values())
+            .collect(Collectors.toUnmodifiableMap(TaskField::jsonName, Function.identity()));
+    private static final Map<String, TaskFieldSelection> CACHE = new ConcurrentHashMap<>();
+
+    private final Set<TaskField> fields;
+
+    private TaskFieldSelection(EnumSet<TaskField> fields) {
+        this.fields = Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * <p><b>Разбор Параметра {@code fields}</b></p>
+     *
+     * @param fields Значение параметра: имена полей через запятую или {@code null}.
+     * @return Набор полей ({@link #ALL}, если параметр не задан).
+     * @throws BusinessException с кодом <b>400 BAD_REQUEST</b> и сообщением `TASK-005`,
+     *         если указано неизвестное поле.
+     */
+    public static TaskFieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        TaskFieldSelection cached = CACHE.get(fields);
+        if (cached != null) {
+            return cached;
+        }
+
+        EnumSet<TaskField> selected = EnumSet.of(TaskField.ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            TaskField field = FIELDS_BY_NAME.get(trimmed);
+            if (field == null) {
+                throw new BusinessException(ErrorCode.TASK_UNKNOWN_FIELD);
+            }
+            selected.add(field);
+        }
+
+        TaskFieldSelection selection = selected.size() == TaskField.values().length ? ALL : new TaskFieldSelection(selected);
+        if (CACHE.size() < MAX_CACHED_SELECTIONS) {
+            CACHE.putIfAbsent(fields, selection);
+        }
+        return selection;
+    }
+
+    /**
+     * @return Выбранные поля в порядке объявления {@link TaskField}.
+     */
+    public Set<TaskField> fields() {
+        return fields;
+    }
+
+    /**
+     * @return {@code true}, если выбраны все поля и можно использовать обычную загрузку сущностей.
+     */
+    public boolean isAll() {
+        return this == ALL;
+    }
+}
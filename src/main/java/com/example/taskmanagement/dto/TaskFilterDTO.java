@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * <p><b>DTO: Фильтр для Поиска Задач</b></p>
@@ -47,4 +48,14 @@ public class TaskFilterDTO {
 
     @Schema(description = "Конечная дата для фильтрации по сроку выполнения (включительно)", example = "2025-07-29")
     private LocalDate endDate;
+
+    @Schema(description = "Только задачи, измененные не раньше указанного момента", example = "2025-07-01T00:00:00")
+    private LocalDateTime updatedAfter;
+
+    /**
+     * @return {@code true}, если задан текстовый фильтр по заголовку или описанию.
+     */
+    public boolean hasTextCriteria() {
+        return (title != null && !title.isEmpty()) || (description != null && !description.isEmpty());
+    }
 }
\ No newline at end of file
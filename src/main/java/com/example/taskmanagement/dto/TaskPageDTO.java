@@ -0,0 +1,43 @@
+package com.example.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * <p><b>DTO: Страница Задач (Ответ)</b></p>
+ *
+ * <p>
+ *     Одна страница списка задач со срочностью ({@code /overdue}, {@code /due-soon}).
+ *     По умолчанию общее число задач не считается: {@code hasMore} определяется по одной лишней строке,
+ *     поэтому страница стоит одного запроса без {@code COUNT(*)}. Число задач ({@code total}) возвращается,
+ *     только если клиент выбрал способ подсчета ({@link CountStrategy}).
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Страница задач")
+public class TaskPageDTO {
+
+    @Schema(description = "Задачи страницы: сначала более приоритетные, затем с более ранним сроком")
+    private List<TaskDTO> items;
+
+    @Schema(description = "Номер страницы (с нуля)", example = "0")
+    private int page;
+
+    @Schema(description = "Размер страницы", example = "50")
+    private int size;
+
+    @Schema(description = "Есть ли задачи на следующей странице", example = "true")
+    private boolean hasMore;
+
+    @Schema(description = "Общее число задач; только если запрошен параметр count", example = "1234")
+    private Long total;
+
+    @Schema(description = "Каким способом посчитан total: exact, estimated или cached", example = "estimated")
+    private CountStrategy countStrategy;
+}
@@ -0,0 +1,64 @@
+package com.example.taskmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * <p><b>DTO: Ход Удаления Пользователя (Ответ)</b></p>
+ *
+ * <p>
+ *     Снимок фонового задания, которое порциями удаляет задачи и комментарии пользователя,
+ *     снимает его с чужих задач и в конце удаляет саму учетную запись.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Ход фонового удаления пользователя")
+public class UserPurgeStatusDTO {
+
+    /**
+     * Состояние задания.
+     */
+    public enum State {
+        /** Задание принято, учетная запись заблокирована. */
+        QUEUED,
+        /** Идет удаление данных порциями. */
+        RUNNING,
+        /** Пользователь и все его данные удалены. */
+        COMPLETED,
+        /** Задание прервано ошибкой; повторный запрос продолжит с того же места. */
+        FAILED
+    }
+
+    @Schema(description = "ID удаляемого пользователя", example = "101")
+    private Long userId;
+
+    @Schema(description = "Состояние задания", example = "RUNNING")
+    private State state;
+
+    @Schema(description = "Удалено задач, автором которых был пользователь", example = "12000")
+    private long deletedTasks;
+
+    @Schema(description = "Удалено комментариев (к удаленным задачам и собственных)", example = "85000")
+    private long deletedComments;
+
+    @Schema(description = "Задач, с которых пользователь снят как исполнитель", example = "340")
+    private long unassignedTasks;
+
+    @Schema(description = "Время начала", example = "2025-07-04T15:00:00.123")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "Время завершения (успешного или с ошибкой)", example = "2025-07-04T15:00:42.456")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "Причина ошибки для состояния FAILED")
+    private String error;
+}
@@ -0,0 +1,48 @@
+package com.example.taskmanagement.exception;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * <p><b>Ожидаемая Бизнес-Ошибка 🚦</b></p>
+ *
+ * <p>
+ *     Бросается сервисами для предсказуемых отказов: "задача не найдена", "нет прав",
+ *     "неверный пароль" и т.п. Обрабатывается {@code GlobalExceptionHandler}, который отдает
+ *     заранее отрендеренное тело из {@link ErrorCode}.
+ * </p>
+ *
+ * <blockquote>
+ *     <b>Без стека вызовов:</b> исключение не заполняет stack trace и не собирает suppressed-исключения.
+ *     Это ожидаемый результат, а не сбой, — стек для него бесполезен, а его захват был самой дорогой
+ *     частью ответов 404/403, которых у сканеров и сломанных клиентов больше всего.
+ * </blockquote>
+ */
+public class BusinessException extends RuntimeException {
+
+    private final transient ErrorCode errorCode;
+
+    public BusinessException(ErrorCode errorCode) {
+        this(errorCode, null);
+    }
+
+    public BusinessException(ErrorCode errorCode, Throwable cause) {
+        super(errorCode.getMessage(), cause, false, false);
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * @return Код ошибки с HTTP статусом и шаблоном ответа.
+     */
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * <p><b>Дополнительные Заголовки Ответа</b></p>
+     *
+     * @return Заголовки, которые нужно добавить к ответу (по умолчанию — пусто).
+     */
+    public HttpHeaders getHeaders() {
+        return HttpHeaders.EMPTY;
+    }
+}
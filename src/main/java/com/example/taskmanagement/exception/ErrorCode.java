@@ -0,0 +1,110 @@
+package com.example.taskmanagement.exception;
+
+import com.example.taskmanagement.dto.TaskField;
+import org.springframework.http.HttpStatus;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * <p><b>Каталог Ожидаемых Ошибок API 📒</b></p>
+ *
+ * <p>
+ *     Каждая константа — код ошибки, HTTP статус и неизменяемое сообщение. Тело ответа
+ *     для каждой константы рендерится в JSON один раз при загрузке класса
+ *     ({@link ErrorResponseTemplate}); на запрос подставляются только путь и время.
+ * </p>
+ *
+ * <blockquote>
+ *     Сообщения намеренно не содержат идентификаторов и email из запроса: так шаблон остается
+ *     постоянным, а клиенту не отражаются его собственные данные. Подробности (ID, email)
+ *     пишутся в лог сервисами в месте, где ошибка возникла.
+ * </blockquote>
+ *
+ * <p>
+ *     Несколько констант могут разделять один код (например, {@code TASK-002}) — они отличаются
+ *     только текстом сообщения.
+ * </p>
+ */
+public enum ErrorCode {
+
+    TASK_NOT_FOUND("TASK-001", HttpStatus.NOT_FOUND, "Задача не найдена."),
+    TASK_EDIT_DENIED("TASK-002", HttpStatus.FORBIDDEN, "Вы не имеете прав на редактирование этой задачи."),
+    TASK_DELETE_DENIED("TASK-002", HttpStatus.FORBIDDEN, "Вы не имеете прав на удаление этой задачи."),
+    TASK_STATUS_DENIED("TASK-002", HttpStatus.FORBIDDEN, "Вы не имеете прав на изменение статуса этой задачи."),
+    TASK_INVALID_DATE_RANGE("TASK-003", HttpStatus.BAD_REQUEST, "Начальная дата не может быть позже конечной даты."),
+    TASK_INVALID_DUE_SOON_DAYS("TASK-006", HttpStatus.BAD_REQUEST, "Параметр 'days' должен быть от 1 до 365."),
+    TASK_INVALID_COUNT_STRATEGY("TASK-007", HttpStatus.BAD_REQUEST, "Параметр 'count' должен быть одним из: none, exact, estimated, cached."),
+    TASK_BATCH_TOO_LARGE("TASK-008", HttpStatus.BAD_REQUEST, "За один запрос можно получить не более 1000 задач."),
+    TASK_UNKNOWN_FIELD("TASK-005", HttpStatus.BAD_REQUEST, "Неизвестное поле в параметре 'fields'. Допустимые поля: "
+            + Arrays.stream(TaskField.values()).map(TaskField::jsonName).collect(Collectors.joining(","))),
+
+    USER_ALREADY_EXISTS("USR-001", HttpStatus.CONFLICT, "Пользователь с таким email уже существует"),
+    USER_NOT_FOUND("USR-002", HttpStatus.NOT_FOUND, "Пользователь не найден"),
+    AUTHENTICATED_USER_NOT_FOUND("USR-002", HttpStatus.NOT_FOUND, "Аутентифицированный пользователь не найден."),
+    EXECUTOR_NOT_FOUND("USR-002", HttpStatus.NOT_FOUND, "Исполнитель не найден."),
+    WRONG_OLD_PASSWORD("USR-003", HttpStatus.BAD_REQUEST, "Неверный старый пароль"),
+    PASSWORD_NOT_CHANGED("USR-004", HttpStatus.CONFLICT, "Новый пароль не должен совпадать со старым"),
+    USER_PURGE_NOT_FOUND("USR-005", HttpStatus.NOT_FOUND, "Задание удаления пользователя не найдено."),
+
+    BAD_CREDENTIALS("AUTH-001", HttpStatus.UNAUTHORIZED, "Неверный email или пароль"),
+    AUTHENTICATION_REQUIRED("AUTH-001", HttpStatus.UNAUTHORIZED, "Для выполнения этого действия необходимо авторизоваться."),
+    PASSWORD_HASHING_OVERLOADED("AUTH-002", HttpStatus.SERVICE_UNAVAILABLE, "Сервис аутентификации перегружен. Повторите попытку позже."),
+    INVALID_REFRESH_TOKEN("AUTH-003", HttpStatus.UNAUTHORIZED, "Недействительный refresh токен"),
+    REFRESH_TOKEN_REUSED("AUTH-004", HttpStatus.UNAUTHORIZED, "Refresh токен уже был использован. Выполните вход заново."),
+    INVALID_ACCESS_TOKEN("AUTH-005", HttpStatus.BAD_REQUEST, "Токен недействителен или уже истек"),
+
+    COMMENT_NOT_FOUND("CMT-001", HttpStatus.NOT_FOUND, "Комментарий не найден."),
+    COMMENT_EDIT_DENIED("CMT-002", HttpStatus.FORBIDDEN, "Вы не можете редактировать чужие комментарии."),
+    COMMENT_DELETE_DENIED("CMT-002", HttpStatus.FORBIDDEN, "Вы не можете удалять чужие комментарии."),
+    COMMENT_INVALID_CURSOR("CMT-003", HttpStatus.BAD_REQUEST, "Некорректный курсор страницы комментариев."),
+    COMMENT_SEARCH_QUERY_TOO_SHORT("CMT-004", HttpStatus.BAD_REQUEST, "Поисковый запрос должен содержать не менее 3 символов."),
+
+    RATE_LIMITED("RATE-001", HttpStatus.TOO_MANY_REQUESTS, "Слишком много запросов. Повторите попытку позже."),
+
+    QUERY_OVERLOADED("QRY-001", HttpStatus.SERVICE_UNAVAILABLE, "Сервер перегружен тяжелыми запросами. Повторите попытку позже."),
+    QUERY_TIMEOUT("QRY-002", HttpStatus.SERVICE_UNAVAILABLE, "Запрос выполнялся слишком долго и был прерван. Сузьте фильтр или повторите попытку позже.");
+
+    private final String code;
+    private final HttpStatus status;
+    private final String message;
+    private final ErrorResponseTemplate template;
+
+    ErrorCode(String code, HttpStatus status, String message) {
+        this.code = code;
+        this.status = status;
+        this.message = code + ": " + message;
+        this.template = new ErrorResponseTemplate(status, this.message);
+    }
+
+    /**
+     * @return Код ошибки, например {@code TASK-001}.
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * @return HTTP статус ответа.
+     */
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * @return Полное сообщение вместе с кодом, например {@code "TASK-001: Задача не найдена."}.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * <p><b>Тело Ответа для Запроса</b></p>
+     *
+     * @param path URI запроса, на котором произошла ошибка.
+     * @return JSON в формате {@code ErrorResponseDto}, закодированный в UTF-8.
+     */
+    public byte[] render(String path) {
+        return template.render(path);
+    }
+}
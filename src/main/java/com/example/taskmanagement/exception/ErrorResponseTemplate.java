@@ -0,0 +1,89 @@
+package com.example.taskmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * <p><b>Предварительно Отрендеренное Тело Ответа об Ошибке 📄</b></p>
+ *
+ * <p>
+ *     Хранит неизменяемую часть JSON ({@code status}, {@code error}, {@code message}) в виде готовых
+ *     байтов и на каждый запрос дописывает только {@code path} и {@code timestamp}. Поля и формат
+ *     времени совпадают с {@code ErrorResponseDto}, поэтому клиенты не видят разницы — но ответ
+ *     собирается без Jackson, рефлексии и {@code String.format}.
+ * </p>
+ */
+final class ErrorResponseTemplate {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+    private static final byte[] TIMESTAMP_PREFIX = "\",\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] prefix;
+
+    ErrorResponseTemplate(HttpStatus status, String message) {
+        this.prefix = ("{\"status\":" + status.value()
+                + ",\"error\":\"" + escape(status.getReasonPhrase())
+                + "\",\"message\":\"" + escape(message)
+                + "\",\"path\":\"").getBytes(StandardCharsets.UTF_8);
+    }
+
+    byte[] render(String path) {
+        byte[] pathBytes = escape(path == null ? "" : path).getBytes(StandardCharsets.UTF_8);
+        byte[] timestamp = TIMESTAMP_FORMAT.format(LocalDateTime.now()).getBytes(StandardCharsets.US_ASCII);
+
+        byte[] body = new byte[prefix.length + pathBytes.length + TIMESTAMP_PREFIX.length + timestamp.length + SUFFIX.length];
+        int offset = 0;
+        offset = append(body, offset, prefix);
+        offset = append(body, offset, pathBytes);
+        offset = append(body, offset, TIMESTAMP_PREFIX);
+        offset = append(body, offset, timestamp);
+        append(body, offset, SUFFIX);
+        return body;
+    }
+
+    private static int append(byte[] target, int offset, byte[] source) {
+        System.arraycopy(source, 0, target, offset, source.length);
+        return offset + source.length;
+    }
+
+    /**
+     * Экранирует строку для JSON. Для типичного URI без спецсимволов возвращает исходную строку без копирования.
+     */
+    static String escape(String value) {
+        int i = 0;
+        while (i < value.length()) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                break;
+            }
+            i++;
+        }
+        if (i == value.length()) {
+            return value;
+        }
+
+        StringBuilder escaped = new StringBuilder(value.length() + 16).append(value, 0, i);
+        for (; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                case '\t' -> escaped.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+}
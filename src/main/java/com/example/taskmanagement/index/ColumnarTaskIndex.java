@@ -0,0 +1,232 @@
+package com.example.taskmanagement.index;
+
+import com.example.taskmanagement.model.Priority;
+import com.example.taskmanagement.model.Status;
+import com.example.taskmanagement.service.TaskChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <p><b>Колоночный Индекс Задач в Памяти 🧮</b></p>
+ *
+ * <p>
+ *     Дашборды выполняют десятки тысяч структурных фильтров в минуту (статус, приоритет, автор,
+ *     исполнитель, срок, время изменения), и даже запрос по индексу стоит миллисекунды. Индекс держит
+ *     компактную копию этих полей ({@link TaskColumns}) и отвечает списком ID задач последовательным
+ *     сканированием примитивных массивов; сами задачи затем читаются из базы по первичному ключу.
+ * </p>
+ *
+ * <ul>
+ *     <li><b>Актуальность:</b> изменения приходят событием {@link TaskChangedEvent} после фиксации
+ *     транзакции — из {@code TaskService}, архивации и удаления пользователей.</li>
+ *     <li><b>Перестройка:</b> каждые {@code app.task-index.rebuild-interval-ms} таблица {@code tasks}
+ *     читается потоком (по {@code fetch-size} строк) в новые колонки, которые затем подменяют текущие.
+ *     События, пришедшие во время чтения, повторяются поверх новой копии.</li>
+ *     <li><b>Готовность:</b> до первой перестройки {@link #findIds(TaskIndexQuery)} возвращает пустой
+ *     {@link Optional}, и вызывающий код идет в базу.</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     Индекс необязателен и включается флагом {@code app.task-index.enabled}. Копия хранится в памяти
+ *     узла: изменения, сделанные другим узлом, попадут сюда только при следующей перестройке.
+ * </blockquote>
+ */
+@Component
+@ConditionalOnProperty(name = "app.task-index.enabled", havingValue = "true")
+@Slf4j
+public class ColumnarTaskIndex {
+
+    private static final String SELECT_ROWS =
+            "SELECT id, status, priority, author_id, executor_id, due_date, updated_at FROM tasks ORDER BY id";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TaskExecutor taskExecutor;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final List<TaskChangedEvent> pendingEvents = new ArrayList<>();
+    private TaskColumns columns;
+
+    public ColumnarTaskIndex(DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                             @Value("${app.task-index.fetch-size:10000}") int fetchSize) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * <p><b>Поиск ID Задач 🔎</b></p>
+     *
+     * <p>
+     *     Одно сканирование строк с проверкой условий от самых дешевых (байтовые колонки) к остальным;
+     *     строка отбрасывается на первом несовпавшем условии.
+     * </p>
+     *
+     * @param query Условия фильтра.
+     * @return ID подходящих задач по возрастанию или пустой {@link Optional}, если индекс еще не построен.
+     */
+    public Optional<List<Long>> findIds(TaskIndexQuery query) {
+        int status = query.status() != null ? query.status().ordinal() : -1;
+        int priority = query.priority() != null ? query.priority().ordinal() : -1;
+        boolean byAuthor = query.authorId() != null;
+        int authorId = byAuthor ? toIntId(query.authorId()) : TaskColumns.NONE;
+        boolean byExecutor = query.executorId() != null;
+        int executorId = byExecutor ? toIntId(query.executorId()) : TaskColumns.NONE;
+        boolean byDue = query.dueFrom() != null || query.dueTo() != null;
+        int dueFrom = query.dueFrom() != null ? (int) query.dueFrom().toEpochDay() : Integer.MIN_VALUE + 1;
+        int dueTo = query.dueTo() != null ? (int) query.dueTo().toEpochDay() : Integer.MAX_VALUE;
+        long updatedAfter = query.updatedAfter() != null ? toMillis(query.updatedAfter()) : Long.MIN_VALUE;
+
+        lock.readLock().lock();
+        try {
+            TaskColumns c = columns;
+            if (c == null) {
+                return Optional.empty();
+            }
+            List<Long> ids = new ArrayList<>();
+            for (int row = 0; row < c.size; row++) {
+                byte rowStatus = c.statuses[row];
+                if (rowStatus == TaskColumns.DELETED
+                        || (status >= 0 && rowStatus != status)
+                        || (priority >= 0 && c.priorities[row] != priority)
+                        || (byAuthor && c.authorIds[row] != authorId)
+                        || (byExecutor && c.executorIds[row] != executorId)
+                        || (byDue && (c.dueEpochDays[row] < dueFrom || c.dueEpochDays[row] > dueTo))
+                        || c.updatedAtMillis[row] < updatedAfter) {
+                    continue;
+                }
+                ids.add(c.ids[row]);
+            }
+            return Optional.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * <p><b>Изменение Задачи</b></p>
+     *
+     * @param event Снимок задачи после фиксации транзакции.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding.get()) {
+                pendingEvents.add(event);
+            }
+            if (columns != null) {
+                apply(columns, event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * <p><b>Плановая Перестройка 🔄</b></p>
+     * <p>
+     *     Первый запуск строит индекс сразу после старта. Чтение выполняется в пуле
+     *     {@code applicationTaskExecutor}, чтобы не задерживать остальные задания планировщика.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${app.task-index.rebuild-interval-ms:3600000}")
+    public void scheduleRebuild() {
+        if (rebuilding.compareAndSet(false, true)) {
+            taskExecutor.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            TaskColumns fresh = new TaskColumns(currentSize());
+            readOnlyTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(SELECT_ROWS, rs -> {
+                Date due = rs.getDate("due_date");
+                Timestamp updatedAt = rs.getTimestamp("updated_at");
+                fresh.upsert(rs.getLong("id"),
+                        (byte) Status.valueOf(rs.getString("status")).ordinal(),
+                        (byte) Priority.valueOf(rs.getString("priority")).ordinal(),
+                        toIntId(rs.getLong("author_id")),
+                        toIntId(rs.getLong("executor_id")),
+                        due != null ? (int) due.toLocalDate().toEpochDay() : TaskColumns.NO_DUE_DATE,
+                        updatedAt != null ? updatedAt.getTime() : 0L);
+            }));
+            lock.writeLock().lock();
+            try {
+                pendingEvents.forEach(event -> apply(fresh, event));
+                columns = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("🧮 Индекс задач перестроен: {} строк, ~{} МБ, {} мс.",
+                    fresh.liveRows(), fresh.footprintBytes() >> 20, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("❌ Ошибка перестройки индекса задач; запросы продолжат идти в базу до следующей попытки.", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingEvents.clear();
+                rebuilding.set(false);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private int currentSize() {
+        lock.readLock().lock();
+        try {
+            return columns != null ? columns.size : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void apply(TaskColumns target, TaskChangedEvent event) {
+        switch (event.kind()) {
+            case SAVED -> target.upsert(event.taskId(),
+                    (byte) event.status().ordinal(),
+                    (byte) event.priority().ordinal(),
+                    event.authorId() != null ? toIntId(event.authorId()) : TaskColumns.NONE,
+                    event.executorId() != null ? toIntId(event.executorId()) : TaskColumns.NONE,
+                    event.dueDate() != null ? (int) event.dueDate().toEpochDay() : TaskColumns.NO_DUE_DATE,
+                    event.updatedAt() != null ? toMillis(event.updatedAt()) : System.currentTimeMillis());
+            case DELETED -> target.remove(event.taskId());
+            case UNASSIGNED -> target.clearExecutor(event.taskId(), System.currentTimeMillis());
+        }
+    }
+
+    private static int toIntId(long userId) {
+        return Math.toIntExact(userId);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
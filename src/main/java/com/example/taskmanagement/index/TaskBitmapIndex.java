@@ -0,0 +1,355 @@
+package com.example.taskmanagement.index;
+
+import com.example.taskmanagement.model.Priority;
+import com.example.taskmanagement.model.Status;
+import com.example.taskmanagement.service.TaskChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * <p><b>Битовые Карты Задач по Статусу, Приоритету, Исполнителю и Сроку 🗜️</b></p>
+ *
+ * <p>
+ *     Комбинации вида «приоритет CRITICAL или HIGH, статус не COMPLETED, исполнитель из команды» медленны
+ *     и в Criteria-запросах, и в потоках Java. Индекс держит по одной {@link CompressedBitmap} ID задач на
+ *     каждый {@link Status}, {@link Priority}, исполнителя и день срока, и вычисляет такие фильтры
+ *     пересечением, объединением и разностью карт ({@link TaskBitmapQuery}).
+ * </p>
+ *
+ * <ul>
+ *     <li><b>Счетчики:</b> {@link #count(TaskBitmapQuery)} и {@link #countByStatus(TaskBitmapQuery)} считают
+ *     мощность пересечения без построения списка ID.</li>
+ *     <li><b>Актуальность:</b> события {@link TaskChangedEvent} после фиксации транзакции; прежнее членство
+ *     задачи хранится в массивах, адресуемых ее ID (10 байт на ID), и снимается перед новым.</li>
+ *     <li><b>Перестройка:</b> по расписанию {@code app.task-bitmap-index.rebuild-interval-ms}, как
+ *     у {@link ColumnarTaskIndex}: потоковое чтение {@code tasks} и повтор событий, пришедших за это время.</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     Индекс необязателен ({@code app.task-bitmap-index.enabled}) и до первой перестройки возвращает пустой
+ *     {@link Optional}. ID задач должны помещаться в {@code int}.
+ * </blockquote>
+ */
+@Component
+@ConditionalOnProperty(name = "app.task-bitmap-index.enabled", havingValue = "true")
+@Slf4j
+public class TaskBitmapIndex {
+
+    private static final String SELECT_ROWS = "SELECT id, status, priority, executor_id, due_date FROM tasks";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TaskExecutor taskExecutor;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final List<TaskChangedEvent> pendingEvents = new ArrayList<>();
+    private Bitmaps bitmaps;
+
+    public TaskBitmapIndex(DataSource dataSource,
+                           PlatformTransactionManager transactionManager,
+                           @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                           @Value("${app.task-bitmap-index.fetch-size:10000}") int fetchSize) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * @param query Условия фильтра.
+     * @return ID подходящих задач по возрастанию или пустой {@link Optional}, если индекс еще не построен.
+     */
+    public Optional<List<Long>> findIds(TaskBitmapQuery query) {
+        return read(state -> evaluate(state, query, true).toIds());
+    }
+
+    /**
+     * @param query Условия фильтра.
+     * @return Число подходящих задач или пустой {@link Optional}, если индекс еще не построен.
+     */
+    public Optional<Long> count(TaskBitmapQuery query) {
+        return read(state -> evaluate(state, query, true).cardinality());
+    }
+
+    /**
+     * <p><b>Счетчики по Статусам</b></p>
+     * <p>
+     *     Остальные условия вычисляются один раз, затем результат пересекается с картой каждого
+     *     допустимого статуса только ради мощности.
+     * </p>
+     *
+     * @param query Условия фильтра.
+     * @return Число задач для каждого допустимого статуса (включая нулевые) или пустой {@link Optional}.
+     */
+    public Optional<Map<Status, Long>> countByStatus(TaskBitmapQuery query) {
+        return read(state -> {
+            CompressedBitmap base = evaluate(state, query, false);
+            Map<Status, Long> counts = new EnumMap<>(Status.class);
+            for (Status status : Status.values()) {
+                if (isEmpty(query.statuses()) || query.statuses().contains(status)) {
+                    if (isEmpty(query.excludedStatuses()) || !query.excludedStatuses().contains(status)) {
+                        counts.put(status, CompressedBitmap.andCardinality(base, state.byStatus[status.ordinal()]));
+                    }
+                }
+            }
+            return counts;
+        });
+    }
+
+    /**
+     * <p><b>Изменение Задачи</b></p>
+     *
+     * @param event Снимок задачи после фиксации транзакции.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding.get()) {
+                pendingEvents.add(event);
+            }
+            if (bitmaps != null) {
+                bitmaps.apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * <p><b>Плановая Перестройка 🔄</b></p>
+     * <p>Первый запуск строит индекс сразу после старта; чтение выполняется в пуле {@code applicationTaskExecutor}.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.task-bitmap-index.rebuild-interval-ms:3600000}")
+    public void scheduleRebuild() {
+        if (rebuilding.compareAndSet(false, true)) {
+            taskExecutor.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            Bitmaps fresh = new Bitmaps();
+            readOnlyTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(SELECT_ROWS, rs -> {
+                Date due = rs.getDate("due_date");
+                fresh.add(Math.toIntExact(rs.getLong("id")),
+                        (byte) Status.valueOf(rs.getString("status")).ordinal(),
+                        (byte) Priority.valueOf(rs.getString("priority")).ordinal(),
+                        Math.toIntExact(rs.getLong("executor_id")),
+                        due != null ? (int) due.toLocalDate().toEpochDay() : Bitmaps.NO_DUE_DATE);
+            }));
+            lock.writeLock().lock();
+            try {
+                pendingEvents.forEach(fresh::apply);
+                bitmaps = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("🗜️ Битовые карты задач перестроены: {} задач, ~{} КБ, {} мс.",
+                    fresh.all.cardinality(), fresh.footprintBytes() >> 10, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("❌ Ошибка перестройки битовых карт задач; запросы продолжат идти в базу до следующей попытки.", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pendingEvents.clear();
+                rebuilding.set(false);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private <T> Optional<T> read(Function<Bitmaps, T> reader) {
+        lock.readLock().lock();
+        try {
+            return bitmaps == null ? Optional.empty() : Optional.of(reader.apply(bitmaps));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static CompressedBitmap evaluate(Bitmaps state, TaskBitmapQuery query, boolean includeStatuses) {
+        CompressedBitmap result = state.all;
+        if (includeStatuses && !isEmpty(query.statuses())) {
+            result = CompressedBitmap.and(result, union(query.statuses(), status -> state.byStatus[status.ordinal()]));
+        }
+        if (!isEmpty(query.excludedStatuses())) {
+            result = CompressedBitmap.andNot(result, union(query.excludedStatuses(), status -> state.byStatus[status.ordinal()]));
+        }
+        if (!isEmpty(query.priorities())) {
+            result = CompressedBitmap.and(result, union(query.priorities(), priority -> state.byPriority[priority.ordinal()]));
+        }
+        if (query.executorIds() != null) {
+            result = CompressedBitmap.and(result, union(query.executorIds(), id -> state.byExecutor.get(Math.toIntExact(id))));
+        }
+        if (query.dueFrom() != null || query.dueTo() != null) {
+            int from = query.dueFrom() != null ? (int) query.dueFrom().toEpochDay() : Bitmaps.NO_DUE_DATE + 1;
+            int to = query.dueTo() != null ? (int) query.dueTo().toEpochDay() : Integer.MAX_VALUE;
+            result = from > to
+                    ? new CompressedBitmap()
+                    : CompressedBitmap.and(result, CompressedBitmap.union(state.byDueDay.subMap(from, true, to, true).values()));
+        }
+        return result;
+    }
+
+    private static <K> CompressedBitmap union(Collection<K> keys, Function<K, CompressedBitmap> lookup) {
+        List<CompressedBitmap> parts = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            parts.add(lookup.apply(key));
+        }
+        return CompressedBitmap.union(parts);
+    }
+
+    private static boolean isEmpty(Set<?> values) {
+        return values == null || values.isEmpty();
+    }
+
+    /**
+     * Карты одной версии индекса и текущее членство каждой задачи, адресуемое ее ID.
+     */
+    private static final class Bitmaps {
+
+        static final byte ABSENT = -1;
+        static final int NO_DUE_DATE = Integer.MIN_VALUE;
+
+        final CompressedBitmap all = new CompressedBitmap();
+        final CompressedBitmap[] byStatus = newBitmaps(Status.values().length);
+        final CompressedBitmap[] byPriority = newBitmaps(Priority.values().length);
+        final Map<Integer, CompressedBitmap> byExecutor = new HashMap<>();
+        final NavigableMap<Integer, CompressedBitmap> byDueDay = new TreeMap<>();
+        byte[] statuses = new byte[0];
+        byte[] priorities = new byte[0];
+        int[] executors = new int[0];
+        int[] dueDays = new int[0];
+
+        void apply(TaskChangedEvent event) {
+            int id = Math.toIntExact(event.taskId());
+            switch (event.kind()) {
+                case SAVED -> {
+                    remove(id);
+                    add(id, (byte) event.status().ordinal(), (byte) event.priority().ordinal(),
+                            event.executorId() != null ? Math.toIntExact(event.executorId()) : 0,
+                            event.dueDate() != null ? (int) event.dueDate().toEpochDay() : NO_DUE_DATE);
+                }
+                case DELETED -> remove(id);
+                case UNASSIGNED -> {
+                    if (id < statuses.length && statuses[id] != ABSENT && executors[id] != 0) {
+                        removeFrom(byExecutor, executors[id], id);
+                        executors[id] = 0;
+                    }
+                }
+            }
+        }
+
+        void add(int id, byte status, byte priority, int executorId, int dueDay) {
+            ensureCapacity(id);
+            statuses[id] = status;
+            priorities[id] = priority;
+            executors[id] = executorId;
+            dueDays[id] = dueDay;
+            all.add(id);
+            byStatus[status].add(id);
+            byPriority[priority].add(id);
+            if (executorId != 0) {
+                byExecutor.computeIfAbsent(executorId, key -> new CompressedBitmap()).add(id);
+            }
+            if (dueDay != NO_DUE_DATE) {
+                byDueDay.computeIfAbsent(dueDay, key -> new CompressedBitmap()).add(id);
+            }
+        }
+
+        void remove(int id) {
+            if (id >= statuses.length || statuses[id] == ABSENT) {
+                return;
+            }
+            all.remove(id);
+            byStatus[statuses[id]].remove(id);
+            byPriority[priorities[id]].remove(id);
+            if (executors[id] != 0) {
+                removeFrom(byExecutor, executors[id], id);
+            }
+            if (dueDays[id] != NO_DUE_DATE) {
+                removeFrom(byDueDay, dueDays[id], id);
+            }
+            statuses[id] = ABSENT;
+        }
+
+        long footprintBytes() {
+            long total = all.footprintBytes() + statuses.length * 10L;
+            for (CompressedBitmap bitmap : byStatus) {
+                total += bitmap.footprintBytes();
+            }
+            for (CompressedBitmap bitmap : byPriority) {
+                total += bitmap.footprintBytes();
+            }
+            for (CompressedBitmap bitmap : byExecutor.values()) {
+                total += bitmap.footprintBytes();
+            }
+            for (CompressedBitmap bitmap : byDueDay.values()) {
+                total += bitmap.footprintBytes();
+            }
+            return total;
+        }
+
+        private void ensureCapacity(int id) {
+            if (id < statuses.length) {
+                return;
+            }
+            int capacity = Math.max(id + 1, statuses.length + (statuses.length >> 1));
+            int from = statuses.length;
+            statuses = Arrays.copyOf(statuses, capacity);
+            Arrays.fill(statuses, from, capacity, ABSENT);
+            priorities = Arrays.copyOf(priorities, capacity);
+            executors = Arrays.copyOf(executors, capacity);
+            dueDays = Arrays.copyOf(dueDays, capacity);
+        }
+
+        private static void removeFrom(Map<Integer, CompressedBitmap> bitmaps, int key, int id) {
+            CompressedBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(key);
+                }
+            }
+        }
+
+        private static CompressedBitmap[] newBitmaps(int count) {
+            CompressedBitmap[] bitmaps = new CompressedBitmap[count];
+            for (int i = 0; i < count; i++) {
+                bitmaps[i] = new CompressedBitmap();
+            }
+            return bitmaps;
+        }
+    }
+}
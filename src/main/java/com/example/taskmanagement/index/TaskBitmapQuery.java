@@ -0,0 +1,27 @@
+package com.example.taskmanagement.index;
+
+import com.example.taskmanagement.model.Priority;
+import com.example.taskmanagement.model.Status;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * <p><b>Комбинированный Запрос к Битовым Картам 🗜️</b></p>
+ *
+ * <p>
+ *     Условия внутри одного поля объединяются через ИЛИ, условия разных полей — через И; исключенные
+ *     статусы вычитаются (AND NOT). {@code null} или пустое множество — поле не ограничено; исключение —
+ *     {@code executorIds}: пустое множество означает «ни одного исполнителя» и дает пустой результат.
+ * </p>
+ *
+ * @param statuses Допустимые статусы.
+ * @param excludedStatuses Исключаемые статусы.
+ * @param priorities Допустимые приоритеты.
+ * @param executorIds ID исполнителей (например, команды).
+ * @param dueFrom Начало диапазона сроков (включительно).
+ * @param dueTo Конец диапазона сроков (включительно).
+ */
+public record TaskBitmapQuery(Set<Status> statuses, Set<Status> excludedStatuses, Set<Priority> priorities,
+                              Set<Long> executorIds, LocalDate dueFrom, LocalDate dueTo) {
+}
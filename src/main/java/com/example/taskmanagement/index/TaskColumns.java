@@ -0,0 +1,153 @@
+package com.example.taskmanagement.index;
+
+import java.util.Arrays;
+
+/**
+ * <p><b>Колонки Индекса Задач 🧮</b></p>
+ *
+ * <p>
+ *     Колоночное хранение полей задачи в примитивных массивах, упорядоченных по {@code id}.
+ *     Строка занимает 30 байт: {@code id} (8), статус (1), приоритет (1), автор (4), исполнитель (4),
+ *     срок в днях эпохи (4), {@code updatedAt} в миллисекундах (8) — 10 млн задач помещаются примерно в 300 МБ.
+ * </p>
+ *
+ * <ul>
+ *     <li><b>Поиск строки:</b> двоичный поиск по {@code ids}. Новые задачи почти всегда получают наибольший
+ *     {@code id} и дописываются в конец; задача, зафиксированная не по порядку, вставляется со сдвигом хвоста.</li>
+ *     <li><b>Удаление:</b> строка помечается {@link #DELETED} и пропускается при сканировании;
+ *     место освобождается при следующей полной перестройке.</li>
+ *     <li><b>Пустые значения:</b> {@link #NONE} для исполнителя и {@link #NO_DUE_DATE} для срока.</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     Класс не потокобезопасен: чтение и запись выполняются под блокировкой {@link ColumnarTaskIndex}.
+ * </blockquote>
+ */
+final class TaskColumns {
+
+    static final byte DELETED = -1;
+    static final int NONE = 0;
+    static final int NO_DUE_DATE = Integer.MIN_VALUE;
+
+    long[] ids;
+    byte[] statuses;
+    byte[] priorities;
+    int[] authorIds;
+    int[] executorIds;
+    int[] dueEpochDays;
+    long[] updatedAtMillis;
+    int size;
+    int deleted;
+
+    TaskColumns(int capacity) {
+        int initial = Math.max(capacity, 16);
+        ids = new long[initial];
+        statuses = new byte[initial];
+        priorities = new byte[initial];
+        authorIds = new int[initial];
+        executorIds = new int[initial];
+        dueEpochDays = new int[initial];
+        updatedAtMillis = new long[initial];
+    }
+
+    /**
+     * @param id ID задачи.
+     * @return Номер строки или отрицательное значение ({@code -(точка вставки) - 1}), если строки нет.
+     */
+    int find(long id) {
+        if (size > 0 && ids[size - 1] == id) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(ids, 0, size, id);
+    }
+
+    /**
+     * <p><b>Вставка или Замена Строки</b></p>
+     */
+    void upsert(long id, byte status, byte priority, int authorId, int executorId, int dueEpochDay, long updatedAt) {
+        int row = find(id);
+        if (row < 0) {
+            row = -row - 1;
+            ensureCapacity(size + 1);
+            if (row < size) {
+                shiftRight(row);
+            }
+            size++;
+            ids[row] = id;
+        } else if (statuses[row] == DELETED) {
+            deleted--;
+        }
+        statuses[row] = status;
+        priorities[row] = priority;
+        authorIds[row] = authorId;
+        executorIds[row] = executorId;
+        dueEpochDays[row] = dueEpochDay;
+        updatedAtMillis[row] = updatedAt;
+    }
+
+    /**
+     * <p><b>Удаление Строки</b></p>
+     *
+     * @param id ID задачи.
+     */
+    void remove(long id) {
+        int row = find(id);
+        if (row >= 0 && statuses[row] != DELETED) {
+            statuses[row] = DELETED;
+            deleted++;
+        }
+    }
+
+    /**
+     * <p><b>Снятие Исполнителя</b></p>
+     *
+     * @param id ID задачи.
+     * @param updatedAt Время изменения.
+     */
+    void clearExecutor(long id, long updatedAt) {
+        int row = find(id);
+        if (row >= 0 && statuses[row] != DELETED) {
+            executorIds[row] = NONE;
+            updatedAtMillis[row] = updatedAt;
+        }
+    }
+
+    /**
+     * @return Число живых строк.
+     */
+    int liveRows() {
+        return size - deleted;
+    }
+
+    /**
+     * @return Приблизительный объем массивов в байтах.
+     */
+    long footprintBytes() {
+        return (long) ids.length * 30;
+    }
+
+    private void shiftRight(int row) {
+        int tail = size - row;
+        System.arraycopy(ids, row, ids, row + 1, tail);
+        System.arraycopy(statuses, row, statuses, row + 1, tail);
+        System.arraycopy(priorities, row, priorities, row + 1, tail);
+        System.arraycopy(authorIds, row, authorIds, row + 1, tail);
+        System.arraycopy(executorIds, row, executorIds, row + 1, tail);
+        System.arraycopy(dueEpochDays, row, dueEpochDays, row + 1, tail);
+        System.arraycopy(updatedAtMillis, row, updatedAtMillis, row + 1, tail);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        authorIds = Arrays.copyOf(authorIds, capacity);
+        executorIds = Arrays.copyOf(executorIds, capacity);
+        dueEpochDays = Arrays.copyOf(dueEpochDays, capacity);
+        updatedAtMillis = Arrays.copyOf(updatedAtMillis, capacity);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.taskmanagement.index;
+
+import com.example.taskmanagement.model.Priority;
+import com.example.taskmanagement.model.Status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * <p><b>Запрос к Индексу Задач 🔎</b></p>
+ *
+ * <p>
+ *     Структурные условия {@link com.example.taskmanagement.dto.TaskFilterDTO} с уже разрешенными
+ *     ID пользователей. Все поля необязательны; заданные условия объединяются через И.
+ * </p>
+ *
+ * @param status Точный статус.
+ * @param priority Точный приоритет.
+ * @param authorId ID автора.
+ * @param executorId ID исполнителя.
+ * @param dueFrom Начало диапазона сроков (включительно).
+ * @param dueTo Конец диапазона сроков (включительно).
+ * @param updatedAfter Изменены не раньше этого момента.
+ */
+public record TaskIndexQuery(Status status, Priority priority, Long authorId, Long executorId,
+                             LocalDate dueFrom, LocalDate dueTo, LocalDateTime updatedAfter) {
+}
@@ -0,0 +1,108 @@
+package com.example.taskmanagement.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p><b>Выборочное Логирование Повторяющихся Сообщений 🎯</b></p>
+ *
+ * <p>
+ *     Logback TurboFilter, ограничивающий частоту однотипных DEBUG/INFO сообщений. Тип сообщения —
+ *     его шаблон ({@code "📢 Поиск задачи по ID: {}"}), а не итоговый текст, поэтому строки,
+ *     которые пишутся на каждый запрос, укладываются в {@code permitsPerSecond} событий
+ *     в секунду на шаблон, а остальные отбрасываются еще до создания события и форматирования.
+ * </p>
+ *
+ * <ul>
+ *     <li>WARN и ERROR не ограничиваются никогда.</li>
+ *     <li>Сообщения, отключенные уровнем логгера, не расходуют квоту.</li>
+ *     <li>Число отслеживаемых шаблонов ограничено {@code maxTemplates}; сверх предела фильтр
+ *     ничего не решает и пропускает событие дальше.</li>
+ * </ul>
+ *
+ * <p>
+ *     Подключается в {@code logback-spring.xml}; параметры берутся из {@code app.logging.sampling.*}.
+ * </p>
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    /**
+     * Окно (номер секунды) и число событий в нем, упакованные в один long:
+     * старшие биты — секунда, младшие {@value #COUNT_BITS} — счетчик.
+     */
+    private final ConcurrentHashMap<String, AtomicLong> windows = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private int permitsPerSecond = 20;
+    private int maxTemplates = 10_000;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || format == null || level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        AtomicLong window = windows.get(format);
+        if (window == null) {
+            if (windows.size() >= maxTemplates) {
+                return FilterReply.NEUTRAL;
+            }
+            window = windows.computeIfAbsent(format, key -> new AtomicLong());
+        }
+
+        long second = System.currentTimeMillis() / 1000;
+        while (true) {
+            long current = window.get();
+            long currentSecond = current >>> COUNT_BITS;
+            long count = current & COUNT_MASK;
+            long next;
+            if (currentSecond != second) {
+                next = (second << COUNT_BITS) | 1;
+            } else if (count < permitsPerSecond) {
+                next = current + 1;
+            } else {
+                dropped.incrementAndGet();
+                return FilterReply.DENY;
+            }
+            if (window.compareAndSet(current, next)) {
+                return FilterReply.NEUTRAL;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (permitsPerSecond <= 0 || permitsPerSecond > COUNT_MASK) {
+            addError("permitsPerSecond должен быть в диапазоне 1.." + COUNT_MASK + ", получено " + permitsPerSecond);
+            return;
+        }
+        super.start();
+    }
+
+    /**
+     * @return Сколько событий отброшено с момента запуска.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public void setPermitsPerSecond(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public void setMaxTemplates(int maxTemplates) {
+        this.maxTemplates = maxTemplates;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.taskmanagement.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p><b>Идентификаторы Запроса для Логов 🏷️</b></p>
+ *
+ * <p>
+ *     Первый фильтр в цепочке: кладет в MDC {@code requestId} и {@code traceId}, которые попадают
+ *     в каждую JSON-строку лога, и возвращает {@code X-Request-Id} клиенту.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code requestId} берется из заголовка {@code X-Request-Id}, если он короткий и безопасный,
+ *     иначе генерируется.</li>
+ *     <li>{@code traceId} берется из W3C-заголовка {@code traceparent}, если он есть, иначе генерируется.</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     Идентификаторы генерируются через {@link ThreadLocalRandom}, а не {@code UUID.randomUUID()}:
+ *     им не нужна криптостойкость, а общий {@code SecureRandom} — лишняя точка конкуренции
+ *     на каждом запросе.
+ * </blockquote>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_MDC_KEY = "requestId";
+    public static final String TRACE_ID_MDC_KEY = "traceId";
+
+    private static final String TRACEPARENT_HEADER = "traceparent";
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (!isValidRequestId(requestId)) {
+            requestId = randomHex(16);
+        }
+        String traceId = traceIdFrom(request.getHeader(TRACEPARENT_HEADER));
+
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+        MDC.put(TRACE_ID_MDC_KEY, traceId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID_MDC_KEY);
+            MDC.remove(TRACE_ID_MDC_KEY);
+        }
+    }
+
+    private static boolean isValidRequestId(String value) {
+        if (value == null || value.isEmpty() || value.length() > MAX_REQUEST_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Извлекает trace-id из {@code traceparent} ({@code 00-<32 hex>-<16 hex>-<2 hex>}).
+     */
+    private static String traceIdFrom(String traceparent) {
+        if (traceparent != null && traceparent.length() >= 55 && traceparent.charAt(2) == '-' && traceparent.charAt(35) == '-') {
+            String traceId = traceparent.substring(3, 35);
+            if (isLowerHex(traceId)) {
+                return traceId;
+            }
+        }
+        return randomHex(32);
+    }
+
+    private static boolean isLowerHex(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String randomHex(int length) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder hex = new StringBuilder(length);
+        while (hex.length() < length) {
+            String chunk = Long.toHexString(random.nextLong());
+            for (int i = chunk.length(); i < 16 && hex.length() < length; i++) {
+                hex.append('0');
+            }
+            hex.append(chunk, 0, Math.min(chunk.length(), length - hex.length()));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * <p><b>Сущность: Архивный Комментарий (ArchivedComment)</b></p>
+ *
+ * <p>
+ *     Комментарий архивной задачи, перенесенный из {@code comments} в {@code comments_archive}
+ *     в той же транзакции, что и сама задача ({@link ArchivedTask}).
+ * </p>
+ *
+ * <blockquote>
+ *     Как и {@link ArchivedTask}, хранит ссылки простыми ID без внешних ключей и снимок email автора.
+ *     Таблица секционирована по {@code task_created_at} — дате создания задачи, поэтому комментарии
+ *     лежат в секции того же месяца, что и их задача (см. {@code db/archive-schema.sql}).
+ * </blockquote>
+ */
+@Entity
+@Table(name = "comments_archive", indexes = {
+        @Index(name = "ix_comments_archive_task_id", columnList = "task_id"),
+        @Index(name = "ix_comments_archive_app_user_id", columnList = "app_user_id")
+})
+@Getter
+@Setter
+@RequiredArgsConstructor
+@ToString
+@EqualsAndHashCode(of = "id")
+public class ArchivedComment {
+
+    /**
+     * <p><b>Идентификатор</b></p>
+     * <p>ID комментария в {@code comments} на момент архивации; не генерируется.</p>
+     * <p>
+     *     Первичный ключ таблицы — {@code (id, task_created_at)}: PostgreSQL требует включать в него ключ
+     *     секционирования. Сущность отображает только {@code id}, так как он уникален по построению: копируется из
+     *     первичного ключа {@code comments}, а строка удаляется оттуда в той же транзакции, что и архивируется.
+     *     Таблицу создает {@code db/archive-schema.sql}, а не {@code ddl-auto}.
+     * </p>
+     */
+    @Id
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    /**
+     * <p><b>Дата Создания Задачи</b></p>
+     * <p>Ключ секционирования; копируется из {@code tasks.created_at}.</p>
+     */
+    @Column(name = "task_created_at", nullable = false)
+    private LocalDateTime taskCreatedAt;
+
+    @Column(name = "app_user_id", nullable = false)
+    private Long appUserId;
+
+    @Column(name = "author_email", nullable = false)
+    private String author;
+
+    @Column(nullable = false, length = 2000)
+    private String text;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,107 @@
+package com.example.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * <p><b>Сущность: Архивная Задача (ArchivedTask)</b></p>
+ *
+ * <p>
+ *     Завершенная задача ({@link Status#COMPLETED}, {@link Status#CANCELLED}, {@link Status#REJECTED}),
+ *     перенесенная из {@code tasks} в холодную таблицу {@code tasks_archive} фоновым заданием архивации.
+ *     Строки только читаются и удаляются — изменять архивную задачу нельзя.
+ * </p>
+ *
+ * <p><b>Ключевые архитектурные аспекты:</b></p>
+ * <ul>
+ *     <li><b>Тот же ID:</b> первичный ключ копируется из {@code tasks}, поэтому задача остается
+ *     доступной по прежнему идентификатору.</li>
+ *     <li><b>Без внешних ключей:</b> email автора и исполнителя хранятся рядом с их ID, чтобы
+ *     чтение архива не соединялось с {@code app_users}, а строки {@code tasks_archive}
+ *     не участвовали в проверках ссылочной целостности горячих таблиц.</li>
+ *     <li><b>Секционирование:</b> таблица секционирована по месяцу {@code created_at}
+ *     (см. {@code db/archive-schema.sql}); секциями управляет {@code ArchivePartitionService}.</li>
+ *     <li><b>Имена атрибутов:</b> совпадают с {@code Task} (в том числе {@code author}/{@code executor}
+ *     как email), так что {@link com.example.taskmanagement.dto.TaskField} подходит для обеих сущностей.</li>
+ * </ul>
+ *
+ * @see com.example.taskmanagement.model.Task
+ * @see com.example.taskmanagement.model.ArchivedComment
+ */
+@Entity
+@Table(name = "tasks_archive", indexes = {
+        @Index(name = "ix_tasks_archive_author_id", columnList = "author_id"),
+        @Index(name = "ix_tasks_archive_executor_id", columnList = "executor_id")
+})
+@Getter
+@Setter
+@RequiredArgsConstructor
+@ToString
+@EqualsAndHashCode(of = "id")
+public class ArchivedTask {
+
+    /**
+     * <p><b>Идентификатор</b></p>
+     * <p>ID задачи в {@code tasks} на момент архивации; не генерируется.</p>
+     * <p>
+     *     Первичный ключ таблицы — {@code (id, created_at)}: PostgreSQL требует включать в него ключ
+     *     секционирования. Сущность отображает только {@code id}, так как он уникален по построению: копируется из
+     *     первичного ключа {@code tasks}, а строка удаляется оттуда в той же транзакции, что и архивируется.
+     *     Таблицу создает {@code db/archive-schema.sql}, а не {@code ddl-auto}.
+     * </p>
+     */
+    @Id
+    private Long id;
+
+    @Column(name = "title", nullable = false, length = 100)
+    private String title;
+
+    @Column(name = "description", length = 2000)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false)
+    private Priority priority;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    /**
+     * <p><b>Email Автора</b></p>
+     * <p>Снимок email автора на момент архивации.</p>
+     */
+    @Column(name = "author_email", nullable = false)
+    private String author;
+
+    @Column(name = "executor_id")
+    private Long executorId;
+
+    /**
+     * <p><b>Email Исполнителя</b></p>
+     * <p>Снимок email исполнителя на момент архивации; {@code null}, если исполнитель не был назначен.</p>
+     */
+    @Column(name = "executor_email")
+    private String executor;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+
+    /**
+     * <p><b>Дата и Время Архивации</b></p>
+     */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
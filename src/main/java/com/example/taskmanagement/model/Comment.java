@@ -36,7 +36,9 @@ import java.time.LocalDateTime;
  * @see org.springframework.data.jpa.domain.support.AuditingEntityListener
  */
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "ix_comments_task_created_at_id", columnList = "task_id, created_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -62,14 +64,29 @@ public class Comment {
      *     <p><b>{@code optional = false}:</b> Гарантирует, что комментарий не может
      *     существовать без задачи. На уровне SQL это приводит к использованию
      *     более эффективного {@code INNER JOIN} вместо {@code LEFT OUTER JOIN}.</p>
+     *     <p><b>Внешний ключ:</b> составной {@code (task_id, task_created_at)} на первичный ключ секционированной
+     *     {@code tasks (id, created_at)} с {@code ON DELETE CASCADE} объявлен в {@code db/task-schema.sql}, поэтому
+     *     база сама удаляет комментарии вместе с задачей, даже если удаление идет в обход JPA. Hibernate ключ
+     *     не создает ({@link ConstraintMode#NO_CONSTRAINT}): уникального ключа на одном {@code tasks.id} нет.</p>
      * </blockquote>
      */
     @NotNull(message = "Комментарий должен быть привязан к задаче")
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "task_id", nullable = false)
+    @JoinColumn(name = "task_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @JsonIgnore
     private Task task;
 
+    /**
+     * <p><b>Дата Создания Задачи</b></p>
+     * <p>Копия {@code task.createdAt}: ключ секционирования {@code comments} и часть внешнего ключа на задачу.</p>
+     * <blockquote>
+     *     Комментарии лежат в секциях месяца своей задачи и отсоединяются или удаляются вместе с ней.
+     *     Заполняется при создании и не меняется, как и {@code tasks.created_at}.
+     * </blockquote>
+     */
+    @Column(name = "task_created_at", nullable = false, updatable = false)
+    private LocalDateTime taskCreatedAt;
+
     /**
      * <p><b>Автор Комментария</b></p>
      * <p>Пользователь, оставивший комментарий.</p>
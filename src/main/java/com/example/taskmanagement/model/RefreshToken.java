@@ -0,0 +1,101 @@
+package com.example.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * <p><b>Сущность: Refresh Токен (RefreshToken)</b></p>
+ *
+ * <p>
+ *     Долгоживущий токен, который клиент обменивает на новую пару access/refresh токенов
+ *     без повторной проверки пароля. Каждый обмен <b>ротирует</b> токен: старый помечается
+ *     использованным, а новый выпускается в том же <b>семействе</b> ({@code familyId}).
+ * </p>
+ *
+ * <p><b>Ключевые архитектурные аспекты:</b></p>
+ * <ul>
+ *     <li><b>Безопасность хранения:</b> В базе хранится только SHA-256 хеш токена
+ *     ({@code tokenHash}). Утечка таблицы не дает действующих токенов. BCrypt здесь не нужен:
+ *     токен — это 256 бит случайности, а не пароль, подбирать его бессмысленно.</li>
+ *     <li><b>Один индексный поиск:</b> Уникальный индекс по {@code tokenHash} позволяет
+ *     найти токен одним обращением к индексу.</li>
+ *     <li><b>Обнаружение повторного использования:</b> Если предъявлен уже использованный
+ *     токен, значит он был украден (или клиент повторил запрос). В этом случае отзывается
+ *     все семейство, и злоумышленник, и легитимный клиент обязаны заново войти по паролю.</li>
+ * </ul>
+ *
+ * @see com.example.taskmanagement.service.RefreshTokenService
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "ux_refresh_tokens_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "ix_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "ix_refresh_tokens_app_user_id", columnList = "app_user_id")
+})
+@Getter
+@Setter
+@RequiredArgsConstructor
+@ToString(exclude = {"appUser", "tokenHash"})
+@EqualsAndHashCode(of = "id")
+public class RefreshToken {
+
+    /**
+     * <p><b>Уникальный Идентификатор</b></p>
+     * <p>Первичный ключ, генерируемый базой данных.</p>
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * <p><b>Хеш Токена</b></p>
+     * <p>SHA-256 от значения токена в шестнадцатеричном виде (64 символа).</p>
+     */
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    /**
+     * <p><b>Семейство Токенов</b></p>
+     * <p>
+     *     Общий идентификатор всех токенов, полученных ротацией от одного логина.
+     *     Используется для отзыва всей цепочки при обнаружении повторного использования.
+     * </p>
+     */
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    /**
+     * <p><b>Владелец Токена</b></p>
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "app_user_id", nullable = false)
+    private AppUser appUser;
+
+    /**
+     * <p><b>Момент Истечения</b></p>
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * <p><b>Момент Выпуска</b></p>
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /**
+     * <p><b>Признак Использования</b></p>
+     * <p>Токен уже был обменен на новую пару. Повторное предъявление — признак кражи.</p>
+     */
+    @Column(name = "is_used", nullable = false)
+    private boolean used = false;
+
+    /**
+     * <p><b>Признак Отзыва</b></p>
+     * <p>Токен отозван (выход из системы, смена пароля или отзыв семейства).</p>
+     */
+    @Column(name = "is_revoked", nullable = false)
+    private boolean revoked = false;
+}
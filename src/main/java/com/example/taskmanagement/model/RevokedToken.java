@@ -0,0 +1,58 @@
+package com.example.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * <p><b>Сущность: Отозванный Access Токен (RevokedToken)</b></p>
+ *
+ * <p>
+ *     Запись персистентного списка отзыва (denylist). Хранит только идентификатор токена
+ *     ({@code jti}) и момент его истечения: после {@code expiresAt} токен и так отклоняется
+ *     проверкой подписи/срока, поэтому запись можно удалить.
+ * </p>
+ *
+ * <p><b>Ключевые архитектурные аспекты:</b></p>
+ * <ul>
+ *     <li><b>Инкрементальная синхронизация:</b> Индекс по {@code revoked_at} позволяет каждому
+ *     узлу запрашивать только записи, появившиеся после последней синхронизации.</li>
+ *     <li><b>Горячий путь без I/O:</b> Таблица никогда не читается при обработке запроса —
+ *     проверка выполняется по копии в памяти ({@link com.example.taskmanagement.security.TokenDenylist}).</li>
+ * </ul>
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "ix_revoked_tokens_revoked_at", columnList = "revoked_at"),
+        @Index(name = "ix_revoked_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode(of = "jti")
+public class RevokedToken {
+
+    /**
+     * <p><b>Идентификатор Токена (jti)</b></p>
+     */
+    @Id
+    @Column(name = "jti", nullable = false, length = 36)
+    private String jti;
+
+    /**
+     * <p><b>Момент Истечения Токена</b></p>
+     * <p>Совпадает с claim {@code exp}; после него запись удаляется.</p>
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * <p><b>Момент Отзыва</b></p>
+     * <p>Водяной знак для инкрементальной загрузки на других узлах.</p>
+     */
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+}
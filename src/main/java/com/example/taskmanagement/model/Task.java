@@ -30,6 +30,9 @@ import java.util.List;
  *     <li><b>Оптимизация производительности:</b> Все связи с другими сущностями
  *     (<code>author</code>, <code>executor</code>, <code>comments</code>) по умолчанию
  *     используют {@link FetchType#LAZY} для предотвращения избыточных запросов к БД.</li>
+ *     <li><b>Секционирование:</b> таблица {@code tasks} секционирована по месяцу {@code created_at}
+ *     ({@code db/task-schema.sql}); первичный ключ в БД — {@code (id, created_at)}, сущность отображает только
+ *     {@code id}. Какие запросы отсекают секции — см. {@code TaskRepository}.</li>
  * </ul>
  *
  * @see com.example.taskmanagement.model.AppUser
@@ -37,7 +40,9 @@ import java.util.List;
  * @see org.springframework.data.jpa.domain.support.AuditingEntityListener
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "ix_tasks_due_date", columnList = "due_date")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -125,18 +130,13 @@ public class Task {
      * <blockquote>
      *     <p><b>Владение связью:</b> {@code mappedBy = "task"} указывает, что
      *     управление этой связью (внешним ключом) находится на стороне сущности {@link Comment}.</p>
-     *     <p><b>Каскадные операции:</b> {@code cascade = CascadeType.ALL} означает, что
-     *     любые операции (persist, merge, remove) с задачей будут каскадно применены к ее комментариям.</p>
-     *     <p><b>Удаление "сирот":</b> {@code orphanRemoval = true} обеспечивает удаление комментария
-     *     из БД, если он был удален из данной коллекции.</p>
+     *     <p><b>Без каскадов JPA:</b> комментарии создаются и удаляются через {@code CommentRepository}.
+     *     Каскад {@code REMOVE} заставлял Hibernate при удалении задачи загружать всю коллекцию
+     *     и удалять комментарии по одному; теперь их удаляет один пакетный {@code DELETE},
+     *     а внешний ключ объявлен с {@code ON DELETE CASCADE} (см. {@link Comment#getTask()}).</p>
      * </blockquote>
      */
-    @OneToMany(
-            mappedBy = "task",
-            cascade = CascadeType.ALL,
-            orphanRemoval = true,
-            fetch = FetchType.LAZY
-    )
+    @OneToMany(mappedBy = "task", fetch = FetchType.LAZY)
     private List<Comment> comments = new ArrayList<>();
 
     /**
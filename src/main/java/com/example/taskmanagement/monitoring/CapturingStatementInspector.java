@@ -0,0 +1,23 @@
+package com.example.taskmanagement.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * <p><b>Перехват SQL для Аналитики Запросов</b></p>
+ *
+ * <p>
+ *     Hibernate вызывает инспектор перед подготовкой каждого выражения. Инспектор не меняет SQL,
+ *     а только запоминает его для текущего потока, чтобы {@link TracingSessionEventListener}
+ *     мог отнести время выполнения к конкретному выражению.
+ * </p>
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        if (QueryInsights.isCapturing()) {
+            QueryInsights.statementPrepared(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,328 @@
+package com.example.taskmanagement.monitoring;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * <p><b>Аналитика SQL-запросов во Время Работы 🔍</b></p>
+ *
+ * <p>
+ *     Собирает сведения о запросах к базе, которые можно посмотреть в продакшене без передеплоя
+ *     через {@code /actuator/queryinsights}:
+ * </p>
+ * <ul>
+ *     <li><b>Статистика Hibernate</b> по каждому JPQL/HQL-запросу (число выполнений, среднее
+ *     и максимальное время, строки).</li>
+ *     <li><b>Агрегаты по форме SQL</b>: выражение с нормализованными параметрами
+ *     ({@code IN (?, ?, ?)} сворачивается в {@code IN (?...)}), число выполнений, суммарное
+ *     и максимальное время.</li>
+ *     <li><b>Медленные выражения</b>: ограниченный кольцевой буфер с формой SQL и числом
+ *     bind-параметров. Значения параметров не сохраняются.</li>
+ *     <li><b>Подозрения на N+1</b>: одна и та же форма SQL, выполненная в одной сессии Hibernate
+ *     не менее {@code n-plus-one-threshold} раз.</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     Hibernate создает {@link CapturingStatementInspector} и {@link TracingSessionEventListener}
+ *     сам, вне контекста Spring, поэтому они обращаются к этому бину через статическую ссылку.
+ *     Пока сбор выключен ({@code app.query-insights.enabled=false} или операция записи эндпоинта),
+ *     обе точки сводятся к чтению одного флага.
+ * </blockquote>
+ */
+@Component
+@Slf4j
+public class QueryInsights {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final ThreadLocal<String> LAST_STATEMENT = new ThreadLocal<>();
+
+    private static volatile QueryInsights instance;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final long slowThresholdNanos;
+    private final int maxShapes;
+    private final int nPlusOneThreshold;
+    private final Map<String, String> shapeCache = new ConcurrentHashMap<>();
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<SlowStatement> slowStatements;
+    private final AtomicLong slowSequence = new AtomicLong();
+    private final AtomicReferenceArray<NPlusOneSuspect> nPlusOneSuspects;
+    private final AtomicLong nPlusOneSequence = new AtomicLong();
+
+    private volatile boolean enabled;
+
+    public QueryInsights(EntityManagerFactory entityManagerFactory,
+                         @Value("${app.query-insights.enabled:false}") boolean enabled,
+                         @Value("${app.query-insights.slow-threshold-ms:200}") long slowThresholdMs,
+                         @Value("${app.query-insights.slow-buffer-size:256}") int slowBufferSize,
+                         @Value("${app.query-insights.max-shapes:2000}") int maxShapes,
+                         @Value("${app.query-insights.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.enabled = enabled;
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000L;
+        this.slowStatements = new AtomicReferenceArray<>(slowBufferSize);
+        this.nPlusOneSuspects = new AtomicReferenceArray<>(slowBufferSize);
+        this.maxShapes = maxShapes;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @PostConstruct
+    void register() {
+        statistics().setStatisticsEnabled(enabled);
+        instance = this;
+        log.info("🔍 Аналитика запросов {}.", enabled ? "включена" : "выключена");
+    }
+
+    /**
+     * @return {@code true}, если сбор аналитики включен.
+     */
+    public static boolean isCapturing() {
+        QueryInsights current = instance;
+        return current != null && current.enabled;
+    }
+
+    /**
+     * Запоминает SQL, который Hibernate собирается выполнить в текущем потоке.
+     */
+    static void statementPrepared(String sql) {
+        LAST_STATEMENT.set(sql);
+    }
+
+    /**
+     * <p><b>Учет Выполненного Выражения</b></p>
+     *
+     * @param elapsedNanos Время выполнения.
+     * @return Форма SQL (для подсчета повторов в сессии) или {@code null}, если сбор выключен.
+     */
+    static String statementExecuted(long elapsedNanos) {
+        QueryInsights current = instance;
+        String sql = LAST_STATEMENT.get();
+        if (current == null || !current.enabled || sql == null) {
+            return null;
+        }
+        return current.record(sql, elapsedNanos);
+    }
+
+    /**
+     * <p><b>Проверка Сессии на N+1</b></p>
+     *
+     * @param statementCounts Сколько раз каждая форма SQL выполнена в завершенной сессии.
+     */
+    static void sessionClosed(Map<String, Integer> statementCounts) {
+        QueryInsights current = instance;
+        if (current == null || !current.enabled) {
+            return;
+        }
+        statementCounts.forEach((shape, count) -> {
+            if (count >= current.nPlusOneThreshold) {
+                current.reportNPlusOne(shape, count);
+            }
+        });
+    }
+
+    private String record(String sql, long elapsedNanos) {
+        String shape = shapeOf(sql);
+        ShapeStats stats = shapes.get(shape);
+        if (stats == null && shapes.size() < maxShapes) {
+            stats = shapes.computeIfAbsent(shape, key -> new ShapeStats());
+        }
+        if (stats != null) {
+            stats.record(elapsedNanos);
+        }
+        if (elapsedNanos >= slowThresholdNanos) {
+            SlowStatement slow = new SlowStatement(shape, countParameters(sql), elapsedNanos / 1_000_000.0,
+                    Instant.now(), currentPath());
+            slowStatements.set((int) (slowSequence.getAndIncrement() % slowStatements.length()), slow);
+            log.warn("🐢 Медленный SQL ({} мс, параметров: {}): {}", slow.durationMs(), slow.bindParameters(), shape);
+        }
+        return shape;
+    }
+
+    private void reportNPlusOne(String shape, int count) {
+        NPlusOneSuspect suspect = new NPlusOneSuspect(shape, count, Instant.now(), currentPath());
+        nPlusOneSuspects.set((int) (nPlusOneSequence.getAndIncrement() % nPlusOneSuspects.length()), suspect);
+        log.warn("🔁 Возможный N+1: выражение выполнено {} раз в одной сессии (путь: {}): {}", count, suspect.path(), shape);
+    }
+
+    private String shapeOf(String sql) {
+        String shape = shapeCache.get(sql);
+        if (shape == null) {
+            shape = IN_LIST.matcher(WHITESPACE.matcher(sql.trim()).replaceAll(" ")).replaceAll("(?...)");
+            if (shapeCache.size() < maxShapes * 4) {
+                shapeCache.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    private static int countParameters(String sql) {
+        int count = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            if (sql.charAt(i) == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String currentPath() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getMethod() + " " + servletAttributes.getRequest().getRequestURI();
+        }
+        return null;
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * <p><b>Включение или Выключение Сбора во Время Работы</b></p>
+     *
+     * @param value Новое состояние; статистика Hibernate переключается вместе со сбором.
+     */
+    public void setEnabled(boolean value) {
+        enabled = value;
+        statistics().setStatisticsEnabled(value);
+        log.info("🔍 Аналитика запросов {} через actuator.", value ? "включена" : "выключена");
+    }
+
+    /**
+     * <p><b>Сброс Накопленных Данных</b></p>
+     */
+    public void reset() {
+        shapes.clear();
+        shapeCache.clear();
+        for (int i = 0; i < slowStatements.length(); i++) {
+            slowStatements.set(i, null);
+            nPlusOneSuspects.set(i, null);
+        }
+        statistics().clear();
+    }
+
+    /**
+     * <p><b>Отчет для Actuator</b></p>
+     *
+     * @param limit Максимальное число записей в каждом списке.
+     * @return Снимок накопленной аналитики.
+     */
+    public Report report(int limit) {
+        Statistics statistics = statistics();
+
+        List<QueryStat> queries = Arrays.stream(statistics.getQueries())
+                .map(query -> {
+                    QueryStatistics stats = statistics.getQueryStatistics(query);
+                    return new QueryStat(query, stats.getExecutionCount(), stats.getExecutionAvgTime(),
+                            stats.getExecutionMaxTime(), stats.getExecutionCount() * stats.getExecutionAvgTime(),
+                            stats.getExecutionRowCount());
+                })
+                .sorted(Comparator.comparingLong(QueryStat::totalTimeMs).reversed())
+                .limit(limit)
+                .toList();
+
+        List<StatementStat> statements = shapes.entrySet().stream()
+                .map(entry -> entry.getValue().toStat(entry.getKey()))
+                .sorted(Comparator.comparingDouble(StatementStat::totalTimeMs).reversed())
+                .limit(limit)
+                .toList();
+
+        Summary summary = new Summary(statistics.getQueryExecutionCount(), statistics.getQueryExecutionMaxTime(),
+                statistics.getQueryExecutionMaxTimeQueryString(), statistics.getPrepareStatementCount(),
+                statistics.getEntityLoadCount(), statistics.getEntityFetchCount(), statistics.getCollectionFetchCount());
+
+        return new Report(enabled, summary, queries, statements,
+                newestFirst(slowStatements, slowSequence.get(), limit),
+                newestFirst(nPlusOneSuspects, nPlusOneSequence.get(), limit));
+    }
+
+    private static <T> List<T> newestFirst(AtomicReferenceArray<T> buffer, long sequence, int limit) {
+        List<T> result = new ArrayList<>();
+        for (long i = sequence - 1; i >= 0 && i >= sequence - buffer.length() && result.size() < limit; i--) {
+            T item = buffer.get((int) (i % buffer.length()));
+            if (item != null) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    private static final class ShapeStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        StatementStat toStat(String shape) {
+            long executions = count.sum();
+            double totalMs = totalNanos.sum() / 1_000_000.0;
+            return new StatementStat(shape, executions, totalMs, executions == 0 ? 0 : totalMs / executions,
+                    maxNanos.get() / 1_000_000.0);
+        }
+    }
+
+    /**
+     * Общие счетчики статистики Hibernate.
+     */
+    public record Summary(long queryExecutions, long queryExecutionMaxTimeMs, String slowestQuery,
+                          long preparedStatements, long entityLoads, long entityFetches, long collectionFetches) {
+    }
+
+    /**
+     * Статистика Hibernate по одному JPQL/HQL-запросу.
+     */
+    public record QueryStat(String query, long executions, long avgTimeMs, long maxTimeMs, long totalTimeMs, long rows) {
+    }
+
+    /**
+     * Агрегат по форме SQL-выражения.
+     */
+    public record StatementStat(String sql, long executions, double totalTimeMs, double avgTimeMs, double maxTimeMs) {
+    }
+
+    /**
+     * Медленное выражение: форма SQL и число bind-параметров (без значений).
+     */
+    public record SlowStatement(String sql, int bindParameters, double durationMs, Instant executedAt, String path) {
+    }
+
+    /**
+     * Выражение, повторенное в одной сессии не менее порогового числа раз.
+     */
+    public record NPlusOneSuspect(String sql, int executions, Instant detectedAt, String path) {
+    }
+
+    /**
+     * Полный отчет {@code /actuator/queryinsights}.
+     */
+    public record Report(boolean enabled, Summary summary, List<QueryStat> queries, List<StatementStat> statements,
+                         List<SlowStatement> slowStatements, List<NPlusOneSuspect> nPlusOneSuspects) {
+    }
+}
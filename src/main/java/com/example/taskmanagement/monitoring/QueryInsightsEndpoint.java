@@ -0,0 +1,61 @@
+package com.example.taskmanagement.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p><b>Actuator-эндпоинт {@code /actuator/queryinsights} 🔍</b></p>
+ *
+ * <p>
+ *     Показывает статистику Hibernate, агрегаты по формам SQL, медленные выражения
+ *     и подозрения на N+1 из {@link QueryInsights}. Доступ — только для роли ADMIN.
+ * </p>
+ * <ul>
+ *     <li><b>GET</b> — отчет (параметр {@code limit} ограничивает каждый список).</li>
+ *     <li><b>POST</b> {@code {"enabled": true}} — включить или выключить сбор без передеплоя.</li>
+ *     <li><b>DELETE</b> — сбросить накопленные данные.</li>
+ * </ul>
+ */
+@Component
+@Endpoint(id = "queryinsights")
+@RequiredArgsConstructor
+public class QueryInsightsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final QueryInsights queryInsights;
+
+    /**
+     * <p><b>Отчет об SQL-запросах</b></p>
+     *
+     * @param limit Число записей в каждом списке (по умолчанию {@value #DEFAULT_LIMIT}).
+     * @return Снимок аналитики.
+     */
+    @ReadOperation
+    public QueryInsights.Report queryInsights(@Nullable Integer limit) {
+        return queryInsights.report(limit == null || limit <= 0 ? DEFAULT_LIMIT : limit);
+    }
+
+    /**
+     * <p><b>Переключение Сбора</b></p>
+     *
+     * @param enabled Новое состояние сбора аналитики и статистики Hibernate.
+     */
+    @WriteOperation
+    public void setEnabled(boolean enabled) {
+        queryInsights.setEnabled(enabled);
+    }
+
+    /**
+     * <p><b>Сброс Аналитики</b></p>
+     */
+    @DeleteOperation
+    public void reset() {
+        queryInsights.reset();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.taskmanagement.monitoring;
+
+import com.example.taskmanagement.async.ReadCoalescer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p><b>Actuator-эндпоинт {@code /actuator/readcoalescing} 🪢</b></p>
+ *
+ * <p>
+ *     Показывает, сколько одинаковых одновременных запросов на чтение {@link ReadCoalescer} объединил
+ *     в одно выполнение. Доступ — только для роли ADMIN.
+ * </p>
+ * <ul>
+ *     <li><b>GET</b> — счетчики по операциям и доля разделенных вызовов.</li>
+ *     <li><b>DELETE</b> — сбросить счетчики.</li>
+ * </ul>
+ */
+@Component
+@Endpoint(id = "readcoalescing")
+@RequiredArgsConstructor
+public class ReadCoalescingEndpoint {
+
+    private final ReadCoalescer readCoalescer;
+
+    /**
+     * <p><b>Статистика Объединения</b></p>
+     *
+     * @return Снимок счетчиков.
+     */
+    @ReadOperation
+    public ReadCoalescer.Report readCoalescing() {
+        return readCoalescer.report();
+    }
+
+    /**
+     * <p><b>Сброс Счетчиков</b></p>
+     */
+    @DeleteOperation
+    public void reset() {
+        readCoalescer.resetStats();
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.taskmanagement.monitoring;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p><b>Трассировка Фаз Одного Запроса ⏱️</b></p>
+ *
+ * <p>
+ *     Хранит суммарное время каждой фазы обработки запроса и число SQL-выражений.
+ *     Текущая трассировка живет в {@link ThreadLocal} потока запроса; код фазы оборачивается так:
+ * </p>
+ *
+ * <pre>{@code
+ * long started = RequestTrace.start();
+ * ... // работа фазы
+ * RequestTrace.stop(RequestTrace.Phase.MAPPING, started);
+ * }</pre>
+ *
+ * <blockquote>
+ *     <b>Накладные расходы:</b> если трассировка выключена ({@code app.tracing.enabled=false}),
+ *     {@link #start()} — это чтение одного статического флага, а {@link #stop(Phase, long)}
+ *     сразу выходит. {@code ThreadLocal} и {@code System.nanoTime()} не трогаются.
+ * </blockquote>
+ *
+ * <p>
+ *     Фазы могут вкладываться: {@link Phase#USER_LOADING} входит в {@link Phase#AUTHENTICATION},
+ *     а {@link Phase#SQL} считается везде, где выполняется запрос к базе. Поэтому сумма фаз
+ *     не обязана совпадать с общим временем.
+ * </p>
+ */
+public final class RequestTrace {
+
+    /**
+     * Измеряемые фазы обработки запроса.
+     */
+    public enum Phase {
+        /** JWT-фильтр: разбор токена, проверка отзыва, загрузка пользователя. */
+        AUTHENTICATION,
+        /** Загрузка пользователя из базы для SecurityContext. */
+        USER_LOADING,
+        /** Выполнение SQL-выражений (от execute до возврата управления драйвером). */
+        SQL,
+        /** Преобразование сущностей в DTO (ModelMapper). */
+        MAPPING,
+        /** Сериализация тела ответа (Jackson: JSON, CBOR, Smile). */
+        SERIALIZATION
+    }
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+    private static volatile boolean enabled;
+
+    private final String traceId;
+    private final String method;
+    private final String path;
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final AtomicLongArray phaseNanos = new AtomicLongArray(Phase.values().length);
+    private final AtomicInteger sqlStatements = new AtomicInteger();
+    private volatile boolean finished;
+
+    private RequestTrace(String traceId, String method, String path) {
+        this.traceId = traceId;
+        this.method = method;
+        this.path = path;
+    }
+
+    static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * @return {@code true}, если трассировка запросов включена.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * <p><b>Начало Фазы</b></p>
+     *
+     * @return Отметка времени для {@link #stop(Phase, long)} или {@code 0}, если текущий поток
+     *         не трассируется.
+     */
+    public static long start() {
+        if (!enabled || CURRENT.get() == null) {
+            return 0L;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * <p><b>Окончание Фазы</b></p>
+     *
+     * @param phase Фаза, к которой добавляется время.
+     * @param startedNanos Значение, полученное от {@link #start()}.
+     */
+    public static void stop(Phase phase, long startedNanos) {
+        if (startedNanos == 0L) {
+            return;
+        }
+        RequestTrace trace = CURRENT.get();
+        if (trace != null && !trace.finished) {
+            trace.phaseNanos.addAndGet(phase.ordinal(), System.nanoTime() - startedNanos);
+        }
+    }
+
+    /**
+     * <p><b>Учет Выполненного SQL-выражения</b></p>
+     *
+     * @param elapsedNanos Время выполнения выражения.
+     */
+    static void sqlStatementExecuted(long elapsedNanos) {
+        if (!enabled) {
+            return;
+        }
+        RequestTrace trace = CURRENT.get();
+        if (trace != null && !trace.finished) {
+            trace.phaseNanos.addAndGet(Phase.SQL.ordinal(), elapsedNanos);
+            trace.sqlStatements.incrementAndGet();
+        }
+    }
+
+    /**
+     * <p><b>Перенос Трассировки в Другой Поток</b></p>
+     *
+     * <p>
+     *     Фазы, выполненные задачей (SQL, маппинг), учитываются в трассировке запроса, из потока
+     *     которого задача отправлена. Поток запроса при этом не ждет задачу: после таймаута
+     *     ({@code QRY-002}) ответ отправляется и трассировка записывается, пока задача еще выполняется.
+     *     Поэтому счетчики атомарные, а время, добавленное после {@link #finish(int)}, отбрасывается —
+     *     в записанном снимке его нет.
+     * </p>
+     *
+     * @param task Задача, отправляемая в пул.
+     * @return Задача, выполняющаяся с трассировкой текущего запроса, или исходная задача, если поток не трассируется.
+     */
+    public static Runnable propagate(Runnable task) {
+        RequestTrace trace = enabled ? CURRENT.get() : null;
+        if (trace == null) {
+            return task;
+        }
+        return () -> {
+            CURRENT.set(trace);
+            try {
+                task.run();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    static void attach(RequestTrace trace) {
+        CURRENT.set(trace);
+    }
+
+    static RequestTrace begin(String traceId, String method, String path) {
+        RequestTrace trace = new RequestTrace(traceId, method, path);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * <p><b>Снимок Завершенного Запроса</b></p>
+     *
+     * <p>Замораживает трассировку: фазы, завершившиеся позже (например, в пуле после таймаута), не учитываются.</p>
+     *
+     * @param status HTTP статус ответа.
+     * @return Неизменяемый снимок для {@link RequestTraceRecorder}.
+     */
+    RequestTraceSnapshot finish(int status) {
+        finished = true;
+        long totalNanos = System.nanoTime() - startNanos;
+        Map<Phase, Double> phases = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, toMillis(phaseNanos.get(phase.ordinal())));
+        }
+        return new RequestTraceSnapshot(traceId, method, path, status, startedAt, toMillis(totalNanos), phases, sqlStatements.get());
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.taskmanagement.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p><b>Хранилище Недавних Трассировок 🗂️</b></p>
+ *
+ * <p>
+ *     Кольцевой буфер последних {@code app.tracing.buffer-size} завершенных запросов.
+ *     Запись — один {@code getAndIncrement} и одна запись в массив, без блокировок;
+ *     сортировка по длительности выполняется только при чтении эндпоинтом.
+ * </p>
+ *
+ * <p>
+ *     Запросы дольше {@code app.tracing.slow-threshold-ms} дополнительно логируются
+ *     с разбивкой по фазам — строка попадает в JSON-лог с тем же {@code traceId}.
+ * </p>
+ */
+@Component
+@Slf4j
+public class RequestTraceRecorder {
+
+    private final AtomicReferenceArray<RequestTraceSnapshot> buffer;
+    private final AtomicLong sequence = new AtomicLong();
+    private final double slowThresholdMs;
+
+    public RequestTraceRecorder(@Value("${app.tracing.buffer-size:512}") int bufferSize,
+                                @Value("${app.tracing.slow-threshold-ms:500}") double slowThresholdMs) {
+        this.buffer = new AtomicReferenceArray<>(bufferSize);
+        this.slowThresholdMs = slowThresholdMs;
+    }
+
+    /**
+     * <p><b>Запись Завершенного Запроса</b></p>
+     *
+     * @param snapshot Снимок трассировки.
+     */
+    public void record(RequestTraceSnapshot snapshot) {
+        buffer.set((int) (sequence.getAndIncrement() % buffer.length()), snapshot);
+        if (snapshot.totalMs() >= slowThresholdMs) {
+            log.warn("🐢 Медленный запрос {} {} -> {} за {} мс: фазы={}, SQL={}",
+                    snapshot.method(), snapshot.path(), snapshot.status(), snapshot.totalMs(),
+                    snapshot.phasesMs(), snapshot.sqlStatements());
+        }
+    }
+
+    /**
+     * <p><b>Самые Медленные из Недавних Запросов</b></p>
+     *
+     * @param limit Максимальное число записей.
+     * @return Снимки, отсортированные по убыванию общего времени.
+     */
+    public List<RequestTraceSnapshot> slowest(int limit) {
+        List<RequestTraceSnapshot> snapshots = new ArrayList<>(buffer.length());
+        for (int i = 0; i < buffer.length(); i++) {
+            RequestTraceSnapshot snapshot = buffer.get(i);
+            if (snapshot != null) {
+                snapshots.add(snapshot);
+            }
+        }
+        snapshots.sort(Comparator.comparingDouble(RequestTraceSnapshot::totalMs).reversed());
+        return snapshots.subList(0, Math.min(limit, snapshots.size()));
+    }
+
+    /**
+     * @return Сколько запросов записано с момента запуска.
+     */
+    public long recordedCount() {
+        return sequence.get();
+    }
+}
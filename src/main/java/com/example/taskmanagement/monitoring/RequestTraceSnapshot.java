@@ -0,0 +1,28 @@
+package com.example.taskmanagement.monitoring;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * <p><b>Снимок Трассировки Завершенного Запроса</b></p>
+ *
+ * @param traceId Идентификатор трассировки (тот же, что в MDC и логах).
+ * @param method HTTP метод.
+ * @param path URI запроса.
+ * @param status HTTP статус ответа.
+ * @param startedAt Время начала обработки.
+ * @param totalMs Общее время обработки в миллисекундах.
+ * @param phasesMs Время каждой фазы в миллисекундах (фазы могут вкладываться).
+ * @param sqlStatements Число выполненных SQL-выражений.
+ */
+public record RequestTraceSnapshot(
+        String traceId,
+        String method,
+        String path,
+        int status,
+        Instant startedAt,
+        double totalMs,
+        Map<RequestTrace.Phase, Double> phasesMs,
+        int sqlStatements
+) {
+}
@@ -0,0 +1,49 @@
+package com.example.taskmanagement.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * <p><b>Actuator-эндпоинт {@code /actuator/requesttraces} 🔬</b></p>
+ *
+ * <p>
+ *     Показывает самые медленные из недавних запросов с разбивкой по фазам
+ *     (аутентификация, загрузка пользователя, SQL, маппинг, сериализация) и числом SQL-выражений.
+ *     Данные берутся из {@link RequestTraceRecorder}, внешний сборщик не нужен.
+ *     Доступ — только для роли ADMIN.
+ * </p>
+ */
+@Component
+@Endpoint(id = "requesttraces")
+@RequiredArgsConstructor
+public class RequestTracesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final RequestTraceRecorder recorder;
+
+    /**
+     * <p><b>Отчет о Медленных Запросах</b></p>
+     *
+     * @param limit Число запросов в отчете (по умолчанию {@value #DEFAULT_LIMIT}).
+     * @return Состояние трассировки и самые медленные запросы.
+     */
+    @ReadOperation
+    public RequestTracesReport requestTraces(@Nullable Integer limit) {
+        int effectiveLimit = limit == null || limit <= 0 ? DEFAULT_LIMIT : limit;
+        return new RequestTracesReport(RequestTrace.isEnabled(), recorder.recordedCount(), recorder.slowest(effectiveLimit));
+    }
+
+    /**
+     * @param enabled Включена ли трассировка.
+     * @param recorded Сколько запросов записано с момента запуска.
+     * @param slowest Самые медленные из недавних запросов.
+     */
+    public record RequestTracesReport(boolean enabled, long recorded, List<RequestTraceSnapshot> slowest) {
+    }
+}
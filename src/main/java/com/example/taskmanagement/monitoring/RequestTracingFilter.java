@@ -0,0 +1,84 @@
+package com.example.taskmanagement.monitoring;
+
+import com.example.taskmanagement.logging.RequestIdFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * <p><b>Фильтр Трассировки Запросов ⏱️</b></p>
+ *
+ * <p>
+ *     Стоит сразу после {@link RequestIdFilter}: открывает {@link RequestTrace} для потока запроса
+ *     с {@code traceId} из MDC, а после ответа передает снимок в {@link RequestTraceRecorder}.
+ *     Запросы к {@code /actuator/**} не трассируются.
+ * </p>
+ *
+ * <p>
+ *     Для асинхронных эндпоинтов (возвращающих {@code CompletableFuture}) трассировка хранится в атрибуте
+ *     запроса, снова подключается при асинхронной диспетчеризации (там выполняется сериализация ответа)
+ *     и записывается только после нее.
+ * </p>
+ *
+ * <p>
+ *     Включается свойством {@code app.tracing.enabled}. В выключенном состоянии фильтр
+ *     пропускает все запросы, а точки измерения в коде сводятся к чтению одного флага.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestTracingFilter extends OncePerRequestFilter {
+
+    private static final String TRACE_ATTRIBUTE = RequestTracingFilter.class.getName() + ".TRACE";
+
+    private final RequestTraceRecorder recorder;
+    private final boolean enabled;
+
+    public RequestTracingFilter(RequestTraceRecorder recorder,
+                                @Value("${app.tracing.enabled:false}") boolean enabled) {
+        this.recorder = recorder;
+        this.enabled = enabled;
+        RequestTrace.setEnabled(enabled);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestTrace trace = isAsyncDispatch(request) ? (RequestTrace) request.getAttribute(TRACE_ATTRIBUTE) : null;
+        if (trace != null) {
+            RequestTrace.attach(trace);
+        } else {
+            trace = RequestTrace.begin(MDC.get(RequestIdFilter.TRACE_ID_MDC_KEY), request.getMethod(), request.getRequestURI());
+            request.setAttribute(TRACE_ATTRIBUTE, trace);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTrace.end();
+            if (!request.isAsyncStarted()) {
+                recorder.record(trace.finish(response.getStatus()));
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.taskmanagement.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * <p><b>Конвертеры Jackson с Замером Сериализации 📦</b></p>
+ *
+ * <p>
+ *     Наследники стандартных конвертеров JSON, CBOR и Smile, которые добавляют время записи тела
+ *     ответа в фазу {@link RequestTrace.Phase#SERIALIZATION}. Это наследование, а не обертка:
+ *     Spring MVC и advice-классы (например, {@code @JsonView}) продолжают видеть привычные типы
+ *     конвертеров.
+ * </p>
+ */
+public final class TimedJacksonConverters {
+
+    private TimedJacksonConverters() {
+    }
+
+    public static class Json extends MappingJackson2HttpMessageConverter {
+
+        public Json(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            long started = RequestTrace.start();
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                RequestTrace.stop(RequestTrace.Phase.SERIALIZATION, started);
+            }
+        }
+    }
+
+    public static class Cbor extends MappingJackson2CborHttpMessageConverter {
+
+        public Cbor(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            long started = RequestTrace.start();
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                RequestTrace.stop(RequestTrace.Phase.SERIALIZATION, started);
+            }
+        }
+    }
+
+    public static class Smile extends MappingJackson2SmileHttpMessageConverter {
+
+        public Smile(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            long started = RequestTrace.start();
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                RequestTrace.stop(RequestTrace.Phase.SERIALIZATION, started);
+            }
+        }
+    }
+}
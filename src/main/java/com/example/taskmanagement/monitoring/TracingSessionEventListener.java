@@ -0,0 +1,78 @@
+package com.example.taskmanagement.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p><b>Учет SQL-выражений в Трассировке и Аналитике Запросов 🗄️</b></p>
+ *
+ * <p>
+ *     Слушатель событий сессии Hibernate: замеряет время выполнения каждого JDBC-выражения
+ *     (включая пакетные) и добавляет его в фазу {@link RequestTrace.Phase#SQL} текущего запроса,
+ *     а также в {@link QueryInsights} вместе с формой SQL. Подключается свойством
+ *     {@code hibernate.session.events.auto}; Hibernate создает новый экземпляр на каждую сессию,
+ *     поэтому поля не требуют синхронизации.
+ * </p>
+ *
+ * <blockquote>
+ *     Повторы одной формы SQL считаются в пределах сессии и проверяются в {@link #end()}:
+ *     так {@link QueryInsights} находит N+1 без дополнительного состояния на запрос.
+ * </blockquote>
+ */
+public class TracingSessionEventListener extends BaseSessionEventListener {
+
+    private long statementStartedNanos;
+    private long batchStartedNanos;
+    private Map<String, Integer> statementCounts;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartedNanos = startIfMeasured();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        executed(statementStartedNanos);
+        statementStartedNanos = 0L;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedNanos = startIfMeasured();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        executed(batchStartedNanos);
+        batchStartedNanos = 0L;
+    }
+
+    @Override
+    public void end() {
+        if (statementCounts != null) {
+            QueryInsights.sessionClosed(statementCounts);
+            statementCounts = null;
+        }
+    }
+
+    private static long startIfMeasured() {
+        return RequestTrace.start() != 0L || QueryInsights.isCapturing() ? System.nanoTime() : 0L;
+    }
+
+    private void executed(long startedNanos) {
+        if (startedNanos == 0L) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startedNanos;
+        RequestTrace.sqlStatementExecuted(elapsedNanos);
+        String shape = QueryInsights.statementExecuted(elapsedNanos);
+        if (shape != null) {
+            if (statementCounts == null) {
+                statementCounts = new HashMap<>();
+            }
+            statementCounts.merge(shape, 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.taskmanagement.reminder;
+
+import java.time.LocalDate;
+
+/**
+ * <p><b>Напоминание о Сроке Задачи 🔔</b></p>
+ *
+ * <p>
+ *     Снимок полей задачи, достаточный для уведомления исполнителя без обращения к базе.
+ * </p>
+ *
+ * @param taskId ID задачи.
+ * @param title Заголовок задачи.
+ * @param executorEmail Email исполнителя.
+ * @param dueDate Срок выполнения.
+ */
+public record DueDateReminder(Long taskId, String title, String executorEmail, LocalDate dueDate) {
+}
@@ -0,0 +1,231 @@
+package com.example.taskmanagement.reminder;
+
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.service.TaskArchivalService;
+import com.example.taskmanagement.service.TaskChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p><b>Напоминания о Сроках Задач ⏰</b></p>
+ *
+ * <p>
+ *     Исполнитель получает напоминание за {@code app.reminders.lead-time} до начала дня {@code dueDate}.
+ *     Вместо ежеминутного опроса базы незавершенные задачи с исполнителем, напоминание по которым
+ *     наступит в пределах {@code app.reminders.horizon}, держатся в {@link HashedTimingWheel}:
+ * </p>
+ *
+ * <ul>
+ *     <li><b>Загрузка:</b> при запуске и при каждом сдвиге горизонта читается только новый диапазон
+ *     сроков — запрос по частичному индексу {@code ix_tasks_open_due_date}.</li>
+ *     <li><b>Актуальность:</b> изменения задач приходят событием {@link TaskChangedEvent} после фиксации
+ *     транзакции; напоминание переставляется или отменяется за O(1).</li>
+ *     <li><b>Доставка:</b> сработавшие напоминания передаются {@link ReminderNotifier} в пуле
+ *     {@code applicationTaskExecutor}.</li>
+ *     <li><b>Память:</b> пропорциональна числу ближайших сроков, а не числу задач.</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     Отправленные напоминания запоминаются до наступления срока, поэтому повторное сохранение задачи
+ *     с тем же сроком и исполнителем не отправит напоминание еще раз. После перезапуска напоминания,
+ *     время которых уже прошло, не отправляются. Состояние хранится в памяти узла: при нескольких
+ *     узлах каждый отправит свою копию, и канал доставки должен устранять дубликаты.
+ * </blockquote>
+ */
+@Component
+@Slf4j
+public class DueDateReminderScheduler implements ApplicationRunner {
+
+    private final TaskRepository taskRepository;
+    private final ReminderNotifier notifier;
+    private final TaskExecutor taskExecutor;
+    private final boolean enabled;
+    private final Duration leadTime;
+    private final Duration horizon;
+    private final Object lock = new Object();
+    private final HashedTimingWheel<DueDateReminder> wheel;
+    private final Map<Long, HashedTimingWheel.Timeout<DueDateReminder>> scheduled = new HashMap<>();
+    private final Map<Long, DueDateReminder> delivered = new HashMap<>();
+    private final List<TaskChangedEvent> pendingEvents = new ArrayList<>();
+    private LocalDate loadedThrough;
+    private boolean loading;
+
+    public DueDateReminderScheduler(TaskRepository taskRepository,
+                                    ReminderNotifier notifier,
+                                    @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                    @Value("${app.reminders.enabled:true}") boolean enabled,
+                                    @Value("${app.reminders.lead-time:P1D}") Duration leadTime,
+                                    @Value("${app.reminders.horizon:P2D}") Duration horizon,
+                                    @Value("${app.reminders.tick-ms:60000}") long tickMillis,
+                                    @Value("${app.reminders.wheel-size:1024}") int wheelSize) {
+        this.taskRepository = taskRepository;
+        this.notifier = notifier;
+        this.taskExecutor = taskExecutor;
+        this.enabled = enabled;
+        this.leadTime = leadTime;
+        this.horizon = horizon;
+        this.wheel = new HashedTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            rollHorizon();
+        }
+    }
+
+    /**
+     * <p><b>Тик Колеса ⏰</b></p>
+     * <p>Отправляет сработавшие напоминания и при необходимости сдвигает горизонт.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.reminders.tick-ms:60000}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        List<DueDateReminder> fired = new ArrayList<>();
+        synchronized (lock) {
+            wheel.advance(System.currentTimeMillis(), timeout -> {
+                DueDateReminder reminder = timeout.payload();
+                scheduled.remove(reminder.taskId());
+                delivered.put(reminder.taskId(), reminder);
+                fired.add(reminder);
+            });
+        }
+        for (DueDateReminder reminder : fired) {
+            taskExecutor.execute(() -> deliver(reminder));
+        }
+        rollHorizon();
+    }
+
+    /**
+     * <p><b>Изменение Задачи</b></p>
+     * <p>
+     *     Переставляет или отменяет напоминание. Сроки за горизонтом не ставятся — их загрузит
+     *     следующий сдвиг горизонта. События, пришедшие во время его загрузки, запоминаются и
+     *     применяются повторно после нее: иначе устаревшая строка запроса поставила бы напоминание
+     *     по уже завершенной или переназначенной задаче.
+     * </p>
+     *
+     * @param event Снимок задачи после фиксации транзакции.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            if (loading) {
+                pendingEvents.add(event);
+            }
+            apply(event);
+        }
+    }
+
+    /**
+     * Вызывается под {@link #lock}.
+     */
+    private void apply(TaskChangedEvent event) {
+        boolean wanted = event.kind() == TaskChangedEvent.Kind.SAVED
+                && event.executorEmail() != null
+                && event.dueDate() != null
+                && !TaskArchivalService.FINISHED_STATUSES.contains(event.status())
+                && loadedThrough != null
+                && !event.dueDate().isAfter(loadedThrough)
+                && !event.dueDate().isBefore(LocalDate.now());
+        if (!wanted) {
+            cancel(event.taskId());
+            return;
+        }
+        schedule(new DueDateReminder(event.taskId(), event.title(), event.executorEmail(), event.dueDate()), false);
+    }
+
+    private void rollHorizon() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate target = now.plus(horizon).plus(leadTime).toLocalDate();
+        LocalDate from;
+        boolean startup;
+        synchronized (lock) {
+            if (loading || (loadedThrough != null && !target.isAfter(loadedThrough))) {
+                return;
+            }
+            startup = loadedThrough == null;
+            from = startup ? now.toLocalDate() : loadedThrough.plusDays(1);
+            delivered.values().removeIf(reminder -> reminder.dueDate().isBefore(now.toLocalDate()));
+            loading = true;
+        }
+
+        try {
+            List<DueDateReminder> upcoming = taskRepository.findDueReminders(from, target);
+
+            synchronized (lock) {
+                for (DueDateReminder reminder : upcoming) {
+                    schedule(reminder, startup);
+                }
+                loadedThrough = target;
+                pendingEvents.forEach(this::apply);
+                log.debug("⏰ Горизонт напоминаний сдвинут до {}: загружено {}, повторено событий {}, в колесе {}.",
+                        target, upcoming.size(), pendingEvents.size(), wheel.size());
+            }
+        } finally {
+            synchronized (lock) {
+                pendingEvents.clear();
+                loading = false;
+            }
+        }
+    }
+
+    /**
+     * Вызывается под {@link #lock}.
+     */
+    private void schedule(DueDateReminder reminder, boolean skipPast) {
+        DueDateReminder sent = delivered.get(reminder.taskId());
+        if (sent != null && sent.dueDate().equals(reminder.dueDate())
+                && Objects.equals(sent.executorEmail(), reminder.executorEmail())) {
+            cancel(reminder.taskId());
+            return;
+        }
+        long deadline = reminder.dueDate().atStartOfDay().minus(leadTime)
+                .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (skipPast && deadline < System.currentTimeMillis()) {
+            return;
+        }
+        cancel(reminder.taskId());
+        scheduled.put(reminder.taskId(), wheel.schedule(reminder, deadline));
+    }
+
+    /**
+     * Вызывается под {@link #lock}.
+     */
+    private void cancel(Long taskId) {
+        HashedTimingWheel.Timeout<DueDateReminder> timeout = scheduled.remove(taskId);
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+
+    private void deliver(DueDateReminder reminder) {
+        try {
+            notifier.notify(reminder);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Не удалось отправить напоминание по задаче с ID {}: {}", reminder.taskId(), e.getMessage());
+        }
+    }
+}
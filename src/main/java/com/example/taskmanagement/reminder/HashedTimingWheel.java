@@ -0,0 +1,172 @@
+package com.example.taskmanagement.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * <p><b>Хешированное Колесо Таймеров ⏱️</b></p>
+ *
+ * <p>
+ *     Кольцо из {@code wheelSize} корзин, каждая соответствует одному тику длительностью {@code tickMillis}.
+ *     Таймер с дедлайном через {@code n} тиков попадает в корзину {@code (текущий + n) mod wheelSize}
+ *     с числом оставшихся оборотов {@code n / wheelSize}.
+ * </p>
+ *
+ * <ul>
+ *     <li><b>Постановка и отмена:</b> O(1) — вставка в конец и удаление из двусвязного списка корзины.</li>
+ *     <li><b>Продвижение:</b> на каждом тике обходится только одна корзина; таймеры с нулем оборотов
+ *     срабатывают, у остальных счетчик уменьшается.</li>
+ *     <li><b>Память:</b> пропорциональна числу поставленных таймеров плюс фиксированный массив корзин.</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     Класс не потокобезопасен: все вызовы выполняются под блокировкой владельца
+ *     ({@link DueDateReminderScheduler}). Время — миллисекунды эпохи; колесо не читает часы само.
+ * </blockquote>
+ *
+ * @param <T> Полезная нагрузка таймера.
+ */
+final class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final Bucket<T>[] buckets;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis должен быть положительным");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize должен быть степенью двойки");
+        }
+        this.tickMillis = tickMillis;
+        this.buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket<>();
+        }
+        this.mask = wheelSize - 1;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * <p><b>Постановка Таймера</b></p>
+     *
+     * @param payload Полезная нагрузка.
+     * @param deadlineMillis Момент срабатывания; прошедший момент срабатывает на следующем тике.
+     * @return Дескриптор для {@link #cancel(Timeout)}.
+     */
+    Timeout<T> schedule(T payload, long deadlineMillis) {
+        long tick = Math.max(deadlineMillis / tickMillis, currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(payload, deadlineMillis, (tick - currentTick - 1) / buckets.length);
+        buckets[(int) (tick & mask)].add(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * <p><b>Отмена Таймера</b></p>
+     *
+     * @param timeout Дескриптор; повторная отмена и отмена сработавшего таймера ничего не делают.
+     */
+    void cancel(Timeout<T> timeout) {
+        if (timeout.bucket != null) {
+            timeout.bucket.remove(timeout);
+            size--;
+        }
+    }
+
+    /**
+     * <p><b>Продвижение до Момента</b></p>
+     *
+     * @param nowMillis Текущее время.
+     * @param expired Получатель сработавших таймеров.
+     */
+    void advance(long nowMillis, Consumer<Timeout<T>> expired) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            Bucket<T> bucket = buckets[(int) (currentTick & mask)];
+            Timeout<T> timeout = bucket.head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    bucket.remove(timeout);
+                    size--;
+                    expired.accept(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    /**
+     * @return Число поставленных и еще не сработавших таймеров.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * <p><b>Таймер</b></p>
+     *
+     * @param <T> Полезная нагрузка.
+     */
+    static final class Timeout<T> {
+        private final T payload;
+        private final long deadlineMillis;
+        private long remainingRounds;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T payload, long deadlineMillis, long remainingRounds) {
+            this.payload = payload;
+            this.deadlineMillis = deadlineMillis;
+            this.remainingRounds = remainingRounds;
+        }
+
+        T payload() {
+            return payload;
+        }
+
+        long deadlineMillis() {
+            return deadlineMillis;
+        }
+    }
+
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
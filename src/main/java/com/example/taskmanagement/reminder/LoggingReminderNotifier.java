@@ -0,0 +1,21 @@
+package com.example.taskmanagement.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p><b>Напоминания в Журнал 📝</b></p>
+ *
+ * <p>
+ *     Заглушка по умолчанию: пишет напоминание в лог. Регистрируется в {@link ReminderConfig},
+ *     если в контексте нет другого {@link ReminderNotifier}.
+ * </p>
+ */
+@Slf4j
+public class LoggingReminderNotifier implements ReminderNotifier {
+
+    @Override
+    public void notify(DueDateReminder reminder) {
+        log.info("🔔 Напоминание для '{}': задача '{}' (ID: {}) должна быть выполнена до {}.",
+                reminder.executorEmail(), reminder.title(), reminder.taskId(), reminder.dueDate());
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.taskmanagement.reminder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p><b>Конфигурация Напоминаний ⚙️</b></p>
+ */
+@Configuration
+public class ReminderConfig {
+
+    /**
+     * <p><b>Канал доставки по умолчанию</b></p>
+     *
+     * @return {@link LoggingReminderNotifier}, если приложение не объявило свой {@link ReminderNotifier}.
+     */
+    @Bean
+    @ConditionalOnMissingBean(ReminderNotifier.class)
+    public ReminderNotifier loggingReminderNotifier() {
+        return new LoggingReminderNotifier();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagement.reminder;
+
+/**
+ * <p><b>Канал Доставки Напоминаний 📬</b></p>
+ *
+ * <p>
+ *     Точка расширения: бин этого типа (почта, мессенджер, push) заменяет
+ *     {@link LoggingReminderNotifier}, который регистрируется только при отсутствии другого.
+ *     Вызывается в пуле {@code applicationTaskExecutor}, а не в потоке колеса таймеров.
+ * </p>
+ */
+public interface ReminderNotifier {
+
+    /**
+     * <p><b>Отправка Напоминания</b></p>
+     *
+     * @param reminder Напоминание о сроке задачи.
+     */
+    void notify(DueDateReminder reminder);
+}
@@ -0,0 +1,75 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.model.ArchivedComment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p><b>Репозиторий для Сущности {@link ArchivedComment}</b></p>
+ *
+ * <p>
+ *     Перенос комментариев архивируемых задач в {@code comments_archive} и пакетная очистка
+ *     при удалении пользователя.
+ * </p>
+ *
+ * @see com.example.taskmanagement.service.TaskArchivalService
+ */
+public interface ArchivedCommentRepository extends JpaRepository<ArchivedComment, Long> {
+
+    /**
+     * <p><b>Копирование Комментариев Задач в Архив</b></p>
+     *
+     * <blockquote>
+     *     Один {@code INSERT ... SELECT} по индексу {@code (task_id, ...)}; исходные строки удаляются
+     *     отдельно ({@link CommentRepository#deleteAllByTaskIdIn}) в той же транзакции.
+     * </blockquote>
+     *
+     * @param taskIds ID архивируемых задач.
+     * @return Количество скопированных комментариев.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO comments_archive (id, task_id, task_created_at, app_user_id, author_email, text, created_at, updated_at)
+            SELECT c.id, c.task_id, c.task_created_at, c.app_user_id, u.email, c.text, c.created_at, c.updated_at
+            FROM comments c
+            JOIN app_users u ON u.id = c.app_user_id
+            WHERE c.task_id IN (:taskIds)
+            """, nativeQuery = true)
+    int copyFromCommentsByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * <p><b>Пакетное Удаление Архивных Комментариев Задач</b></p>
+     *
+     * @param taskIds ID архивных задач.
+     * @return Количество удаленных комментариев.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ArchivedComment c WHERE c.taskId IN :taskIds")
+    int deleteAllByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * <p><b>Идентификаторы Архивных Комментариев Пользователя (Порция)</b></p>
+     *
+     * @param userId ID автора комментариев.
+     * @param pageable Размер порции; страница всегда первая, так как обработанные комментарии удаляются.
+     * @return ID комментариев по возрастанию.
+     */
+    @Query("SELECT c.id FROM ArchivedComment c WHERE c.appUserId = :userId ORDER BY c.id")
+    List<Long> findIdsByAppUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * <p><b>Пакетное Удаление Архивных Комментариев</b></p>
+     *
+     * @param ids ID комментариев.
+     * @return Количество удаленных комментариев.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ArchivedComment c WHERE c.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
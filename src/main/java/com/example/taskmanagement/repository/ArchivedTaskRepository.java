@@ -0,0 +1,113 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.model.ArchivedTask;
+import com.example.taskmanagement.model.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p><b>Репозиторий для Сущности {@link ArchivedTask}</b></p>
+ *
+ * <p>
+ *     Перенос задач из {@code tasks} в {@code tasks_archive}, чтение архива для списков
+ *     с {@code includeArchived=true} и пакетная очистка при удалении пользователя.
+ * </p>
+ *
+ * @see com.example.taskmanagement.service.TaskArchivalService
+ */
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    /**
+     * <p><b>Копирование Задач в Архив</b></p>
+     *
+     * <blockquote>
+     *     Один {@code INSERT ... SELECT} без загрузки сущностей; email автора и исполнителя
+     *     берутся из {@code app_users} тем же запросом. Исходные строки удаляются отдельно
+     *     ({@link TaskRepository#deleteAllByIdIn}) в той же транзакции.
+     * </blockquote>
+     *
+     * @param ids ID задач в {@code tasks}.
+     * @param archivedAt Время архивации.
+     * @return Количество скопированных задач.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO tasks_archive (id, title, description, status, priority,
+                                       author_id, author_email, executor_id, executor_email,
+                                       created_at, updated_at, due_date, archived_at)
+            SELECT t.id, t.title, t.description, t.status, t.priority,
+                   t.author_id, a.email, t.executor_id, e.email,
+                   t.created_at, t.updated_at, t.due_date, :archivedAt
+            FROM tasks t
+            JOIN app_users a ON a.id = t.author_id
+            LEFT JOIN app_users e ON e.id = t.executor_id
+            WHERE t.id IN (:ids)
+            """, nativeQuery = true)
+    int copyFromTasks(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * @param status Статус задачи.
+     * @return Архивные задачи с указанным статусом.
+     */
+    List<ArchivedTask> findByStatus(Status status);
+
+    /**
+     * @param executorId ID исполнителя.
+     * @return Архивные задачи, где пользователь был исполнителем.
+     */
+    List<ArchivedTask> findByExecutorId(Long executorId);
+
+    /**
+     * @param authorId ID автора.
+     * @param executorId ID исполнителя.
+     * @return Архивные задачи, где пользователь был автором или исполнителем.
+     */
+    List<ArchivedTask> findByAuthorIdOrExecutorId(Long authorId, Long executorId);
+
+    /**
+     * <p><b>Идентификаторы Архивных Задач Автора (Порция)</b></p>
+     *
+     * @param authorId ID автора.
+     * @param pageable Размер порции; страница всегда первая, так как обработанные задачи удаляются.
+     * @return ID задач по возрастанию.
+     */
+    @Query("SELECT a.id FROM ArchivedTask a WHERE a.authorId = :authorId ORDER BY a.id")
+    List<Long> findIdsByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
+
+    /**
+     * <p><b>Идентификаторы Архивных Задач Исполнителя (Порция)</b></p>
+     *
+     * @param executorId ID исполнителя.
+     * @param pageable Размер порции; страница всегда первая, так как у обработанных задач исполнитель снимается.
+     * @return ID задач по возрастанию.
+     */
+    @Query("SELECT a.id FROM ArchivedTask a WHERE a.executorId = :executorId ORDER BY a.id")
+    List<Long> findIdsByExecutorId(@Param("executorId") Long executorId, Pageable pageable);
+
+    /**
+     * <p><b>Пакетное Удаление Архивных Задач</b></p>
+     *
+     * @param ids ID задач.
+     * @return Количество удаленных задач.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ArchivedTask a WHERE a.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * <p><b>Пакетное Снятие Исполнителя с Архивных Задач</b></p>
+     *
+     * @param ids ID задач.
+     * @return Количество обновленных задач.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ArchivedTask a SET a.executorId = null, a.executor = null WHERE a.id IN :ids")
+    int clearExecutorByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -4,10 +4,13 @@ import com.example.taskmanagement.model.AppUser;
 import com.example.taskmanagement.model.Comment;
 import com.example.taskmanagement.model.Task;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,9 +23,10 @@ import java.util.List;
  * </p>
  *
  * @see org.springframework.data.jpa.repository.JpaRepository
+ * @see CommentRepositoryCustom
  * @see com.example.taskmanagement.model.Comment
  */
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 
     /**
      * <p><b>Поиск Комментариев по ID Задачи</b></p>
@@ -55,24 +59,37 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     long countByAppUser(@NotNull AppUser appUser);
 
     /**
-     * <p><b>Поиск Комментариев по Ключевому Слову</b></p>
+     * <p><b>Пакетное Удаление Комментариев Задач</b></p>
      *
-     * @param keyword Подстрока для поиска в тексте комментария (без учета регистра).
-     * @return Список {@link Comment}, текст которых содержит указанное слово.
+     * <blockquote>
+     *     Один {@code DELETE} по индексу {@code (task_id, ...)} вместо загрузки коллекции
+     *     {@code Task.comments} и удаления комментариев по одному.
+     * </blockquote>
+     *
+     * @param taskIds ID задач.
+     * @return Количество удаленных комментариев.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.task.id IN :taskIds")
+    int deleteAllByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * <p><b>Идентификаторы Комментариев Пользователя (Порция)</b></p>
+     *
+     * @param userId ID автора комментариев.
+     * @param pageable Размер порции; страница всегда первая, так как обработанные комментарии удаляются.
+     * @return ID комментариев по возрастанию.
      */
-    List<Comment> findByTextContainingIgnoreCase(@NotNull String keyword);
+    @Query("SELECT c.id FROM Comment c WHERE c.appUser.id = :userId ORDER BY c.id")
+    List<Long> findIdsByAppUserId(@Param("userId") Long userId, Pageable pageable);
 
     /**
-     * <p><b>Поиск Комментариев по Id Пользователя (JPQL)</b></p>
-     * <p>
-     *     Находит все комментарии, оставленные пользователем с указанным id,
-     *     используя кастомный JPQL-запрос.
-     * </p>
+     * <p><b>Пакетное Удаление Комментариев</b></p>
      *
-     * @param taskId ID пользователя для поиска. Аннотация {@link Param @Param} связывает
-     *              этот параметр с именованным параметром {@code :email} в запросе.
-     * @return Список {@link Comment}, оставленных указанным пользователем.
+     * @param ids ID комментариев.
+     * @return Количество удаленных комментариев.
      */
-    @Query("SELECT c FROM Comment c JOIN FETCH c.appUser WHERE c.task.id = :taskId ORDER BY c.createdAt ASC")
-    List<Comment> findByTaskIdWithAuthor(@Param("taskId") Long taskId);
-}
\ No newline at end of file
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,55 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.dto.CommentCursor;
+import com.example.taskmanagement.dto.CommentDTO;
+import com.example.taskmanagement.model.Comment;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p><b>Кастомные Запросы для Сущности {@link Comment}</b></p>
+ *
+ * <p>
+ *     Фрагмент репозитория с запросами, которые нельзя выразить производными методами
+ *     Spring Data. Реализация: {@link CommentRepositoryImpl}.
+ * </p>
+ */
+public interface CommentRepositoryCustom {
+
+    /**
+     * <p><b>Страница Комментариев Задачи по Курсору</b></p>
+     *
+     * <p>
+     *     Один SQL-запрос проверяет существование задачи и читает не более {@code limit}
+     *     комментариев после {@code cursor} вместе с email автора. Условие
+     *     {@code (created_at, id) > / < (:createdAt, :id)} обслуживается индексом
+     *     {@code (task_id, created_at, id)} без сортировки и без {@code OFFSET}.
+     * </p>
+     *
+     * @param taskId Идентификатор задачи.
+     * @param cursor Позиция, после которой начинается страница; {@code null} — с начала ленты.
+     * @param newestFirst {@code true} — от новых к старым, {@code false} — от старых к новым.
+     * @param limit Максимальное число комментариев.
+     * @return Пустой {@link Optional}, если задачи нет; иначе комментарии страницы (возможно, пустой список).
+     */
+    Optional<List<CommentDTO>> findPageByTaskId(long taskId, CommentCursor cursor, boolean newestFirst, int limit);
+
+    /**
+     * <p><b>Поиск Комментариев по Подстроке</b></p>
+     *
+     * <p>
+     *     Регистронезависимый поиск подстроки в тексте комментария через триграммный индекс.
+     *     Результаты упорядочены от новых к старым ({@code id DESC}); следующая страница
+     *     запрашивается с {@code beforeId}, равным {@code id} последнего результата.
+     * </p>
+     *
+     * @param query Подстрока для поиска; символы {@code %} и {@code _} ищутся буквально.
+     * @param taskId Ограничить поиск задачей; {@code null} — все задачи.
+     * @param authorEmail Ограничить поиск автором; {@code null} — все авторы.
+     * @param beforeId Вернуть только комментарии с {@code id} меньше этого; {@code null} — с самых новых.
+     * @param limit Максимальное число результатов.
+     * @return Найденные комментарии (без {@code snippet}).
+     */
+    List<CommentDTO> search(String query, Long taskId, String authorEmail, Long beforeId, int limit);
+}
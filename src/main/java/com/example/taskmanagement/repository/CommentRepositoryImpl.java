@@ -0,0 +1,162 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.dto.CommentCursor;
+import com.example.taskmanagement.dto.CommentDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p><b>Реализация {@link CommentRepositoryCustom}</b></p>
+ *
+ * <p>
+ *     Нативный запрос PostgreSQL: строка задачи соединяется {@code LEFT JOIN LATERAL}
+ *     со страницей ее комментариев. Нет строки — нет задачи; одна строка с пустым
+ *     {@code id} комментария — задача есть, но страница пуста. Так проверка существования
+ *     и чтение страницы занимают один запрос.
+ * </p>
+ *
+ * <blockquote>
+ *     Условие по курсору и направление сортировки подставляются в текст запроса, а не
+ *     передаются параметрами: так у каждой из четырех форм свой план, использующий индекс
+ *     {@code ix_comments_task_created_at_id}.
+ * </blockquote>
+ *
+ * <p>
+ *     Поиск по тексту — {@code ILIKE '%запрос%'}: его обслуживает триграммный GIN-индекс
+ *     {@code ix_comments_text_trgm}. Выдача идет по {@code id DESC}: для частых слов планировщик
+ *     может пройти первичный ключ с конца и остановиться на {@code LIMIT}, для редких — взять
+ *     кандидатов из триграммного индекса.
+ * </p>
+ */
+class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    private static final String PAGE_SQL = """
+            SELECT t.id AS task_id, c.id AS id, c.text AS text, c.created_at AS created_at,
+                   c.updated_at AS updated_at, u.email AS author
+            FROM tasks t
+            LEFT JOIN LATERAL (
+                SELECT cm.id, cm.text, cm.created_at, cm.updated_at, cm.app_user_id
+                FROM comments cm
+                WHERE cm.task_id = t.id %1$s
+                ORDER BY cm.created_at %2$s, cm.id %2$s
+                LIMIT :limit
+            ) c ON TRUE
+            LEFT JOIN app_users u ON u.id = c.app_user_id
+            WHERE t.id = :taskId
+            ORDER BY c.created_at %2$s, c.id %2$s
+            """;
+
+    private static final String FIRST_OLDEST = PAGE_SQL.formatted("", "ASC");
+    private static final String NEXT_OLDEST = PAGE_SQL.formatted(
+            "AND (cm.created_at, cm.id) > (:createdAt, :commentId)", "ASC");
+    private static final String FIRST_NEWEST = PAGE_SQL.formatted("", "DESC");
+    private static final String NEXT_NEWEST = PAGE_SQL.formatted(
+            "AND (cm.created_at, cm.id) < (:createdAt, :commentId)", "DESC");
+
+    private static final String SEARCH_SQL = """
+            SELECT c.id AS id, c.task_id AS task_id, c.text AS text, c.created_at AS created_at,
+                   c.updated_at AS updated_at, u.email AS author
+            FROM comments c
+            JOIN app_users u ON u.id = c.app_user_id
+            WHERE c.text ILIKE :pattern ESCAPE '\\'
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<List<CommentDTO>> findPageByTaskId(long taskId, CommentCursor cursor, boolean newestFirst, int limit) {
+        String sql = cursor == null
+                ? (newestFirst ? FIRST_NEWEST : FIRST_OLDEST)
+                : (newestFirst ? NEXT_NEWEST : NEXT_OLDEST);
+
+        Query query = entityManager.createNativeQuery(sql, Tuple.class)
+                .setParameter("taskId", taskId)
+                .setParameter("limit", limit);
+        if (cursor != null) {
+            query.setParameter("createdAt", cursor.createdAt())
+                    .setParameter("commentId", cursor.id());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = query.getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<CommentDTO> comments = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Number id = row.get("id", Number.class);
+            if (id == null) {
+                continue;
+            }
+            comments.add(new CommentDTO(id.longValue(), taskId, row.get("text", String.class),
+                    row.get("author", String.class), toLocalDateTime(row.get("created_at")),
+                    toLocalDateTime(row.get("updated_at")), null));
+        }
+        return Optional.of(comments);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<CommentDTO> search(String query, Long taskId, String authorEmail, Long beforeId, int limit) {
+        StringBuilder sql = new StringBuilder(SEARCH_SQL);
+        if (taskId != null) {
+            sql.append(" AND c.task_id = :taskId");
+        }
+        if (authorEmail != null) {
+            sql.append(" AND u.email = :authorEmail");
+        }
+        if (beforeId != null) {
+            sql.append(" AND c.id < :beforeId");
+        }
+        sql.append(" ORDER BY c.id DESC LIMIT :limit");
+
+        Query nativeQuery = entityManager.createNativeQuery(sql.toString(), Tuple.class)
+                .setParameter("pattern", "%" + escapeLike(query) + "%")
+                .setParameter("limit", limit);
+        if (taskId != null) {
+            nativeQuery.setParameter("taskId", taskId);
+        }
+        if (authorEmail != null) {
+            nativeQuery.setParameter("authorEmail", authorEmail);
+        }
+        if (beforeId != null) {
+            nativeQuery.setParameter("beforeId", beforeId);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Tuple> rows = nativeQuery.getResultList();
+        List<CommentDTO> comments = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            comments.add(new CommentDTO(row.get("id", Number.class).longValue(), row.get("task_id", Number.class).longValue(),
+                    row.get("text", String.class), row.get("author", String.class),
+                    toLocalDateTime(row.get("created_at")), toLocalDateTime(row.get("updated_at")), null));
+        }
+        return comments;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
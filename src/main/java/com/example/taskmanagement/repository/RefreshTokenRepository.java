@@ -0,0 +1,96 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.model.RefreshToken;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * <p><b>Репозиторий для Сущности {@link RefreshToken}</b></p>
+ *
+ * <p>
+ *     Помимо поиска по хешу, содержит массовые {@code UPDATE}/{@code DELETE}-запросы,
+ *     которые выполняются одной SQL-командой без загрузки сущностей в контекст персистентности.
+ * </p>
+ *
+ * @see com.example.taskmanagement.service.RefreshTokenService
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * <p><b>Поиск Токена по Хешу (вместе с владельцем)</b></p>
+     *
+     * <blockquote>
+     *     <b>Оптимизация:</b> {@code JOIN FETCH} загружает пользователя в том же запросе,
+     *     поэтому обмен токена обходится одним индексным поиском по {@code token_hash}
+     *     без отдельного {@code SELECT} из {@code app_users}.
+     * </blockquote>
+     *
+     * @param tokenHash SHA-256 хеш предъявленного токена.
+     * @return {@link Optional} с токеном, если он существует.
+     */
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.appUser WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashWithUser(@NotNull @Param("tokenHash") String tokenHash);
+
+    /**
+     * <p><b>Атомарная Пометка Токена как Использованного</b></p>
+     *
+     * <p>
+     *     Условие {@code used = false} делает операцию "compare-and-set" на стороне базы:
+     *     из двух параллельных обменов одного токена обновит строку только один,
+     *     второй получит {@code 0} и будет считаться повторным использованием.
+     * </p>
+     *
+     * @param id ID токена.
+     * @return Количество обновленных строк ({@code 1} или {@code 0}).
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.used = true WHERE r.id = :id AND r.used = false AND r.revoked = false")
+    int markUsed(@Param("id") Long id);
+
+    /**
+     * <p><b>Отзыв Семейства Токенов</b></p>
+     *
+     * @param familyId Идентификатор семейства.
+     * @return Количество отозванных токенов.
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.familyId = :familyId AND r.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /**
+     * <p><b>Отзыв Всех Токенов Пользователя</b></p>
+     *
+     * @param userId ID пользователя.
+     * @return Количество отозванных токенов.
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.appUser.id = :userId AND r.revoked = false")
+    int revokeAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * <p><b>Удаление Всех Токенов Пользователя</b></p>
+     * <p>Вызывается перед удалением самого пользователя, чтобы не нарушить внешний ключ.</p>
+     *
+     * @param userId ID пользователя.
+     * @return Количество удаленных токенов.
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.appUser.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * <p><b>Удаление Истекших Токенов</b></p>
+     *
+     * @param now Текущий момент времени.
+     * @return Количество удаленных токенов.
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,46 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.model.RevokedToken;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * <p><b>Репозиторий для Сущности {@link RevokedToken}</b></p>
+ *
+ * @see com.example.taskmanagement.security.TokenDenylist
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * <p><b>Инкрементальная Выборка Отзывов</b></p>
+     *
+     * <p>
+     *     Возвращает действующие (еще не истекшие) записи, отозванные начиная с указанного момента.
+     *     При первом запуске узла вызывается с {@link Instant#EPOCH} и загружает весь актуальный список.
+     * </p>
+     *
+     * @param since Нижняя граница {@code revokedAt} (включительно).
+     * @param now   Текущий момент; истекшие записи не возвращаются.
+     * @return Список записей, упорядоченный по {@code revokedAt}.
+     */
+    @Query("SELECT r FROM RevokedToken r WHERE r.revokedAt >= :since AND r.expiresAt > :now ORDER BY r.revokedAt")
+    List<RevokedToken> findActiveRevokedSince(@NotNull @Param("since") Instant since, @NotNull @Param("now") Instant now);
+
+    /**
+     * <p><b>Удаление Истекших Записей</b></p>
+     *
+     * @param now Текущий момент.
+     * @return Количество удаленных записей.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -3,12 +3,19 @@ package com.example.taskmanagement.repository;
 import com.example.taskmanagement.model.AppUser;
 import com.example.taskmanagement.model.Status;
 import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.reminder.DueDateReminder;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,20 +32,80 @@ import java.util.List;
  *     полезно для реализации гибких фильтров и поиска по множеству критериев.
  * </blockquote>
  *
+ * <p>
+ *     Проекции на выбранные поля ({@code ?fields=}) реализованы во фрагменте {@link TaskRepositoryCustom}.
+ * </p>
+ *
+ * <p><b>Секционирование по {@code created_at}:</b></p>
+ * <ul>
+ *     <li>Отсечение секций возможно только по условию на {@code created_at}. Запросы по диапазону дат добавляют
+ *     такое условие, выведенное из инвариантов схемы: {@code created_at <= updated_at} (аудит) и
+ *     {@code due_date >= created_at::date} (ограничение {@code ck_tasks_due_date_not_before_created}).</li>
+ *     <li>{@link #findByDueDateBetween}, {@link #lockIdsToArchive} и {@link #findCreatedMonthsToArchive} читают
+ *     только секции, созданные до конца диапазона.</li>
+ *     <li>Запросы открытых задач по срокам около сегодняшнего дня ({@code /overdue}, {@code /due-soon},
+ *     напоминания) отсекли бы только будущие секции: кандидаты есть в каждом месяце. Они читают частичный индекс
+ *     {@code ix_tasks_open_due_date} в каждой секции.</li>
+ *     <li>Запросы по {@code id}, статусу и пользователю читают индекс каждой секции; число секций держит небольшим
+ *     {@code TaskPartitionService}, удаляя опустевшие прошлые месяцы.</li>
+ * </ul>
+ *
  * @see org.springframework.data.jpa.repository.JpaRepository
  * @see org.springframework.data.jpa.repository.JpaSpecificationExecutor
  * @see com.example.taskmanagement.model.Task
  */
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
+
+    /**
+     * Открытые статусы литералами — в том же виде, что и условие частичного индекса {@code ix_tasks_open_due_date}.
+     */
+    String OPEN_STATUS_CONDITION = "t.status IN (com.example.taskmanagement.model.Status.WAITING, "
+            + "com.example.taskmanagement.model.Status.IN_PROGRESS, com.example.taskmanagement.model.Status.ON_HOLD, "
+            + "com.example.taskmanagement.model.Status.IN_REVIEW)";
+
+    /**
+     * Порядок от {@code CRITICAL} к {@code LOWEST}; приоритет хранится строкой, и сортировка по колонке была бы алфавитной.
+     */
+    String PRIORITY_RANK = "CASE t.priority WHEN com.example.taskmanagement.model.Priority.CRITICAL THEN 0 "
+            + "WHEN com.example.taskmanagement.model.Priority.HIGH THEN 1 "
+            + "WHEN com.example.taskmanagement.model.Priority.MEDIUM THEN 2 "
+            + "WHEN com.example.taskmanagement.model.Priority.LOW THEN 3 ELSE 4 END";
+
+    String URGENT_SELECT = "SELECT t FROM Task t JOIN FETCH t.author LEFT JOIN FETCH t.executor WHERE " + OPEN_STATUS_CONDITION;
+
+    String URGENT_ORDER = " ORDER BY " + PRIORITY_RANK + ", t.dueDate, t.id";
+
+    String USER_SCOPE = " AND (t.author.id = :userId OR t.executor.id = :userId)";
+
+    String URGENT_COUNT = "SELECT COUNT(t) FROM Task t WHERE " + OPEN_STATUS_CONDITION;
+
 
     /**
      * <p><b>Поиск Задач по Диапазону Дат Выполнения</b></p>
      *
+     * <blockquote>
+     *     Срок не раньше дня создания, поэтому задачи диапазона созданы до {@code endDate + 1 день}:
+     *     это условие отсекает секции {@code tasks}, созданные позже конца диапазона.
+     * </blockquote>
+     *
      * @param startDate Начальная дата поиска (включительно).
      * @param endDate   Конечная дата поиска (включительно).
      * @return Список задач {@link Task}, у которых {@code dueDate} попадает в указанный диапазон.
      */
-    List<Task> findByDueDateBetween(@NotNull LocalDate startDate, @NotNull LocalDate endDate);
+    default List<Task> findByDueDateBetween(@NotNull LocalDate startDate, @NotNull LocalDate endDate) {
+        return findByDueDateBetweenAndCreatedAtBefore(startDate, endDate, endDate.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * <p><b>Поиск Задач по Диапазону Дат Выполнения и Границе Создания</b></p>
+     *
+     * @param startDate Начальная дата поиска (включительно).
+     * @param endDate Конечная дата поиска (включительно).
+     * @param createdBefore Задачи созданы раньше этого момента (ключ секционирования).
+     * @return Задачи диапазона.
+     */
+    List<Task> findByDueDateBetweenAndCreatedAtBefore(@NotNull LocalDate startDate, @NotNull LocalDate endDate,
+                                                      @NotNull LocalDateTime createdBefore);
 
     /**
      * <p><b>Поиск Задач по Автору или Исполнителю</b></p>
@@ -94,4 +161,215 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
      */
     @Query("SELECT t FROM Task t LEFT JOIN FETCH t.comments")
     List<Task> findAllWithComments();
-}
\ No newline at end of file
+
+    /**
+     * <p><b>Идентификаторы Задач Автора (Порция)</b></p>
+     *
+     * @param authorId ID автора.
+     * @param pageable Размер порции; страница всегда первая, так как обработанные задачи удаляются.
+     * @return ID задач автора по возрастанию.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.author.id = :authorId ORDER BY t.id")
+    List<Long> findIdsByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
+
+    /**
+     * <p><b>Идентификаторы Задач Исполнителя (Порция)</b></p>
+     *
+     * @param executorId ID исполнителя.
+     * @param pageable Размер порции; страница всегда первая, так как у обработанных задач исполнитель снимается.
+     * @return ID задач исполнителя по возрастанию.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.executor.id = :executorId ORDER BY t.id")
+    List<Long> findIdsByExecutorId(@Param("executorId") Long executorId, Pageable pageable);
+
+    /**
+     * <p><b>Пакетное Удаление Задач</b></p>
+     *
+     * <blockquote>
+     *     Один {@code DELETE ... WHERE id IN (...)} вместо загрузки и удаления каждой сущности.
+     *     Комментарии задач должны быть удалены до вызова ({@link CommentRepository#deleteAllByTaskIdIn}).
+     *     Контекст персистентности сбрасывается до и очищается после запроса, чтобы в нем
+     *     не остались удаленные сущности.
+     * </blockquote>
+     *
+     * @param ids ID задач.
+     * @return Количество удаленных задач.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * <p><b>Пакетное Снятие Исполнителя</b></p>
+     *
+     * @param ids ID задач.
+     * @return Количество обновленных задач.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.executor = null, t.updatedAt = CURRENT_TIMESTAMP WHERE t.id IN :ids")
+    int clearExecutorByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * <p><b>Идентификаторы Задач для Архивации (Порция)</b></p>
+     *
+     * <blockquote>
+     *     {@code FOR UPDATE SKIP LOCKED} блокирует выбранные строки до конца транзакции архивации:
+     *     параллельное изменение задачи дождется переноса, а второй узел, запустивший то же задание,
+     *     возьмет другую порцию вместо ожидания. Условие {@code created_at < :updatedBefore} следует из
+     *     {@code created_at <= updated_at} и отсекает секции последних месяцев.
+     * </blockquote>
+     *
+     * @param statuses Имена завершающих статусов.
+     * @param updatedBefore Задача не изменялась с этого момента.
+     * @param limit Размер порции.
+     * @return ID задач по возрастанию.
+     */
+    @Query(value = """
+            SELECT t.id FROM tasks t
+            WHERE t.status IN (:statuses) AND t.updated_at < :updatedBefore AND t.created_at < :updatedBefore
+            ORDER BY t.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> lockIdsToArchive(@Param("statuses") Collection<String> statuses,
+                                @Param("updatedBefore") LocalDateTime updatedBefore,
+                                @Param("limit") int limit);
+
+    /**
+     * <p><b>Месяцы Создания Задач для Архивации</b></p>
+     *
+     * <p>
+     *     Нужны до начала переноса, чтобы заранее создать секции архива для всех месяцев,
+     *     в которые попадут задачи. Условие на {@code createdAt} отсекает секции, как в {@link #lockIdsToArchive}.
+     * </p>
+     *
+     * @param statuses Завершающие статусы.
+     * @param updatedBefore Задача не изменялась с этого момента.
+     * @return Месяцы в виде {@code yyyyMM} (например, {@code 202403}).
+     */
+    @Query("SELECT DISTINCT YEAR(t.createdAt) * 100 + MONTH(t.createdAt) FROM Task t "
+            + "WHERE t.status IN :statuses AND t.updatedAt < :updatedBefore AND t.createdAt < :updatedBefore")
+    List<Integer> findCreatedMonthsToArchive(@Param("statuses") Collection<Status> statuses,
+                                             @Param("updatedBefore") LocalDateTime updatedBefore);
+
+    /**
+     * <p><b>Напоминания по Срокам в Диапазоне</b></p>
+     *
+     * <p>
+     *     Открытые задачи с исполнителем и сроком в {@code [from, to]}. Диапазон читается
+     *     по частичному индексу {@code ix_tasks_open_due_date}; строки проецируются прямо в {@link DueDateReminder}.
+     * </p>
+     *
+     * @param from Начало диапазона сроков (включительно).
+     * @param to Конец диапазона сроков (включительно).
+     * @return Напоминания по задачам диапазона.
+     */
+    @Query("SELECT new com.example.taskmanagement.reminder.DueDateReminder(t.id, t.title, e.email, t.dueDate) "
+            + "FROM Task t JOIN t.executor e "
+            + "WHERE " + OPEN_STATUS_CONDITION + " AND t.dueDate BETWEEN :from AND :to")
+    List<DueDateReminder> findDueReminders(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * <p><b>Просроченные Открытые Задачи</b></p>
+     *
+     * <p>
+     *     Один запрос по частичному индексу {@code ix_tasks_open_due_date} с автором и исполнителем
+     *     в том же {@code JOIN}. {@link Slice} читает на строку больше страницы вместо {@code COUNT(*)}.
+     * </p>
+     *
+     * @param today Текущая дата; просрочены задачи со сроком раньше нее.
+     * @param pageable Номер и размер страницы (без сортировки — порядок задан запросом).
+     * @return Страница задач по убыванию приоритета, затем по сроку.
+     */
+    @Query(URGENT_SELECT + " AND t.dueDate < :today" + URGENT_ORDER)
+    Slice<Task> findOverdue(@Param("today") LocalDate today, Pageable pageable);
+
+    /**
+     * <p><b>Просроченные Открытые Задачи Пользователя</b></p>
+     *
+     * @param today Текущая дата.
+     * @param userId ID пользователя — автора или исполнителя.
+     * @param pageable Номер и размер страницы.
+     * @return Страница задач по убыванию приоритета, затем по сроку.
+     */
+    @Query(URGENT_SELECT + " AND t.dueDate < :today" + USER_SCOPE + URGENT_ORDER)
+    Slice<Task> findOverdueForUser(@Param("today") LocalDate today, @Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * <p><b>Открытые Задачи со Сроком в Диапазоне</b></p>
+     *
+     * @param from Начало диапазона (включительно).
+     * @param to Конец диапазона (включительно).
+     * @param pageable Номер и размер страницы.
+     * @return Страница задач по убыванию приоритета, затем по сроку.
+     */
+    @Query(URGENT_SELECT + " AND t.dueDate BETWEEN :from AND :to" + URGENT_ORDER)
+    Slice<Task> findDueBetween(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    /**
+     * <p><b>Открытые Задачи Пользователя со Сроком в Диапазоне</b></p>
+     *
+     * @param from Начало диапазона (включительно).
+     * @param to Конец диапазона (включительно).
+     * @param userId ID пользователя — автора или исполнителя.
+     * @param pageable Номер и размер страницы.
+     * @return Страница задач по убыванию приоритета, затем по сроку.
+     */
+    @Query(URGENT_SELECT + " AND t.dueDate BETWEEN :from AND :to" + USER_SCOPE + URGENT_ORDER)
+    Slice<Task> findDueBetweenForUser(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                      @Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * <p><b>Задачи по Списку ID</b></p>
+     *
+     * <p>
+     *     Один запрос по первичному ключу с автором и исполнителем в том же {@code JOIN}: так читаются
+     *     задачи, найденные в памяти ({@code ColumnarTaskIndex}).
+     * </p>
+     *
+     * @param ids ID задач.
+     * @return Найденные задачи по возрастанию ID; отсутствующие ID пропускаются.
+     */
+    @Query("SELECT t FROM Task t JOIN FETCH t.author LEFT JOIN FETCH t.executor WHERE t.id IN :ids ORDER BY t.id")
+    List<Task> findAllWithUsersByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * <p><b>Число Просроченных Открытых Задач</b></p>
+     *
+     * @param today Текущая дата.
+     * @return Число задач, которое вернули бы все страницы {@link #findOverdue}.
+     */
+    @Query(URGENT_COUNT + " AND t.dueDate < :today")
+    long countOverdue(@Param("today") LocalDate today);
+
+    /**
+     * <p><b>Число Просроченных Открытых Задач Пользователя</b></p>
+     *
+     * @param today Текущая дата.
+     * @param userId ID пользователя — автора или исполнителя.
+     * @return Число задач.
+     */
+    @Query(URGENT_COUNT + " AND t.dueDate < :today" + USER_SCOPE)
+    long countOverdueForUser(@Param("today") LocalDate today, @Param("userId") Long userId);
+
+    /**
+     * <p><b>Число Открытых Задач со Сроком в Диапазоне</b></p>
+     *
+     * @param from Начало диапазона (включительно).
+     * @param to Конец диапазона (включительно).
+     * @return Число задач.
+     */
+    @Query(URGENT_COUNT + " AND t.dueDate BETWEEN :from AND :to")
+    long countDueBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * <p><b>Число Открытых Задач Пользователя со Сроком в Диапазоне</b></p>
+     *
+     * @param from Начало диапазона (включительно).
+     * @param to Конец диапазона (включительно).
+     * @param userId ID пользователя — автора или исполнителя.
+     * @return Число задач.
+     */
+    @Query(URGENT_COUNT + " AND t.dueDate BETWEEN :from AND :to" + USER_SCOPE)
+    long countDueBetweenForUser(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("userId") Long userId);
+}
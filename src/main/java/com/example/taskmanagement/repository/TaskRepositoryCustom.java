@@ -0,0 +1,53 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.dto.TaskDTO;
+import com.example.taskmanagement.dto.TaskFieldSelection;
+import com.example.taskmanagement.model.Status;
+import com.example.taskmanagement.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p><b>Кастомные Запросы для Сущности {@link Task}</b></p>
+ *
+ * <p>
+ *     Фрагмент репозитория с запросами, которые нельзя выразить производными методами
+ *     Spring Data. Реализация: {@link TaskRepositoryImpl}.
+ * </p>
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * <p><b>Проекция Задач на Выбранные Поля</b></p>
+     *
+     * <p>
+     *     Выбирает из базы только колонки запрошенных полей. Соединение с {@code app_users}
+     *     добавляется, только если запрошены {@code author} или {@code executor}.
+     * </p>
+     *
+     * @param spec Условие отбора; {@code null} — все задачи.
+     * @param selection Набор полей.
+     * @return DTO, в которых заполнены только выбранные поля.
+     */
+    List<TaskDTO> findProjected(Specification<Task> spec, TaskFieldSelection selection);
+
+    /**
+     * <p><b>ID Задач по Условию</b></p>
+     *
+     * @param spec Условие отбора; {@code null} — все задачи.
+     * @return ID по возрастанию.
+     */
+    List<Long> findIds(Specification<Task> spec);
+
+    /**
+     * <p><b>Число Задач по Статусам</b></p>
+     *
+     * <p>Один запрос с {@code GROUP BY status}; статусы без задач в результат не попадают.</p>
+     *
+     * @param spec Условие отбора; {@code null} — все задачи.
+     * @return Число задач для каждого встреченного статуса.
+     */
+    Map<Status, Long> countByStatus(Specification<Task> spec);
+}
@@ -0,0 +1,123 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.dto.TaskDTO;
+import com.example.taskmanagement.dto.TaskField;
+import com.example.taskmanagement.dto.TaskFieldSelection;
+import com.example.taskmanagement.model.AppUser;
+import com.example.taskmanagement.model.Status;
+import com.example.taskmanagement.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p><b>Реализация {@link TaskRepositoryCustom}</b></p>
+ *
+ * <p>
+ *     Строит Criteria-запрос с {@code multiselect} только по выбранным полям, поэтому
+ *     в SQL попадают лишь нужные колонки. Пользователи присоединяются явным {@code LEFT JOIN}
+ *     и только тогда, когда в ответе нужен их email.
+ * </p>
+ */
+class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TaskDTO> findProjected(Specification<Task> spec, TaskFieldSelection selection) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+
+        Set<TaskField> fields = selection.fields();
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (TaskField field : fields) {
+            if (field.isUserReference()) {
+                Join<Task, AppUser> user = root.join(field.attribute(), JoinType.LEFT);
+                selections.add(user.get("email").alias(field.jsonName()));
+            } else {
+                selections.add(root.get(field.attribute()).alias(field.jsonName()));
+            }
+        }
+        query.multiselect(selections);
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        List<Tuple> rows = entityManager.createQuery(query).getResultList();
+        List<TaskDTO> result = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            TaskDTO dto = new TaskDTO();
+            for (TaskField field : fields) {
+                field.apply(dto, row.get(field.jsonName()));
+            }
+            result.add(dto);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> findIds(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(root.get("id"));
+        where(query, root, cb, spec);
+        query.orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Status, Long> countByStatus(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        query.multiselect(root.get("status"), cb.count(root));
+        where(query, root, cb, spec);
+        query.groupBy(root.get("status"));
+
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            counts.put(row.get(0, Status.class), row.get(1, Long.class));
+        }
+        return counts;
+    }
+
+    private static void where(CriteriaQuery<?> query, Root<Task> root, CriteriaBuilder cb, Specification<Task> spec) {
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+    }
+}
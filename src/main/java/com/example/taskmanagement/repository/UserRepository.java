@@ -3,7 +3,11 @@ package com.example.taskmanagement.repository;
 import com.example.taskmanagement.model.AppUser;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -58,4 +62,13 @@ public interface UserRepository extends JpaRepository<AppUser, Long> {
      * @return {@code true}, если пользователь существует, иначе {@code false}.
      */
     boolean existsByEmail(@NotNull String email);
-}
\ No newline at end of file
+
+    /**
+     * <p><b>ID Пользователей по Списку Email</b></p>
+     *
+     * @param emails Email пользователей.
+     * @return ID найденных пользователей; неизвестные email пропускаются.
+     */
+    @Query("SELECT u.id FROM AppUser u WHERE u.email IN :emails")
+    List<Long> findIdsByEmailIn(@Param("emails") Collection<String> emails);
+}
@@ -0,0 +1,63 @@
+package com.example.taskmanagement.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * <p><b>Калибровка Стоимости BCrypt ⏱️</b></p>
+ *
+ * <p>
+ *     Подбирает work factor (strength) BCrypt под целевое время хеширования на
+ *     текущем железе. Каждое увеличение strength на единицу удваивает стоимость,
+ *     поэтому достаточно один раз измерить хеширование на минимальной силе и
+ *     экстраполировать.
+ * </p>
+ *
+ * <blockquote>
+ *     Итоговое значение ограничено снизу {@code minStrength}, чтобы слабое или
+ *     перегруженное при старте железо не понизило стойкость хешей ниже допустимой.
+ * </blockquote>
+ */
+@Slf4j
+public final class BCryptCostCalibrator {
+
+    private static final int SAMPLES = 5;
+    private static final String PROBE_PASSWORD = "calibration-probe-password";
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * <p><b>Подбор силы BCrypt</b></p>
+     *
+     * @param targetMillis Целевое время одного хеширования в миллисекундах.
+     * @param minStrength Минимально допустимая сила.
+     * @param maxStrength Максимально допустимая сила.
+     * @return Наибольшая сила из диапазона, при которой оценка времени не превышает цель.
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode(PROBE_PASSWORD);
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            probe.encode(PROBE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        double baseMillis = samples[SAMPLES / 2] / 1_000_000.0;
+
+        int strength = minStrength;
+        while (strength < maxStrength && baseMillis * (1L << (strength + 1 - minStrength)) <= targetMillis) {
+            strength++;
+        }
+
+        log.info("🔐 Калибровка BCrypt: strength={} (≈{} мс на хеш, цель {} мс, замер на strength={}: {} мс).",
+                strength, Math.round(baseMillis * (1L << (strength - minStrength))), targetMillis,
+                minStrength, String.format("%.1f", baseMillis));
+        return strength;
+    }
+}
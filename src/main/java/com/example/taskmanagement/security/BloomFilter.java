@@ -0,0 +1,93 @@
+package com.example.taskmanagement.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p><b>Фильтр Блума без Блокировок 🌸</b></p>
+ *
+ * <p>
+ *     Вероятностное множество строк: {@link #mightContain(String)} никогда не дает ложноотрицательных
+ *     ответов и дает ложноположительные с заданной вероятностью. Биты хранятся в {@link AtomicLongArray},
+ *     поэтому чтение и запись безопасны из любых потоков без блокировок.
+ * </p>
+ *
+ * <blockquote>
+ *     Удаление элементов не поддерживается: для исключения истекших записей владелец
+ *     строит новый фильтр и атомарно подменяет ссылку.
+ * </blockquote>
+ */
+final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final int capacity;
+
+    /**
+     * @param expectedInsertions Ожидаемое количество элементов.
+     * @param falsePositiveRate Допустимая доля ложноположительных ответов при заполнении до {@code expectedInsertions}.
+     */
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        this.capacity = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2));
+        this.words = new AtomicLongArray((int) Math.max(1, (bits + 63) >>> 6));
+        this.bitCount = (long) words.length() << 6;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / capacity * LN2));
+    }
+
+    /**
+     * @return Количество элементов, на которое рассчитан фильтр.
+     */
+    int capacity() {
+        return capacity;
+    }
+
+    void put(String value) {
+        long hash = hash64(value);
+        long h1 = hash;
+        long h2 = Long.rotateLeft(hash, 32) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(index);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(index, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash64(value);
+        long h1 = hash;
+        long h2 = Long.rotateLeft(hash, 32) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * FNV-1a по байтам UTF-8 с финальным перемешиванием (splitmix64), чтобы
+     * старшие и младшие половины хеша были независимы для двойного хеширования.
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
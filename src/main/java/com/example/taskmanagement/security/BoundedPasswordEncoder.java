@@ -0,0 +1,127 @@
+package com.example.taskmanagement.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p><b>Кодировщик Паролей с Ограниченным Пулом Хеширования 🧮</b></p>
+ *
+ * <p>
+ *     Декоратор над {@link PasswordEncoder}, который выполняет дорогие операции
+ *     {@code encode} и {@code matches} на выделенном пуле потоков фиксированного размера
+ *     с ограниченной очередью. Так всплеск логинов или регистраций занимает не больше
+ *     {@code threads} ядер, а остальные эндпоинты сохраняют свое время ответа.
+ * </p>
+ *
+ * <p><b>Обратное давление:</b></p>
+ * <ul>
+ *     <li>Если очередь заполнена, запрос сразу отклоняется {@link PasswordHashingRejectedException}
+ *     (503 с {@code Retry-After}), не занимая поток Tomcat ожиданием.</li>
+ *     <li>Если задача не успела выполниться за {@code waitTimeoutMillis}, она отменяется
+ *     и клиент получает тот же ответ 503.</li>
+ * </ul>
+ *
+ * <p>
+ *     {@link #upgradeEncoding(String)} делегируется без пула: это разбор префикса хеша,
+ *     а не вычисление BCrypt.
+ * </p>
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+
+    /**
+     * @param delegate Реальный кодировщик (BCrypt с откалиброванной силой).
+     * @param threads Количество потоков хеширования.
+     * @param queueCapacity Максимальное число операций, ожидающих свободный поток.
+     * @param waitTimeoutMillis Максимальное время ожидания результата вызывающим потоком.
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long waitTimeoutMillis) {
+        this.delegate = delegate;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * <p><b>Текущая глубина очереди</b></p>
+     *
+     * @return Количество операций хеширования, ожидающих свободный поток.
+     */
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> operation) {
+        Future<T> future;
+        try {
+            future = executor.submit(operation);
+        } catch (RejectedExecutionException e) {
+            log.warn("🚦 Пул хеширования паролей перегружен (очередь: {}), запрос отклонен.", executor.getQueue().size());
+            throw new PasswordHashingRejectedException();
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("⏳ Хеширование пароля не завершилось за {} мс, запрос отклонен.", waitTimeoutMillis);
+            throw new PasswordHashingRejectedException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Ошибка хеширования пароля", e.getCause());
+        }
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.taskmanagement.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p><b>Ограничитель Частоты по Алгоритму GCRA ⏱️</b></p>
+ *
+ * <p>
+ *     Реализация token bucket в форме Generic Cell Rate Algorithm: состояние ключа — одно число,
+ *     теоретическое время прибытия следующего запроса (TAT), хранящееся в {@link AtomicLong}.
+ *     Проверка — это одно чтение и один {@code compareAndSet}, без блокировок и без фоновых
+ *     "пополнений" корзин.
+ * </p>
+ *
+ * <ul>
+ *     <li>Интервал между запросами: {@code T = 1 / requestsPerSecond}.</li>
+ *     <li>Допуск всплеска: {@code tau = T * (burst - 1)} — столько запросов можно сделать подряд.</li>
+ *     <li>Запрос разрешен, если {@code max(TAT, now) - now <= tau}; тогда {@code TAT = max(TAT, now) + T}.</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     Ключи разных пользователей живут в разных {@link AtomicLong}, поэтому ядра, обслуживающие
+ *     разных клиентов, не конкурируют за одну кэш-линию. Корзина с {@code TAT <= now} полна и
+ *     неотличима от новой — такие ключи удаляются {@link #evictIdle(long)}.
+ * </blockquote>
+ */
+final class GcraRateLimiter {
+
+    /**
+     * Общий ключ для новых клиентов, когда число отслеживаемых ключей достигло предела.
+     */
+    static final String OVERFLOW_KEY = "overflow";
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final int maxKeys;
+
+    /**
+     * @param requestsPerSecond Устойчивая частота запросов на ключ.
+     * @param burst Максимальное число запросов подряд.
+     * @param maxKeys Максимальное число отслеживаемых ключей.
+     */
+    GcraRateLimiter(double requestsPerSecond, int burst, int maxKeys) {
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        this.toleranceNanos = emissionIntervalNanos * Math.max(0, burst - 1);
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * <p><b>Попытка пропустить запрос</b></p>
+     *
+     * @param key Ключ клиента (пользователь или IP).
+     * @param now Текущее значение {@link System#nanoTime()}.
+     * @return {@code 0}, если запрос разрешен, иначе время в наносекундах до следующего разрешенного запроса.
+     */
+    long tryAcquire(String key, long now) {
+        AtomicLong bucket = bucketFor(key, now);
+        while (true) {
+            long tat = bucket.get();
+            long start = tat - now > 0 ? tat : now;
+            long ahead = start - now;
+            if (ahead > toleranceNanos) {
+                return ahead - toleranceNanos;
+            }
+            if (bucket.compareAndSet(tat, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * <p><b>Удаление простаивающих ключей</b></p>
+     *
+     * @param now Текущее значение {@link System#nanoTime()}.
+     * @return Количество оставшихся ключей.
+     */
+    int evictIdle(long now) {
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+        return buckets.size();
+    }
+
+    private AtomicLong bucketFor(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        String effectiveKey = buckets.size() >= maxKeys ? OVERFLOW_KEY : key;
+        AtomicLong created = new AtomicLong(now);
+        AtomicLong existing = buckets.putIfAbsent(effectiveKey, created);
+        return existing != null ? existing : created;
+    }
+}
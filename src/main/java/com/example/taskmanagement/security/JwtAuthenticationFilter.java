@@ -1,7 +1,9 @@
 package com.example.taskmanagement.security;
 
 import com.example.taskmanagement.config.UserDetail;
+import com.example.taskmanagement.monitoring.RequestTrace;
 import com.example.taskmanagement.service.UserDetailService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,9 +32,14 @@ import java.io.IOException;
  * <p><b>Алгоритм работы:</b></p>
  * <ol>
  *     <li>Извлекает токен из заголовка {@code Authorization: Bearer <token>}.</li>
- *     <li>Если токен найден, валидирует его с помощью {@link JwtTokenProvider}.</li>
- *     <li>Извлекает email пользователя из валидного токена.</li>
- *     <li>Загружает данные пользователя ({@link UserDetail}) из базы данных через {@link UserDetailService}.</li>
+ *     <li>Если токен найден, валидирует его и извлекает claims за один разбор с помощью {@link JwtTokenProvider}
+ *     (или берет claims, уже разобранные {@link RateLimitFilter}).</li>
+ *     <li>Проверяет {@code jti} по списку отзыва в памяти ({@link TokenDenylist}) — без обращения к базе.</li>
+ *     <li>Извлекает email пользователя из claims и сохраняет claims в атрибуте запроса
+ *     {@link #CLAIMS_ATTRIBUTE} для последующих компонентов (например, выхода из системы).</li>
+ *     <li>Загружает данные пользователя ({@link UserDetail}) из базы данных через {@link UserDetailService}.
+ *     Токены заблокированной (например, удаляемой) или отключенной учетной записи не принимаются, даже если
+ *     еще не истекли.</li>
  *     <li>Создает объект аутентификации ({@link JwtAuthenticationToken}) и помещает его
  *     в {@link SecurityContextHolder}.</li>
  * </ol>
@@ -51,8 +58,14 @@ import java.io.IOException;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * Имя атрибута запроса, в котором хранятся {@link Claims} проверенного access токена.
+     */
+    public static final String CLAIMS_ATTRIBUTE = "com.example.taskmanagement.security.JwtAuthenticationFilter.CLAIMS";
+
     private final JwtTokenProvider tokenProvider;
     private final UserDetailService userDetailsService;
+    private final TokenDenylist tokenDenylist;
 
     /**
      * <p><b>Основная Логика Фильтрации</b></p>
@@ -72,27 +85,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
 
+        long authenticationStarted = RequestTrace.start();
         try {
-            String token = getJwtFromRequest(request);
+            Claims claims = (Claims) request.getAttribute(CLAIMS_ATTRIBUTE);
+            if (claims == null) {
+                String token = getJwtFromRequest(request);
+                claims = StringUtils.hasText(token) ? tokenProvider.parseClaims(token) : null;
+            }
 
-            if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
-                String email = tokenProvider.getEmailFromJWT(token);
+            if (claims != null && tokenDenylist.isRevoked(claims.getId())) {
+                request.removeAttribute(CLAIMS_ATTRIBUTE);
+                log.debug("🚫 Отклонен отозванный токен {} пользователя '{}'.", claims.getId(), claims.getSubject());
+            } else if (claims != null) {
+                String email = claims.getSubject();
+                request.setAttribute(CLAIMS_ATTRIBUTE, claims);
 
                 if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                    long userLoadingStarted = RequestTrace.start();
                     UserDetail userDetails = (UserDetail) userDetailsService.loadUserByUsername(email);
+                    RequestTrace.stop(RequestTrace.Phase.USER_LOADING, userLoadingStarted);
 
-                    JwtAuthenticationToken authentication = new JwtAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities()
-                    );
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    if (!userDetails.isAccountNonLocked() || !userDetails.isEnabled()) {
+                        request.removeAttribute(CLAIMS_ATTRIBUTE);
+                        log.debug("🔒 Отклонен токен заблокированного или отключенного пользователя '{}'.", email);
+                    } else {
+                        JwtAuthenticationToken authentication = new JwtAuthenticationToken(
+                                userDetails, null, userDetails.getAuthorities()
+                        );
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("Пользователь '{}' успешно аутентифицирован по JWT.", email);
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        log.debug("Пользователь '{}' успешно аутентифицирован по JWT.", email);
+                    }
                 }
             }
         } catch (Exception ex) {
             log.warn("Не удалось установить аутентификацию пользователя в контексте безопасности: {}", ex.getMessage());
         }
+        RequestTrace.stop(RequestTrace.Phase.AUTHENTICATION, authenticationStarted);
 
         filterChain.doFilter(request, response);
     }
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * <p><b>Провайдер JWT Токенов</b></p>
@@ -24,6 +25,11 @@ import java.util.Date;
  *     <li><b>Парсинг:</b> Извлечение данных (claims), таких как email, из строки токена.</li>
  *     <li><b>Валидация:</b> Проверка подлинности и срока действия токена.</li>
  * </ul>
+ *
+ * <p>
+ *     Каждый токен получает уникальный идентификатор ({@code jti}), по которому его можно
+ *     отозвать до истечения срока через {@link TokenDenylist}.
+ * </p>
  */
 @Component
 @Slf4j
@@ -38,17 +44,21 @@ public class JwtTokenProvider {
 
     private SecretKey jwtSecretKey;
 
+    private JwtParser jwtParser;
+
     /**
      * <p><b>Инициализация Секретного Ключа</b></p>
      * <p>
      *     Метод, который вызывается после внедрения зависимостей. Он преобразует
      *     строковый секрет из конфигурации в криптографически безопасный
-     *     объект {@link SecretKey} для подписи и проверки токенов.
+     *     объект {@link SecretKey} для подписи и проверки токенов, а также создает
+     *     потокобезопасный {@link JwtParser}, который переиспользуется всеми запросами.
      * </p>
      */
     @PostConstruct
     protected void init() {
         this.jwtSecretKey = Keys.hmacShaKeyFor(jwtSecretString.getBytes());
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(jwtSecretKey).build();
     }
 
     /**
@@ -62,6 +72,7 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(email)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
@@ -76,38 +87,47 @@ public class JwtTokenProvider {
      * @return Email пользователя (subject из claims).
      */
     public String getEmailFromJWT(@NotNull String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(jwtSecretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+        return jwtParser.parseClaimsJws(token).getBody().getSubject();
     }
 
     /**
-     * <p><b>Валидация Токена</b></p>
+     * <p><b>Разбор и Проверка Токена за Один Проход</b></p>
      * <p>
-     *     Проверяет, является ли токен валидным: корректно ли он подписан
-     *     и не истек ли его срок действия.
+     *     Проверяет подпись и срок действия и сразу возвращает claims, чтобы вызывающему
+     *     коду не приходилось разбирать токен повторно ради email или {@code jti}.
      * </p>
      *
      * @param token JWT в виде строки.
-     * @return {@code true}, если токен валиден, иначе {@code false}.
+     * @return {@link Claims} валидного токена или {@code null}, если токен невалиден.
      */
-    public boolean validateToken(@NotNull String token) {
+    public Claims parseClaims(@NotNull String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(jwtSecretKey).build().parseClaimsJws(token);
-            return true;
-        } catch (MalformedJwtException ex) {
-            log.error("Некорректная структура JWT токена: {}", ex.getMessage());
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException ex) {
             log.warn("Срок действия JWT токена истек: {}", ex.getMessage());
+        } catch (MalformedJwtException ex) {
+            log.error("Некорректная структура JWT токена: {}", ex.getMessage());
         } catch (UnsupportedJwtException ex) {
             log.error("Неподдерживаемый формат JWT токена: {}", ex.getMessage());
+        } catch (JwtException ex) {
+            log.error("Подпись JWT токена не прошла проверку: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
             log.error("Пустая или некорректная строка JWT токена: {}", ex.getMessage());
         }
-        return false;
+        return null;
+    }
+
+    /**
+     * <p><b>Валидация Токена</b></p>
+     * <p>
+     *     Проверяет, является ли токен валидным: корректно ли он подписан
+     *     и не истек ли его срок действия.
+     * </p>
+     *
+     * @param token JWT в виде строки.
+     * @return {@code true}, если токен валиден, иначе {@code false}.
+     */
+    public boolean validateToken(@NotNull String token) {
+        return parseClaims(token) != null;
     }
 }
\ No newline at end of file
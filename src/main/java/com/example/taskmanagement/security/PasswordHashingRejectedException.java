@@ -0,0 +1,39 @@
+package com.example.taskmanagement.security;
+
+import com.example.taskmanagement.exception.BusinessException;
+import com.example.taskmanagement.exception.ErrorCode;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * <p><b>Отказ из-за Перегрузки Пула Хеширования 🚦</b></p>
+ *
+ * <p>
+ *     Бросается {@link BoundedPasswordEncoder}, когда очередь хеширования заполнена
+ *     или ожидание превысило допустимое время. Превращается в ответ
+ *     <b>503 Service Unavailable</b> (код {@code AUTH-002}) с заголовком {@code Retry-After}.
+ * </p>
+ *
+ * <blockquote>
+ *     Намеренно не является {@code AuthenticationException}: перегрузка — это не
+ *     неверные учетные данные, и {@code ProviderManager} не должен превращать ее в 401.
+ * </blockquote>
+ */
+public class PasswordHashingRejectedException extends BusinessException {
+
+    private static final HttpHeaders RETRY_AFTER_HEADERS;
+
+    static {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        RETRY_AFTER_HEADERS = HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+    public PasswordHashingRejectedException() {
+        super(ErrorCode.PASSWORD_HASHING_OVERLOADED);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return RETRY_AFTER_HEADERS;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.taskmanagement.security;
+
+import com.example.taskmanagement.exception.ErrorCode;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p><b>Фильтр Ограничения Частоты Запросов 🚦</b></p>
+ *
+ * <p>
+ *     Стоит в цепочке безопасности перед {@link JwtAuthenticationFilter} и отсекает клиента,
+ *     превысившего квоту, до любых обращений к базе. Один скрипт, крутящий в цикле
+ *     {@code /api/tasks/getAll} или {@code /api/users/login}, больше не может занять весь пул соединений.
+ * </p>
+ *
+ * <p><b>Классы эндпоинтов:</b></p>
+ * <ul>
+ *     <li>{@link EndpointClass#AUTH} — логин, регистрация, обновление токена; ключ — IP клиента.</li>
+ *     <li>{@link EndpointClass#HEAVY} — выборки без пагинации; ключ — пользователь.</li>
+ *     <li>{@link EndpointClass#DEFAULT} — остальные {@code /api/**}; ключ — пользователь.</li>
+ * </ul>
+ *
+ * <p>
+ *     Пользователь определяется по subject проверенного access токена; claims сохраняются
+ *     в атрибуте {@link JwtAuthenticationFilter#CLAIMS_ATTRIBUTE}, и JWT фильтр не разбирает
+ *     токен повторно. Без валидного токена ключом служит IP.
+ * </p>
+ *
+ * <blockquote>
+ *     При превышении квоты возвращается <b>429 Too Many Requests</b> (код {@code RATE-001})
+ *     с заголовком {@code Retry-After}. За реверс-прокси IP клиента берется из
+ *     {@code X-Forwarded-For} только при включенном {@code server.forward-headers-strategy}.
+ * </blockquote>
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * <p><b>Класс эндпоинта с собственной квотой</b></p>
+     */
+    public enum EndpointClass {
+        AUTH, HEAVY, DEFAULT
+    }
+
+    private static final String API_PREFIX = "/api/";
+
+    private final JwtTokenProvider tokenProvider;
+    private final boolean enabled;
+    private final Set<String> authPaths;
+    private final Set<String> heavyPaths;
+    private final Map<EndpointClass, GcraRateLimiter> limiters = new EnumMap<>(EndpointClass.class);
+
+    public RateLimitFilter(JwtTokenProvider tokenProvider,
+                           @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${app.rate-limit.max-keys:100000}") int maxKeys,
+                           @Value("${app.rate-limit.auth.requests-per-second:2}") double authRate,
+                           @Value("${app.rate-limit.auth.burst:10}") int authBurst,
+                           @Value("${app.rate-limit.auth.paths:/api/users/login,/api/users/register,/api/users/token/refresh}") Set<String> authPaths,
+                           @Value("${app.rate-limit.heavy.requests-per-second:2}") double heavyRate,
+                           @Value("${app.rate-limit.heavy.burst:5}") int heavyBurst,
+                           @Value("${app.rate-limit.heavy.paths:/api/tasks/getAll}") Set<String> heavyPaths,
+                           @Value("${app.rate-limit.default.requests-per-second:20}") double defaultRate,
+                           @Value("${app.rate-limit.default.burst:40}") int defaultBurst) {
+        this.tokenProvider = tokenProvider;
+        this.enabled = enabled;
+        this.authPaths = Set.copyOf(authPaths);
+        this.heavyPaths = Set.copyOf(heavyPaths);
+        limiters.put(EndpointClass.AUTH, new GcraRateLimiter(authRate, authBurst, maxKeys));
+        limiters.put(EndpointClass.HEAVY, new GcraRateLimiter(heavyRate, heavyBurst, maxKeys));
+        limiters.put(EndpointClass.DEFAULT, new GcraRateLimiter(defaultRate, defaultBurst, maxKeys));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI();
+        EndpointClass endpointClass = classify(path);
+        String key = endpointClass == EndpointClass.AUTH ? ipKey(request) : clientKey(request);
+
+        long waitNanos = limiters.get(endpointClass).tryAcquire(key, System.nanoTime());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        log.warn("🚦 Превышена квота {} для '{}' на {} (повтор через {} с).", endpointClass, key, path, retryAfterSeconds);
+        writeTooManyRequests(response, path, retryAfterSeconds);
+    }
+
+    /**
+     * <p><b>Удаление простаивающих корзин 🧹</b></p>
+     * <p>Корзина, полностью восстановившаяся с момента последнего запроса, удаляется — память ограничена числом активных клиентов.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        limiters.forEach((endpointClass, limiter) -> {
+            int remaining = limiter.evictIdle(now);
+            log.debug("🧹 Ограничитель {}: активных ключей {}.", endpointClass, remaining);
+        });
+    }
+
+    private EndpointClass classify(String path) {
+        if (authPaths.contains(path)) {
+            return EndpointClass.AUTH;
+        }
+        return heavyPaths.contains(path) ? EndpointClass.HEAVY : EndpointClass.DEFAULT;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith("Bearer ")) {
+            Claims claims = tokenProvider.parseClaims(header.substring(7));
+            if (claims != null) {
+                request.setAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE, claims);
+                return "user:" + claims.getSubject();
+            }
+        }
+        return ipKey(request);
+    }
+
+    private static String ipKey(HttpServletRequest request) {
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, String path, long retryAfterSeconds) throws IOException {
+        byte[] body = ErrorCode.RATE_LIMITED.render(path);
+        response.setStatus(ErrorCode.RATE_LIMITED.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.taskmanagement.security;
+
+import com.example.taskmanagement.model.RevokedToken;
+import com.example.taskmanagement.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p><b>Список Отзыва Access Токенов в Памяти 🚫</b></p>
+ *
+ * <p>
+ *     Локальная копия таблицы {@code revoked_tokens}, по которой {@link JwtAuthenticationFilter}
+ *     проверяет {@code jti} каждого запроса без обращения к базе.
+ * </p>
+ *
+ * <p><b>Устройство:</b></p>
+ * <ul>
+ *     <li><b>Фильтр Блума</b> отвечает на вопрос "точно не отозван" — это ответ для подавляющего
+ *     большинства запросов, он не требует ни I/O, ни блокировок.</li>
+ *     <li><b>Точное множество</b> ({@link ConcurrentHashMap}) проверяется только при положительном
+ *     ответе фильтра и отсекает ложноположительные срабатывания.</li>
+ *     <li><b>Синхронизация:</b> раз в {@code refresh-interval-ms} узел догружает записи, отозванные
+ *     после водяного знака, и удаляет те, чей {@code exp} уже наступил. После удаления фильтр
+ *     перестраивается и подменяется одной volatile-записью.</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     Запись (добавление и перестройка) сериализована монитором объекта: она редка и не должна
+ *     терять элементы при подмене фильтра. Чтение монитор не берет.
+ * </blockquote>
+ */
+@Component
+@Slf4j
+public class TokenDenylist {
+
+    /**
+     * Перекрытие окна синхронизации: {@code revokedAt} проставляется часами узла до коммита,
+     * поэтому запись соседнего узла может стать видимой чуть позже водяного знака.
+     * Повторная загрузка уже известных записей безвредна.
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    private volatile Instant watermark = Instant.EPOCH;
+
+    public TokenDenylist(RevokedTokenRepository revokedTokenRepository,
+                         @Value("${app.security.denylist.expected-insertions:100000}") int expectedInsertions,
+                         @Value("${app.security.denylist.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * <p><b>Проверка Токена</b></p>
+     *
+     * @param jti Идентификатор токена; токены без {@code jti} отозвать нельзя.
+     * @return {@code true}, если токен отозван.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        return revoked.containsKey(jti);
+    }
+
+    /**
+     * <p><b>Локальное Добавление Отозванного Токена</b></p>
+     * <p>Вызывается на узле, выполнившем отзыв, чтобы не ждать следующей синхронизации.</p>
+     *
+     * @param jti Идентификатор токена.
+     * @param expiresAt Момент истечения токена.
+     */
+    public synchronized void add(String jti, Instant expiresAt) {
+        if (revoked.put(jti, expiresAt) == null) {
+            if (revoked.size() > filter.capacity()) {
+                rebuild();
+            } else {
+                filter.put(jti);
+            }
+        }
+    }
+
+    /**
+     * <p><b>Количество Отозванных Токенов в Памяти</b></p>
+     *
+     * @return Размер точного множества.
+     */
+    public int size() {
+        return revoked.size();
+    }
+
+    /**
+     * <p><b>Начальная Загрузка</b></p>
+     * <p>Выполняется до приема запросов, чтобы только что запущенный узел не пропустил отозванные токены.</p>
+     */
+    @PostConstruct
+    void load() {
+        refresh();
+        log.info("🚫 Список отзыва токенов загружен: {} записей.", revoked.size());
+    }
+
+    /**
+     * <p><b>Инкрементальная Синхронизация и Очистка 🔄</b></p>
+     */
+    @Scheduled(initialDelayString = "${app.security.denylist.refresh-interval-ms:5000}",
+            fixedDelayString = "${app.security.denylist.refresh-interval-ms:5000}")
+    public void refresh() {
+        Instant now = Instant.now();
+        List<RevokedToken> fresh = revokedTokenRepository.findActiveRevokedSince(watermark.minus(SYNC_OVERLAP), now);
+        for (RevokedToken token : fresh) {
+            add(token.getJti(), token.getExpiresAt());
+            if (token.getRevokedAt().isAfter(watermark)) {
+                watermark = token.getRevokedAt();
+            }
+        }
+        prune(now);
+    }
+
+    /**
+     * <p><b>Удаление Истекших Записей</b></p>
+     * <p>Истекший токен отклоняется проверкой {@code exp}, держать его в списке больше не нужно.</p>
+     */
+    private void prune(Instant now) {
+        boolean removed = revoked.entrySet().removeIf(entry -> !entry.getValue().isAfter(now));
+        if (removed) {
+            synchronized (this) {
+                rebuild();
+            }
+            int deleted = revokedTokenRepository.deleteExpired(now);
+            log.debug("🧹 Список отзыва очищен: в памяти {} записей, удалено из базы {}.", revoked.size(), deleted);
+        }
+    }
+
+    private void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+    }
+}
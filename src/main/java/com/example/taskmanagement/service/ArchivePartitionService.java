@@ -0,0 +1,192 @@
+package com.example.taskmanagement.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p><b>Секции Архива по Месяцам 📅</b></p>
+ *
+ * <p>
+ *     {@code tasks_archive} и {@code comments_archive} секционированы по месяцу создания задачи
+ *     ({@code db/archive-schema.sql}). Сервис создает секции {@code <таблица>_pYYYY_MM} для месяцев,
+ *     в которые попадут архивируемые задачи, и отсоединяет секции, все задачи которых архивированы
+ *     раньше, чем {@code app.archive.partitions.retention-months} назад.
+ * </p>
+ *
+ * <ul>
+ *     <li><b>Создание:</b> перед каждым запуском архивации — для всех месяцев задач-кандидатов
+ *     ({@link #ensureMonths(Collection)}), и по расписанию — на {@code premake-months} вперед от
+ *     текущей границы архивации, чтобы обычный запуск не выполнял DDL.</li>
+ *     <li><b>Отсоединение:</b> {@code DETACH PARTITION} и переименование в
+ *     {@code <секция>_detached_<время>}. Данные остаются в отдельной таблице, которую DBA
+ *     выгружает или удаляет; из архива они больше не читаются. Срок хранения отсчитывается от
+ *     {@code archived_at}, а не от месяца создания: старая задача, архивированная сегодня, попадает
+ *     в заново созданную секцию своего месяца, и эта секция хранится полный срок.</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     Секционируется только архив: в PostgreSQL уникальные ключи секционированной таблицы обязаны
+ *     включать ключ секционирования, поэтому у {@code tasks} не осталось бы ключа {@code id}
+ *     для внешнего ключа {@code comments.task_id}. Рабочие таблицы остаются небольшими за счет
+ *     {@link TaskArchivalService}. Если архивные таблицы созданы без секционирования (до появления
+ *     скрипта), сервис пишет предупреждение и ничего не делает.
+ * </blockquote>
+ */
+@Service
+@Slf4j
+public class ArchivePartitionService {
+
+    private static final List<String> PARENT_TABLES = List.of("tasks_archive", "comments_archive");
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final DateTimeFormatter DETACHED_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final Pattern PARTITION_NAME = Pattern.compile("_p(\\d{4})_(\\d{2})$");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minAge;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final Set<YearMonth> createdMonths = ConcurrentHashMap.newKeySet();
+    private volatile Boolean partitioned;
+
+    public ArchivePartitionService(JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${app.archive.min-age:P90D}") Duration minAge,
+                                   @Value("${app.archive.partitions.premake-months:3}") int premakeMonths,
+                                   @Value("${app.archive.partitions.retention-months:0}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.minAge = minAge;
+        this.premakeMonths = premakeMonths;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * <p><b>Создание Секций для Месяцев</b></p>
+     *
+     * <p>
+     *     Вызывается вне транзакции переноса: {@code CREATE TABLE ... PARTITION OF} берет исключительную
+     *     блокировку родительской таблицы, и держать ее до конца порции незачем.
+     * </p>
+     *
+     * @param months Месяцы создания задач.
+     */
+    public void ensureMonths(Collection<YearMonth> months) {
+        if (!isPartitioned()) {
+            return;
+        }
+        for (YearMonth month : months) {
+            if (createdMonths.contains(month)) {
+                continue;
+            }
+            for (String parent : PARENT_TABLES) {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                        .formatted(partitionName(parent, month), parent, month.atDay(1), month.plusMonths(1).atDay(1)));
+            }
+            createdMonths.add(month);
+            log.debug("📅 Секции архива за {} готовы.", month);
+        }
+    }
+
+    /**
+     * <p><b>Плановое Обслуживание Секций 📅</b></p>
+     * <p>
+     *     Создает секции на {@code premake-months} вперед от текущей границы архивации и отсоединяет
+     *     секции, в которые ничего не архивировалось последние {@code retention-months} (0 — не отсоединять).
+     * </p>
+     */
+    @Scheduled(cron = "${app.archive.partitions.maintenance-cron:0 0 3 * * *}")
+    public void maintain() {
+        if (!isPartitioned()) {
+            return;
+        }
+        YearMonth boundary = YearMonth.from(LocalDateTime.now().minus(minAge));
+        List<YearMonth> upcoming = new ArrayList<>();
+        for (YearMonth month = boundary; !month.isAfter(boundary.plusMonths(premakeMonths)); month = month.plusMonths(1)) {
+            upcoming.add(month);
+        }
+        ensureMonths(upcoming);
+        if (retentionMonths > 0) {
+            detachArchivedBefore(LocalDateTime.now().minusMonths(retentionMonths));
+        }
+    }
+
+    private void detachArchivedBefore(LocalDateTime cutoff) {
+        String suffix = "_detached_" + LocalDateTime.now().format(DETACHED_SUFFIX);
+        for (String partition : partitionsOf(PARENT_TABLES.get(0))) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.find()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            // archived_at не раньше created_at: в секциях месяца границы и позже есть свежие строки.
+            if (!month.isBefore(YearMonth.from(cutoff))) {
+                continue;
+            }
+            Boolean detached = transactionTemplate.execute(status -> {
+                // Перенос в архив ждет до конца транзакции, поэтому между проверкой и DETACH строки не появятся.
+                jdbcTemplate.execute("LOCK TABLE %s IN SHARE ROW EXCLUSIVE MODE".formatted(PARENT_TABLES.get(0)));
+                LocalDateTime lastArchivedAt = jdbcTemplate.queryForObject(
+                        "SELECT max(archived_at) FROM " + partition, LocalDateTime.class);
+                if (lastArchivedAt != null && !lastArchivedAt.isBefore(cutoff)) {
+                    return false;
+                }
+                for (String parent : PARENT_TABLES) {
+                    String name = partitionName(parent, month);
+                    if (partitionsOf(parent).contains(name)) {
+                        jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s".formatted(parent, name));
+                        jdbcTemplate.execute("ALTER TABLE %s RENAME TO %s".formatted(name, name + suffix));
+                    }
+                }
+                return true;
+            });
+            if (Boolean.TRUE.equals(detached)) {
+                createdMonths.remove(month);
+                log.info("📦 Секции архива за {} отсоединены с суффиксом {}.", month, suffix);
+            } else {
+                log.debug("📅 Секции архива за {} сохранены: в них есть задачи, архивированные после {}.", month, cutoff);
+            }
+        }
+    }
+
+    private List<String> partitionsOf(String parent) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = to_regclass(?)",
+                String.class, parent);
+    }
+
+    private boolean isPartitioned() {
+        Boolean result = partitioned;
+        if (result == null) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_partitioned_table WHERE partrelid IN (to_regclass('tasks_archive'), to_regclass('comments_archive'))",
+                    Integer.class);
+            result = count != null && count == PARENT_TABLES.size();
+            if (!result) {
+                log.warn("⚠️ Таблицы архива не секционированы; управление секциями отключено.");
+            }
+            partitioned = result;
+        }
+        return result;
+    }
+
+    private static String partitionName(String parent, YearMonth month) {
+        return parent + "_p" + month.format(MONTH_SUFFIX);
+    }
+}
@@ -1,21 +1,23 @@
 package com.example.taskmanagement.service;
 
+import com.example.taskmanagement.dto.CommentCursor;
 import com.example.taskmanagement.dto.CommentDTO;
+import com.example.taskmanagement.dto.CommentPageDTO;
+import com.example.taskmanagement.exception.BusinessException;
+import com.example.taskmanagement.exception.ErrorCode;
 import com.example.taskmanagement.model.AppUser;
 import com.example.taskmanagement.model.Comment;
 import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.monitoring.RequestTrace;
 import com.example.taskmanagement.repository.CommentRepository;
 import com.example.taskmanagement.repository.TaskRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * <p><b>Сервис для Управления Комментариями 💬</b></p>
@@ -40,15 +42,21 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CommentService {
 
+    /**
+     * Наибольший размер страницы комментариев.
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * Наименьшая длина поискового запроса: короче трех символов триграммный индекс не работает.
+     */
+    public static final int MIN_SEARCH_QUERY_LENGTH = 3;
+
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
     private final UserService userService;
     private final ModelMapper modelMapper;
 
-    private static final String TASK_NOT_FOUND_CODE = "TASK-001";
-    private static final String COMMENT_NOT_FOUND_CODE = "CMT-001";
-    private static final String COMMENT_ACCESS_DENIED_CODE = "CMT-002";
-
     /**
      * <p><b>Создает новый комментарий к задаче ➕</b></p>
      *
@@ -56,7 +64,7 @@ public class CommentService {
      * @param commentText Текст комментария.
      * @param authorEmail Email автора комментария (текущего аутентифицированного пользователя).
      * @return DTO созданного комментария.
-     * @throws ResponseStatusException
+     * @throws BusinessException
      *         <ul>
      *             <li><b>404 NOT_FOUND</b> (`TASK-001`): Если задача не найдена.</li>
      *             <li><b>404 NOT_FOUND</b> (`USR-002`): Если автор комментария не найден.</li>
@@ -69,7 +77,7 @@ public class CommentService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> {
                     log.error("❌ Задача с ID '{}' не найдена для создания комментария.", taskId);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, TASK_NOT_FOUND_CODE + ": Задача с ID " + taskId + " не найдена.");
+                    return new BusinessException(ErrorCode.TASK_NOT_FOUND);
                 });
 
         AppUser author = userService.getUserByEmail(authorEmail);
@@ -77,6 +85,7 @@ public class CommentService {
         Comment comment = new Comment();
         comment.setText(commentText);
         comment.setTask(task);
+        comment.setTaskCreatedAt(task.getCreatedAt());
         comment.setAppUser(author);
 
         Comment savedComment = commentRepository.save(comment);
@@ -93,7 +102,7 @@ public class CommentService {
      * @param newText Новый текст комментария.
      * @param editorEmail Email пользователя, пытающегося выполнить обновление.
      * @return DTO обновленного комментария.
-     * @throws ResponseStatusException
+     * @throws BusinessException
      *         <ul>
      *             <li><b>404 NOT_FOUND</b> (`CMT-001`): Если комментарий не найден.</li>
      *             <li><b>403 FORBIDDEN</b> (`CMT-002`): Если пользователь не является автором комментария.</li>
@@ -106,12 +115,12 @@ public class CommentService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> {
                     log.error("❌ Комментарий с ID '{}' не найден для обновления.", commentId);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, COMMENT_NOT_FOUND_CODE + ": Комментарий с ID " + commentId + " не найден.");
+                    return new BusinessException(ErrorCode.COMMENT_NOT_FOUND);
                 });
 
         if (!comment.getAppUser().getEmail().equals(editorEmail)) {
             log.warn("🚫 Пользователь '{}' пытался редактировать чужой комментарий (ID: {}).", editorEmail, commentId);
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, COMMENT_ACCESS_DENIED_CODE + ": Вы не можете редактировать чужие комментарии.");
+            throw new BusinessException(ErrorCode.COMMENT_EDIT_DENIED);
         }
 
         comment.setText(newText);
@@ -128,7 +137,7 @@ public class CommentService {
      * @param commentId ID комментария для удаления.
      * @param userEmail Email пользователя, выполняющего удаление.
      * @param userRoles Роли пользователя для проверки прав администратора (например, "ROLE_ADMIN").
-     * @throws ResponseStatusException
+     * @throws BusinessException
      *         <ul>
      *             <li><b>404 NOT_FOUND</b> (`CMT-001`): Если комментарий не найден.</li>
      *             <li><b>403 FORBIDDEN</b> (`CMT-002`): Если пользователь не является автором комментария и не администратор.</li>
@@ -141,7 +150,7 @@ public class CommentService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> {
                     log.debug("❌ Комментарий с ID '{}' не найден для удаления.", commentId);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, COMMENT_NOT_FOUND_CODE + ": Комментарий с ID " + commentId + " не найден.");
+                    return new BusinessException(ErrorCode.COMMENT_NOT_FOUND);
                 });
 
         boolean isAuthor = comment.getAppUser().getEmail().equals(userEmail);
@@ -149,7 +158,7 @@ public class CommentService {
 
         if (!isAuthor && !isAdmin) {
             log.debug("🚫 Пользователь '{}' пытался удалить чужой комментарий (ID: {}) без прав администратора.", userEmail, commentId);
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, COMMENT_ACCESS_DENIED_CODE + ": Вы не можете удалять чужие комментарии.");
+            throw new BusinessException(ErrorCode.COMMENT_DELETE_DENIED);
         }
 
         commentRepository.delete(comment);
@@ -157,27 +166,104 @@ public class CommentService {
     }
 
     /**
-     * <p><b>Возвращает все комментарии для указанной задачи 📋</b></p>
+     * <p><b>Возвращает страницу комментариев задачи 📋</b></p>
+     *
+     * <p>
+     *     Курсорная пагинация по {@code (createdAt, id)}: существование задачи и страница
+     *     читаются одним запросом, из базы берется на один комментарий больше {@code limit},
+     *     чтобы без {@code COUNT} понять, есть ли следующая страница.
+     * </p>
      *
      * @param taskId ID задачи.
-     * @return Список DTO комментариев.
-     * @throws ResponseStatusException
+     * @param cursor Курсор из {@code nextCursor} предыдущей страницы; {@code null} — первая страница.
+     * @param newestFirst {@code true} — от новых к старым, {@code false} — от старых к новым.
+     * @param limit Размер страницы; приводится к диапазону 1..{@value #MAX_PAGE_SIZE}.
+     * @return Страница комментариев с курсором следующей страницы.
+     * @throws BusinessException
      *         <ul>
+     *             <li><b>400 BAD_REQUEST</b> (`CMT-003`): Если курсор некорректен.</li>
      *             <li><b>404 NOT_FOUND</b> (`TASK-001`): Если задача не найдена.</li>
      *         </ul>
      */
     @Transactional(readOnly = true)
-    public List<CommentDTO> getCommentsByTaskId(long taskId) {
-        log.debug("📢 Получение всех комментариев для задачи ID: {}.", taskId);
-        if (!taskRepository.existsById(taskId)) {
-            log.debug("❌ Задача с ID '{}' не найдена при попытке получить комментарии.", taskId);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, TASK_NOT_FOUND_CODE + ": Задача с ID " + taskId + " не найдена.");
+    public CommentPageDTO getCommentsByTaskId(long taskId, String cursor, boolean newestFirst, int limit) {
+        log.debug("📢 Получение страницы комментариев для задачи ID: {} (курсор: {}, новые сначала: {}, лимит: {}).",
+                taskId, cursor, newestFirst, limit);
+        CommentCursor position = CommentCursor.parse(cursor);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        List<CommentDTO> comments = commentRepository.findPageByTaskId(taskId, position, newestFirst, pageSize + 1)
+                .orElseThrow(() -> {
+                    log.debug("❌ Задача с ID '{}' не найдена при попытке получить комментарии.", taskId);
+                    return new BusinessException(ErrorCode.TASK_NOT_FOUND);
+                });
+
+        boolean hasMore = comments.size() > pageSize;
+        if (hasMore) {
+            comments = comments.subList(0, pageSize);
+        }
+        String nextCursor = null;
+        if (hasMore) {
+            CommentDTO last = comments.get(comments.size() - 1);
+            nextCursor = new CommentCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        log.info("✅ Найдено {} комментариев для задачи ID: {} (есть еще: {}).", comments.size(), taskId, hasMore);
+        return new CommentPageDTO(comments, nextCursor, hasMore);
+    }
+
+    /**
+     * <p><b>Ищет комментарии по подстроке текста 🔎</b></p>
+     *
+     * <p>
+     *     Поиск без учета регистра через триграммный индекс, от новых к старым. Каждый результат
+     *     содержит {@code snippet} — фрагмент текста с совпадением в {@code <mark>}.
+     * </p>
+     *
+     * @param query Подстрока для поиска, не короче {@value #MIN_SEARCH_QUERY_LENGTH} символов.
+     * @param taskId Ограничить поиск задачей; {@code null} — все задачи.
+     * @param authorEmail Ограничить поиск автором; {@code null} — все авторы.
+     * @param cursor {@code nextCursor} предыдущей страницы; {@code null} — первая страница.
+     * @param limit Размер страницы; приводится к диапазону 1..{@value #MAX_PAGE_SIZE}.
+     * @return Страница найденных комментариев.
+     * @throws BusinessException
+     *         <ul>
+     *             <li><b>400 BAD_REQUEST</b> (`CMT-003`): Если курсор некорректен.</li>
+     *             <li><b>400 BAD_REQUEST</b> (`CMT-004`): Если запрос короче {@value #MIN_SEARCH_QUERY_LENGTH} символов.</li>
+     *         </ul>
+     */
+    @Transactional(readOnly = true)
+    public CommentPageDTO searchComments(String query, Long taskId, String authorEmail, String cursor, int limit) {
+        String trimmed = query == null ? "" : query.trim();
+        if (trimmed.length() < MIN_SEARCH_QUERY_LENGTH) {
+            throw new BusinessException(ErrorCode.COMMENT_SEARCH_QUERY_TOO_SHORT);
+        }
+        Long beforeId = parseSearchCursor(cursor);
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        log.debug("📢 Поиск комментариев по '{}' (задача: {}, автор: {}, курсор: {}, лимит: {}).",
+                trimmed, taskId, authorEmail, beforeId, pageSize);
+
+        List<CommentDTO> comments = commentRepository.search(trimmed, taskId, authorEmail, beforeId, pageSize + 1);
+        boolean hasMore = comments.size() > pageSize;
+        if (hasMore) {
+            comments = comments.subList(0, pageSize);
+        }
+        for (CommentDTO comment : comments) {
+            comment.setSnippet(SnippetHighlighter.highlight(comment.getText(), trimmed));
+        }
+        String nextCursor = hasMore ? String.valueOf(comments.get(comments.size() - 1).getId()) : null;
+        log.info("✅ По запросу '{}' найдено {} комментариев (есть еще: {}).", trimmed, comments.size(), hasMore);
+        return new CommentPageDTO(comments, nextCursor, hasMore);
+    }
+
+    private static Long parseSearchCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.COMMENT_INVALID_CURSOR);
         }
-        List<Comment> comments = commentRepository.findByTaskIdWithAuthor(taskId);
-        log.info("✅ Найдено {} комментариев для задачи ID: {}.", comments.size(), taskId);
-        return comments.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
     }
 
     /**
@@ -189,6 +275,9 @@ public class CommentService {
      * @return {@link CommentDTO} представление комментария.
      */
     private CommentDTO convertToDTO(Comment comment) {
-        return modelMapper.map(comment, CommentDTO.class);
+        long started = RequestTrace.start();
+        CommentDTO dto = modelMapper.map(comment, CommentDTO.class);
+        RequestTrace.stop(RequestTrace.Phase.MAPPING, started);
+        return dto;
     }
 }
\ No newline at end of file
@@ -0,0 +1,216 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.AuthResponse;
+import com.example.taskmanagement.exception.BusinessException;
+import com.example.taskmanagement.exception.ErrorCode;
+import com.example.taskmanagement.model.AppUser;
+import com.example.taskmanagement.model.RefreshToken;
+import com.example.taskmanagement.repository.RefreshTokenRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * <p><b>Сервис Refresh Токенов 🔄</b></p>
+ *
+ * <p>
+ *     Выпускает и ротирует refresh токены. Обмен refresh токена на новую пару не требует
+ *     проверки пароля (BCrypt) и выполняется одним индексным поиском, поэтому клиенту
+ *     достаточно войти по паролю один раз за время жизни refresh токена, а access токен
+ *     может быть короткоживущим.
+ * </p>
+ *
+ * <p><b>Ротация и обнаружение повторного использования:</b></p>
+ * <ul>
+ *     <li>При каждом обмене предъявленный токен атомарно помечается использованным,
+ *     а в том же семействе выпускается новый.</li>
+ *     <li>Если предъявлен уже использованный токен, все семейство отзывается
+ *     (код ошибки {@code AUTH-004}).</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Value("${jwt.refresh-expiration-ms}")
+    private long refreshExpirationMs;
+
+    /**
+     * <p><b>Выпуск Пары Токенов после Входа по Паролю</b></p>
+     * <p>Открывает новое семейство refresh токенов.</p>
+     *
+     * @param user Аутентифицированный пользователь.
+     * @return {@link AuthResponse} с access и refresh токенами.
+     */
+    @Transactional
+    public AuthResponse issueTokens(AppUser user) {
+        String refreshToken = createRefreshToken(user.getId(), UUID.randomUUID().toString());
+        return buildResponse(user.getEmail(), refreshToken);
+    }
+
+    /**
+     * <p><b>Обмен Refresh Токена на Новую Пару</b></p>
+     *
+     * <blockquote>
+     *     <b>Транзакция:</b> {@code noRollbackFor} нужен, чтобы отзыв семейства при обнаружении
+     *     повторного использования был зафиксирован, несмотря на выброшенную ошибку 401.
+     * </blockquote>
+     *
+     * @param rawRefreshToken Значение refresh токена, полученное клиентом.
+     * @return Новая пара токенов.
+     * @throws BusinessException
+     *         <ul>
+     *             <li><b>401 UNAUTHORIZED</b> (код ошибки: `AUTH-003`): токен не найден, истек, отозван
+     *             или учетная запись заблокирована.</li>
+     *             <li><b>401 UNAUTHORIZED</b> (код ошибки: `AUTH-004`): токен уже был использован;
+     *             все семейство отозвано.</li>
+     *         </ul>
+     */
+    @Transactional(noRollbackFor = BusinessException.class)
+    public AuthResponse rotate(String rawRefreshToken) {
+        RefreshToken stored = refreshTokenRepository.findByTokenHashWithUser(hash(rawRefreshToken))
+                .orElseThrow(() -> {
+                    log.warn("🔍 Предъявлен неизвестный refresh токен.");
+                    return invalidToken();
+                });
+
+        if (stored.isUsed()) {
+            throw reuseDetected(stored);
+        }
+        if (stored.isRevoked() || stored.getExpiresAt().isBefore(Instant.now())) {
+            log.warn("⌛ Предъявлен отозванный или истекший refresh токен пользователя '{}'.", stored.getAppUser().getEmail());
+            throw invalidToken();
+        }
+
+        AppUser user = stored.getAppUser();
+        if (!user.isEnabled() || user.isLocked()) {
+            refreshTokenRepository.revokeFamily(stored.getFamilyId());
+            log.warn("🔒 Refresh токен заблокированного пользователя '{}' отклонен.", user.getEmail());
+            throw invalidToken();
+        }
+
+        if (refreshTokenRepository.markUsed(stored.getId()) == 0) {
+            throw reuseDetected(stored);
+        }
+
+        String refreshToken = createRefreshToken(user.getId(), stored.getFamilyId());
+        log.debug("🔄 Refresh токен пользователя '{}' ротирован.", user.getEmail());
+        return buildResponse(user.getEmail(), refreshToken);
+    }
+
+    /**
+     * <p><b>Отзыв Всех Refresh Токенов Пользователя</b></p>
+     * <p>Вызывается при смене пароля: все ранее выданные сессии должны завершиться.</p>
+     *
+     * @param userId ID пользователя.
+     */
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId);
+        log.info("🚫 Отозвано {} refresh токенов пользователя с ID {}.", revoked, userId);
+    }
+
+    /**
+     * <p><b>Отзыв Семейства по Предъявленному Токену</b></p>
+     * <p>
+     *     Вызывается при выходе из системы. Токены чужого пользователя и неизвестные токены
+     *     игнорируются, чтобы выход нельзя было использовать для отзыва чужих сессий.
+     * </p>
+     *
+     * @param rawRefreshToken Refresh токен текущей сессии.
+     * @param userId ID текущего пользователя.
+     */
+    @Transactional
+    public void revokeFamilyOf(String rawRefreshToken, Long userId) {
+        refreshTokenRepository.findByTokenHashWithUser(hash(rawRefreshToken))
+                .filter(token -> token.getAppUser().getId().equals(userId))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    /**
+     * <p><b>Удаление Всех Refresh Токенов Пользователя</b></p>
+     *
+     * @param userId ID пользователя.
+     */
+    @Transactional
+    public void deleteAllForUser(Long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    /**
+     * <p><b>Плановая Очистка Истекших Токенов 🧹</b></p>
+     * <p>Удаляет истекшие токены одной командой {@code DELETE}, чтобы таблица не росла бесконечно.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.security.refresh-tokens.cleanup-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("🧹 Удалено {} истекших refresh токенов.", deleted);
+        }
+    }
+
+    private String createRefreshToken(Long userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        String rawToken = TOKEN_ENCODER.encodeToString(bytes);
+
+        Instant now = Instant.now();
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(rawToken));
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setAppUser(userRepository.getReferenceById(userId));
+        refreshToken.setCreatedAt(now);
+        refreshToken.setExpiresAt(now.plusMillis(refreshExpirationMs));
+        refreshTokenRepository.save(refreshToken);
+        return rawToken;
+    }
+
+    private AuthResponse buildResponse(String email, String refreshToken) {
+        return new AuthResponse(jwtTokenProvider.generateToken(email), refreshToken,
+                jwtTokenProvider.getJwtExpirationMs() / 1000);
+    }
+
+    private BusinessException reuseDetected(RefreshToken stored) {
+        int revoked = refreshTokenRepository.revokeFamily(stored.getFamilyId());
+        log.warn("🚨 Повторное использование refresh токена пользователя '{}': отозвано {} токенов семейства {}.",
+                stored.getAppUser().getEmail(), revoked, stored.getFamilyId());
+        return new BusinessException(ErrorCode.REFRESH_TOKEN_REUSED);
+    }
+
+    private static BusinessException invalidToken() {
+        return new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 недоступен в этой JVM", e);
+        }
+    }
+}
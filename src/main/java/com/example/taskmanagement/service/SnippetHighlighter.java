@@ -0,0 +1,51 @@
+package com.example.taskmanagement.service;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * <p><b>Фрагмент Текста с Подсветкой Совпадения</b></p>
+ *
+ * <p>
+ *     Вырезает из текста окно вокруг первого вхождения поискового запроса (без учета регистра)
+ *     и оборачивает совпадение в {@code <mark>}. Текст экранируется как HTML, поэтому
+ *     фрагмент можно вставлять в разметку как есть.
+ * </p>
+ */
+final class SnippetHighlighter {
+
+    private static final int CONTEXT_CHARS = 60;
+    private static final String ELLIPSIS = "…";
+
+    private SnippetHighlighter() {
+    }
+
+    /**
+     * @param text Полный текст.
+     * @param query Поисковый запрос.
+     * @return HTML-фрагмент с {@code <mark>} вокруг совпадения.
+     */
+    static String highlight(String text, String query) {
+        int index = indexOfIgnoreCase(text, query);
+        if (index < 0) {
+            int end = Math.min(text.length(), CONTEXT_CHARS * 2);
+            return HtmlUtils.htmlEscape(text.substring(0, end)) + (end < text.length() ? ELLIPSIS : "");
+        }
+        int matchEnd = index + query.length();
+        int from = Math.max(0, index - CONTEXT_CHARS);
+        int to = Math.min(text.length(), matchEnd + CONTEXT_CHARS);
+        return (from > 0 ? ELLIPSIS : "")
+                + HtmlUtils.htmlEscape(text.substring(from, index))
+                + "<mark>" + HtmlUtils.htmlEscape(text.substring(index, matchEnd)) + "</mark>"
+                + HtmlUtils.htmlEscape(text.substring(matchEnd, to))
+                + (to < text.length() ? ELLIPSIS : "");
+    }
+
+    private static int indexOfIgnoreCase(String text, String query) {
+        for (int i = 0; i + query.length() <= text.length(); i++) {
+            if (text.regionMatches(true, i, query, 0, query.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.model.Status;
+import com.example.taskmanagement.repository.ArchivedCommentRepository;
+import com.example.taskmanagement.repository.ArchivedTaskRepository;
+import com.example.taskmanagement.repository.CommentRepository;
+import com.example.taskmanagement.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * <p><b>Архивация Завершенных Задач 🗄️</b></p>
+ *
+ * <p>
+ *     Большинство строк {@code tasks} — завершенные задачи, которые больше не читаются, но раздувают
+ *     каждый индекс, по которому идут списки задач. Задание по расписанию {@code app.archive.cron}
+ *     переносит задачи в статусах {@link #FINISHED_STATUSES}, не изменявшиеся дольше
+ *     {@code app.archive.min-age}, вместе с комментариями в {@code tasks_archive}/{@code comments_archive}.
+ * </p>
+ *
+ * <blockquote>
+ *     Каждая порция из {@code app.archive.chunk-size} задач — отдельная транзакция из четырех пакетных
+ *     запросов: копирование задач, копирование комментариев, удаление комментариев, удаление задач.
+ *     Строки порции блокируются {@code FOR UPDATE SKIP LOCKED}, поэтому задание безопасно запускать
+ *     на нескольких узлах одновременно, а прерванный запуск просто продолжится в следующий раз.
+ * </blockquote>
+ */
+@Service
+@Slf4j
+public class TaskArchivalService {
+
+    /**
+     * Статусы, после которых задача больше не меняется.
+     */
+    public static final Set<Status> FINISHED_STATUSES = EnumSet.of(Status.COMPLETED, Status.CANCELLED, Status.REJECTED);
+
+    private static final List<String> FINISHED_STATUS_NAMES = FINISHED_STATUSES.stream()
+            .map(Status::name)
+            .collect(Collectors.toList());
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ArchivedCommentRepository archivedCommentRepository;
+    private final ArchivePartitionService archivePartitionService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int chunkSize;
+
+    public TaskArchivalService(TaskRepository taskRepository,
+                               CommentRepository commentRepository,
+                               ArchivedTaskRepository archivedTaskRepository,
+                               ArchivedCommentRepository archivedCommentRepository,
+                               ArchivePartitionService archivePartitionService,
+                               TransactionTemplate transactionTemplate,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${app.archive.enabled:true}") boolean enabled,
+                               @Value("${app.archive.min-age:P90D}") Duration minAge,
+                               @Value("${app.archive.chunk-size:500}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.archivedCommentRepository = archivedCommentRepository;
+        this.archivePartitionService = archivePartitionService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * <p><b>Плановая Архивация 🗄️</b></p>
+     * <p>
+     *     Сначала создает секции архива для всех месяцев создания задач-кандидатов
+     *     ({@link ArchivePartitionService#ensureMonths}), затем переносит порции, пока запрос
+     *     кандидатов не вернет пустой список. Новые кандидаты во время запуска не появляются:
+     *     любое изменение задачи сдвигает {@code updated_at} за границу.
+     * </p>
+     */
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void archiveFinishedTasks() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime updatedBefore = LocalDateTime.now().minus(minAge);
+        archivePartitionService.ensureMonths(taskRepository.findCreatedMonthsToArchive(FINISHED_STATUSES, updatedBefore)
+                .stream()
+                .map(month -> YearMonth.of(month / 100, month % 100))
+                .collect(Collectors.toList()));
+        long tasks = 0;
+        long comments = 0;
+        int[] moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveChunk(updatedBefore));
+            tasks += moved[0];
+            comments += moved[1];
+        } while (moved[0] > 0);
+
+        if (tasks > 0) {
+            log.info("🗄️ В архив перенесено задач: {}, комментариев: {} (не изменялись с {}).", tasks, comments, updatedBefore);
+        }
+    }
+
+    private int[] archiveChunk(LocalDateTime updatedBefore) {
+        List<Long> ids = taskRepository.lockIdsToArchive(FINISHED_STATUS_NAMES, updatedBefore, chunkSize);
+        if (ids.isEmpty()) {
+            return new int[]{0, 0};
+        }
+        LocalDateTime archivedAt = LocalDateTime.now();
+        archivedTaskRepository.copyFromTasks(ids, archivedAt);
+        int comments = archivedCommentRepository.copyFromCommentsByTaskIdIn(ids);
+        commentRepository.deleteAllByTaskIdIn(ids);
+        int tasks = taskRepository.deleteAllByIdIn(ids);
+        ids.forEach(id -> eventPublisher.publishEvent(TaskChangedEvent.deleted(id)));
+        log.debug("🗄️ Порция архивации: задач {}, комментариев {}.", tasks, comments);
+        return new int[]{tasks, comments};
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.model.Priority;
+import com.example.taskmanagement.model.Status;
+import com.example.taskmanagement.model.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * <p><b>Событие: Задача Изменена 📣</b></p>
+ *
+ * <p>
+ *     Публикуется сервисами при создании, изменении и удалении задачи. Несет снимок полей,
+ *     нужных подписчикам, чтобы им не приходилось перечитывать задачу из базы. Подписчики
+ *     получают событие после фиксации транзакции
+ *     ({@link org.springframework.transaction.event.TransactionalEventListener}).
+ * </p>
+ *
+ * @param kind Вид изменения; для {@link Kind#DELETED} и {@link Kind#UNASSIGNED} заполнен только {@code taskId}.
+ * @param taskId ID задачи.
+ * @param title Заголовок.
+ * @param status Статус.
+ * @param priority Приоритет.
+ * @param authorId ID автора.
+ * @param executorId ID исполнителя; {@code null}, если исполнитель не назначен.
+ * @param executorEmail Email исполнителя; {@code null}, если исполнитель не назначен.
+ * @param dueDate Срок выполнения; {@code null}, если не задан.
+ * @param updatedAt Время изменения.
+ */
+public record TaskChangedEvent(Kind kind, long taskId, String title, Status status, Priority priority,
+                               Long authorId, Long executorId, String executorEmail, LocalDate dueDate,
+                               LocalDateTime updatedAt) {
+
+    /**
+     * Вид изменения задачи.
+     */
+    public enum Kind {
+        /** Задача создана или изменена; событие содержит полный снимок. */
+        SAVED,
+        /** Задача удалена из {@code tasks} (удалением или переносом в архив). */
+        DELETED,
+        /** С задачи пакетным запросом снят исполнитель. */
+        UNASSIGNED
+    }
+
+    /**
+     * @param task Сохраненная задача (с загруженным исполнителем).
+     * @return Снимок текущего состояния задачи.
+     */
+    public static TaskChangedEvent of(Task task) {
+        Long authorId = task.getAuthor() != null ? task.getAuthor().getId() : null;
+        Long executorId = task.getExecutor() != null ? task.getExecutor().getId() : null;
+        String executorEmail = task.getExecutor() != null ? task.getExecutor().getEmail() : null;
+        return new TaskChangedEvent(Kind.SAVED, task.getId(), task.getTitle(), task.getStatus(), task.getPriority(),
+                authorId, executorId, executorEmail, task.getDueDate(), task.getUpdatedAt());
+    }
+
+    /**
+     * @param taskId ID удаленной задачи.
+     * @return Событие удаления.
+     */
+    public static TaskChangedEvent deleted(long taskId) {
+        return new TaskChangedEvent(Kind.DELETED, taskId, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * @param taskId ID задачи, с которой снят исполнитель пакетным запросом.
+     * @return Событие без исполнителя.
+     */
+    public static TaskChangedEvent unassigned(long taskId) {
+        return new TaskChangedEvent(Kind.UNASSIGNED, taskId, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.CountStrategy;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * <p><b>Подсчет Общего Числа Задач для Страниц 🔢</b></p>
+ *
+ * <p>
+ *     Точный {@code COUNT(*)} по отфильтрованным {@code tasks} часто дороже самой страницы. Сервис выполняет
+ *     подсчет выбранным клиентом способом ({@link CountStrategy}):
+ * </p>
+ *
+ * <ul>
+ *     <li><b>{@code exact}:</b> запрос {@code COUNT} вызывающего кода.</li>
+ *     <li><b>{@code estimated}:</b> {@code EXPLAIN (FORMAT JSON)} эквивалентного SQL и поле {@code Plan Rows}
+ *     корневого узла плана — строки не читаются, точность определяется статистикой {@code ANALYZE}.</li>
+ *     <li><b>{@code cached}:</b> точный счетчик, запомненный для формы фильтра на {@code app.tasks.count-cache.ttl}.
+ *     Любое изменение задачи ({@link TaskChangedEvent}) сбрасывает все значения.</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     Сброс повышает номер поколения, а каждое значение хранит поколение, в котором начат подсчет.
+ *     Значение из прошлого поколения при чтении считается промахом, поэтому счетчик, подсчитанный во время
+ *     сброса, не переживет изменение, которое он мог не увидеть, даже если попал в кеш после очистки. Кеш хранится в памяти узла; изменения на других узлах
+ *     станут видны через {@code ttl}.
+ * </blockquote>
+ */
+@Service
+@Slf4j
+public class TaskCountService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<String, CachedCount> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public TaskCountService(JdbcTemplate jdbcTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${app.tasks.count-cache.ttl:PT30S}") Duration ttl,
+                            @Value("${app.tasks.count-cache.max-entries:10000}") int maxEntries) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * <p><b>Общее Число Задач</b></p>
+     *
+     * @param strategy Способ подсчета (не {@link CountStrategy#NONE}).
+     * @param shape Ключ формы фильтра для {@code cached}: имя списка и значения всех параметров условия.
+     * @param exactCount Точный подсчет.
+     * @param estimateSql SQL, эквивалентный условию страницы, для {@code estimated}.
+     * @param args Параметры {@code estimateSql}.
+     * @return Число задач.
+     */
+    public long count(CountStrategy strategy, String shape, LongSupplier exactCount, String estimateSql, Object... args) {
+        return switch (strategy) {
+            case NONE -> throw new IllegalArgumentException("Стратегия NONE не считает число задач");
+            case EXACT -> exactCount.getAsLong();
+            case ESTIMATED -> estimate(estimateSql, args);
+            case CACHED -> cached(shape, exactCount);
+        };
+    }
+
+    /**
+     * <p><b>Сброс Кеша Счетчиков</b></p>
+     *
+     * @param event Изменение задачи после фиксации транзакции.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        // Порядок важен: запись, добавленная между инкрементом и очисткой, уже устарела по поколению.
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private long cached(String shape, LongSupplier exactCount) {
+        long now = System.nanoTime();
+        CachedCount cached = cache.get(shape);
+        if (cached != null && isFresh(cached, now)) {
+            return cached.value();
+        }
+        long startedGeneration = generation.get();
+        long value = exactCount.getAsLong();
+        if (generation.get() == startedGeneration) {
+            if (cache.size() >= maxEntries) {
+                cache.entrySet().removeIf(entry -> !isFresh(entry.getValue(), now));
+            }
+            if (cache.size() < maxEntries) {
+                cache.put(shape, new CachedCount(value, now, startedGeneration));
+            }
+        }
+        return value;
+    }
+
+    private boolean isFresh(CachedCount cached, long now) {
+        return cached.generation() == generation.get() && now - cached.countedAt() < ttlNanos;
+    }
+
+    private long estimate(String sql, Object... args) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, args);
+        try {
+            JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return Math.max(0, Math.round(rows.asDouble()));
+        } catch (Exception e) {
+            log.warn("⚠️ Не удалось разобрать план для оценки числа задач: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private record CachedCount(long value, long countedAt, long generation) {
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.taskmanagement.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p><b>Секции Рабочих Таблиц по Месяцам 📅</b></p>
+ *
+ * <p>
+ *     {@code tasks} секционирована по месяцу {@code created_at}, {@code comments} — по месяцу создания задачи
+ *     ({@code db/task-schema.sql}). Сервис создает секции {@code <таблица>_pYYYY_MM} заранее и удаляет
+ *     опустевшие секции прошлых месяцев.
+ * </p>
+ *
+ * <ul>
+ *     <li><b>Создание:</b> при запуске и по расписанию — секции {@code DEFAULT} и месячные секции от текущего месяца
+ *     на {@code app.tasks.partitions.premake-months} вперед. Новые задачи всегда попадают в секцию текущего месяца.</li>
+ *     <li><b>Удаление:</b> месяц раньше предыдущего, в котором не осталось задач (все архивированы или удалены),
+ *     отсоединяется и удаляется вместе с секцией комментариев. Запросы по {@code id} читают индекс каждой секции,
+ *     поэтому пустые секции не копятся.</li>
+ *     <li><b>{@code DEFAULT}:</b> принимает строки, для месяца которых нет секции (например, если обслуживание долго
+ *     не выполнялось). Если в ней есть строки, сервис пишет предупреждение: секцию такого месяца создать нельзя,
+ *     пока строки не перенесены.</li>
+ * </ul>
+ *
+ * <blockquote>
+ *     Если таблицы созданы без секционирования (до {@code db/partition-hot-tables-*.sql}), сервис пишет
+ *     предупреждение и ничего не делает. После миграции старая таблица остается секцией
+ *     {@code FROM (MINVALUE) TO (<месяц переключения>)}: месяцы до границы она уже покрывает, и их секции
+ *     не создаются.
+ * </blockquote>
+ */
+@Service
+@Slf4j
+public class TaskPartitionService implements ApplicationRunner {
+
+    private static final List<String> PARENT_TABLES = List.of("tasks", "comments");
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("_p(\\d{4})_(\\d{2})$");
+    private static final Pattern LEGACY_BOUND = Pattern.compile("^FOR VALUES FROM \\(MINVALUE\\) TO \\('([^']+)'\\)$");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int premakeMonths;
+    private final Set<YearMonth> createdMonths = ConcurrentHashMap.newKeySet();
+    private volatile Boolean partitioned;
+
+    public TaskPartitionService(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${app.tasks.partitions.premake-months:3}") int premakeMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.premakeMonths = premakeMonths;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        maintain();
+    }
+
+    /**
+     * <p><b>Создание Секций для Месяцев</b></p>
+     *
+     * <p>Нужно и для загрузки данных задним числом (например, засева нагрузочного теста).</p>
+     *
+     * @param months Месяцы создания задач.
+     */
+    public void ensureMonths(Collection<YearMonth> months) {
+        if (!isPartitioned()) {
+            return;
+        }
+        LocalDateTime legacyBound = legacyBound();
+        for (YearMonth month : months) {
+            if (createdMonths.contains(month)
+                    || (legacyBound != null && month.atDay(1).atStartOfDay().isBefore(legacyBound))) {
+                continue;
+            }
+            for (String parent : PARENT_TABLES) {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                        .formatted(partitionName(parent, month), parent, month.atDay(1), month.plusMonths(1).atDay(1)));
+            }
+            createdMonths.add(month);
+            log.debug("📅 Секции задач за {} готовы.", month);
+        }
+    }
+
+    /**
+     * <p><b>Плановое Обслуживание Секций 📅</b></p>
+     * <p>
+     *     Создает секции на {@code premake-months} вперед, удаляет опустевшие прошлые месяцы и проверяет,
+     *     что секции {@code DEFAULT} пусты.
+     * </p>
+     */
+    @Scheduled(cron = "${app.tasks.partitions.maintenance-cron:0 45 2 * * *}")
+    public void maintain() {
+        if (!isPartitioned()) {
+            return;
+        }
+        for (String parent : PARENT_TABLES) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s_default PARTITION OF %s DEFAULT".formatted(parent, parent));
+        }
+        YearMonth current = YearMonth.now();
+        List<YearMonth> upcoming = new ArrayList<>();
+        for (YearMonth month = current; !month.isAfter(current.plusMonths(premakeMonths)); month = month.plusMonths(1)) {
+            upcoming.add(month);
+        }
+        ensureMonths(upcoming);
+        // Предыдущий месяц не трогаем: у задач, создаваемых около полуночи первого числа, он еще может быть текущим.
+        dropEmptyBefore(current.minusMonths(1));
+        for (String parent : PARENT_TABLES) {
+            Boolean misplaced = jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM %s_default)".formatted(parent), Boolean.class);
+            if (Boolean.TRUE.equals(misplaced)) {
+                log.warn("⚠️ В секции {}_default есть строки: для их месяцев нет секций.", parent);
+            }
+        }
+    }
+
+    private void dropEmptyBefore(YearMonth cutoff) {
+        for (String partition : partitionsOf("tasks")) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.find()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (!month.isBefore(cutoff)) {
+                continue;
+            }
+            Boolean dropped = transactionTemplate.execute(status -> {
+                // Блокировка секции не дает вставить строку между проверкой и удалением.
+                jdbcTemplate.execute("LOCK TABLE %s IN SHARE ROW EXCLUSIVE MODE".formatted(partition));
+                Boolean empty = jdbcTemplate.queryForObject(
+                        "SELECT NOT EXISTS (SELECT 1 FROM %s)".formatted(partition), Boolean.class);
+                if (!Boolean.TRUE.equals(empty)) {
+                    return false;
+                }
+                // Секции комментариев пусты вместе с секцией задач: их держит внешний ключ.
+                // Секция задач, на которую ссылается внешний ключ, удаляется только после DETACH.
+                String comments = partitionName("comments", month);
+                if (partitionsOf("comments").contains(comments)) {
+                    jdbcTemplate.execute("DROP TABLE " + comments);
+                }
+                jdbcTemplate.execute("ALTER TABLE tasks DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                return true;
+            });
+            if (Boolean.TRUE.equals(dropped)) {
+                createdMonths.remove(month);
+                log.info("🧹 Пустые секции задач за {} удалены.", month);
+            }
+        }
+    }
+
+    /**
+     * @return Верхняя граница секции {@code FROM (MINVALUE)} (перенесенной несекционированной таблицы) или {@code null}.
+     */
+    private LocalDateTime legacyBound() {
+        List<String> bounds = jdbcTemplate.queryForList(
+                "SELECT pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = to_regclass('tasks')",
+                String.class);
+        for (String bound : bounds) {
+            Matcher matcher = LEGACY_BOUND.matcher(bound);
+            if (matcher.matches()) {
+                return LocalDateTime.parse(matcher.group(1), BOUND_FORMAT);
+            }
+        }
+        return null;
+    }
+
+    private List<String> partitionsOf(String parent) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = to_regclass(?)",
+                String.class, parent);
+    }
+
+    private boolean isPartitioned() {
+        Boolean result = partitioned;
+        if (result == null) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_partitioned_table WHERE partrelid IN (to_regclass('tasks'), to_regclass('comments'))",
+                    Integer.class);
+            result = count != null && count == PARENT_TABLES.size();
+            if (!result) {
+                log.warn("⚠️ Таблицы tasks/comments не секционированы (см. db/partition-hot-tables-*.sql); управление секциями отключено.");
+            }
+            partitioned = result;
+        }
+        return result;
+    }
+
+    private static String partitionName(String parent, YearMonth month) {
+        return parent + "_p" + month.format(MONTH_SUFFIX);
+    }
+}
@@ -1,28 +1,57 @@
 package com.example.taskmanagement.service;
 
 import com.example.taskmanagement.controller.GlobalExceptionHandler;
+import com.example.taskmanagement.dto.CountStrategy;
 import com.example.taskmanagement.dto.CreateTaskDTO;
+import com.example.taskmanagement.dto.TaskBatchDTO;
+import com.example.taskmanagement.dto.TaskCriteriaDTO;
 import com.example.taskmanagement.dto.TaskDTO;
+import com.example.taskmanagement.dto.TaskField;
+import com.example.taskmanagement.dto.TaskFilterDTO;
+import com.example.taskmanagement.dto.TaskFieldSelection;
+import com.example.taskmanagement.dto.TaskPageDTO;
 import com.example.taskmanagement.dto.UpdateTaskDTO;
+import com.example.taskmanagement.exception.BusinessException;
+import com.example.taskmanagement.exception.ErrorCode;
+import com.example.taskmanagement.index.ColumnarTaskIndex;
+import com.example.taskmanagement.index.TaskBitmapIndex;
+import com.example.taskmanagement.index.TaskBitmapQuery;
+import com.example.taskmanagement.index.TaskIndexQuery;
 import com.example.taskmanagement.model.AppUser;
+import com.example.taskmanagement.model.ArchivedTask;
 import com.example.taskmanagement.model.Status;
 import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.monitoring.RequestTrace;
+import com.example.taskmanagement.repository.ArchivedTaskRepository;
+import com.example.taskmanagement.repository.CommentRepository;
 import com.example.taskmanagement.repository.TaskRepository;
 import com.example.taskmanagement.repository.UserRepository;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -35,7 +64,7 @@ import java.util.stream.Collectors;
  *
  * <p><b>Подход к Обработке Ошибок:</b></p>
  * <blockquote>
- *     Сервис активно использует {@link ResponseStatusException} для обработки
+ *     Сервис активно использует {@link BusinessException} для обработки
  *     всех ожидаемых ошибок (например, "задача не найдена", "исполнитель не найден", "недостаточно прав").
  *     Это позволяет контроллерам оставаться "чистыми", делегируя формирование
  *     HTTP-ответов об ошибках фреймворку Spring через {@link GlobalExceptionHandler}.
@@ -47,14 +76,45 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TaskService {
 
+    /**
+     * Максимальный размер страницы {@link #getOverdueTasks}/{@link #getDueSoonTasks}.
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * Максимальный горизонт {@link #getDueSoonTasks} в днях.
+     */
+    public static final int MAX_DUE_SOON_DAYS = 365;
+
+    /**
+     * Максимальное число ID в одном запросе {@link #getTasksByIds}.
+     */
+    public static final int MAX_BATCH_IDS = 1000;
+
+    /**
+     * Сколько ID задач (найденных {@link ColumnarTaskIndex} или запрошенных списком) читается из базы одним запросом.
+     */
+    private static final int HYDRATE_CHUNK_SIZE = 1000;
+
+    /**
+     * SQL открытых задач для оценки числа строк планировщиком ({@link CountStrategy#ESTIMATED});
+     * условие совпадает с {@link TaskRepository#OPEN_STATUS_CONDITION}.
+     */
+    private static final String OPEN_TASKS_SQL =
+            "SELECT 1 FROM tasks t WHERE t.status IN ('WAITING', 'IN_PROGRESS', 'ON_HOLD', 'IN_REVIEW')";
+
+    private static final String USER_SCOPE_SQL = " AND (t.author_id = ? OR t.executor_id = ?)";
+
     private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
     private final UserRepository userRepository;
     private final UserService userService;
     private final ModelMapper modelMapper;
-
-    private static final String TASK_NOT_FOUND_CODE = "TASK-001";
-    private static final String TASK_ACCESS_DENIED_CODE = "TASK-002";
-    private static final String USER_NOT_FOUND_CODE = "USR-002";
+    private final ApplicationEventPublisher eventPublisher;
+    private final Optional<ColumnarTaskIndex> taskIndex;
+    private final Optional<TaskBitmapIndex> bitmapIndex;
+    private final TaskCountService taskCountService;
 
     /**
      * <p><b>Создает новую задачу ➕</b></p>
@@ -65,7 +125,7 @@ public class TaskService {
      *
      * @param createTaskDTO DTO для создания задачи, содержащее заголовок, описание, срок выполнения и (опционально) email исполнителя.
      * @return Созданная и сохраненная сущность {@link Task}.
-     * @throws ResponseStatusException
+     * @throws BusinessException
      *         <ul>
      *             <li><b>401 UNAUTHORIZED</b> (`AUTH-001`): Если пользователь не аутентифицирован (этот случай обычно перехватывается Spring Security раньше).</li>
      *             <li><b>404 NOT_FOUND</b> (`USR-002`): Если аутентифицированный пользователь не найден в БД (редкий случай) или указанный исполнитель не найден.</li>
@@ -77,14 +137,14 @@ public class TaskService {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             log.debug("❌ Ошибка аутентификации при создании задачи. Пользователь не авторизован.");
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "AUTH-001: Для создания задачи необходимо авторизоваться.");
+            throw new BusinessException(ErrorCode.AUTHENTICATION_REQUIRED);
         }
 
         String authorEmail = authentication.getName();
         AppUser author = userRepository.findByEmail(authorEmail)
                 .orElseThrow(() -> {
                     log.debug("❌ Аутентифицированный пользователь '{}' не найден в базе данных.", authorEmail);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, USER_NOT_FOUND_CODE + ": Аутентифицированный пользователь не найден.");
+                    return new BusinessException(ErrorCode.AUTHENTICATED_USER_NOT_FOUND);
                 });
 
         Task task = modelMapper.map(createTaskDTO, Task.class);
@@ -96,7 +156,7 @@ public class TaskService {
             AppUser executor = userRepository.findByEmail(createTaskDTO.getExecutorUsername())
                     .orElseThrow(() -> {
                         log.debug("❌ Исполнитель с email '{}' не найден.", createTaskDTO.getExecutorUsername());
-                        return new ResponseStatusException(HttpStatus.NOT_FOUND, USER_NOT_FOUND_CODE + ": Исполнитель с email '" + createTaskDTO.getExecutorUsername() + "' не найден.");
+                        return new BusinessException(ErrorCode.EXECUTOR_NOT_FOUND);
                     });
             task.setExecutor(executor);
         } else {
@@ -104,6 +164,7 @@ public class TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(savedTask));
         log.info("✅ Задача '{}' успешно создана (ID: {}) автором '{}'.", savedTask.getTitle(), savedTask.getId(), authorEmail);
 
         return convertToDTO(savedTask);
@@ -118,7 +179,7 @@ public class TaskService {
      * @param updateTaskDTO DTO с данными для обновления задачи.
      * @param taskId ID задачи для редактирования.
      * @return Обновленная сущность {@link Task}.
-     * @throws ResponseStatusException
+     * @throws BusinessException
      *         <ul>
      *             <li><b>404 NOT_FOUND</b> (`TASK-001`): Если задача с указанным ID не найдена.</li>
      *             <li><b>404 NOT_FOUND</b> (`USR-002`): Если указанный исполнитель (если он меняется) не найден.</li>
@@ -132,7 +193,7 @@ public class TaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> {
                     log.debug("❌ Задача с ID '{}' не найдена для редактирования.", taskId);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, String.format(TASK_NOT_FOUND_CODE + ": Задача с ID %d не найдена.", taskId));
+                    return new BusinessException(ErrorCode.TASK_NOT_FOUND);
                 });
 
         AppUser currentUser = getAuthenticatedUser();
@@ -140,7 +201,7 @@ public class TaskService {
         if (!task.getAuthor().getId().equals(currentUser.getId())) {
             log.error("🚫 Пользователь '{}' (ID: {}) пытался редактировать задачу ID: {}, к которой у него нет прав. Автор задачи: '{}' (ID: {}).",
                     currentUser.getEmail(), currentUser.getId(), taskId, task.getAuthor().getEmail(), task.getAuthor().getId());
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, TASK_ACCESS_DENIED_CODE + ": Вы не имеете прав на редактирование этой задачи.");
+            throw new BusinessException(ErrorCode.TASK_EDIT_DENIED);
         }
 
         modelMapper.map(updateTaskDTO, task);
@@ -150,7 +211,7 @@ public class TaskService {
                     .orElseThrow(() -> {
                         log.debug("❌ Новый исполнитель с email '{}' не найден при редактировании задачи ID: {}.",
                                 updateTaskDTO.getExecutorUsername(), taskId);
-                        return new ResponseStatusException(HttpStatus.NOT_FOUND, USER_NOT_FOUND_CODE + ": Исполнитель с email '" + updateTaskDTO.getExecutorUsername() + "' не найден.");
+                        return new BusinessException(ErrorCode.EXECUTOR_NOT_FOUND);
                     });
             task.setExecutor(newExecutor);
         } else if (updateTaskDTO.getExecutorUsername() != null && updateTaskDTO.getExecutorUsername().isEmpty()) {
@@ -159,6 +220,7 @@ public class TaskService {
 
         task.setUpdatedAt(LocalDateTime.now());
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(updatedTask));
         log.info("✅ Задача с ID: {} успешно обновлена пользователем '{}'.", updatedTask.getId(), currentUser.getEmail());
 
         return convertToDTO(updatedTask);
@@ -171,7 +233,7 @@ public class TaskService {
      * </p>
      *
      * @param taskId ID задачи для удаления.
-     * @throws ResponseStatusException
+     * @throws BusinessException
      *         <ul>
      *             <li><b>404 NOT_FOUND</b> (`TASK-001`): Если задача с указанным ID не найдена.</li>
      *             <li><b>403 FORBIDDEN</b> (`TASK-002`): Если текущий пользователь не является автором задачи.</li>
@@ -182,7 +244,7 @@ public class TaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> {
                     log.debug("❌ Задача с ID '{}' не найдена для удаления.", taskId);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, String.format(TASK_NOT_FOUND_CODE + ": Задача с ID %d не найдена.", taskId));
+                    return new BusinessException(ErrorCode.TASK_NOT_FOUND);
                 });
 
         AppUser currentUser = getAuthenticatedUser();
@@ -190,11 +252,11 @@ public class TaskService {
         if (!task.getAuthor().getId().equals(currentUser.getId())) {
             log.debug("🚫 Пользователь '{}' (ID: {}) пытался удалить задачу ID: {}, к которой у него нет прав. Автор задачи: '{}' (ID: {}).",
                     currentUser.getEmail(), currentUser.getId(), taskId, task.getAuthor().getEmail(), task.getAuthor().getId());
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, TASK_ACCESS_DENIED_CODE + ": Вы не имеете прав на удаление этой задачи.");
+            throw new BusinessException(ErrorCode.TASK_DELETE_DENIED);
         }
 
-        taskRepository.deleteById(taskId);
-        log.info("✅ Задача с ID: {} успешно удалена пользователем '{}'.", taskId, currentUser.getEmail());
+        int comments = deleteWithComments(taskId);
+        log.info("✅ Задача с ID: {} успешно удалена пользователем '{}' (комментариев: {}).", taskId, currentUser.getEmail(), comments);
     }
 
     /**
@@ -205,15 +267,22 @@ public class TaskService {
      *     в зависимости от настроек безопасности на уровне контроллера.
      * </p>
      *
+     * @param selection Набор полей ответа ({@link TaskFieldSelection#ALL} — все поля).
+     * @param includeArchived Добавить задачи из архива ({@code tasks_archive}).
      * @return {@link List} всех сущностей {@link Task}.
      */
     @Transactional(readOnly = true)
-    public List<TaskDTO> getAllTasks() {
-        log.debug("📢 Получение всех задач.");
-        List<Task> tasks = taskRepository.findAllWithComments();
-        return tasks.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public List<TaskDTO> getAllTasks(TaskFieldSelection selection, boolean includeArchived) {
+        log.debug("📢 Получение всех задач (с архивом: {}).", includeArchived);
+        List<TaskDTO> tasks;
+        if (!selection.isAll()) {
+            tasks = taskRepository.findProjected(null, selection);
+        } else {
+            tasks = taskRepository.findAllWithComments().stream()
+                    .map(this::convertToDTO)
+                    .collect(Collectors.toList());
+        }
+        return includeArchived ? withArchived(tasks, archivedTaskRepository.findAll(), selection) : tasks;
     }
 
     /**
@@ -224,14 +293,19 @@ public class TaskService {
      *
      * @param startDate Начальная дата диапазона (включительно).
      * @param endDate Конечная дата диапазона (включительно).
+     * @param selection Набор полей ответа.
      * @return {@link List} DTO объектов {@link TaskDTO}, представляющих задачи в указанном диапазоне.
      */
     @Transactional(readOnly = true)
-    public List<TaskDTO> getTasksBetweenDates(LocalDate startDate, LocalDate endDate) {
+    public List<TaskDTO> getTasksBetweenDates(LocalDate startDate, LocalDate endDate, TaskFieldSelection selection) {
         log.debug("📢 Поиск задач со сроком выполнения между {} и {}.", startDate, endDate);
         if (startDate.isAfter(endDate)) {
             log.debug("❌ Неверный диапазон дат: начальная дата {} после конечной {}.", startDate, endDate);
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "TASK-003: Начальная дата не может быть позже конечной даты.");
+            throw new BusinessException(ErrorCode.TASK_INVALID_DATE_RANGE);
+        }
+        if (!selection.isAll()) {
+            return taskRepository.findProjected(
+                    (root, query, cb) -> cb.between(root.get("dueDate"), startDate, endDate), selection);
         }
         List<Task> tasks = taskRepository.findByDueDateBetween(startDate, endDate);
         log.info("✅ Найдено {} задач со сроком выполнения между {} и {}.", tasks.size(), startDate, endDate);
@@ -243,25 +317,35 @@ public class TaskService {
     /**
      * <p><b>Получает задачи по ID 🆔</b></p>
      * <p>
-     *     Возвращает одну задачу по её уникальному идентификатору.
+     *     Возвращает одну задачу по её уникальному идентификатору. Если в {@code tasks} задачи нет,
+     *     она ищется в архиве ({@code tasks_archive}) — ID при архивации не меняется.
      * </p>
      *
      * @param taskId ID задачи.
+     * @param selection Набор полей ответа.
      * @return Найденная сущность {@link Task}.
-     * @throws ResponseStatusException
+     * @throws BusinessException
      *         <ul>
      *             <li><b>404 NOT_FOUND</b> (`TASK-001`): Если задача с указанным ID не найдена.</li>
      *         </ul>
      */
     @Transactional(readOnly = true)
-    public TaskDTO getTaskById(long taskId) {
+    public TaskDTO getTaskById(long taskId, TaskFieldSelection selection) {
         log.debug("📢 Поиск задачи по ID: {}", taskId);
-        Task task = taskRepository.findById(taskId)
+        Optional<TaskDTO> task;
+        if (!selection.isAll()) {
+            task = taskRepository.findProjected((root, query, cb) -> cb.equal(root.get("id"), taskId), selection)
+                    .stream()
+                    .findFirst();
+        } else {
+            task = taskRepository.findById(taskId).map(this::convertToDTO);
+        }
+        return task
+                .or(() -> archivedTaskRepository.findById(taskId).map(archived -> convertToDTO(archived, selection)))
                 .orElseThrow(() -> {
                     log.debug("❌ Задача с ID '{}' не найдена.", taskId);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, String.format(TASK_NOT_FOUND_CODE + ": Задача с ID %d не найдена.", taskId));
+                    return new BusinessException(ErrorCode.TASK_NOT_FOUND);
                 });
-        return convertToDTO(task);
     }
 
     /**
@@ -271,21 +355,33 @@ public class TaskService {
      * </p>
      *
      * @param email Email пользователя.
+     * @param selection Набор полей ответа.
+     * @param includeArchived Добавить задачи пользователя из архива.
      * @return {@link List} DTO объектов {@link TaskDTO}, принадлежащих пользователю.
-     * @throws ResponseStatusException
+     * @throws BusinessException
      *         <ul>
      *             <li><b>404 NOT_FOUND</b> (`USR-002`): Если пользователь с указанным email не найден.</li>
      *         </ul>
      */
     @Transactional(readOnly = true)
-    public List<TaskDTO> getAllTasksByUser(String email) {
+    public List<TaskDTO> getAllTasksByUser(String email, TaskFieldSelection selection, boolean includeArchived) {
         log.debug("📢 Поиск всех задач для пользователя с email: '{}'.", email);
         AppUser user = userService.getUserByEmail(email);
-        List<Task> tasks = taskRepository.findByAuthorOrExecutor(user, user);
-        log.info("✅ Найдено {} задач для пользователя '{}'.", tasks.size(), email);
-        return tasks.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        Long userId = user.getId();
+        List<TaskDTO> tasks;
+        if (!selection.isAll()) {
+            tasks = taskRepository.findProjected((root, query, cb) -> cb.or(
+                    cb.equal(root.get("author").get("id"), userId),
+                    cb.equal(root.get("executor").get("id"), userId)), selection);
+        } else {
+            tasks = taskRepository.findByAuthorOrExecutor(user, user).stream()
+                    .map(this::convertToDTO)
+                    .collect(Collectors.toList());
+            log.info("✅ Найдено {} задач для пользователя '{}'.", tasks.size(), email);
+        }
+        return includeArchived
+                ? withArchived(tasks, archivedTaskRepository.findByAuthorIdOrExecutorId(userId, userId), selection)
+                : tasks;
     }
 
     /**
@@ -298,7 +394,7 @@ public class TaskService {
      * @param taskId ID задачи для назначения.
      * @param executorId ID пользователя, на которого будет назначена задача.
      * @return Обновленная сущность {@link Task}.
-     * @throws ResponseStatusException
+     * @throws BusinessException
      *         <ul>
      *             <li><b>404 NOT_FOUND</b> (`TASK-001`): Если задача не найдена.</li>
      *             <li><b>404 NOT_FOUND</b> (`USR-002`): Если пользователь-исполнитель не найден.</li>
@@ -312,17 +408,18 @@ public class TaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> {
                     log.debug("❌ Задача с ID '{}' не найдена для назначения.", taskId);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, String.format(TASK_NOT_FOUND_CODE + ": Задача не найдена с ID: %d.", taskId));
+                    return new BusinessException(ErrorCode.TASK_NOT_FOUND);
                 });
 
         AppUser executor = userRepository.findById(executorId)
                 .orElseThrow(() -> {
                     log.debug("❌ Пользователь с ID '{}' не найден для назначения задачи ID: {}.", executorId, taskId);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, String.format(USER_NOT_FOUND_CODE + ": Пользователь не найден с ID: %d.", executorId));
+                    return new BusinessException(ErrorCode.USER_NOT_FOUND);
                 });
 
         task.setExecutor(executor);
         Task assignedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(assignedTask));
         log.info("✅ Задача с ID {} успешно назначена на пользователя с ID {}.", taskId, executorId);
         return convertToDTO(assignedTask);
     }
@@ -336,7 +433,7 @@ public class TaskService {
      * @param taskId ID задачи.
      * @param newStatus Новый статус задачи.
      * @return Обновленная сущность {@link Task}.
-     * @throws ResponseStatusException
+     * @throws BusinessException
      *         <ul>
      *             <li><b>404 NOT_FOUND</b> (`TASK-001`): Если задача не найдена.</li>
      *             <li><b>403 FORBIDDEN</b> (`TASK-002`): Если текущий пользователь не является автором или исполнителем задачи.</li>
@@ -350,7 +447,7 @@ public class TaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> {
                     log.debug("❌ Задача с ID '{}' не найдена для изменения статуса.", taskId);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, String.format(TASK_NOT_FOUND_CODE + ": Задача не найдена с ID: %d.", taskId));
+                    return new BusinessException(ErrorCode.TASK_NOT_FOUND);
                 });
 
         AppUser currentUser = getAuthenticatedUser();
@@ -361,12 +458,13 @@ public class TaskService {
         if (!isAuthor && !isExecutor) {
             log.warn("🚫 Пользователь '{}' (ID: {}) пытался изменить статус задачи ID: {}, но не является ни автором, ни исполнителем.",
                     currentUser.getEmail(), currentUser.getId(), taskId);
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, TASK_ACCESS_DENIED_CODE + ": Вы не имеете прав на изменение статуса этой задачи.");
+            throw new BusinessException(ErrorCode.TASK_STATUS_DENIED);
         }
 
         task.setStatus(newStatus);
         task.setUpdatedAt(LocalDateTime.now());
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(updatedTask));
         log.info("✅ Статус задачи с ID {} успешно изменен на '{}' пользователем '{}'.", taskId, newStatus, currentUser.getEmail());
         return convertToDTO(updatedTask);
     }
@@ -379,7 +477,7 @@ public class TaskService {
      * </p>
      *
      * @param taskId ID задачи для удаления.
-     * @throws ResponseStatusException
+     * @throws BusinessException
      *         <ul>
      *             <li><b>404 NOT_FOUND</b> (`TASK-001`): Если задача с указанным ID не найдена.</li>
      *         </ul>
@@ -389,10 +487,28 @@ public class TaskService {
         log.info("👑 Попытка удаления любой задачи с ID: {} (админ).", taskId);
         if (!taskRepository.existsById(taskId)) {
             log.error("❌ Задача с ID '{}' не найдена для административного удаления.", taskId);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, String.format(TASK_NOT_FOUND_CODE + ": Задача с ID %d не найдена.", taskId));
+            throw new BusinessException(ErrorCode.TASK_NOT_FOUND);
         }
-        taskRepository.deleteById(taskId);
-        log.info("✅ Задача с ID {} успешно удалена (админ).", taskId);
+        int comments = deleteWithComments(taskId);
+        log.info("✅ Задача с ID {} успешно удалена (админ, комментариев: {}).", taskId, comments);
+    }
+
+    /**
+     * <p><b>Вспомогательный метод: Удаляет задачу вместе с комментариями 🧹</b></p>
+     * <p>
+     *     Два пакетных {@code DELETE} вместо каскада JPA, который загружал бы каждый комментарий.
+     *     Репозиторий очищает контекст персистентности, так что удаленные сущности в нем не остаются.
+     * </p>
+     *
+     * @param taskId ID задачи.
+     * @return Количество удаленных комментариев.
+     */
+    private int deleteWithComments(long taskId) {
+        List<Long> ids = List.of(taskId);
+        int comments = commentRepository.deleteAllByTaskIdIn(ids);
+        taskRepository.deleteAllByIdIn(ids);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(taskId));
+        return comments;
     }
 
 
@@ -406,7 +522,7 @@ public class TaskService {
      * @param updateTaskDTO DTO с данными для частичного обновления.
      * @param taskId ID задачи для редактирования.
      * @return Обновленный DTO задачи.
-     * @throws ResponseStatusException ...
+     * @throws BusinessException ...
      */
     @Transactional
     public TaskDTO patchTask(UpdateTaskDTO updateTaskDTO, long taskId) {
@@ -415,7 +531,7 @@ public class TaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> {
                     log.debug("❌ Задача с ID '{}' не найдена для частичного редактирования.", taskId);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, String.format(TASK_NOT_FOUND_CODE + ": Задача с ID %d не найдена.", taskId));
+                    return new BusinessException(ErrorCode.TASK_NOT_FOUND);
                 });
 
         AppUser currentUser = getAuthenticatedUser();
@@ -423,7 +539,7 @@ public class TaskService {
         if (!task.getAuthor().getId().equals(currentUser.getId())) {
             log.error("🚫 Пользователь '{}' (ID: {}) пытался редактировать задачу ID: {}, к которой у него нет прав.",
                     currentUser.getEmail(), currentUser.getId(), taskId);
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, TASK_ACCESS_DENIED_CODE + ": Вы не имеете прав на редактирование этой задачи.");
+            throw new BusinessException(ErrorCode.TASK_EDIT_DENIED);
         }
 
         if (updateTaskDTO.getTitle() != null) {
@@ -447,13 +563,14 @@ public class TaskService {
                 task.setExecutor(null);
             } else {
                 AppUser newExecutor = userRepository.findByEmail(updateTaskDTO.getExecutorUsername())
-                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, USER_NOT_FOUND_CODE + ": Исполнитель с email '" + updateTaskDTO.getExecutorUsername() + "' не найден."));
+                        .orElseThrow(() -> new BusinessException(ErrorCode.EXECUTOR_NOT_FOUND));
                 task.setExecutor(newExecutor);
             }
         }
 
         task.setUpdatedAt(LocalDateTime.now());
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(updatedTask));
         log.info("✅ Задача с ID: {} успешно частично обновлена пользователем '{}'.", updatedTask.getId(), currentUser.getEmail());
 
         return convertToDTO(updatedTask);
@@ -469,7 +586,7 @@ public class TaskService {
      * @param taskId ID задачи для обновления.
      * @param updateTaskDTO DTO с данными для обновления.
      * @return Обновленная сущность {@link Task}.
-     * @throws ResponseStatusException
+     * @throws BusinessException
      *         <ul>
      *             <li><b>404 NOT_FOUND</b> (`TASK-001`): Если задача не найдена.</li>
      *             <li><b>404 NOT_FOUND</b> (`USR-002`): Если указанный исполнитель (если он меняется) не найден.</li>
@@ -482,7 +599,7 @@ public class TaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> {
                     log.error("❌ Задача с ID '{}' не найдена для административного обновления.", taskId);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, String.format(TASK_NOT_FOUND_CODE + ": Задача не найдена с ID: %d.", taskId));
+                    return new BusinessException(ErrorCode.TASK_NOT_FOUND);
                 });
 
         modelMapper.map(updateTaskDTO, task);
@@ -492,7 +609,7 @@ public class TaskService {
                     .orElseThrow(() -> {
                         log.error("❌ Новый исполнитель с email '{}' не найден при административном обновлении задачи ID: {}.",
                                 updateTaskDTO.getExecutorUsername(), taskId);
-                        return new ResponseStatusException(HttpStatus.NOT_FOUND, USER_NOT_FOUND_CODE + ": Исполнитель с email '" + updateTaskDTO.getExecutorUsername() + "' не найден.");
+                        return new BusinessException(ErrorCode.EXECUTOR_NOT_FOUND);
                     });
             task.setExecutor(newExecutor);
         } else if (updateTaskDTO.getExecutorUsername() != null && updateTaskDTO.getExecutorUsername().isEmpty()) {
@@ -501,6 +618,7 @@ public class TaskService {
 
         task.setUpdatedAt(LocalDateTime.now());
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(updatedTask));
         log.info("✅ Задача с ID {} успешно обновлена (админ).", taskId);
         return updatedTask;
     }
@@ -513,15 +631,24 @@ public class TaskService {
      * </p>
      *
      * @param appUser Сущность {@link AppUser} текущего аутентифицированного пользователя.
+     * @param selection Набор полей ответа.
+     * @param includeArchived Добавить архивные задачи пользователя.
      * @return {@link List} DTO объектов {@link TaskDTO}, представляющих задачи.
      */
     @Transactional(readOnly = true)
-    public List<TaskDTO> getMyTasks(AppUser appUser) {
+    public List<TaskDTO> getMyTasks(AppUser appUser, TaskFieldSelection selection, boolean includeArchived) {
         log.debug("📢 Получение задач, порученных пользователю '{}' (ID: {}).", appUser.getEmail(), appUser.getId());
-        List<Task> tasks = taskRepository.findByExecutor(appUser);
-        return tasks.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        Long userId = appUser.getId();
+        List<TaskDTO> tasks;
+        if (!selection.isAll()) {
+            tasks = taskRepository.findProjected(
+                    (root, query, cb) -> cb.equal(root.get("executor").get("id"), userId), selection);
+        } else {
+            tasks = taskRepository.findByExecutor(appUser).stream()
+                    .map(this::convertToDTO)
+                    .collect(Collectors.toList());
+        }
+        return includeArchived ? withArchived(tasks, archivedTaskRepository.findByExecutorId(userId), selection) : tasks;
     }
 
     /**
@@ -531,15 +658,129 @@ public class TaskService {
      * </p>
      *
      * @param status Статус задачи (например, `TO_DO`, `IN_PROGRESS`, `DONE`).
+     * @param selection Набор полей ответа.
+     * @param includeArchived Добавить архивные задачи; имеет смысл только для завершающих статусов
+     *                        ({@link TaskArchivalService#FINISHED_STATUSES}).
      * @return {@link List} сущностей {@link Task}.
      */
     @Transactional(readOnly = true)
-    public List<TaskDTO> getTasksByStatus(Status status) {
+    public List<TaskDTO> getTasksByStatus(Status status, TaskFieldSelection selection, boolean includeArchived) {
         log.debug("📢 Поиск задач по статусу: '{}'.", status);
-        List<Task> tasks = taskRepository.findByStatus(status);
-        return tasks.stream()
+        List<TaskDTO> tasks;
+        if (!selection.isAll()) {
+            tasks = taskRepository.findProjected((root, query, cb) -> cb.equal(root.get("status"), status), selection);
+        } else {
+            tasks = taskRepository.findByStatus(status).stream()
+                    .map(this::convertToDTO)
+                    .collect(Collectors.toList());
+        }
+        if (!includeArchived || !TaskArchivalService.FINISHED_STATUSES.contains(status)) {
+            return tasks;
+        }
+        return withArchived(tasks, archivedTaskRepository.findByStatus(status), selection);
+    }
+
+    /**
+     * <p><b>Получает просроченные задачи ⏰</b></p>
+     * <p>
+     *     Открытые задачи ({@code WAITING}, {@code IN_PROGRESS}, {@code ON_HOLD}, {@code IN_REVIEW}) со сроком
+     *     раньше сегодняшнего дня: сначала более приоритетные, затем с более ранним сроком. Одна страница —
+     *     один запрос по частичному индексу {@code ix_tasks_open_due_date}.
+     * </p>
+     *
+     * @param user Пользователь, чьи задачи (как автора или исполнителя) нужны; {@code null} — все задачи.
+     * @param page Номер страницы (с нуля).
+     * @param size Размер страницы; приводится к диапазону 1..{@value #MAX_PAGE_SIZE}.
+     * @param count Способ подсчета общего числа задач ({@link TaskCountService}).
+     * @return Страница задач.
+     */
+    @Transactional(readOnly = true)
+    public TaskPageDTO getOverdueTasks(AppUser user, int page, int size, CountStrategy count) {
+        log.debug("📢 Получение просроченных задач (пользователь: {}, страница: {}).", user != null ? user.getEmail() : "все", page);
+        LocalDate today = LocalDate.now();
+        PageRequest pageRequest = pageRequest(page, size);
+        Slice<Task> slice = user == null
+                ? taskRepository.findOverdue(today, pageRequest)
+                : taskRepository.findOverdueForUser(today, user.getId(), pageRequest);
+        if (user == null) {
+            return toPage(slice, count, "overdue:" + today,
+                    () -> taskRepository.countOverdue(today),
+                    OPEN_TASKS_SQL + " AND t.due_date < ?", today);
+        }
+        return toPage(slice, count, "overdue:" + today + ":" + user.getId(),
+                () -> taskRepository.countOverdueForUser(today, user.getId()),
+                OPEN_TASKS_SQL + " AND t.due_date < ?" + USER_SCOPE_SQL, today, user.getId(), user.getId());
+    }
+
+    /**
+     * <p><b>Получает задачи с приближающимся сроком ⏳</b></p>
+     * <p>
+     *     Открытые задачи со сроком от сегодняшнего дня до {@code days} дней вперед (включительно),
+     *     в том же порядке, что и {@link #getOverdueTasks}.
+     * </p>
+     *
+     * @param user Пользователь, чьи задачи (как автора или исполнителя) нужны; {@code null} — все задачи.
+     * @param days Горизонт в днях, 1..{@value #MAX_DUE_SOON_DAYS}.
+     * @param page Номер страницы (с нуля).
+     * @param size Размер страницы; приводится к диапазону 1..{@value #MAX_PAGE_SIZE}.
+     * @param count Способ подсчета общего числа задач ({@link TaskCountService}).
+     * @return Страница задач.
+     * @throws BusinessException
+     *         <ul>
+     *             <li><b>400 BAD_REQUEST</b> (`TASK-006`): Если {@code days} вне допустимого диапазона.</li>
+     *         </ul>
+     */
+    @Transactional(readOnly = true)
+    public TaskPageDTO getDueSoonTasks(AppUser user, int days, int page, int size, CountStrategy count) {
+        log.debug("📢 Получение задач со сроком в ближайшие {} дн. (пользователь: {}, страница: {}).",
+                days, user != null ? user.getEmail() : "все", page);
+        if (days < 1 || days > MAX_DUE_SOON_DAYS) {
+            log.debug("❌ Недопустимый горизонт due-soon: {} дн.", days);
+            throw new BusinessException(ErrorCode.TASK_INVALID_DUE_SOON_DAYS);
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate until = today.plusDays(days);
+        PageRequest pageRequest = pageRequest(page, size);
+        Slice<Task> slice = user == null
+                ? taskRepository.findDueBetween(today, until, pageRequest)
+                : taskRepository.findDueBetweenForUser(today, until, user.getId(), pageRequest);
+        if (user == null) {
+            return toPage(slice, count, "due-soon:" + today + ":" + until,
+                    () -> taskRepository.countDueBetween(today, until),
+                    OPEN_TASKS_SQL + " AND t.due_date BETWEEN ? AND ?", today, until);
+        }
+        return toPage(slice, count, "due-soon:" + today + ":" + until + ":" + user.getId(),
+                () -> taskRepository.countDueBetweenForUser(today, until, user.getId()),
+                OPEN_TASKS_SQL + " AND t.due_date BETWEEN ? AND ?" + USER_SCOPE_SQL, today, until, user.getId(), user.getId());
+    }
+
+    private static PageRequest pageRequest(int page, int size) {
+        return PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    /**
+     * Страница с общим числом задач. Если страница последняя, число известно без запроса и помечается
+     * как {@code exact}; оценка не может быть меньше числа уже увиденных задач.
+     */
+    private TaskPageDTO toPage(Slice<Task> slice, CountStrategy strategy, String shape, LongSupplier exactCount,
+                               String estimateSql, Object... args) {
+        List<TaskDTO> items = slice.getContent().stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
+        TaskPageDTO result = new TaskPageDTO(items, slice.getNumber(), slice.getSize(), slice.hasNext(), null, null);
+        if (strategy == CountStrategy.NONE) {
+            return result;
+        }
+        long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+        if (!slice.hasNext() && (slice.hasContent() || slice.getNumber() == 0)) {
+            result.setTotal(seen);
+            result.setCountStrategy(CountStrategy.EXACT);
+        } else {
+            long total = taskCountService.count(strategy, shape, exactCount, estimateSql, args);
+            result.setTotal(strategy == CountStrategy.ESTIMATED ? Math.max(total, seen + (slice.hasNext() ? 1 : 0)) : total);
+            result.setCountStrategy(strategy);
+        }
+        return result;
     }
 
     /**
@@ -557,18 +798,32 @@ public class TaskService {
     }
 
     /**
-     * <p><b>Получает задачи по фильтру (на основе спецификации) 🔎</b></p>
+     * <p><b>Получает задачи по фильтру 🔎</b></p>
      * <p>
-     *     Возвращает список задач, соответствующих критериям, определенным в {@link Specification}.
-     *     Позволяет гибко фильтровать задачи по различным полям (например, по заголовку).
+     *     Возвращает список задач, соответствующих всем заданным полям {@link TaskFilterDTO}.
+     *     Структурный фильтр (без заголовка и описания) при включенном {@link ColumnarTaskIndex}
+     *     выполняется в памяти, а найденные задачи читаются одним запросом по первичному ключу
+     *     порциями по {@link #HYDRATE_CHUNK_SIZE}. Иначе фильтр выполняется запросом {@link Specification}.
      * </p>
      *
-     * @param spec {@link Specification<Task>} - критерии фильтрации.
+     * @param filter Параметры фильтра; все поля необязательны.
+     * @param selection Набор полей ответа.
      * @return {@link List} DTO объектов {@link TaskDTO}, соответствующих фильтру.
      */
     @Transactional(readOnly = true)
-    public List<TaskDTO> getTasksByFilter(Specification<Task> spec) {
+    public List<TaskDTO> getTasksByFilter(TaskFilterDTO filter, TaskFieldSelection selection) {
         log.debug("📢 Поиск задач по пользовательскому фильтру.");
+        if (taskIndex.isPresent() && !filter.hasTextCriteria()) {
+            Optional<List<TaskDTO>> indexed = findByIndex(taskIndex.get(), filter, selection);
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+        }
+
+        Specification<Task> spec = toSpecification(filter);
+        if (!selection.isAll()) {
+            return taskRepository.findProjected(spec, selection);
+        }
 
         List<Task> tasks = taskRepository.findAll(spec);
 
@@ -577,6 +832,214 @@ public class TaskService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * <p><b>Получает задачи по списку ID 📦</b></p>
+     * <p>
+     *     Замена серии запросов {@code /getById}: задачи читаются порциями по {@link #HYDRATE_CHUNK_SIZE} ID, каждая —
+     *     одним запросом вместе с автором и исполнителем (или проекцией выбранных полей). ID, не найденные в
+     *     {@code tasks}, ищутся одним запросом в архиве.
+     * </p>
+     *
+     * @param ids Запрошенные ID; повторы и {@code null} игнорируются.
+     * @param selection Набор полей ответа.
+     * @return Задачи в порядке первого упоминания ID и список ID, которые не найдены.
+     * @throws BusinessException
+     *         <ul>
+     *             <li><b>400 BAD_REQUEST</b> (`TASK-008`): Если различных ID больше {@value #MAX_BATCH_IDS}.</li>
+     *         </ul>
+     */
+    @Transactional(readOnly = true)
+    public TaskBatchDTO getTasksByIds(List<Long> ids, TaskFieldSelection selection) {
+        List<Long> requested = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (requested.size() > MAX_BATCH_IDS) {
+            log.debug("❌ Запрошено {} задач при лимите {}.", requested.size(), MAX_BATCH_IDS);
+            throw new BusinessException(ErrorCode.TASK_BATCH_TOO_LARGE);
+        }
+        log.debug("📢 Пакетное получение {} задач.", requested.size());
+        Map<Long, TaskDTO> found = new HashMap<>(requested.size() * 2);
+        for (int from = 0; from < requested.size(); from += HYDRATE_CHUNK_SIZE) {
+            List<Long> chunk = requested.subList(from, Math.min(from + HYDRATE_CHUNK_SIZE, requested.size()));
+            if (!selection.isAll()) {
+                taskRepository.findProjected((root, q, cb) -> root.get("id").in(chunk), selection)
+                        .forEach(task -> found.put(task.getId(), task));
+            } else {
+                taskRepository.findAllWithUsersByIdIn(chunk).forEach(task -> found.put(task.getId(), convertToDTO(task)));
+            }
+        }
+        if (found.size() < requested.size()) {
+            List<Long> notInTasks = requested.stream().filter(id -> !found.containsKey(id)).toList();
+            archivedTaskRepository.findAllById(notInTasks)
+                    .forEach(archived -> found.put(archived.getId(), convertToDTO(archived, selection)));
+        }
+        List<TaskDTO> items = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            TaskDTO task = found.get(id);
+            if (task != null) {
+                items.add(task);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            log.debug("🔍 Не найдены задачи с ID: {}.", missing);
+        }
+        return new TaskBatchDTO(items, missing);
+    }
+
+    private Optional<List<TaskDTO>> findByIndex(ColumnarTaskIndex index, TaskFilterDTO filter, TaskFieldSelection selection) {
+        Optional<Long> authorId = resolveUserId(filter.getAuthorUsername());
+        Optional<Long> executorId = resolveUserId(filter.getExecutorUsername());
+        if ((filter.getAuthorUsername() != null && authorId.isEmpty())
+                || (filter.getExecutorUsername() != null && executorId.isEmpty())) {
+            return Optional.of(List.of());
+        }
+        TaskIndexQuery query = new TaskIndexQuery(filter.getStatus(), filter.getPriority(),
+                authorId.orElse(null), executorId.orElse(null),
+                filter.getStartDate(), filter.getEndDate(), filter.getUpdatedAfter());
+        return index.findIds(query).map(ids -> {
+            log.debug("🧮 Фильтр выполнен индексом в памяти: {} задач.", ids.size());
+            List<TaskDTO> result = new ArrayList<>(ids.size());
+            for (int from = 0; from < ids.size(); from += HYDRATE_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + HYDRATE_CHUNK_SIZE, ids.size()));
+                if (!selection.isAll()) {
+                    result.addAll(taskRepository.findProjected((root, q, cb) -> root.get("id").in(chunk), selection));
+                } else {
+                    taskRepository.findAllWithUsersByIdIn(chunk).forEach(task -> result.add(convertToDTO(task)));
+                }
+            }
+            return result;
+        });
+    }
+
+    private Optional<Long> resolveUserId(String email) {
+        return email == null ? Optional.empty() : userRepository.findByEmail(email).map(AppUser::getId);
+    }
+
+    private static Specification<Task> toSpecification(TaskFilterDTO filter) {
+        return (root, query, criteriaBuilder) -> {
+            assert query != null;
+            if (Task.class.equals(query.getResultType())) {
+                root.fetch("author", JoinType.LEFT);
+                root.fetch("executor", JoinType.LEFT);
+            }
+
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getTitle() != null && !filter.getTitle().isEmpty()) {
+                predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), "%" + filter.getTitle().toLowerCase() + "%"));
+            }
+            if (filter.getDescription() != null && !filter.getDescription().isEmpty()) {
+                predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), "%" + filter.getDescription().toLowerCase() + "%"));
+            }
+            if (filter.getStatus() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("status"), filter.getStatus()));
+            }
+            if (filter.getPriority() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("priority"), filter.getPriority()));
+            }
+            if (filter.getAuthorUsername() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("author").get("email"), filter.getAuthorUsername()));
+            }
+            if (filter.getExecutorUsername() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("executor").get("email"), filter.getExecutorUsername()));
+            }
+            if (filter.getStartDate() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("dueDate"), filter.getStartDate()));
+            }
+            if (filter.getEndDate() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("dueDate"), filter.getEndDate()));
+            }
+            if (filter.getUpdatedAfter() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("updatedAt"), filter.getUpdatedAfter()));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * <p><b>Получает ID задач по комбинированным условиям 🗜️</b></p>
+     * <p>
+     *     Значения одного поля {@link TaskCriteriaDTO} объединяются через ИЛИ, разные поля — через И.
+     *     При включенном {@link TaskBitmapIndex} ответ вычисляется операциями над битовыми картами,
+     *     иначе — одним запросом только по колонке {@code id}.
+     * </p>
+     *
+     * @param criteria Условия отбора.
+     * @return ID подходящих задач по возрастанию.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> getTaskIdsByCriteria(TaskCriteriaDTO criteria) {
+        TaskBitmapQuery query = toBitmapQuery(criteria);
+        log.debug("📢 Поиск ID задач по комбинированным условиям.");
+        return bitmapIndex.flatMap(index -> index.findIds(query))
+                .orElseGet(() -> taskRepository.findIds(toSpecification(query)));
+    }
+
+    /**
+     * <p><b>Считает задачи по статусам 🗜️</b></p>
+     * <p>
+     *     Например, распределение по статусам задач команды: {@code executorUsernames} — ее участники.
+     *     Результат содержит каждый допустимый условиями статус, в том числе с нулевым числом задач.
+     * </p>
+     *
+     * @param criteria Условия отбора.
+     * @return Число задач по статусам.
+     */
+    @Transactional(readOnly = true)
+    public Map<Status, Long> countTasksByStatus(TaskCriteriaDTO criteria) {
+        TaskBitmapQuery query = toBitmapQuery(criteria);
+        log.debug("📢 Подсчет задач по статусам.");
+        return bitmapIndex.flatMap(index -> index.countByStatus(query))
+                .orElseGet(() -> {
+                    Map<Status, Long> counts = new EnumMap<>(Status.class);
+                    for (Status status : Status.values()) {
+                        if ((query.statuses() == null || query.statuses().isEmpty() || query.statuses().contains(status))
+                                && (query.excludedStatuses() == null || !query.excludedStatuses().contains(status))) {
+                            counts.put(status, 0L);
+                        }
+                    }
+                    taskRepository.countByStatus(toSpecification(query)).forEach(counts::put);
+                    return counts;
+                });
+    }
+
+    private TaskBitmapQuery toBitmapQuery(TaskCriteriaDTO criteria) {
+        Set<Long> executorIds = null;
+        if (criteria.getExecutorUsernames() != null && !criteria.getExecutorUsernames().isEmpty()) {
+            executorIds = new HashSet<>(userRepository.findIdsByEmailIn(criteria.getExecutorUsernames()));
+        }
+        return new TaskBitmapQuery(criteria.getStatuses(), criteria.getExcludedStatuses(), criteria.getPriorities(),
+                executorIds, criteria.getDueFrom(), criteria.getDueTo());
+    }
+
+    private static Specification<Task> toSpecification(TaskBitmapQuery query) {
+        return (root, criteriaQuery, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (query.statuses() != null && !query.statuses().isEmpty()) {
+                predicates.add(root.get("status").in(query.statuses()));
+            }
+            if (query.excludedStatuses() != null && !query.excludedStatuses().isEmpty()) {
+                predicates.add(criteriaBuilder.not(root.get("status").in(query.excludedStatuses())));
+            }
+            if (query.priorities() != null && !query.priorities().isEmpty()) {
+                predicates.add(root.get("priority").in(query.priorities()));
+            }
+            if (query.executorIds() != null) {
+                predicates.add(query.executorIds().isEmpty()
+                        ? criteriaBuilder.disjunction()
+                        : root.get("executor").get("id").in(query.executorIds()));
+            }
+            if (query.dueFrom() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("dueDate"), query.dueFrom()));
+            }
+            if (query.dueTo() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("dueDate"), query.dueTo()));
+            }
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
     /**
      * <p><b>Проверяет, является ли пользователь автором задачи (на основе DTO) ✅</b></p>
      * <p>
@@ -603,7 +1066,7 @@ public class TaskService {
      * </p>
      *
      * @return Сущность {@link AppUser} текущего пользователя.
-     * @throws ResponseStatusException
+     * @throws BusinessException
      *         <ul>
      *             <li><b>401 UNAUTHORIZED</b> (`AUTH-001`): Если пользователь не аутентифицирован.</li>
      *             <li><b>404 NOT_FOUND</b> (`USR-002`): Если аутентифицированный пользователь не найден в БД (очень редкий случай).</li>
@@ -613,13 +1076,13 @@ public class TaskService {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getName())) {
             log.error("❌ Попытка получить аутентифицированного пользователя без авторизации.");
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "AUTH-001: Для выполнения этого действия необходимо авторизоваться.");
+            throw new BusinessException(ErrorCode.AUTHENTICATION_REQUIRED);
         }
         String username = authentication.getName();
         return userRepository.findByEmail(username)
                 .orElseThrow(() -> {
                     log.error("❌ Аутентифицированный пользователь '{}' не найден в базе данных.", username);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, USER_NOT_FOUND_CODE + ": Аутентифицированный пользователь не найден.");
+                    return new BusinessException(ErrorCode.AUTHENTICATED_USER_NOT_FOUND);
                 });
     }
 
@@ -629,10 +1092,16 @@ public class TaskService {
      *     Использует {@link ModelMapper} для преобразования {@link Task} в {@link TaskDTO}.
      * </p>
      *
+     * <p>
+     *     Видимость пакетная, чтобы метод можно было измерять JMH-бенчмарками
+     *     из того же пакета ({@code src/jmh/java}).
+     * </p>
+     *
      * @param task Сущность {@link Task}.
      * @return {@link TaskDTO} представление задачи.
      */
-    private TaskDTO convertToDTO(Task task) {
+    TaskDTO convertToDTO(Task task) {
+        long started = RequestTrace.start();
         TaskDTO dto = modelMapper.map(task, TaskDTO.class);
         if (task.getAuthor() != null) {
             dto.setAuthor(task.getAuthor().getEmail());
@@ -640,6 +1109,50 @@ public class TaskService {
         if (task.getExecutor() != null) {
             dto.setExecutor(task.getExecutor().getEmail());
         }
+        RequestTrace.stop(RequestTrace.Phase.MAPPING, started);
+        return dto;
+    }
+
+    /**
+     * <p><b>Вспомогательный метод: Конвертирует архивную задачу в DTO 🗄️</b></p>
+     * <p>
+     *     Заполняет только выбранные поля; атрибуты {@link ArchivedTask} названы так же, как у {@link Task},
+     *     включая email автора и исполнителя. Признак {@code archived} выставляется всегда.
+     * </p>
+     *
+     * @param archived Архивная задача.
+     * @param selection Набор полей ответа.
+     * @return {@link TaskDTO} представление задачи.
+     */
+    private TaskDTO convertToDTO(ArchivedTask archived, TaskFieldSelection selection) {
+        TaskDTO dto = new TaskDTO();
+        for (TaskField field : selection.fields()) {
+            field.apply(dto, switch (field) {
+                case ID -> archived.getId();
+                case TITLE -> archived.getTitle();
+                case DESCRIPTION -> archived.getDescription();
+                case STATUS -> archived.getStatus();
+                case PRIORITY -> archived.getPriority();
+                case AUTHOR -> archived.getAuthor();
+                case EXECUTOR -> archived.getExecutor();
+                case CREATED_AT -> archived.getCreatedAt();
+                case UPDATED_AT -> archived.getUpdatedAt();
+                case DUE_DATE -> archived.getDueDate();
+            });
+        }
+        dto.setArchived(true);
         return dto;
     }
-}
\ No newline at end of file
+
+    private List<TaskDTO> withArchived(List<TaskDTO> tasks, List<ArchivedTask> archived, TaskFieldSelection selection) {
+        if (archived.isEmpty()) {
+            return tasks;
+        }
+        List<TaskDTO> result = new ArrayList<>(tasks.size() + archived.size());
+        result.addAll(tasks);
+        for (ArchivedTask task : archived) {
+            result.add(convertToDTO(task, selection));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.exception.BusinessException;
+import com.example.taskmanagement.exception.ErrorCode;
+import com.example.taskmanagement.model.AppUser;
+import com.example.taskmanagement.model.RevokedToken;
+import com.example.taskmanagement.repository.RevokedTokenRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import com.example.taskmanagement.security.JwtTokenProvider;
+import com.example.taskmanagement.security.TokenDenylist;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+
+/**
+ * <p><b>Сервис Отзыва Токенов 🚪</b></p>
+ *
+ * <p>
+ *     Реализует выход из системы и административный отзыв. Access токен отзывается по {@code jti}:
+ *     запись сохраняется в {@code revoked_tokens} (для остальных узлов) и после фиксации транзакции
+ *     добавляется в локальный {@link TokenDenylist}. Вместе с access токеном отзываются refresh токены,
+ *     иначе клиент просто получил бы новую пару.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+    private final TokenDenylist tokenDenylist;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+
+    /**
+     * <p><b>Выход из Системы</b></p>
+     *
+     * @param claims Claims текущего access токена.
+     * @param userId ID текущего пользователя.
+     * @param refreshToken Refresh токен этой сессии (необязательно). Если передан,
+     *                     отзывается все его семейство.
+     */
+    @Transactional
+    public void logout(Claims claims, Long userId, String refreshToken) {
+        revoke(claims);
+        if (refreshToken != null) {
+            refreshTokenService.revokeFamilyOf(refreshToken, userId);
+        }
+        log.info("🚪 Пользователь '{}' вышел из системы, токен {} отозван.", claims.getSubject(), claims.getId());
+    }
+
+    /**
+     * <p><b>Административный Отзыв Токена (для админа)</b></p>
+     * <p>
+     *     Отзывает предъявленный access токен и все refresh токены его владельца.
+     *     Используется при утечке токена.
+     * </p>
+     *
+     * @param token Access токен, который нужно отозвать.
+     * @throws BusinessException с кодом <b>400 BAD_REQUEST</b> и сообщением `AUTH-005`,
+     *         если токен поврежден, подписан чужим ключом или уже истек.
+     */
+    @Transactional
+    public void revokeByAdmin(String token) {
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        if (claims == null) {
+            throw new BusinessException(ErrorCode.INVALID_ACCESS_TOKEN);
+        }
+        revoke(claims);
+        userRepository.findByEmail(claims.getSubject())
+                .map(AppUser::getId)
+                .ifPresent(refreshTokenService::revokeAllForUser);
+        log.info("👑 Администратор отозвал токен {} пользователя '{}'.", claims.getId(), claims.getSubject());
+    }
+
+    private void revoke(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) {
+            log.warn("⚠️ Токен пользователя '{}' выпущен без jti и не может быть отозван до истечения.", claims.getSubject());
+            return;
+        }
+        Instant expiresAt = claims.getExpiration().toInstant();
+        if (!revokedTokenRepository.existsById(jti)) {
+            revokedTokenRepository.save(new RevokedToken(jti, expiresAt, Instant.now()));
+        }
+        addToDenylistAfterCommit(jti, expiresAt);
+    }
+
+    /**
+     * Локальный denylist пополняется только после фиксации записи в {@code revoked_tokens}: при откате
+     * транзакции этот узел иначе отклонял бы токен, который остальные узлы продолжают принимать.
+     */
+    private void addToDenylistAfterCommit(String jti, Instant expiresAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tokenDenylist.add(jti, expiresAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tokenDenylist.add(jti, expiresAt);
+            }
+        });
+    }
+}
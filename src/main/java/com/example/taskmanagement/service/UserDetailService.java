@@ -7,6 +7,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -28,6 +29,12 @@ import org.springframework.transaction.annotation.Transactional;
  *     всю необходимую информацию для проверки учетных данных и определения прав доступа (ролей).
  * </blockquote>
  *
+ * <p>
+ *     Дополнительно реализует {@link UserDetailsPasswordService}: через него
+ *     {@code DaoAuthenticationProvider} сохраняет пароль, перехешированный с актуальной
+ *     силой BCrypt после успешного входа.
+ * </p>
+ *
  * @see org.springframework.security.core.userdetails.UserDetailsService
  * @see com.example.taskmanagement.config.UserDetail
  * @see com.example.taskmanagement.model.AppUser
@@ -35,7 +42,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class UserDetailService implements UserDetailsService {
+public class UserDetailService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -77,4 +84,27 @@ public class UserDetailService implements UserDetailsService {
         log.debug("✅ Пользователь '{}' (ID: {}) успешно найден для аутентификации.", user.getEmail(), user.getId());
         return new UserDetail(user);
     }
-}
\ No newline at end of file
+
+    /**
+     * <p><b>Обновление Хеша Пароля после Входа 🔁</b></p>
+     * <p>
+     *     Вызывается Spring Security, когда сохраненный хеш создан с устаревшей силой BCrypt.
+     *     Новый хеш уже вычислен провайдером из только что проверенного пароля, поэтому
+     *     здесь выполняется только запись в базу.
+     * </p>
+     *
+     * @param user Пользователь, успешно прошедший аутентификацию.
+     * @param newPassword Новый хеш пароля.
+     * @return Обновленный {@link UserDetail}.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        AppUser appUser = userRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Пользователь с email '" + user.getUsername() + "' не найден."));
+        appUser.setPassword(newPassword);
+        userRepository.save(appUser);
+        log.info("🔁 Хеш пароля пользователя '{}' обновлен до актуальной силы BCrypt.", appUser.getEmail());
+        return new UserDetail(appUser);
+    }
+}
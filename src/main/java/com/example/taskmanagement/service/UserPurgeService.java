@@ -0,0 +1,259 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.dto.UserPurgeStatusDTO;
+import com.example.taskmanagement.exception.BusinessException;
+import com.example.taskmanagement.exception.ErrorCode;
+import com.example.taskmanagement.model.AppUser;
+import com.example.taskmanagement.repository.ArchivedCommentRepository;
+import com.example.taskmanagement.repository.ArchivedTaskRepository;
+import com.example.taskmanagement.repository.CommentRepository;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * <p><b>Фоновое Удаление Пользователя Порциями 🧹</b></p>
+ *
+ * <p>
+ *     У активного пользователя могут быть десятки тысяч задач и комментариев. Удаление одной
+ *     транзакцией держало бы блокировки минутами, поэтому запрос администратора только блокирует
+ *     учетную запись и отзывает refresh-токены (access токены заблокированной учетной записи отклоняет
+ *     {@code JwtAuthenticationFilter}), а данные удаляются в пуле {@code applicationTaskExecutor}
+ *     короткими транзакциями по {@code app.user-purge.chunk-size} строк:
+ * </p>
+ * <ol>
+ *     <li>задачи пользователя вместе с их комментариями;</li>
+ *     <li>снятие пользователя с чужих задач, где он исполнитель;</li>
+ *     <li>собственные комментарии пользователя к чужим задачам;</li>
+ *     <li>те же три шага для архива ({@code tasks_archive}/{@code comments_archive});</li>
+ *     <li>одной финальной транзакцией: повтор всех шагов (для строк, созданных запросами, которые уже
+ *     выполнялись в момент блокировки), refresh-токены и сама учетная запись.</li>
+ * </ol>
+ *
+ * <blockquote>
+ *     Каждая порция — пакетные {@code DELETE}/{@code UPDATE} по списку ID, без загрузки сущностей.
+ *     Если задание упало, повторный запрос продолжает с того же места: уже удаленные строки
+ *     просто не попадут в следующую порцию. Ход задания хранится в памяти узла и доступен
+ *     через {@link #getStatus(Long)} в течение {@code app.user-purge.retention} после завершения.
+ * </blockquote>
+ */
+@Service
+@Slf4j
+public class UserPurgeService {
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ArchivedCommentRepository archivedCommentRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final Duration retention;
+    private final Map<Long, PurgeJob> jobs = new ConcurrentHashMap<>();
+
+    public UserPurgeService(UserRepository userRepository,
+                            TaskRepository taskRepository,
+                            CommentRepository commentRepository,
+                            ArchivedTaskRepository archivedTaskRepository,
+                            ArchivedCommentRepository archivedCommentRepository,
+                            RefreshTokenService refreshTokenService,
+                            TransactionTemplate transactionTemplate,
+                            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${app.user-purge.chunk-size:1000}") int chunkSize,
+                            @Value("${app.user-purge.retention:PT1H}") Duration retention) {
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.archivedCommentRepository = archivedCommentRepository;
+        this.refreshTokenService = refreshTokenService;
+        this.transactionTemplate = transactionTemplate;
+        this.taskExecutor = taskExecutor;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+    }
+
+    /**
+     * <p><b>Запуск Удаления Пользователя</b></p>
+     *
+     * <p>
+     *     Синхронно блокирует учетную запись и удаляет refresh-токены, чтобы пользователь не мог
+     *     войти, пока идет удаление, и ставит задание в очередь. Повторный вызов для пользователя,
+     *     задание которого еще выполняется, возвращает текущий ход без нового задания.
+     * </p>
+     *
+     * @param userId ID пользователя.
+     * @return Ход задания.
+     * @throws BusinessException с кодом <b>404 NOT_FOUND</b> и сообщением `USR-002`, если пользователь не найден.
+     */
+    public UserPurgeStatusDTO startPurge(Long userId) {
+        PurgeJob running = jobs.get(userId);
+        if (running != null && running.isActive()) {
+            return running.toStatus();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            AppUser user = userRepository.findById(userId)
+                    .orElseThrow(() -> {
+                        log.warn("❌ Попытка удаления несуществующего пользователя с ID: {}", userId);
+                        return new BusinessException(ErrorCode.USER_NOT_FOUND);
+                    });
+            user.setLocked(true);
+            refreshTokenService.deleteAllForUser(userId);
+        });
+
+        PurgeJob job = new PurgeJob(userId);
+        PurgeJob current = jobs.merge(userId, job, (previous, fresh) -> previous.isActive() ? previous : fresh);
+        if (current != job) {
+            return current.toStatus();
+        }
+        taskExecutor.execute(() -> run(job));
+        log.info("🧹 Удаление пользователя с ID {} поставлено в очередь.", userId);
+        return job.toStatus();
+    }
+
+    /**
+     * <p><b>Ход Удаления Пользователя</b></p>
+     *
+     * @param userId ID пользователя.
+     * @return Ход последнего задания для пользователя.
+     * @throws BusinessException с кодом <b>404 NOT_FOUND</b> и сообщением `USR-005`, если задания нет
+     *         (не запускалось или удалено по истечении срока хранения).
+     */
+    public UserPurgeStatusDTO getStatus(Long userId) {
+        PurgeJob job = jobs.get(userId);
+        if (job == null) {
+            throw new BusinessException(ErrorCode.USER_PURGE_NOT_FOUND);
+        }
+        return job.toStatus();
+    }
+
+    private void run(PurgeJob job) {
+        Long userId = job.userId;
+        job.state = UserPurgeStatusDTO.State.RUNNING;
+        try {
+            drainAll(job);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                drainAll(job);
+                refreshTokenService.deleteAllForUser(userId);
+                userRepository.deleteById(userId);
+            });
+
+            job.finish(UserPurgeStatusDTO.State.COMPLETED, null);
+            log.info("✅ Пользователь с ID {} удален: задач {}, комментариев {}, снят с {} задач.",
+                    userId, job.deletedTasks.get(), job.deletedComments.get(), job.unassignedTasks.get());
+        } catch (RuntimeException e) {
+            job.finish(UserPurgeStatusDTO.State.FAILED, e.getMessage());
+            log.error("❌ Удаление пользователя с ID {} прервано: {}", userId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Все шаги удаления данных пользователя. Вызывается порциями вне транзакции, а затем еще раз внутри
+     * финальной транзакции: строки, созданные запросами, которые были в обработке в момент блокировки,
+     * удаляются вместе с учетной записью, и {@code deleteById} не упирается во внешний ключ.
+     */
+    private void drainAll(PurgeJob job) {
+        Long userId = job.userId;
+        drain(() -> taskRepository.findIdsByAuthorId(userId, PageRequest.ofSize(chunkSize)), ids -> {
+            job.deletedComments.addAndGet(commentRepository.deleteAllByTaskIdIn(ids));
+            job.deletedTasks.addAndGet(taskRepository.deleteAllByIdIn(ids));
+            ids.forEach(id -> eventPublisher.publishEvent(TaskChangedEvent.deleted(id)));
+        });
+        drain(() -> taskRepository.findIdsByExecutorId(userId, PageRequest.ofSize(chunkSize)), ids -> {
+            job.unassignedTasks.addAndGet(taskRepository.clearExecutorByIdIn(ids));
+            ids.forEach(id -> eventPublisher.publishEvent(TaskChangedEvent.unassigned(id)));
+        });
+        drain(() -> commentRepository.findIdsByAppUserId(userId, PageRequest.ofSize(chunkSize)),
+                ids -> job.deletedComments.addAndGet(commentRepository.deleteAllByIdIn(ids)));
+
+        drain(() -> archivedTaskRepository.findIdsByAuthorId(userId, PageRequest.ofSize(chunkSize)), ids -> {
+            job.deletedComments.addAndGet(archivedCommentRepository.deleteAllByTaskIdIn(ids));
+            job.deletedTasks.addAndGet(archivedTaskRepository.deleteAllByIdIn(ids));
+        });
+        drain(() -> archivedTaskRepository.findIdsByExecutorId(userId, PageRequest.ofSize(chunkSize)),
+                ids -> job.unassignedTasks.addAndGet(archivedTaskRepository.clearExecutorByIdIn(ids)));
+        drain(() -> archivedCommentRepository.findIdsByAppUserId(userId, PageRequest.ofSize(chunkSize)),
+                ids -> job.deletedComments.addAndGet(archivedCommentRepository.deleteAllByIdIn(ids)));
+    }
+
+    /**
+     * Обрабатывает порции, пока запрос ID не вернет пустой список. Каждая порция — своя транзакция.
+     */
+    private void drain(Supplier<List<Long>> nextChunk, Consumer<List<Long>> chunkAction) {
+        Boolean processed;
+        do {
+            processed = transactionTemplate.execute(status -> {
+                List<Long> ids = nextChunk.get();
+                if (ids.isEmpty()) {
+                    return false;
+                }
+                chunkAction.accept(ids);
+                return true;
+            });
+        } while (Boolean.TRUE.equals(processed));
+    }
+
+    /**
+     * <p><b>Очистка Завершенных Заданий</b></p>
+     * <p>Удаляет из памяти задания, завершившиеся раньше {@code app.user-purge.retention}.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.user-purge.cleanup-interval-ms:600000}")
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    private static final class PurgeJob {
+        private final Long userId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong deletedTasks = new AtomicLong();
+        private final AtomicLong deletedComments = new AtomicLong();
+        private final AtomicLong unassignedTasks = new AtomicLong();
+        private volatile UserPurgeStatusDTO.State state = UserPurgeStatusDTO.State.QUEUED;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private PurgeJob(Long userId) {
+            this.userId = userId;
+        }
+
+        boolean isActive() {
+            return state == UserPurgeStatusDTO.State.QUEUED || state == UserPurgeStatusDTO.State.RUNNING;
+        }
+
+        void finish(UserPurgeStatusDTO.State finalState, String failure) {
+            error = failure;
+            finishedAt = LocalDateTime.now();
+            state = finalState;
+        }
+
+        UserPurgeStatusDTO toStatus() {
+            return new UserPurgeStatusDTO(userId, state, deletedTasks.get(), deletedComments.get(),
+                    unassignedTasks.get(), startedAt, finishedAt, error);
+        }
+    }
+}
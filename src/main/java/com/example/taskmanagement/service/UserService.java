@@ -1,13 +1,15 @@
 package com.example.taskmanagement.service;
 
+import com.example.taskmanagement.config.UserDetail;
 import com.example.taskmanagement.dto.AllUserDTO;
+import com.example.taskmanagement.dto.AuthResponse;
 import com.example.taskmanagement.dto.UpdateUserDTO;
+import com.example.taskmanagement.exception.BusinessException;
+import com.example.taskmanagement.exception.ErrorCode;
 import com.example.taskmanagement.model.AppUser;
 import com.example.taskmanagement.repository.UserRepository;
-import com.example.taskmanagement.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -15,7 +17,6 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -30,7 +31,7 @@ import java.util.stream.Collectors;
  *
  * <p><b>Подход к Обработке Ошибок:</b></p>
  * <blockquote>
- *     Сервис активно использует {@link ResponseStatusException} для обработки
+ *     Сервис активно использует {@link BusinessException} для обработки
  *     всех ожидаемых бизнес-ошибок (например, "пользователь не найден", "неверный пароль", "email уже занят").
  *     Это позволяет контроллерам оставаться "чистыми" и фокусироваться на маршрутизации запросов,
  *     делегируя формирование HTTP-ответов об ошибках фреймворку Spring (через {@code @ControllerAdvice}).
@@ -43,9 +44,9 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final AuthenticationManager authenticationManager;
-    private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * <p><b>Регистрация Нового Пользователя</b></p>
@@ -56,14 +57,14 @@ public class UserService {
      *
      * @param newUser Объект {@link AppUser} с незахешированным паролем и другими данными пользователя.
      * @return Сохраненная сущность {@link AppUser} с сгенерированным ID и хешированным паролем.
-     * @throws ResponseStatusException с кодом <b>409 CONFLICT</b> и сообщением `USR-001`,
+     * @throws BusinessException с кодом <b>409 CONFLICT</b> и сообщением `USR-001`,
      *         если пользователь с указанным email уже существует в базе данных.
      */
     @Transactional
     public AppUser registerUser(AppUser newUser) {
         if (userRepository.existsByEmail(newUser.getEmail())) {
             log.warn("🚨 Попытка регистрации с существующим email: {}", newUser.getEmail());
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "USR-001: Пользователь с таким email уже существует");
+            throw new BusinessException(ErrorCode.USER_ALREADY_EXISTS);
         }
         newUser.setPassword(passwordEncoder.encode(newUser.getPassword()));
         AppUser savedUser = userRepository.save(newUser);
@@ -75,39 +76,59 @@ public class UserService {
      * <p><b>Аутентификация Пользователя</b></p>
      * <p>
      *     Проверяет учетные данные пользователя (email и пароль) через механизм {@link AuthenticationManager}.
-     *     В случае успешной проверки генерирует и возвращает JWT токен.
+     *     В случае успешной проверки выпускает короткоживущий JWT и refresh токен нового семейства.
      * </p>
      *
      * @param email    Email пользователя, используемый для аутентификации.
      * @param password Пароль пользователя в открытом виде.
-     * @return Сгенерированный JWT (String), который должен быть использован в последующих запросах.
-     * @throws ResponseStatusException с кодом <b>401 UNAUTHORIZED</b> и сообщением `AUTH-001`,
-     *         если предоставлены неверные учетные данные (email или пароль не совпадают).
+     * @return {@link AuthResponse} с access токеном для последующих запросов и refresh токеном
+     *         для его обновления без повторного ввода пароля.
+     * @throws BusinessException с кодом <b>401 UNAUTHORIZED</b> и сообщением `AUTH-001`,
+     *         если предоставлены неверные учетные данные (email или пароль не совпадают),
+     *         или с кодом <b>503 SERVICE_UNAVAILABLE</b> и сообщением `AUTH-002`, если пул
+     *         хеширования паролей перегружен.
      */
-    public String authenticateUser(String email, String password) {
+    public AuthResponse authenticateUser(String email, String password) {
+        Authentication authentication;
         try {
-            Authentication authentication = authenticationManager.authenticate(
+            authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(email, password)
             );
-            log.info("✅ Пользователь '{}' успешно аутентифицирован.", authentication.getName());
-            return jwtTokenProvider.generateToken(email);
         } catch (AuthenticationException e) {
             log.warn("❌ Ошибка аутентификации для пользователя '{}': {}", email, e.getMessage());
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "AUTH-001: Неверный email или пароль", e);
+            throw new BusinessException(ErrorCode.BAD_CREDENTIALS, e);
         }
+        log.info("✅ Пользователь '{}' успешно аутентифицирован.", authentication.getName());
+        return refreshTokenService.issueTokens(((UserDetail) authentication.getPrincipal()).appUser());
+    }
+
+    /**
+     * <p><b>Обновление Пары Токенов</b></p>
+     * <p>
+     *     Обменивает refresh токен на новую пару без проверки пароля.
+     * </p>
+     *
+     * @param refreshToken Refresh токен, выданный при входе или предыдущем обновлении.
+     * @return Новая пара токенов.
+     * @throws BusinessException с кодом <b>401 UNAUTHORIZED</b> и сообщением `AUTH-003`
+     *         для недействительного токена или `AUTH-004` при повторном использовании.
+     */
+    public AuthResponse refreshTokens(String refreshToken) {
+        return refreshTokenService.rotate(refreshToken);
     }
 
     /**
      * <p><b>Смена Пароля Пользователя</b></p>
      * <p>
      *     Позволяет пользователю обновить свой пароль. Требует текущего пароля для подтверждения
-     *     и нового пароля. Пароль перед сохранением хешируется.
+     *     и нового пароля. Пароль перед сохранением хешируется, а все выданные ранее
+     *     refresh токены пользователя отзываются.
      * </p>
      *
      * @param email       Email текущего пользователя, чей пароль нужно сменить.
      * @param oldPassword Текущий (старый) пароль пользователя в открытом виде. Используется для проверки.
      * @param newPassword Новый пароль пользователя в открытом виде.
-     * @throws ResponseStatusException
+     * @throws BusinessException
      *         <ul>
      *             <li><b>404 NOT_FOUND</b> (код ошибки: `USR-002`): если пользователь с указанным email не найден.</li>
      *             <li><b>400 BAD_REQUEST</b> (код ошибки: `USR-003`): если старый пароль указан неверно и не соответствует текущему.</li>
@@ -118,18 +139,19 @@ public class UserService {
     public void updatePassword(String email, String oldPassword, String newPassword) {
         if (oldPassword.equals(newPassword)) {
             log.warn("❌ Попытка смены пароля для пользователя '{}': новый пароль совпадает со старым.", email);
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "USR-004: Новый пароль не должен совпадать со старым");
+            throw new BusinessException(ErrorCode.PASSWORD_NOT_CHANGED);
         }
 
         AppUser user = getUserByEmail(email);
 
         if (!passwordEncoder.matches(oldPassword, user.getPassword())) {
             log.warn("❌ Попытка смены пароля для пользователя '{}': введен неверный старый пароль.", email);
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "USR-003: Неверный старый пароль");
+            throw new BusinessException(ErrorCode.WRONG_OLD_PASSWORD);
         }
 
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        refreshTokenService.revokeAllForUser(user.getId());
         log.info("✅ Пароль для пользователя '{}' успешно обновлен.", email);
     }
 
@@ -142,7 +164,7 @@ public class UserService {
      *
      * @param email Email для поиска пользователя.
      * @return Найденная сущность {@link AppUser}.
-     * @throws ResponseStatusException с кодом <b>404 NOT_FOUND</b> и сообщением `USR-002`,
+     * @throws BusinessException с кодом <b>404 NOT_FOUND</b> и сообщением `USR-002`,
      *         если пользователь с указанным email не найден в базе данных.
      */
     @Transactional(readOnly = true)
@@ -150,7 +172,7 @@ public class UserService {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> {
                     log.warn("🔍 Пользователь с email '{}' не найден.", email);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, "USR-002: Пользователь с email '" + email + "' не найден");
+                    return new BusinessException(ErrorCode.USER_NOT_FOUND);
                 });
     }
 
@@ -181,7 +203,7 @@ public class UserService {
      * @param userId        ID пользователя, чья роль будет обновлена.
      * @param updateUserDTO DTO {@link UpdateUserDTO}, содержащее новую роль пользователя.
      * @return Обновленная сущность {@link AppUser} с новой ролью.
-     * @throws ResponseStatusException с кодом <b>404 NOT_FOUND</b> и сообщением `USR-002`,
+     * @throws BusinessException с кодом <b>404 NOT_FOUND</b> и сообщением `USR-002`,
      *         если пользователь с указанным ID не найден.
      */
     @Transactional
@@ -189,32 +211,11 @@ public class UserService {
         AppUser user = userRepository.findById(userId)
                 .orElseThrow(() -> {
                     log.warn("❌ Попытка обновления несуществующего пользователя с ID: {}", userId);
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, "USR-002: Пользователь с ID " + userId + " не найден");
+                    return new BusinessException(ErrorCode.USER_NOT_FOUND);
                 });
         user.setRole(updateUserDTO.getRole());
         AppUser updatedUser = userRepository.save(user);
         log.info("✅ Роль пользователя с ID {} успешно обновлена на '{}'.", userId, updatedUser.getRole());
         return updatedUser;
     }
-
-    /**
-     * <p><b>Удаление Пользователя (для админа)</b></p>
-     * <p>
-     *     Полностью удаляет пользователя из системы по его уникальному ID.
-     *     Действие необратимо.
-     * </p>
-     *
-     * @param userId ID пользователя, которого необходимо удалить.
-     * @throws ResponseStatusException с кодом <b>404 NOT_FOUND</b> и сообщением `USR-002`,
-     *         если пользователь с указанным ID не найден и, следовательно, не может быть удален.
-     */
-    @Transactional
-    public void deleteUser(Long userId) {
-        if (!userRepository.existsById(userId)) {
-            log.warn("❌ Попытка удаления несуществующего пользователя с ID: {}", userId);
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "USR-002: Пользователь с ID " + userId + " не найден");
-        }
-        userRepository.deleteById(userId);
-        log.info("✅ Пользователь с ID {} был успешно удален.", userId);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+-- ===============================================================
+-- =  Архив задач и комментариев: секционирование по месяцу     =
+-- =  создания задачи (RANGE по created_at)                      =
+-- ===============================================================
+-- В профиле dev выполняется при запуске до инициализации JPA (spring.sql.init); в остальных
+-- окружениях (включая prod с ddl-auto: validate) применяется как миграция до развертывания.
+-- Если таблицы уже есть,
+-- скрипт ничего не меняет; обычная (несекционированная) таблица продолжает работать,
+-- а ArchivePartitionService пишет предупреждение и не управляет секциями.
+-- Секции по месяцам создает и отсоединяет ArchivePartitionService.
+-- Первичный ключ включает ключ секционирования — этого требует PostgreSQL. Сущности JPA
+-- (ArchivedTask, ArchivedComment) отображают только id: он уникален сам по себе, потому что
+-- копируется из первичного ключа tasks/comments, а строка удаляется из горячей таблицы в той же
+-- транзакции, что и копируется в архив.
+
+CREATE TABLE IF NOT EXISTS tasks_archive (
+    id             BIGINT        NOT NULL,
+    title          VARCHAR(100)  NOT NULL,
+    description    VARCHAR(2000),
+    status         VARCHAR(255)  NOT NULL,
+    priority       VARCHAR(255)  NOT NULL,
+    author_id      BIGINT        NOT NULL,
+    author_email   VARCHAR(255)  NOT NULL,
+    executor_id    BIGINT,
+    executor_email VARCHAR(255),
+    created_at     TIMESTAMP(6)  NOT NULL,
+    updated_at     TIMESTAMP(6)  NOT NULL,
+    due_date       DATE,
+    archived_at    TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Комментарии секционируются по дате создания их задачи, чтобы задача и ее комментарии
+-- лежали в секциях одного месяца и отсоединялись вместе.
+CREATE TABLE IF NOT EXISTS comments_archive (
+    id              BIGINT        NOT NULL,
+    task_id         BIGINT        NOT NULL,
+    task_created_at TIMESTAMP(6)  NOT NULL,
+    app_user_id     BIGINT        NOT NULL,
+    author_email    VARCHAR(255)  NOT NULL,
+    text            VARCHAR(2000) NOT NULL,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    PRIMARY KEY (id, task_created_at)
+) PARTITION BY RANGE (task_created_at);
+
+-- Срок хранения секций отсчитывается от последней архивации в секции (max(archived_at)),
+-- индекс делает эту проверку ArchivePartitionService мгновенной.
+CREATE INDEX IF NOT EXISTS ix_tasks_archive_archived_at ON tasks_archive (archived_at);
@@ -0,0 +1,18 @@
+-- ===============================================================
+-- =  Поиск по комментариям: pg_trgm и GIN-индекс по text        =
+-- ===============================================================
+-- Миграция для окружений, где приложение только проверяет схему (prod). В профиле dev те же
+-- выражения выполняет CommentSearchIndexInitializer.
+-- CREATE INDEX CONCURRENTLY нельзя выполнять внутри транзакции: применяйте скрипт в режиме autocommit.
+-- Прерванная сборка оставляет индекс INVALID, и IF NOT EXISTS его пропустит. Проверка:
+--   SELECT indisvalid FROM pg_index WHERE indexrelid = 'ix_comments_text_trgm'::regclass;
+-- Если false — выполните DROP INDEX CONCURRENTLY ix_comments_text_trgm; и примените скрипт заново.
+-- Для секционированной comments (db/task-schema.sql) CONCURRENTLY на родителе запрещен: создайте пустой индекс
+-- родителя (CREATE INDEX IF NOT EXISTS ix_comments_text_trgm ON ONLY comments ...), затем для каждой секции из
+-- SELECT inhrelid::regclass FROM pg_inherits WHERE inhparent = 'comments'::regclass постройте
+-- CREATE INDEX CONCURRENTLY <секция>_ix_comments_text_trgm ON <секция> ... и выполните
+-- ALTER INDEX ix_comments_text_trgm ATTACH PARTITION <секция>_ix_comments_text_trgm; — так делает и приложение в dev.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_comments_text_trgm ON comments USING gin (text gin_trgm_ops);
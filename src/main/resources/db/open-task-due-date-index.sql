@@ -0,0 +1,18 @@
+-- ===============================================================
+-- =  Частичный индекс сроков открытых задач                     =
+-- ===============================================================
+-- Миграция для окружений, где приложение только проверяет схему (prod). В профиле dev то же
+-- выражение выполняет OpenTaskDueDateIndexInitializer. Список статусов должен совпадать с
+-- TaskRepository.OPEN_STATUS_CONDITION, иначе планировщик не применит индекс.
+-- CREATE INDEX CONCURRENTLY нельзя выполнять внутри транзакции: применяйте скрипт в режиме autocommit.
+-- Прерванная сборка оставляет индекс INVALID, и IF NOT EXISTS его пропустит. Проверка:
+--   SELECT indisvalid FROM pg_index WHERE indexrelid = 'ix_tasks_open_due_date'::regclass;
+-- Если false — выполните DROP INDEX CONCURRENTLY ix_tasks_open_due_date; и примените скрипт заново.
+-- Для секционированной tasks (db/task-schema.sql) CONCURRENTLY на родителе запрещен: создайте пустой индекс
+-- родителя (CREATE INDEX IF NOT EXISTS ix_tasks_open_due_date ON ONLY tasks ...), затем для каждой секции из
+-- SELECT inhrelid::regclass FROM pg_inherits WHERE inhparent = 'tasks'::regclass постройте
+-- CREATE INDEX CONCURRENTLY <секция>_ix_tasks_open_due_date ON <секция> ... и выполните
+-- ALTER INDEX ix_tasks_open_due_date ATTACH PARTITION <секция>_ix_tasks_open_due_date; — так делает и приложение в dev.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_tasks_open_due_date ON tasks (due_date)
+    WHERE status IN ('WAITING', 'IN_PROGRESS', 'ON_HOLD', 'IN_REVIEW');
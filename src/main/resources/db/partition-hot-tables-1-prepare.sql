@@ -0,0 +1,69 @@
+-- ===============================================================
+-- =  Перевод tasks/comments на секционирование, шаг 1 из 2:    =
+-- =  подготовка без остановки приложения                        =
+-- ===============================================================
+-- Для баз, где tasks и comments созданы до db/task-schema.sql обычными таблицами. Шаг 2
+-- (db/partition-hot-tables-2-switch.sql) превращает их в секцию FROM (MINVALUE) TO (:cutover)
+-- новых секционированных таблиц. Здесь под обычной нагрузкой готовится все, что иначе
+-- потребовало бы полного чтения таблиц под блокировкой на шаге 2.
+-- Выполняется в psql в режиме autocommit (CONCURRENTLY и COMMIT внутри DO вне транзакции):
+--   psql -v cutover=2026-11-01 -f partition-hot-tables-1-prepare.sql
+-- cutover — первое число месяца ПОСЛЕ окна переключения: задачи, созданные до переключения,
+-- должны быть раньше этой даты. Если окно сдвигается за cutover, выберите следующий месяц и
+-- пересоздайте ограничения ck_*_partition_range.
+-- Индексы ix_tasks_open_due_date и ix_comments_text_trgm (open-task-due-date-index.sql,
+-- comment-search-index.sql) должны быть построены до шага 2 — иначе ATTACH построит их под блокировкой.
+
+-- 1. Ключ секционирования комментариев: дата создания задачи.
+ALTER TABLE comments ADD COLUMN IF NOT EXISTS task_created_at TIMESTAMP(6);
+
+-- Комментарии, которые создает текущая версия приложения, получают дату через триггер (удаляется на шаге 2).
+CREATE OR REPLACE FUNCTION comments_fill_task_created_at() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    IF NEW.task_created_at IS NULL THEN
+        SELECT t.created_at INTO NEW.task_created_at FROM tasks t WHERE t.id = NEW.task_id;
+    END IF;
+    RETURN NEW;
+END
+$$;
+
+CREATE OR REPLACE TRIGGER trg_comments_fill_task_created_at
+    BEFORE INSERT ON comments FOR EACH ROW EXECUTE FUNCTION comments_fill_task_created_at();
+
+-- Существующие комментарии заполняются порциями по id с фиксацией после каждой порции.
+DO $$
+DECLARE
+    last_id BIGINT := 0;
+    max_id  BIGINT;
+BEGIN
+    SELECT coalesce(max(id), 0) INTO max_id FROM comments;
+    WHILE last_id < max_id LOOP
+        UPDATE comments c SET task_created_at = t.created_at
+        FROM tasks t
+        WHERE t.id = c.task_id AND c.id > last_id AND c.id <= last_id + 10000 AND c.task_created_at IS NULL;
+        last_id := last_id + 10000;
+        COMMIT;
+    END LOOP;
+END
+$$;
+
+-- 2. Ограничения проверяются VALIDATE без блокировки записи. Граница :cutover совпадает с границей
+-- будущей секции, поэтому ATTACH на шаге 2 не читает таблицы; IS NOT NULL заменяет проверку SET NOT NULL.
+ALTER TABLE tasks ADD CONSTRAINT ck_tasks_partition_range CHECK (created_at < :'cutover') NOT VALID;
+ALTER TABLE tasks VALIDATE CONSTRAINT ck_tasks_partition_range;
+
+ALTER TABLE comments ADD CONSTRAINT ck_comments_partition_range
+    CHECK (task_created_at IS NOT NULL AND task_created_at < :'cutover') NOT VALID;
+ALTER TABLE comments VALIDATE CONSTRAINT ck_comments_partition_range;
+
+-- Срок не раньше дня создания: на этом держится отсечение секций в TaskRepository#findByDueDateBetween.
+-- Если VALIDATE находит нарушения, найдите их (SELECT id FROM tasks WHERE due_date < created_at::date)
+-- и исправьте срок до повторной проверки.
+ALTER TABLE tasks ADD CONSTRAINT ck_tasks_due_date_not_before_created
+    CHECK (due_date IS NULL OR due_date >= created_at::date) NOT VALID;
+ALTER TABLE tasks VALIDATE CONSTRAINT ck_tasks_due_date_not_before_created;
+
+-- 3. Индексы будущих первичных ключей (id, ключ секционирования).
+-- Прерванная сборка оставляет индекс INVALID: удалите его (DROP INDEX CONCURRENTLY) и повторите.
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS tasks_legacy_pkey ON tasks (id, created_at);
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS comments_legacy_pkey ON comments (id, task_created_at);
@@ -0,0 +1,79 @@
+-- ===============================================================
+-- =  Перевод tasks/comments на секционирование, шаг 2 из 2:    =
+-- =  переключение в окне обслуживания                           =
+-- ===============================================================
+-- Выполняется после шага 1 (db/partition-hot-tables-1-prepare.sql) при остановленном приложении,
+-- с тем же cutover и из каталога db (скрипт подключает task-schema.sql):
+--   psql -v cutover=2026-11-01 -v ON_ERROR_STOP=1 -f partition-hot-tables-2-switch.sql
+-- Старые таблицы становятся секциями tasks_legacy/comments_legacy с границей FROM (MINVALUE) TO (:cutover).
+-- Их индексы присоединяются к индексам новых таблиц без перестройки, а ограничения шага 1 избавляют
+-- ATTACH от чтения таблиц. Полностью читается только comments_legacy: составной внешний ключ на tasks
+-- проверяется при присоединении (NOT VALID для секционированных таблиц PostgreSQL 16 не поддерживает).
+-- После запуска приложения TaskPartitionService создает секции DEFAULT и месяцы начиная с :cutover.
+-- Секции *_legacy не удаляются автоматически: их строки уходят в архив обычным порядком.
+
+BEGIN;
+
+LOCK TABLE tasks, comments IN ACCESS EXCLUSIVE MODE;
+
+-- 1. Ключи старых таблиц на одном id заменяются ключами с ключом секционирования (индексы шага 1).
+DO $$
+DECLARE
+    fk TEXT;
+BEGIN
+    FOR fk IN SELECT conname FROM pg_constraint
+              WHERE conrelid = 'comments'::regclass AND confrelid = 'tasks'::regclass AND contype = 'f' LOOP
+        EXECUTE format('ALTER TABLE comments DROP CONSTRAINT %I', fk);
+    END LOOP;
+END
+$$;
+
+ALTER TABLE tasks DROP CONSTRAINT tasks_pkey;
+ALTER TABLE tasks ADD CONSTRAINT tasks_legacy_pkey PRIMARY KEY USING INDEX tasks_legacy_pkey;
+ALTER TABLE comments DROP CONSTRAINT comments_pkey;
+ALTER TABLE comments ALTER COLUMN task_created_at SET NOT NULL;
+ALTER TABLE comments ADD CONSTRAINT comments_legacy_pkey PRIMARY KEY USING INDEX comments_legacy_pkey;
+
+DROP TRIGGER trg_comments_fill_task_created_at ON comments;
+DROP FUNCTION comments_fill_task_created_at();
+
+-- 2. Старые таблицы, их индексы и последовательности переименовываются: имена переходят к новым таблицам.
+ALTER TABLE tasks RENAME TO tasks_legacy;
+ALTER TABLE comments RENAME TO comments_legacy;
+ALTER SEQUENCE tasks_id_seq RENAME TO tasks_legacy_id_seq;
+ALTER SEQUENCE comments_id_seq RENAME TO comments_legacy_id_seq;
+ALTER INDEX ix_tasks_due_date RENAME TO tasks_legacy_ix_tasks_due_date;
+ALTER INDEX ix_tasks_open_due_date RENAME TO tasks_legacy_ix_tasks_open_due_date;
+ALTER INDEX ix_comments_task_created_at_id RENAME TO comments_legacy_ix_comments_task_created_at_id;
+ALTER INDEX ix_comments_text_trgm RENAME TO comments_legacy_ix_comments_text_trgm;
+
+-- 3. Новые секционированные таблицы и их индексы (на пустых таблицах создаются мгновенно).
+\ir task-schema.sql
+
+CREATE INDEX ix_tasks_due_date ON tasks (due_date);
+CREATE INDEX ix_tasks_open_due_date ON tasks (due_date)
+    WHERE status IN ('WAITING', 'IN_PROGRESS', 'ON_HOLD', 'IN_REVIEW');
+CREATE INDEX ix_comments_task_created_at_id ON comments (task_id, created_at, id);
+CREATE INDEX ix_comments_text_trgm ON comments USING gin (text gin_trgm_ops);
+
+-- Внешние ключи на app_users под именами, которые дает Hibernate: при присоединении секций
+-- совпадающие ключи старых таблиц присоединяются без проверки.
+ALTER TABLE tasks ADD CONSTRAINT fkj4andmxsxfat3d9kuvlhisuyf FOREIGN KEY (author_id) REFERENCES app_users;
+ALTER TABLE tasks ADD CONSTRAINT fkjsdagchh8ofipxngict3htou6 FOREIGN KEY (executor_id) REFERENCES app_users;
+ALTER TABLE comments ADD CONSTRAINT fk2k4j4m50i9wyq68g76fes4fer FOREIGN KEY (app_user_id) REFERENCES app_users;
+
+-- 4. Старые таблицы становятся секциями.
+ALTER TABLE tasks ATTACH PARTITION tasks_legacy FOR VALUES FROM (MINVALUE) TO (:'cutover');
+ALTER TABLE comments ATTACH PARTITION comments_legacy FOR VALUES FROM (MINVALUE) TO (:'cutover');
+
+ALTER TABLE tasks_legacy DROP CONSTRAINT ck_tasks_partition_range;
+ALTER TABLE comments_legacy DROP CONSTRAINT ck_comments_partition_range;
+
+-- 5. Новые id продолжают последовательности старых таблиц.
+SELECT setval(pg_get_serial_sequence('tasks', 'id'), (SELECT last_value FROM tasks_legacy_id_seq));
+SELECT setval(pg_get_serial_sequence('comments', 'id'), (SELECT last_value FROM comments_legacy_id_seq));
+
+COMMIT;
+
+ANALYZE tasks;
+ANALYZE comments;
@@ -0,0 +1,45 @@
+-- ===============================================================
+-- =  Рабочие таблицы задач и комментариев: секционирование     =
+-- =  по месяцу создания задачи (RANGE по created_at)            =
+-- ===============================================================
+-- В профиле dev выполняется при запуске до инициализации JPA (spring.sql.init) и создает таблицы
+-- для новой базы. Существующие несекционированные таблицы скрипт не трогает — их переводит
+-- миграция db/partition-hot-tables-*.sql; в остальных окружениях (prod с ddl-auto: validate)
+-- этот скрипт применяется как миграция для новой базы.
+-- Секции <таблица>_pYYYY_MM и DEFAULT создает TaskPartitionService при запуске и по расписанию:
+-- в скрипте их не создать, не упав на старых несекционированных таблицах.
+-- Первичные ключи включают ключ секционирования — этого требует PostgreSQL. Сущности JPA
+-- отображают только id: он уникален сам по себе, потому что выдается одной последовательностью.
+-- Внешние ключи на app_users добавляет Hibernate (в dev) — таблица пользователей создается после скрипта.
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    title       VARCHAR(100)  NOT NULL,
+    description VARCHAR(2000),
+    status      VARCHAR(255)  NOT NULL,
+    priority    VARCHAR(255)  NOT NULL,
+    author_id   BIGINT        NOT NULL,
+    executor_id BIGINT,
+    created_at  TIMESTAMP(6)  NOT NULL,
+    updated_at  TIMESTAMP(6)  NOT NULL,
+    due_date    DATE,
+    PRIMARY KEY (id, created_at),
+    -- Срок не раньше дня создания (так проверяет @FutureOrPresent при каждой записи). На этом условии
+    -- держится отсечение секций в TaskRepository#findByDueDateBetween: created_at < конец диапазона сроков.
+    CONSTRAINT ck_tasks_due_date_not_before_created CHECK (due_date IS NULL OR due_date >= created_at::date)
+) PARTITION BY RANGE (created_at);
+
+-- Комментарии секционируются по дате создания их задачи: задача и ее комментарии лежат в секциях
+-- одного месяца, а составной внешний ключ удаляет комментарии вместе с задачей.
+CREATE TABLE IF NOT EXISTS comments (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    task_id         BIGINT        NOT NULL,
+    task_created_at TIMESTAMP(6)  NOT NULL,
+    app_user_id     BIGINT        NOT NULL,
+    text            VARCHAR(2000) NOT NULL,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    PRIMARY KEY (id, task_created_at),
+    CONSTRAINT fk_comments_task FOREIGN KEY (task_id, task_created_at)
+        REFERENCES tasks (id, created_at) ON DELETE CASCADE
+) PARTITION BY RANGE (task_created_at);
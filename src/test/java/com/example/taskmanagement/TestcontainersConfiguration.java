@@ -0,0 +1,25 @@
+package com.example.taskmanagement;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * <p><b>PostgreSQL в Testcontainers для Тестов Схемы 🐘</b></p>
+ *
+ * <p>
+ *     Та же версия, что в {@code docker-compose.yml}. Контейнер живет вместе с тестовым контекстом Spring,
+ *     поэтому классы с одинаковой конфигурацией используют один экземпляр. Тесты с этой конфигурацией помечаются
+ *     {@code @Testcontainers(disabledWithoutDocker = true)} и пропускаются там, где Docker недоступен.
+ * </p>
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class TestcontainersConfiguration {
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgresContainer() {
+        return new PostgreSQLContainer<>("postgres:16-alpine");
+    }
+}
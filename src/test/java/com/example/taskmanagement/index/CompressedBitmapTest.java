@@ -0,0 +1,304 @@
+package com.example.taskmanagement.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p><b>Тесты {@link CompressedBitmap} против {@link BitSet}</b></p>
+ *
+ * <p>
+ *     Каждая операция сравнивается с эталоном на {@link BitSet}. Наборы строятся так, чтобы попадать на
+ *     переход массив ⇄ биты ({@link CompressedBitmap#ARRAY_MAX} и {@code ARRAY_MAX + 1} значений в блоке)
+ *     и на границы 16-битных блоков. Зерна генератора фиксированы, поэтому падение воспроизводимо.
+ * </p>
+ */
+class CompressedBitmapTest {
+
+    private static final int BLOCK = 1 << 16;
+    private static final int BLOCKS = 4;
+    private static final int[] BLOCK_SIZES = {0, 1, 2, 4095, 4096, 4097, 20_000, BLOCK - 1, BLOCK};
+    private static final long[] SEEDS = {1L, 7L, 42L, 2024L, 99_991L};
+
+    @Test
+    void addAndRemoveMatchBitSet() {
+        for (long seed : SEEDS) {
+            Random random = new Random(seed);
+            CompressedBitmap bitmap = new CompressedBitmap();
+            BitSet expected = new BitSet();
+            int universe = BLOCKS * BLOCK;
+            for (int step = 0; step < 200_000; step++) {
+                // Узкие окна чаще наполняют один блок до перехода массив ⇄ биты и обратно.
+                int window = random.nextInt(4) == 0 ? universe : 6_000;
+                int base = random.nextInt(BLOCKS) * BLOCK;
+                int value = Math.min(universe - 1, base + random.nextInt(window));
+                if (random.nextInt(3) == 0) {
+                    bitmap.remove(value);
+                    expected.clear(value);
+                } else {
+                    bitmap.add(value);
+                    expected.set(value);
+                }
+                if (step % 10_000 == 0) {
+                    assertMatches(expected, bitmap, "seed " + seed + ", step " + step);
+                }
+            }
+            assertMatches(expected, bitmap, "seed " + seed);
+        }
+    }
+
+    @Test
+    void conversionAtArrayMaxBoundary() {
+        for (int base : new int[]{0, BLOCK, 3 * BLOCK}) {
+            CompressedBitmap bitmap = new CompressedBitmap();
+            BitSet expected = new BitSet();
+            for (int i = 0; i < CompressedBitmap.ARRAY_MAX; i++) {
+                bitmap.add(base + i * 3);
+                expected.set(base + i * 3);
+            }
+            assertEquals(CompressedBitmap.ARRAY_MAX, bitmap.cardinality());
+            assertMatches(expected, bitmap, "ARRAY_MAX значений");
+
+            bitmap.add(base + 1);
+            expected.set(base + 1);
+            assertEquals(CompressedBitmap.ARRAY_MAX + 1L, bitmap.cardinality());
+            assertMatches(expected, bitmap, "ARRAY_MAX + 1 значений");
+
+            bitmap.add(base + 1);
+            assertEquals(CompressedBitmap.ARRAY_MAX + 1L, bitmap.cardinality(), "повторное добавление");
+
+            bitmap.remove(base);
+            expected.clear(base);
+            assertEquals(CompressedBitmap.ARRAY_MAX, bitmap.cardinality());
+            assertMatches(expected, bitmap, "обратно к ARRAY_MAX");
+
+            bitmap.remove(base + 2);
+            assertEquals(CompressedBitmap.ARRAY_MAX, bitmap.cardinality(), "удаление отсутствующего значения");
+
+            bitmap.add(base);
+            bitmap.add(base + 2);
+            expected.set(base);
+            expected.set(base + 2);
+            assertMatches(expected, bitmap, "снова биты после массива");
+
+            for (int value = expected.nextSetBit(0); value >= 0; value = expected.nextSetBit(value + 1)) {
+                bitmap.remove(value);
+            }
+            assertTrue(bitmap.isEmpty());
+            assertEquals(List.of(), bitmap.toIds());
+        }
+    }
+
+    @Test
+    void keysAtBlockEdges() {
+        int[] values = {0, 1, 63, 64, BLOCK - 2, BLOCK - 1, BLOCK, BLOCK + 1, 2 * BLOCK - 1, 2 * BLOCK,
+                7 * BLOCK - 1, 7 * BLOCK};
+        CompressedBitmap bitmap = new CompressedBitmap();
+        BitSet expected = new BitSet();
+        for (int value : values) {
+            bitmap.add(value);
+            expected.set(value);
+        }
+        assertMatches(expected, bitmap, "края блоков");
+        assertFalse(bitmap.contains(2));
+        assertFalse(bitmap.contains(BLOCK + 2));
+        assertFalse(bitmap.contains(7 * BLOCK + 1));
+
+        CompressedBitmap other = new CompressedBitmap();
+        BitSet otherExpected = new BitSet();
+        for (int value : new int[]{BLOCK - 1, BLOCK, 2 * BLOCK, 7 * BLOCK, 5}) {
+            other.add(value);
+            otherExpected.set(value);
+        }
+        assertOperations(expected, bitmap, otherExpected, other, "края блоков");
+
+        bitmap.remove(BLOCK);
+        bitmap.remove(BLOCK + 1);
+        expected.clear(BLOCK);
+        expected.clear(BLOCK + 1);
+        assertMatches(expected, bitmap, "блок опустел");
+    }
+
+    @Test
+    void topOfIdRange() {
+        // BitSet до Integer.MAX_VALUE занимает 256 МБ, поэтому последний блок проверяется без эталона.
+        CompressedBitmap high = new CompressedBitmap();
+        high.add(Integer.MAX_VALUE);
+        high.add(Integer.MAX_VALUE - BLOCK + 1);
+        high.add(Integer.MAX_VALUE - BLOCK);
+        high.add(3);
+        assertEquals(List.of(3L, (long) Integer.MAX_VALUE - BLOCK, (long) Integer.MAX_VALUE - BLOCK + 1,
+                (long) Integer.MAX_VALUE), high.toIds());
+        assertTrue(high.contains(Integer.MAX_VALUE));
+        assertFalse(high.contains(Integer.MAX_VALUE - 1));
+
+        CompressedBitmap other = new CompressedBitmap();
+        other.add(Integer.MAX_VALUE);
+        other.add(3);
+        assertEquals(List.of(3L, (long) Integer.MAX_VALUE), CompressedBitmap.and(high, other).toIds());
+        assertEquals(2, CompressedBitmap.andCardinality(high, other));
+        assertEquals(List.of((long) Integer.MAX_VALUE - BLOCK, (long) Integer.MAX_VALUE - BLOCK + 1),
+                CompressedBitmap.andNot(high, other).toIds());
+        assertEquals(4, CompressedBitmap.or(other, high).cardinality());
+
+        high.remove(Integer.MAX_VALUE);
+        assertFalse(high.contains(Integer.MAX_VALUE));
+        assertEquals(3, high.cardinality());
+    }
+
+    @Test
+    void setOperationsMatchBitSetAcrossContainerSizes() {
+        Random random = new Random(17);
+        for (int sizeA : BLOCK_SIZES) {
+            for (int sizeB : BLOCK_SIZES) {
+                BitSet expectedA = new BitSet();
+                BitSet expectedB = new BitSet();
+                CompressedBitmap a = new CompressedBitmap();
+                CompressedBitmap b = new CompressedBitmap();
+                fillBlock(random, BLOCK, sizeA, expectedA, a);
+                fillBlock(random, BLOCK, sizeB, expectedB, b);
+                assertOperations(expectedA, a, expectedB, b, sizeA + " x " + sizeB);
+            }
+        }
+    }
+
+    @Test
+    void randomizedSetOperationsMatchBitSet() {
+        for (long seed : SEEDS) {
+            Random random = new Random(seed);
+            for (int round = 0; round < 20; round++) {
+                BitSet expectedA = new BitSet();
+                BitSet expectedB = new BitSet();
+                CompressedBitmap a = new CompressedBitmap();
+                CompressedBitmap b = new CompressedBitmap();
+                for (int block = 0; block < BLOCKS; block++) {
+                    fillBlock(random, block * BLOCK, randomBlockSize(random), expectedA, a);
+                    fillBlock(random, block * BLOCK, randomBlockSize(random), expectedB, b);
+                }
+                assertOperations(expectedA, a, expectedB, b, "seed " + seed + ", round " + round);
+            }
+        }
+    }
+
+    @Test
+    void sharedContainersDoNotLeakBetweenResultsAndLiveBitmaps() {
+        Random random = new Random(5);
+        List<CompressedBitmap> live = new ArrayList<>();
+        List<BitSet> expected = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            CompressedBitmap bitmap = new CompressedBitmap();
+            BitSet bits = new BitSet();
+            for (int block = 0; block < BLOCKS; block++) {
+                fillBlock(random, block * BLOCK, randomBlockSize(random), bits, bitmap);
+            }
+            live.add(bitmap);
+            expected.add(bits);
+        }
+
+        for (int round = 0; round < 50; round++) {
+            // Так строит запрос TaskBitmapIndex: объединение живых карт, затем пересечение и вычитание.
+            CompressedBitmap union = CompressedBitmap.union(live.subList(0, 3));
+            BitSet expectedUnion = new BitSet();
+            expected.subList(0, 3).forEach(expectedUnion::or);
+            assertMatches(expectedUnion, union, "union, round " + round);
+
+            CompressedBitmap filtered = CompressedBitmap.andNot(CompressedBitmap.and(union, live.get(3)), live.get(0));
+            BitSet expectedFiltered = (BitSet) expectedUnion.clone();
+            expectedFiltered.and(expected.get(3));
+            expectedFiltered.andNot(expected.get(0));
+            assertMatches(expectedFiltered, filtered, "and/andNot, round " + round);
+            assertEquals(expectedFiltered.cardinality(),
+                    CompressedBitmap.andCardinality(CompressedBitmap.andNot(union, live.get(0)), live.get(3)));
+
+            for (int i = 0; i < live.size(); i++) {
+                assertMatches(expected.get(i), live.get(i), "живая карта " + i + " после запроса, round " + round);
+            }
+
+            // Изменения живых карт между запросами, в том числе через ARRAY_MAX.
+            for (int step = 0; step < 3_000; step++) {
+                int i = random.nextInt(live.size());
+                int value = random.nextInt(BLOCKS) * BLOCK + random.nextInt(8_000);
+                if (random.nextBoolean()) {
+                    live.get(i).add(value);
+                    expected.get(i).set(value);
+                } else {
+                    live.get(i).remove(value);
+                    expected.get(i).clear(value);
+                }
+            }
+        }
+    }
+
+    private static int randomBlockSize(Random random) {
+        return BLOCK_SIZES[random.nextInt(BLOCK_SIZES.length)];
+    }
+
+    private static void fillBlock(Random random, int base, int count, BitSet expected, CompressedBitmap bitmap) {
+        if (count == BLOCK) {
+            for (int i = 0; i < BLOCK; i++) {
+                expected.set(base + i);
+                bitmap.add(base + i);
+            }
+            return;
+        }
+        BitSet block = new BitSet(BLOCK);
+        int filled = 0;
+        while (filled < count) {
+            int value = random.nextInt(BLOCK);
+            if (!block.get(value)) {
+                block.set(value);
+                filled++;
+            }
+        }
+        for (int i = block.nextSetBit(0); i >= 0; i = block.nextSetBit(i + 1)) {
+            expected.set(base + i);
+            bitmap.add(base + i);
+        }
+    }
+
+    private static void assertOperations(BitSet expectedA, CompressedBitmap a,
+                                         BitSet expectedB, CompressedBitmap b, String context) {
+        BitSet and = (BitSet) expectedA.clone();
+        and.and(expectedB);
+        BitSet or = (BitSet) expectedA.clone();
+        or.or(expectedB);
+        BitSet andNot = (BitSet) expectedA.clone();
+        andNot.andNot(expectedB);
+        BitSet reverseAndNot = (BitSet) expectedB.clone();
+        reverseAndNot.andNot(expectedA);
+
+        assertMatches(and, CompressedBitmap.and(a, b), "and, " + context);
+        assertMatches(and, CompressedBitmap.and(b, a), "and (b, a), " + context);
+        assertMatches(or, CompressedBitmap.or(a, b), "or, " + context);
+        assertMatches(or, CompressedBitmap.or(b, a), "or (b, a), " + context);
+        assertMatches(andNot, CompressedBitmap.andNot(a, b), "andNot, " + context);
+        assertMatches(reverseAndNot, CompressedBitmap.andNot(b, a), "andNot (b, a), " + context);
+        assertEquals(and.cardinality(), CompressedBitmap.andCardinality(a, b), "andCardinality, " + context);
+        assertEquals(and.cardinality(), CompressedBitmap.andCardinality(b, a), "andCardinality (b, a), " + context);
+
+        assertMatches(expectedA, a, "операнд a не изменился, " + context);
+        assertMatches(expectedB, b, "операнд b не изменился, " + context);
+    }
+
+    private static void assertMatches(BitSet expected, CompressedBitmap actual, String context) {
+        List<Long> expectedIds = new ArrayList<>(expected.cardinality());
+        expected.stream().forEach(value -> expectedIds.add((long) value));
+        assertEquals(expectedIds, actual.toIds(), context);
+        assertEquals(expected.cardinality(), actual.cardinality(), "cardinality, " + context);
+        assertEquals(expected.isEmpty(), actual.isEmpty(), "isEmpty, " + context);
+        for (int i = 0; i < 64 && !expected.isEmpty(); i++) {
+            int probe = expected.nextSetBit((int) ((long) i * expected.length() / 64));
+            if (probe >= 0) {
+                assertTrue(actual.contains(probe), "contains " + probe + ", " + context);
+                assertEquals(expected.get(probe + 1), actual.contains(probe + 1), "contains " + (probe + 1) + ", " + context);
+            }
+        }
+    }
+}
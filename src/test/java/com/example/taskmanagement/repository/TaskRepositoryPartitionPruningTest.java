@@ -0,0 +1,215 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.TestcontainersConfiguration;
+import com.example.taskmanagement.model.AppUser;
+import com.example.taskmanagement.model.Comment;
+import com.example.taskmanagement.model.Priority;
+import com.example.taskmanagement.model.Status;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.service.TaskPartitionService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * <p><b>Отсечение Секций {@code tasks} в Запросах Репозитория</b></p>
+ *
+ * <p>
+ *     SQL, который генерирует Hibernate, перехватывается {@link RecordingStatementInspector} и выполняется через
+ *     {@code EXPLAIN} с теми же параметрами: в плане должны остаться только секции месяцев до границы
+ *     {@code created_at} (и {@code DEFAULT}, которая может содержать любой месяц). Каждый тест выполняется
+ *     в транзакции {@link DataJpaTest} и откатывает созданные секции.
+ * </p>
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.taskmanagement.repository.TaskRepositoryPartitionPruningTest$RecordingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestcontainersConfiguration.class)
+class TaskRepositoryPartitionPruningTest {
+
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final List<Status> FINISHED = List.of(Status.COMPLETED, Status.CANCELLED, Status.REJECTED);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final YearMonth current = YearMonth.now();
+    private long authorId;
+
+    @BeforeEach
+    void setUp() {
+        // Новый экземпляр на тест: кеш созданных секций не должен пережить откат транзакции.
+        TaskPartitionService partitions = new TaskPartitionService(jdbcTemplate, transactionTemplate, 1);
+        partitions.maintain();
+        List<YearMonth> months = new ArrayList<>();
+        for (int i = 4; i >= 0; i--) {
+            months.add(current.minusMonths(i));
+        }
+        partitions.ensureMonths(months);
+        authorId = jdbcTemplate.queryForObject("""
+                INSERT INTO app_users (email, password, is_enabled, is_locked, role)
+                VALUES ('partitions@example.com', 'hash', true, false, 'USER') RETURNING id
+                """, Long.class);
+        RecordingStatementInspector.SQL.clear();
+    }
+
+    @Test
+    void findByDueDateBetweenReadsOnlyMonthsCreatedBeforeRangeEnd() {
+        YearMonth dueMonth = current.minusMonths(3);
+        long early = insertTask(current.minusMonths(4).atDay(10).atStartOfDay(), dueMonth.atDay(5), Status.WAITING);
+        long inRange = insertTask(dueMonth.atDay(2).atStartOfDay(), dueMonth.atDay(20), Status.IN_PROGRESS);
+        insertTask(current.minusMonths(1).atDay(1).atStartOfDay(), current.minusMonths(1).atDay(3), Status.WAITING);
+
+        LocalDate start = dueMonth.atDay(1);
+        LocalDate end = dueMonth.atEndOfMonth();
+        List<Task> found = taskRepository.findByDueDateBetween(start, end);
+
+        assertThat(found).extracting(Task::getId).containsExactlyInAnyOrder(early, inRange);
+        String plan = explain(capturedQueryOn("tasks"), Date.valueOf(start), Date.valueOf(end),
+                Timestamp.valueOf(end.plusDays(1).atStartOfDay()));
+        assertThat(plan).contains(partition(current.minusMonths(4)), partition(dueMonth), "tasks_default");
+        assertThat(plan).doesNotContain(partition(current.minusMonths(2)), partition(current.minusMonths(1)),
+                partition(current));
+    }
+
+    @Test
+    void lockIdsToArchiveReadsOnlyMonthsCreatedBeforeUpdatedBound() {
+        LocalDateTime updatedBefore = current.minusMonths(2).atDay(1).atStartOfDay();
+        long finished = insertTask(current.minusMonths(4).atDay(1).atStartOfDay(), null, Status.COMPLETED);
+        insertTask(current.minusMonths(1).atDay(1).atStartOfDay(), null, Status.CANCELLED);
+
+        List<String> statuses = FINISHED.stream().map(Status::name).toList();
+        List<Long> ids = taskRepository.lockIdsToArchive(statuses, updatedBefore, 100);
+
+        assertThat(ids).containsExactly(finished);
+        List<Object> params = new ArrayList<>(statuses);
+        params.add(Timestamp.valueOf(updatedBefore));
+        params.add(Timestamp.valueOf(updatedBefore));
+        params.add(100);
+        String plan = explain(capturedQueryOn("tasks"), params.toArray());
+        assertThat(plan).contains(partition(current.minusMonths(4)), partition(current.minusMonths(3)), "tasks_default");
+        assertThat(plan).doesNotContain(partition(current.minusMonths(2)), partition(current.minusMonths(1)),
+                partition(current));
+    }
+
+    @Test
+    void findCreatedMonthsToArchiveReadsOnlyMonthsCreatedBeforeUpdatedBound() {
+        LocalDateTime updatedBefore = current.minusMonths(2).atDay(1).atStartOfDay();
+        insertTask(current.minusMonths(3).atDay(7).atStartOfDay(), null, Status.REJECTED);
+        insertTask(current.atDay(1).atStartOfDay(), null, Status.COMPLETED);
+
+        List<Integer> months = taskRepository.findCreatedMonthsToArchive(FINISHED, updatedBefore);
+
+        YearMonth expected = current.minusMonths(3);
+        assertThat(months).containsExactly(expected.getYear() * 100 + expected.getMonthValue());
+        List<Object> params = new ArrayList<>(FINISHED.stream().map(Status::name).toList());
+        params.add(Timestamp.valueOf(updatedBefore));
+        params.add(Timestamp.valueOf(updatedBefore));
+        String plan = explain(capturedQueryOn("tasks"), params.toArray());
+        assertThat(plan).contains(partition(current.minusMonths(3)), "tasks_default");
+        assertThat(plan).doesNotContain(partition(current.minusMonths(2)), partition(current.minusMonths(1)),
+                partition(current));
+    }
+
+    @Test
+    void commentFollowsTaskPartitionAndIsDeletedWithTask() {
+        AppUser author = userRepository.findById(authorId).orElseThrow();
+        Task task = new Task();
+        task.setTitle("Задача с комментарием");
+        task.setStatus(Status.WAITING);
+        task.setPriority(Priority.LOW);
+        task.setAuthor(author);
+        task = taskRepository.saveAndFlush(task);
+        Comment comment = new Comment();
+        comment.setText("Комментарий");
+        comment.setTask(task);
+        comment.setTaskCreatedAt(task.getCreatedAt());
+        comment.setAppUser(author);
+        comment = commentRepository.saveAndFlush(comment);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM comments WHERE id = ?",
+                String.class, comment.getId())).isEqualTo("comments_p" + current.format(MONTH_SUFFIX));
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", task.getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM comments WHERE id = ?",
+                Integer.class, comment.getId())).isZero();
+    }
+
+    @Test
+    void rejectsDueDateBeforeCreationDay() {
+        LocalDateTime createdAt = current.minusMonths(1).atDay(10).atStartOfDay();
+        assertThatThrownBy(() -> insertTask(createdAt, createdAt.toLocalDate().minusDays(1), Status.WAITING))
+                .hasMessageContaining("ck_tasks_due_date_not_before_created");
+    }
+
+    private long insertTask(LocalDateTime createdAt, LocalDate dueDate, Status status) {
+        return jdbcTemplate.queryForObject("""
+                        INSERT INTO tasks (title, status, priority, author_id, created_at, updated_at, due_date)
+                        VALUES ('Задача', ?, 'LOW', ?, ?, ?, ?) RETURNING id
+                        """, Long.class,
+                status.name(), authorId, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt),
+                dueDate == null ? null : Date.valueOf(dueDate));
+    }
+
+    private String capturedQueryOn(String table) {
+        return RecordingStatementInspector.SQL.stream()
+                .filter(sql -> sql.toLowerCase().startsWith("select") && sql.toLowerCase().contains("from " + table + " "))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("Запрос к " + table + " не перехвачен: " + RecordingStatementInspector.SQL));
+    }
+
+    private String explain(String sql, Object... params) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, params));
+    }
+
+    private static String partition(YearMonth month) {
+        return "tasks_p" + month.format(MONTH_SUFFIX);
+    }
+
+    /**
+     * <p><b>Перехват SQL, Сгенерированного Hibernate</b></p>
+     * <p>Hibernate создает экземпляр по имени класса, поэтому запросы собираются в статический список.</p>
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql.strip());
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.TestcontainersConfiguration;
+import com.example.taskmanagement.repository.ArchivedTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p><b>Срок Хранения Секций Архива</b></p>
+ *
+ * <p>
+ *     Секции отсоединяются по последней архивации ({@code archived_at}), а не по месяцу создания задач.
+ *     Каждый тест выполняется в транзакции {@link DataJpaTest} и откатывает созданные секции.
+ * </p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestcontainersConfiguration.class)
+class ArchivePartitionServiceTest {
+
+    private static final int RETENTION_MONTHS = 6;
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    private ArchivePartitionService service;
+
+    @BeforeEach
+    void setUp() {
+        // Новый экземпляр на тест: кеш созданных секций не должен пережить откат транзакции.
+        service = new ArchivePartitionService(jdbcTemplate, transactionTemplate, Duration.ofDays(90), 0, RETENTION_MONTHS);
+    }
+
+    @Test
+    void keepsOldMonthWithRecentlyArchivedTask() {
+        YearMonth month = YearMonth.now().minusYears(2);
+        service.ensureMonths(List.of(month));
+        insertArchivedTask(1_000_001L, month.atDay(15).atStartOfDay(), LocalDateTime.now().minusDays(1));
+
+        service.maintain();
+
+        assertThat(partitionsOf("tasks_archive")).contains(partition("tasks_archive", month));
+        assertThat(partitionsOf("comments_archive")).contains(partition("comments_archive", month));
+        assertThat(archivedTaskRepository.findById(1_000_001L)).isPresent();
+    }
+
+    @Test
+    void detachesMonthArchivedBeforeRetention() {
+        YearMonth month = YearMonth.now().minusYears(2);
+        service.ensureMonths(List.of(month));
+        insertArchivedTask(1_000_002L, month.atDay(15).atStartOfDay(), LocalDateTime.now().minusMonths(RETENTION_MONTHS + 1));
+
+        service.maintain();
+
+        assertThat(partitionsOf("tasks_archive")).doesNotContain(partition("tasks_archive", month));
+        assertThat(partitionsOf("comments_archive")).doesNotContain(partition("comments_archive", month));
+        assertThat(archivedTaskRepository.findById(1_000_002L)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_class WHERE relname LIKE ? AND relkind = 'r'",
+                Integer.class, partition("tasks_archive", month) + "_detached_%")).isEqualTo(1);
+    }
+
+    @Test
+    void recreatedMonthSurvivesNextMaintenance() {
+        YearMonth month = YearMonth.now().minusYears(2);
+        service.ensureMonths(List.of(month));
+        insertArchivedTask(1_000_003L, month.atDay(3).atStartOfDay(), LocalDateTime.now().minusYears(1));
+        service.maintain();
+        assertThat(partitionsOf("tasks_archive")).doesNotContain(partition("tasks_archive", month));
+
+        // Сегодня архивируется еще одна задача того же месяца создания: секция создается заново.
+        service.ensureMonths(List.of(month));
+        insertArchivedTask(1_000_004L, month.atDay(20).atStartOfDay(), LocalDateTime.now());
+        service.maintain();
+
+        assertThat(partitionsOf("tasks_archive")).contains(partition("tasks_archive", month));
+        assertThat(archivedTaskRepository.findById(1_000_004L)).isPresent();
+    }
+
+    private void insertArchivedTask(long id, LocalDateTime createdAt, LocalDateTime archivedAt) {
+        jdbcTemplate.update("""
+                        INSERT INTO tasks_archive (id, title, status, priority, author_id, author_email,
+                                                   created_at, updated_at, archived_at)
+                        VALUES (?, 'Архивная задача', 'COMPLETED', 'LOW', 1, 'author@example.com', ?, ?, ?)
+                        """,
+                id, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt), Timestamp.valueOf(archivedAt));
+    }
+
+    private List<String> partitionsOf(String parent) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = to_regclass(?)",
+                String.class, parent);
+    }
+
+    private static String partition(String parent, YearMonth month) {
+        return parent + "_p" + month.format(MONTH_SUFFIX);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.taskmanagement.service;
+
+import com.example.taskmanagement.TestcontainersConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <p><b>Секции Рабочих Таблиц {@code tasks}/{@code comments}</b></p>
+ *
+ * <p>
+ *     Обслуживание создает секции вперед и удаляет только опустевшие прошлые месяцы.
+ *     Каждый тест выполняется в транзакции {@link DataJpaTest} и откатывает созданные секции.
+ * </p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestcontainersConfiguration.class)
+class TaskPartitionServiceTest {
+
+    private static final int PREMAKE_MONTHS = 2;
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private TaskPartitionService service;
+
+    @BeforeEach
+    void setUp() {
+        // Новый экземпляр на тест: кеш созданных секций не должен пережить откат транзакции.
+        service = new TaskPartitionService(jdbcTemplate, transactionTemplate, PREMAKE_MONTHS);
+    }
+
+    @Test
+    void maintainCreatesDefaultAndUpcomingMonths() {
+        YearMonth current = YearMonth.now();
+
+        service.maintain();
+
+        for (String parent : List.of("tasks", "comments")) {
+            assertThat(partitionsOf(parent)).contains(parent + "_default",
+                    partition(parent, current), partition(parent, current.plusMonths(PREMAKE_MONTHS)));
+        }
+    }
+
+    @Test
+    void dropsEmptyPastMonthAndKeepsMonthWithTasks() {
+        YearMonth empty = YearMonth.now().minusMonths(6);
+        YearMonth withTask = YearMonth.now().minusMonths(5);
+        service.ensureMonths(List.of(empty, withTask));
+        insertTask(withTask.atDay(12).atStartOfDay());
+
+        service.maintain();
+
+        assertThat(partitionsOf("tasks")).doesNotContain(partition("tasks", empty)).contains(partition("tasks", withTask));
+        assertThat(partitionsOf("comments")).doesNotContain(partition("comments", empty))
+                .contains(partition("comments", withTask));
+    }
+
+    private void insertTask(LocalDateTime createdAt) {
+        Long authorId = jdbcTemplate.queryForObject("""
+                INSERT INTO app_users (email, password, is_enabled, is_locked, role)
+                VALUES ('task-partitions@example.com', 'hash', true, false, 'USER') RETURNING id
+                """, Long.class);
+        jdbcTemplate.update("""
+                        INSERT INTO tasks (title, status, priority, author_id, created_at, updated_at)
+                        VALUES ('Задача', 'WAITING', 'LOW', ?, ?, ?)
+                        """,
+                authorId, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+    }
+
+    private List<String> partitionsOf(String parent) {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = to_regclass(?)",
+                String.class, parent);
+    }
+
+    private static String partition(String parent, YearMonth month) {
+        return parent + "_p" + month.format(MONTH_SUFFIX);
+    }
+}